@@ -3,8 +3,6 @@ package com.project.app.controller;
 import com.project.app.model.HomePageModel;
 import com.project.app.view.HomePageView.HomeImageView;
 
-import javax.swing.*;
-
 // ======== Controller ========
 
 /**
@@ -42,8 +40,6 @@ public class HomePageController {
             return;
         }
 
-        String path = model.getCurrentImagePath();
-        ImageIcon icon = new ImageIcon(path);
-        view.setImageIcon(icon);
+        view.setImagePath(model.getCurrentImagePath());
     }
 }
\ No newline at end of file
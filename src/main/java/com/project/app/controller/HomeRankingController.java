@@ -0,0 +1,52 @@
+package com.project.app.controller;
+
+import com.project.app.dto.LectureCardView;
+import com.project.app.dto.LectureDetailResponse;
+import com.project.app.service.AuthService;
+import com.project.app.service.InstructorService;
+import com.project.app.service.LectureService;
+import com.project.app.view.HomePageView;
+import com.project.app.view.HomePageView.HomeRankingView;
+import com.project.app.view.LectureDetailView;
+
+/**
+ * 홈 화면의 인기 강의 / 베스트 강사 순위표를 제어하는 Controller
+ *
+ * 기능:
+ * - 인기 강의: LectureService.getPopularLectures (수강생 수 순위표 앞부분만 읽음)
+ * - 베스트 강사: InstructorService.getTopInstructors (순위 점수 순위표 앞부분만 읽음)
+ * - 홈 화면이 보일 때마다 다시 읽어 신청/리뷰로 바뀐 순위를 반영
+ * - 인기 강의를 클릭하면 강의 상세 화면 표시
+ */
+public class HomeRankingController {
+
+    private final HomeRankingView view;
+    private final LectureService lectureService;
+    private final InstructorService instructorService;
+
+    public HomeRankingController(HomeRankingView view, LectureService lectureService,
+                                 InstructorService instructorService) {
+        this.view = view;
+        this.lectureService = lectureService;
+        this.instructorService = instructorService;
+
+        view.addShownListener(this::updateRankings);
+        view.addLectureClickListener(this::openDetail);
+        updateRankings(); // 시작할 때 순위 표시
+    }
+
+    private void updateRankings() {
+        view.showPopularLectures(lectureService.getPopularLectures(null, HomePageView.RANKING_SIZE));
+        view.showTopInstructors(instructorService.getTopInstructors(null, HomePageView.RANKING_SIZE));
+    }
+
+    private void openDetail(LectureCardView card) {
+        LectureDetailResponse detail = lectureService.getLectureDetail(card.getId(),
+                AuthService.getInstance().getCurrentUserId());
+        if (detail == null) {
+            System.err.println("Lecture not found: " + card.getId());
+            return;
+        }
+        new LectureDetailView(detail).show();
+    }
+}
@@ -0,0 +1,77 @@
+package com.project.app.controller;
+
+import com.project.app.dto.FacetCountResponse;
+import com.project.app.dto.InstructorListResponse;
+import com.project.app.dto.InstructorSearchRequest;
+import com.project.app.dto.SearchFacet;
+import com.project.app.service.InstructorService;
+import com.project.app.view.InstructorsPageView;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 강사 목록 화면 Controller
+ *
+ * 기능:
+ * - 화면이 만들어질 때 InstructorService에서 평점순 첫 페이지를 받아 표시
+ * - 카드 목록 끝 근처까지 스크롤하면 이전 응답의 커서로 다음 페이지를 받아 이어 붙임
+ * - 과목 칩에 과목별 강사 수 표시 (InstructorService의 패싯 비트셋에서 한 번에 계산)
+ * - 과목 칩을 선택/해제하면 그 과목의 강사로 첫 페이지를 다시 받고, 현재 선택 조건으로 칩 개수를 다시 계산
+ */
+public class InstructorController {
+
+    private final InstructorsPageView view;
+    private final InstructorService instructorService;
+    private InstructorSearchRequest request = new InstructorSearchRequest();
+    private String nextCursor;  // 다음 페이지 커서 (마지막 페이지까지 읽었으면 null)
+
+    public InstructorController(InstructorsPageView view, InstructorService instructorService) {
+        this.view = view;
+        this.instructorService = instructorService;
+
+        view.addScrollEndListener(this::loadNextPage);
+        view.addSubjectSelectListener(this::selectSubject);
+        loadFirstPage(); // 시작할 때 기본 정렬(평점순)로 표시
+        loadSubjectCounts();
+    }
+
+    private void selectSubject(String subject) {
+        request = new InstructorSearchRequest(request.getKeyword(), subject, request.getAcademyId(),
+                request.getSortOrder());
+        loadFirstPage();
+        loadSubjectCounts();
+    }
+
+    /**
+     * 현재 검색 조건의 과목/학원을 선택 조건으로 패싯 개수를 계산하여 과목 칩에 표시합니다.
+     */
+    private void loadSubjectCounts() {
+        Map<SearchFacet, Set<String>> selected = new EnumMap<>(SearchFacet.class);
+        if (request.getSubject() != null) {
+            selected.put(SearchFacet.SUBJECT, Set.of(request.getSubject()));
+        }
+        if (request.getAcademyId() != null) {
+            selected.put(SearchFacet.ACADEMY, Set.of(request.getAcademyId()));
+        }
+        FacetCountResponse counts = instructorService.getInstructorFacetCounts(selected);
+        view.showSubjectCounts(counts.getCounts(SearchFacet.SUBJECT));
+    }
+
+    private void loadFirstPage() {
+        InstructorListResponse response = instructorService.getInstructorPage(request, null, InstructorsPageView.PAGE_SIZE);
+        nextCursor = response.getNextCursor();
+        view.showInstructors(response.getInstructors());
+    }
+
+    private void loadNextPage() {
+        if (nextCursor == null) {
+            return;
+        }
+        InstructorListResponse response = instructorService.getInstructorPage(request, nextCursor, InstructorsPageView.PAGE_SIZE);
+        // 카드를 붙이는 중에 다시 호출될 수 있으므로 커서를 먼저 갱신
+        nextCursor = response.getNextCursor();
+        view.appendInstructors(response.getInstructors());
+    }
+}
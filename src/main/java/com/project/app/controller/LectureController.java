@@ -1,5 +1,86 @@
 package com.project.app.controller;
 
+import com.project.app.dto.FacetCountResponse;
+import com.project.app.dto.LectureCardView;
+import com.project.app.dto.LectureDetailResponse;
+import com.project.app.dto.LectureListResponse;
+import com.project.app.dto.LectureSortOrder;
+import com.project.app.dto.SearchFacet;
+import com.project.app.service.AuthService;
+import com.project.app.service.LectureService;
+import com.project.app.view.LectureDetailView;
+import com.project.app.view.LecturePageView;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 강의 목록 화면 Controller
+ *
+ * 기능:
+ * - 정렬 콤보박스 변경 시 LectureService에서 정렬된 첫 페이지를 받아 화면에 표시
+ * - 정렬은 서비스에 미리 계산된 순서를 사용하므로 선택할 때마다 전체 강의를 다시 정렬하지 않음
+ * - 과목 버튼에 과목별 강의 수 표시 (패싯 색인에서 한 번에 계산)
+ *   과목을 선택/해제할 때마다 현재 선택 조건으로 다시 계산
+ * - 카드 목록 끝 근처까지 스크롤하면 이전 응답의 커서로 다음 페이지를 받아 이어 붙임
+ * - 카드를 클릭하면 강의 상세 정보를 조회하여 상세 화면(LectureDetailView)을 띄움
+ */
 public class LectureController {
-    
+
+    private final LecturePageView view;
+    private final LectureService lectureService;
+    private LectureSortOrder currentOrder;
+    private String nextCursor;  // 다음 페이지 커서 (마지막 페이지까지 읽었으면 null)
+
+    public LectureController(LecturePageView view, LectureService lectureService) {
+        this.view = view;
+        this.lectureService = lectureService;
+
+        view.addSortChangeListener(e -> loadFirstPage());
+        view.addScrollEndListener(this::loadNextPage);
+        view.addCardClickListener(this::openDetail);
+        view.addSubjectSelectListener(subject -> loadSubjectCounts());
+        loadFirstPage(); // 시작할 때 기본 정렬(최신순)로 표시
+        loadSubjectCounts();
+    }
+
+    /**
+     * 현재 선택한 과목을 조건으로 패싯 개수를 계산하여 과목 버튼에 표시합니다.
+     */
+    private void loadSubjectCounts() {
+        String subject = view.getSelectedSubject();
+        Map<SearchFacet, Set<String>> selected = subject != null
+                ? Map.of(SearchFacet.SUBJECT, Set.of(subject))
+                : Collections.emptyMap();
+        FacetCountResponse counts = lectureService.getLectureFacetCounts(selected);
+        view.showSubjectCounts(counts.getCounts(SearchFacet.SUBJECT));
+    }
+
+    private void loadFirstPage() {
+        currentOrder = LectureSortOrder.fromLabel(view.getSelectedSortLabel());
+        LectureListResponse response = lectureService.getLecturePage(currentOrder, null, LecturePageView.PAGE_SIZE);
+        nextCursor = response.getNextCursor();
+        view.showLectures(response.getLectures());
+    }
+
+    private void loadNextPage() {
+        if (nextCursor == null) {
+            return;
+        }
+        LectureListResponse response = lectureService.getLecturePage(currentOrder, nextCursor, LecturePageView.PAGE_SIZE);
+        // 카드를 붙이는 중에 다시 호출될 수 있으므로 커서를 먼저 갱신
+        nextCursor = response.getNextCursor();
+        view.appendLectures(response.getLectures());
+    }
+
+    private void openDetail(LectureCardView card) {
+        LectureDetailResponse detail = lectureService.getLectureDetail(card.getId(),
+                AuthService.getInstance().getCurrentUserId());
+        if (detail == null) {
+            System.err.println("Lecture not found: " + card.getId());
+            return;
+        }
+        new LectureDetailView(detail).show();
+    }
 }
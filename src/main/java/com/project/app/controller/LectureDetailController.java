@@ -0,0 +1,136 @@
+package com.project.app.controller;
+
+import com.project.app.dto.EnrollLectureRequest;
+import com.project.app.dto.EnrollLectureResponse;
+import com.project.app.dto.EnrollLectureResponse.ErrorType;
+import com.project.app.service.AdmissionTicket;
+import com.project.app.service.AuthService;
+import com.project.app.service.LectureService;
+import com.project.app.view.LectureDetailView;
+
+import javax.swing.SwingUtilities;
+import java.util.UUID;
+
+/**
+ * 강의 상세 화면을 제어하는 Controller
+ *
+ * 기능:
+ * - 예약/신청 버튼: LectureService.submitEnrollment(신청 대기열)로 신청하고 결과(EnrollLectureResponse)를 표시
+ * - 정원이 찬 강의는 대기 신청 여부를 묻고 joinWaitlist로 대기자 명단에 추가
+ * - 이미 신청한 강의는 버튼이 "수강 취소", 대기 중인 강의는 "대기 취소 (N번)"으로 바뀌고 cancelEnrollment 호출
+ * - 신청 결과는 대기열 처리 스레드에서 오므로 EDT로 넘겨서 화면에 표시
+ * - 신청/대기 신청마다 멱등 키를 붙여 같은 요청이 두 번 처리되지 않게 함
+ *   (두 요청은 같은 중복 제거 캐시를 쓰므로 키를 따로 두고, 결과가 나오면 새 키로 바꿔 다음 시도는 새 요청이 됨)
+ */
+public class LectureDetailController {
+
+    /** 결제 수단 (결제 화면이 생기기 전까지 카드 결제로 처리) */
+    private static final String PAYMENT_METHOD = "카드";
+
+    private final LectureDetailView view;
+    private final LectureService lectureService;
+    private final AuthService authService;
+
+    /** 다음 신청/대기 신청에 쓸 멱등 키 */
+    private String enrollKey = newIdempotencyKey();
+    private String waitlistKey = newIdempotencyKey();
+
+    public LectureDetailController(LectureDetailView view, LectureService lectureService, AuthService authService) {
+        this.view = view;
+        this.lectureService = lectureService;
+        this.authService = authService;
+
+        view.addReserveListener(e -> handleReserve());
+        updateReserveButton();
+    }
+
+    /**
+     * 예약/신청 버튼 처리
+     *
+     * 순서:
+     *  1. 로그인 확인
+     *  2. 이미 신청(대기)한 강의면 수강 취소
+     *  3. 아니면 신청 요청을 대기열에 넣고, 결과가 오면 표시
+     */
+    private void handleReserve() {
+        String userId = authService.getCurrentUserId();
+        if (userId == null) {
+            view.showErrorDialog("로그인 필요", "로그인 후 신청할 수 있습니다.");
+            return;
+        }
+        String lectureId = view.getLectureId();
+        if (isEnrolledOrWaiting(userId, lectureId)) {
+            handleCancel(userId, lectureId);
+            return;
+        }
+
+        view.setReserveButton("처리 중...", false);
+        EnrollLectureRequest request = new EnrollLectureRequest(lectureId, userId, false, PAYMENT_METHOD, enrollKey);
+        AdmissionTicket ticket = lectureService.submitEnrollment(request);
+        ticket.future().thenAccept(response -> SwingUtilities.invokeLater(() -> showResult(request, response)));
+    }
+
+    /**
+     * 신청 결과를 표시합니다. 정원 마감이면 대기 신청 여부를 묻습니다.
+     */
+    private void showResult(EnrollLectureRequest request, EnrollLectureResponse response) {
+        if (response.isSuccess()) {
+            String detail = response.getPaymentId() != null
+                    ? "결제 번호: " + response.getPaymentId()
+                    : "마이페이지에서 확인할 수 있습니다.";
+            view.showSuccessDialog(response.getMessage(), detail);
+        } else if (response.getErrorType() == ErrorType.LECTURE_FULL
+                && view.confirm(response.getMessage() + "\n대기 신청하시겠습니까?")) {
+            EnrollLectureRequest waitlistRequest = new EnrollLectureRequest(request.getLectureId(), request.getUserId(),
+                    request.isPurchaseTextbook(), request.getPaymentMethod(), waitlistKey);
+            showResult(waitlistRequest, lectureService.joinWaitlist(waitlistRequest));
+            return;
+        } else {
+            view.showErrorDialog("신청 실패", response.getMessage());
+        }
+        renewIdempotencyKeys();
+        updateReserveButton();
+    }
+
+    private void handleCancel(String userId, String lectureId) {
+        if (!view.confirm("신청을 취소하시겠습니까?")) {
+            return;
+        }
+        if (lectureService.cancelEnrollment(userId, lectureId)) {
+            view.showSuccessDialog("신청이 취소되었습니다.", "좌석은 다음 대기자에게 넘어갑니다.");
+        } else {
+            view.showErrorDialog("취소 실패", "신청 내역이 없습니다.");
+        }
+        renewIdempotencyKeys();
+        updateReserveButton();
+    }
+
+    /**
+     * 처리가 끝난 요청의 키는 다시 쓰지 않습니다 (실패 후 재시도, 취소 후 재신청은 새 요청).
+     */
+    private void renewIdempotencyKeys() {
+        enrollKey = newIdempotencyKey();
+        waitlistKey = newIdempotencyKey();
+    }
+
+    private static String newIdempotencyKey() {
+        return UUID.randomUUID().toString();
+    }
+
+    private void updateReserveButton() {
+        String userId = authService.getCurrentUserId();
+        String lectureId = view.getLectureId();
+        int waitlistPosition = lectureService.getWaitlistPosition(userId, lectureId);
+        if (lectureService.isEnrolled(userId, lectureId)) {
+            view.setReserveButton("수강 취소", true);
+        } else if (waitlistPosition > 0) {
+            view.setReserveButton("대기 취소 (" + waitlistPosition + "번)", true);
+        } else {
+            view.setReserveButton("예약/신청", true);
+        }
+    }
+
+    private boolean isEnrolledOrWaiting(String userId, String lectureId) {
+        return lectureService.isEnrolled(userId, lectureId) || lectureService.getWaitlistPosition(userId, lectureId) > 0;
+    }
+}
@@ -4,6 +4,8 @@ import javax.swing.JOptionPane;
 
 import com.project.app.dto.LoginRequest;
 import com.project.app.dto.LoginResponse;
+import com.project.app.service.AuthService;
+import com.project.app.service.LectureService;
 import com.project.app.service.SignInService;
 import com.project.app.view.HomePageView;
 import com.project.app.view.SignInView;
@@ -18,6 +20,8 @@ import com.project.app.view.SidePanel;
  * - View에서 입력값을 읽어 LoginRequest DTO로 변환
  * - SignInService를 호출하여 로그인 로직 실행
  * - LoginResponse DTO를 받아 View 업데이트 및 화면 전환
+ * - 로그인 성공 시 AuthService에 현재 사용자 등록 (강의 신청 등에서 사용)
+ * - 로그인 성공 시 확인하지 않은 알림(대기 승격 결과 등)을 환영 메시지에 함께 표시
  */
 public class LoginController {
 
@@ -57,6 +61,8 @@ public class LoginController {
 
             // 3. 결과에 따른 처리
             if (response.isSuccess()) {
+                AuthService.getInstance().signIn(response.getUserId());
+
                 String gradeLabel = switch (response.getGrade()) {
                     case 1 -> "고1";
                     case 2 -> "고2";
@@ -70,6 +76,9 @@ public class LoginController {
                         response.getUserName(),
                         gradeLabel
                 );
+                for (String notice : LectureService.getInstance().pollNotices(response.getUserId())) {
+                    welcome += "\n\n" + notice;
+                }
                 
                 JOptionPane.showMessageDialog(
                         view,
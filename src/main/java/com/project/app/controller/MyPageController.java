@@ -0,0 +1,62 @@
+package com.project.app.controller;
+
+import com.project.app.dto.CreateReviewRequest;
+import com.project.app.dto.RatingSummary;
+import com.project.app.model.Review.TargetType;
+import com.project.app.service.AuthService;
+import com.project.app.service.ReviewService;
+import com.project.app.view.MyPageView;
+import com.project.app.view.MyPageView.ReviewForm;
+
+/**
+ * 마이페이지 화면을 제어하는 Controller
+ *
+ * 기능:
+ * - 내 강의의 리뷰 작성 버튼: 별점/내용을 입력받아 ReviewService.createReview로 저장
+ * - 저장 후 갱신된 평균 평점을 표시 (강의 카드/평점순 정렬에는 ReviewService가 바로 반영)
+ */
+public class MyPageController {
+
+    private final MyPageView view;
+    private final ReviewService reviewService;
+    private final AuthService authService;
+
+    public MyPageController(MyPageView view, ReviewService reviewService, AuthService authService) {
+        this.view = view;
+        this.reviewService = reviewService;
+        this.authService = authService;
+
+        view.setReviewListener(this::handleReview);
+    }
+
+    /**
+     * 리뷰 작성 버튼 처리
+     *
+     * 순서:
+     *  1. 로그인 확인
+     *  2. 별점/내용 입력 (취소하면 종료)
+     *  3. 리뷰 저장 후 평균 평점 표시, 입력이 잘못되었으면 오류 표시
+     */
+    private void handleReview(String lectureId, String lectureName) {
+        String userId = authService.getCurrentUserId();
+        if (userId == null) {
+            view.showErrorDialog("로그인 필요", "로그인 후 리뷰를 작성할 수 있습니다.");
+            return;
+        }
+        ReviewForm form = view.showReviewForm(lectureName);
+        if (form == null) {
+            return;
+        }
+
+        try {
+            reviewService.createReview(new CreateReviewRequest(userId, TargetType.LECTURE, lectureId,
+                    form.getRating(), form.getContent()));
+        } catch (IllegalArgumentException e) {
+            view.showErrorDialog("리뷰 작성 실패", e.getMessage());
+            return;
+        }
+        RatingSummary summary = reviewService.getRatingSummary(TargetType.LECTURE, lectureId);
+        view.showInfoDialog("리뷰 작성", String.format("%s에 리뷰를 작성했습니다.%n평균 평점: %.1f (%d개)",
+                lectureName, summary.getAverage(), summary.getCount()));
+    }
+}
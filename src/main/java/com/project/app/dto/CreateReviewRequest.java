@@ -1,5 +1,7 @@
 package com.project.app.dto;
 
+import com.project.app.model.Review.TargetType;
+
 /**
  * 리뷰 작성 요청 DTO
  *
@@ -9,13 +11,46 @@ package com.project.app.dto;
  *
  * 필드:
  *   - userId (String)
- *   - targetType (String) - LECTURE or INSTRUCTOR
- *   - targetId (int)
- *   - rating (double)
+ *   - targetType (TargetType) - LECTURE or INSTRUCTOR
+ *   - targetId (String) - 데이터 파일의 ID 형식(L001, I001)에 맞춰 String 사용
+ *   - rating (int) - 1~5 별점 (별점별 개수를 집계하므로 정수)
  *   - content (String)
  *
  * 이유: 5개 필드를 전달. DTO 없으면 매개변수가 너무 많음.
  */
 public class CreateReviewRequest {
 
+    private final String userId;
+    private final TargetType targetType;
+    private final String targetId;
+    private final int rating;
+    private final String content;
+
+    public CreateReviewRequest(String userId, TargetType targetType, String targetId, int rating, String content) {
+        this.userId = userId;
+        this.targetType = targetType;
+        this.targetId = targetId;
+        this.rating = rating;
+        this.content = content;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public TargetType getTargetType() {
+        return targetType;
+    }
+
+    public String getTargetId() {
+        return targetId;
+    }
+
+    public int getRating() {
+        return rating;
+    }
+
+    public String getContent() {
+        return content;
+    }
 }
@@ -8,13 +8,52 @@ package com.project.app.dto;
  * 사용 시점: LectureDetailView -> Controller -> LectureService
  *
  * 필드:
- *   - lectureId (int)
+ *   - lectureId (String) - 데이터 파일의 강의 ID 형식(L001)에 맞춰 String 사용
  *   - userId (String)
  *   - purchaseTextbook (boolean) - 교재 구매 여부
  *   - paymentMethod (String) - 결제 수단
+ *   - idempotencyKey (String) - 멱등 키, 같은 요청을 다시 보낼 때(더블 클릭, 재시도) 같은 값 사용 (null이면 중복 확인 안 함)
  *
  * 이유: 신청 + 결제 정보 통합. 4개 매개변수를 DTO로 묶어 명확성 향상.
  */
 public class EnrollLectureRequest {
 
+    private final String lectureId;
+    private final String userId;
+    private final boolean purchaseTextbook;
+    private final String paymentMethod;
+    private final String idempotencyKey;
+
+    public EnrollLectureRequest(String lectureId, String userId, boolean purchaseTextbook, String paymentMethod) {
+        this(lectureId, userId, purchaseTextbook, paymentMethod, null);
+    }
+
+    public EnrollLectureRequest(String lectureId, String userId, boolean purchaseTextbook, String paymentMethod,
+                                String idempotencyKey) {
+        this.lectureId = lectureId;
+        this.userId = userId;
+        this.purchaseTextbook = purchaseTextbook;
+        this.paymentMethod = paymentMethod;
+        this.idempotencyKey = idempotencyKey;
+    }
+
+    public String getLectureId() {
+        return lectureId;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public boolean isPurchaseTextbook() {
+        return purchaseTextbook;
+    }
+
+    public String getPaymentMethod() {
+        return paymentMethod;
+    }
+
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
 }
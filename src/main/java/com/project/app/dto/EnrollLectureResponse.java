@@ -16,10 +16,64 @@ package com.project.app.dto;
  *     - TIME_CONFLICT
  *     - GRADE_MISMATCH
  *     - SYSTEM_ERROR
- *   - paymentId (int) - 성공 시
+ *     - QUEUE_FULL (신청 대기열이 가득 참)
+ *   - paymentId (String) - 성공 시 (결제 처리 전에는 null)
  *
  * 이유: 실패 원인이 다양함. 에러 타입별로 다른 안내 메시지 표시 필요.
  */
 public class EnrollLectureResponse {
 
+    /**
+     * 신청 실패 원인
+     */
+    public enum ErrorType {
+        ALREADY_ENROLLED,
+        LECTURE_FULL,
+        TIME_CONFLICT,
+        GRADE_MISMATCH,
+        SYSTEM_ERROR,
+        QUEUE_FULL
+    }
+
+    private final boolean success;
+    private final String message;
+    private final ErrorType errorType;
+    private final String paymentId;
+
+    private EnrollLectureResponse(boolean success, String message, ErrorType errorType, String paymentId) {
+        this.success = success;
+        this.message = message;
+        this.errorType = errorType;
+        this.paymentId = paymentId;
+    }
+
+    /**
+     * 신청 성공 시 사용하는 팩토리 메서드
+     */
+    public static EnrollLectureResponse success(String message, String paymentId) {
+        return new EnrollLectureResponse(true, message, null, paymentId);
+    }
+
+    /**
+     * 신청 실패 시 사용하는 팩토리 메서드
+     */
+    public static EnrollLectureResponse failure(ErrorType errorType, String message) {
+        return new EnrollLectureResponse(false, message, errorType, null);
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public ErrorType getErrorType() {
+        return errorType;
+    }
+
+    public String getPaymentId() {
+        return paymentId;
+    }
 }
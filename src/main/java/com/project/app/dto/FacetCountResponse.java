@@ -0,0 +1,63 @@
+package com.project.app.dto;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 패싯별 개수 조회 결과 DTO
+ *
+ * 목적: 필터 칩에 "수학 (42)"처럼 개수를 표시
+ *
+ * 사용 시점: LectureService / InstructorService -> Controller -> View
+ *
+ * 필드:
+ *   - matchCount (int) - 현재 선택한 조건에 모두 맞는 항목 수
+ *   - counts (Map<SearchFacet, Map<String, Integer>>) - 패싯 -> (값 -> 개수)
+ *
+ * 패싯의 값 개수는 그 패싯을 제외한 나머지 선택 조건으로 센 값입니다.
+ * (예: 과목 "수학"을 골라도 "영어" 칩에는 다른 조건만 적용한 영어 강의 수가 표시됨)
+ */
+public class FacetCountResponse {
+
+    private final int matchCount;
+    private final Map<SearchFacet, Map<String, Integer>> counts;
+
+    public FacetCountResponse(int matchCount, Map<SearchFacet, Map<String, Integer>> counts) {
+        this.matchCount = matchCount;
+        this.counts = counts != null ? Collections.unmodifiableMap(new EnumMap<>(counts))
+                : Collections.emptyMap();
+    }
+
+    public int getMatchCount() {
+        return matchCount;
+    }
+
+    /**
+     * 패싯의 값 -> 개수 (값 순서는 서비스가 정한 표시 순서)
+     */
+    public Map<String, Integer> getCounts(SearchFacet facet) {
+        Map<String, Integer> facetCounts = counts.get(facet);
+        return facetCounts != null ? Collections.unmodifiableMap(facetCounts) : Collections.emptyMap();
+    }
+
+    public int getCount(SearchFacet facet, String value) {
+        Integer count = getCounts(facet).get(value);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * 칩 표시 문자열 (예: "수학 (42)")
+     */
+    public String getChipLabel(SearchFacet facet, String value) {
+        return value + " (" + getCount(facet, value) + ")";
+    }
+
+    @Override
+    public String toString() {
+        return "FacetCountResponse{" +
+                "matchCount=" + matchCount +
+                ", counts=" + counts +
+                '}';
+    }
+}
@@ -16,6 +16,7 @@ import java.util.List;
  * 포함 정보:
  * - 강사 카드 목록 (InstructorCardView 리스트)
  * - 총 강사 수
+ * - 다음 페이지 커서
  */
 public class InstructorListResponse {
 
@@ -33,6 +34,12 @@ public class InstructorListResponse {
      */
     private final int totalCount;
 
+    /**
+     * 다음 페이지 커서
+     * 다음 페이지를 요청할 때 그대로 넘기는 불투명 토큰 (마지막 페이지면 null)
+     */
+    private final String nextCursor;
+
     // ========== 생성자 ==========
 
     /**
@@ -42,8 +49,20 @@ public class InstructorListResponse {
      * @param totalCount 총 강사 수
      */
     public InstructorListResponse(List<InstructorCardView> instructors, int totalCount) {
+        this(instructors, totalCount, null);
+    }
+
+    /**
+     * 페이지 단위 조회용 생성자
+     *
+     * @param instructors 강사 카드 목록
+     * @param totalCount 총 강사 수
+     * @param nextCursor 다음 페이지 커서 (마지막 페이지면 null)
+     */
+    public InstructorListResponse(List<InstructorCardView> instructors, int totalCount, String nextCursor) {
         this.instructors = instructors;
         this.totalCount = totalCount;
+        this.nextCursor = nextCursor;
     }
 
     // ========== Getter 메서드 ==========
@@ -56,6 +75,19 @@ public class InstructorListResponse {
         return totalCount;
     }
 
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    /**
+     * 다음 페이지가 있는지 확인
+     *
+     * @return 다음 페이지 커서가 있으면 true
+     */
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
     /**
      * 결과가 비어있는지 확인
      *
@@ -70,6 +102,7 @@ public class InstructorListResponse {
         return "InstructorListResponse{" +
                 "totalCount=" + totalCount +
                 ", instructorCount=" + (instructors != null ? instructors.size() : 0) +
+                ", hasNext=" + hasNext() +
                 '}';
     }
 }
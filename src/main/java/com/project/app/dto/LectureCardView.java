@@ -8,20 +8,91 @@ package com.project.app.dto;
  * 사용 시점: LectureService -> View (UI 렌더링)
  *
  * 필드:
- *   - id (int)
+ *   - id (String) - 데이터 파일의 강의 ID 형식(L001)에 맞춰 String 사용
  *   - name (String)
  *   - subject (String)
  *   - instructorName (String)
- *   - academyName (String)
- *   - thumbnailPath (String)
+ *   - academyName (String) - 학원 이름 데이터가 없어 학원 ID(A1 등)를 사용
+ *   - thumbnailPath (String) - 없으면 null
  *   - rating (double)
  *   - price (int)
  *   - dayOfWeek (String)
- *   - time (String)
+ *   - time (String) - 예: "07:00~11:00"
  *   - remainingSeats (int)
  *
  * 이유: Lecture 엔티티의 모든 정보가 아닌 카드 표시에 필요한 정보만 선택. Entity와 분리 필수.
  */
 public class LectureCardView {
 
+    private final String id;
+    private final String name;
+    private final String subject;
+    private final String instructorName;
+    private final String academyName;
+    private final String thumbnailPath;
+    private final double rating;
+    private final int price;
+    private final String dayOfWeek;
+    private final String time;
+    private final int remainingSeats;
+
+    public LectureCardView(String id, String name, String subject, String instructorName, String academyName,
+                           String thumbnailPath, double rating, int price, String dayOfWeek, String time,
+                           int remainingSeats) {
+        this.id = id;
+        this.name = name;
+        this.subject = subject;
+        this.instructorName = instructorName;
+        this.academyName = academyName;
+        this.thumbnailPath = thumbnailPath;
+        this.rating = rating;
+        this.price = price;
+        this.dayOfWeek = dayOfWeek;
+        this.time = time;
+        this.remainingSeats = remainingSeats;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public String getInstructorName() {
+        return instructorName;
+    }
+
+    public String getAcademyName() {
+        return academyName;
+    }
+
+    public String getThumbnailPath() {
+        return thumbnailPath;
+    }
+
+    public double getRating() {
+        return rating;
+    }
+
+    public int getPrice() {
+        return price;
+    }
+
+    public String getDayOfWeek() {
+        return dayOfWeek;
+    }
+
+    public String getTime() {
+        return time;
+    }
+
+    public int getRemainingSeats() {
+        return remainingSeats;
+    }
 }
@@ -13,11 +13,124 @@ package com.project.app.dto;
  *   - 가격, 정원, 현재 수강생 수
  *   - 시간/장소
  *   - 설명, 강의 계획
- *   - isEnrolled (boolean) - 현재 사용자가 신청했는지
+ *   - isEnrolled (boolean) - 현재 사용자가 수강 확정(ENROLLED)되었는지 (대기 중이면 false)
+ *   - waitlistPosition (int) - 현재 사용자의 대기 순서 (1부터, 대기 중이 아니면 0)
  *   - canEnroll (boolean) - 신청 가능 여부
  *
  * 이유: Lecture 엔티티 + 사용자별 상태(신청 여부) 조합. Entity만으로 불가능.
  */
 public class LectureDetailResponse {
 
+    private final String id;
+    private final String name;
+    private final String subject;
+    private final String academyName;
+    private final String instructorName;
+    private final String textbookName;
+    private final int textbookPrice;
+    private final int price;
+    private final int capacity;
+    private final int currentEnrollment;
+    private final String dayOfWeek;
+    private final String time;
+    private final String description;
+    private final double rating;
+    private final boolean enrolled;
+    private final int waitlistPosition;
+    private final boolean canEnroll;
+
+    public LectureDetailResponse(String id, String name, String subject, String academyName, String instructorName,
+                                 String textbookName, int textbookPrice, int price, int capacity,
+                                 int currentEnrollment, String dayOfWeek, String time, String description,
+                                 double rating, boolean enrolled, int waitlistPosition, boolean canEnroll) {
+        this.id = id;
+        this.name = name;
+        this.subject = subject;
+        this.academyName = academyName;
+        this.instructorName = instructorName;
+        this.textbookName = textbookName;
+        this.textbookPrice = textbookPrice;
+        this.price = price;
+        this.capacity = capacity;
+        this.currentEnrollment = currentEnrollment;
+        this.dayOfWeek = dayOfWeek;
+        this.time = time;
+        this.description = description;
+        this.rating = rating;
+        this.enrolled = enrolled;
+        this.waitlistPosition = waitlistPosition;
+        this.canEnroll = canEnroll;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public String getAcademyName() {
+        return academyName;
+    }
+
+    public String getInstructorName() {
+        return instructorName;
+    }
+
+    public String getTextbookName() {
+        return textbookName;
+    }
+
+    public int getTextbookPrice() {
+        return textbookPrice;
+    }
+
+    public int getPrice() {
+        return price;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getCurrentEnrollment() {
+        return currentEnrollment;
+    }
+
+    public String getDayOfWeek() {
+        return dayOfWeek;
+    }
+
+    public String getTime() {
+        return time;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public double getRating() {
+        return rating;
+    }
+
+    public boolean isEnrolled() {
+        return enrolled;
+    }
+
+    public int getWaitlistPosition() {
+        return waitlistPosition;
+    }
+
+    public boolean isWaitlisted() {
+        return waitlistPosition > 0;
+    }
+
+    public boolean isCanEnroll() {
+        return canEnroll;
+    }
 }
@@ -1,5 +1,8 @@
 package com.project.app.dto;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * 강의 목록 조회 결과 DTO
  *
@@ -8,11 +11,41 @@ package com.project.app.dto;
  * 사용 시점: LectureService -> Controller -> LecturePageView
  *
  * 필드:
- *   - lectures (List<LectureCardView>)
- *   - totalCount (int)
+ *   - lectures (List<LectureCardView>) - 요청한 페이지의 강의
+ *   - totalCount (int) - 전체 강의 수
+ *   - nextCursor (String) - 다음 페이지 커서 (마지막 페이지면 null)
  *
  * 이유: List를 감싸서 추가 정보(총 개수) 제공. 없어도 되지만 있으면 편리.
  */
 public class LectureListResponse {
 
+    private final List<LectureCardView> lectures;
+    private final int totalCount;
+    private final String nextCursor;
+
+    public LectureListResponse(List<LectureCardView> lectures, int totalCount) {
+        this(lectures, totalCount, null);
+    }
+
+    public LectureListResponse(List<LectureCardView> lectures, int totalCount, String nextCursor) {
+        this.lectures = lectures != null ? Collections.unmodifiableList(lectures) : Collections.emptyList();
+        this.totalCount = totalCount;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<LectureCardView> getLectures() {
+        return lectures;
+    }
+
+    public int getTotalCount() {
+        return totalCount;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
 }
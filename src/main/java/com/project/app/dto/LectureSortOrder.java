@@ -0,0 +1,44 @@
+package com.project.app.dto;
+
+/**
+ * 강의 목록 정렬 순서
+ *
+ * 사용 시점: LecturePageView(정렬 콤보박스) -> Controller -> LectureService
+ *
+ * - LATEST: 최신순 (개설 년도 내림차순)
+ * - POPULAR: 인기순 (현재 수강생 수 내림차순)
+ * - RATING: 평점순 (평균 평점 내림차순)
+ * - PRICE: 가격순 (강의 가격 오름차순)
+ *
+ * 값이 같으면 강의 ID 오름차순으로 정렬합니다.
+ */
+public enum LectureSortOrder {
+    LATEST("최신순"),
+    POPULAR("인기순"),
+    RATING("평점순"),
+    PRICE("가격순");
+
+    private final String label;
+
+    LectureSortOrder(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * 화면 표기를 정렬 순서로 변환합니다.
+     *
+     * @return 일치하는 정렬 순서, 없으면 LATEST
+     */
+    public static LectureSortOrder fromLabel(String label) {
+        for (LectureSortOrder order : values()) {
+            if (order.label.equals(label)) {
+                return order;
+            }
+        }
+        return LATEST;
+    }
+}
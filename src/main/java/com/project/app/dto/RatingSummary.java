@@ -0,0 +1,66 @@
+package com.project.app.dto;
+
+import com.project.app.model.Review;
+
+import java.util.Arrays;
+
+/**
+ * 평점 요약 DTO
+ *
+ * 목적: 강의/강사의 평균 평점, 리뷰 수, 별점별 개수 표시
+ *
+ * 사용 시점: ReviewService -> Controller -> View (상세 화면의 평점 영역)
+ *
+ * 필드:
+ *   - average (double) - 평균 평점 (리뷰가 없으면 0)
+ *   - count (int) - 리뷰 수
+ *   - histogram (int[]) - [별점 1~5] -> 리뷰 수 (0번 칸은 사용하지 않음)
+ *
+ * 이유: ReviewService가 리뷰마다 갱신해 둔 집계값을 그대로 전달 (리뷰 목록을 다시 읽지 않음).
+ */
+public class RatingSummary {
+
+    public static final RatingSummary EMPTY = new RatingSummary(0, new int[Review.MAX_RATING + 1]);
+
+    private final int count;
+    private final double average;
+    private final int[] histogram;
+
+    /**
+     * @param sum 별점 합계
+     * @param histogram [별점] -> 리뷰 수 (복사해서 보관)
+     */
+    public RatingSummary(long sum, int[] histogram) {
+        this.histogram = histogram.clone();
+        int total = 0;
+        for (int stars = 1; stars < this.histogram.length; stars++) {
+            total += this.histogram[stars];
+        }
+        this.count = total;
+        this.average = total > 0 ? (double) sum / total : 0.0;
+    }
+
+    public double getAverage() {
+        return average;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * 해당 별점을 준 리뷰 수
+     */
+    public int getCount(int stars) {
+        return stars > 0 && stars < histogram.length ? histogram[stars] : 0;
+    }
+
+    @Override
+    public String toString() {
+        return "RatingSummary{" +
+                "average=" + average +
+                ", count=" + count +
+                ", histogram=" + Arrays.toString(histogram) +
+                '}';
+    }
+}
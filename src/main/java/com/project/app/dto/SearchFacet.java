@@ -0,0 +1,28 @@
+package com.project.app.dto;
+
+/**
+ * 목록 필터 칩의 분류(패싯)
+ *
+ * 사용 시점: LecturePageView / InstructorsPageView(필터 칩) -> Controller -> LectureService / InstructorService
+ *
+ * - SUBJECT: 과목 (국어, 수학, ...)
+ * - ACADEMY: 학원 ID
+ * - GRADE: 대상 학년 (고1, 고2, 고3, N수) - 강의만
+ * - DAY: 요일 (월~일) - 강의만
+ */
+public enum SearchFacet {
+    SUBJECT("과목"),
+    ACADEMY("학원"),
+    GRADE("대상 학년"),
+    DAY("요일");
+
+    private final String label;
+
+    SearchFacet(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+}
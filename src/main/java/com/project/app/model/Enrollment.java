@@ -0,0 +1,83 @@
+package com.project.app.model;
+
+/**
+ * Enrollment Model (수강 신청 내역)
+ *
+ * 특징:
+ * - MyLectureData.txt의 한 줄 (사용자ID/강의ID/신청일시/상태)
+ * - 불변 객체: 상태가 바뀌면 새 Enrollment를 만들어 저장 (파일에는 변경 기록이 순서대로 추가됨)
+ * - 같은 (사용자, 강의)에 대해서는 가장 마지막 기록이 현재 상태
+ */
+public class Enrollment {
+
+    /**
+     * 신청 상태 (파일에는 한글 표기로 저장)
+     */
+    public enum Status {
+        ENROLLED("신청"),
+        WAITLISTED("대기"),
+        CANCELLED("취소");
+
+        private final String label;
+
+        Status(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        /**
+         * 파일의 상태 표기를 Status로 변환합니다.
+         *
+         * @return 일치하는 상태, 알 수 없는 표기면 null
+         */
+        public static Status fromLabel(String label) {
+            for (Status status : values()) {
+                if (status.label.equals(label)) {
+                    return status;
+                }
+            }
+            return null;
+        }
+    }
+
+    private final String userId;
+    private final String lectureId;
+    private final String enrolledAt;  // 신청(변경) 일시, "yyyy-MM-dd HH:mm:ss"
+    private final Status status;
+
+    public Enrollment(String userId, String lectureId, String enrolledAt, Status status) {
+        this.userId = userId;
+        this.lectureId = lectureId;
+        this.enrolledAt = enrolledAt;
+        this.status = status;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public String getLectureId() {
+        return lectureId;
+    }
+
+    public String getEnrolledAt() {
+        return enrolledAt;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    @Override
+    public String toString() {
+        return "Enrollment{" +
+                "userId='" + userId + '\'' +
+                ", lectureId='" + lectureId + '\'' +
+                ", enrolledAt='" + enrolledAt + '\'' +
+                ", status=" + status.getLabel() +
+                '}';
+    }
+}
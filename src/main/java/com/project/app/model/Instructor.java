@@ -1,5 +1,10 @@
 package com.project.app.model;
 
+import com.project.app.util.IntHashSet;
+import com.project.app.util.IntList;
+import com.project.app.util.SymbolTable;
+
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -11,6 +16,7 @@ import java.util.List;
  * - 강사 기본 정보는 불변 (id, name, academyId, introduction, subject)
  * - 교재 및 강의 정보는 읽기 전용 (textbookIds, lectureIds)
  * - 수강 학생 목록만 변경 가능 (studentIds)
+ * - 학생 ID는 SymbolTable의 정수 핸들로 저장 (멤버십 확인 O(1), 학생당 int 하나)
  *
  * - 강사는 추가/삭제되지 않음
  * - 강의 개수 및 교재는 변경되지 않음
@@ -33,7 +39,9 @@ public class Instructor {
 
     // ========== 변경 가능 필드 ==========
 
-    private final List<String> studentIds;   // 변경 가능 (추가/제거만)
+    private final IntHashSet studentHandles;   // 수강 여부 확인용 (O(1))
+    private final IntList studentOrder;        // 등록 순서 유지용
+    private final List<String> studentIdsView; // 읽기 전용 뷰 (복사 없음)
 
     // ========== 추가 정보 ==========
 
@@ -64,7 +72,13 @@ public class Instructor {
             lectureIds != null ? new ArrayList<>(lectureIds) : new ArrayList<>()
         );
         // 학생 목록만 변경 가능
-        this.studentIds = studentIds != null ? new ArrayList<>(studentIds) : new ArrayList<>();
+        int expectedStudents = studentIds != null ? studentIds.size() : 0;
+        this.studentHandles = new IntHashSet(expectedStudents);
+        this.studentOrder = new IntList(expectedStudents);
+        this.studentIdsView = new StudentIdsView();
+        if (studentIds != null) {
+            studentIds.forEach(this::addStudent);
+        }
     }
 
     // ========== Getter 메서드 ==========
@@ -106,10 +120,18 @@ public class Instructor {
 
     /**
      * 학생 ID 목록 조회
-     * 방어적 복사본 반환 (외부 수정 방지)
+     * 복사하지 않고 읽기 전용 뷰를 반환 (수정 시도 시 UnsupportedOperationException)
+     * 이후 추가되는 학생도 뷰에 반영됩니다.
      */
     public List<String> getStudentIds() {
-        return new ArrayList<>(studentIds);
+        return studentIdsView;
+    }
+
+    /**
+     * 수강 학생 수 조회
+     */
+    public synchronized int getStudentCount() {
+        return studentOrder.size();
     }
 
     public String getProfileImagePath() {
@@ -133,10 +155,11 @@ public class Instructor {
      *
      * @param studentId 추가할 학생 ID
      */
-    public void addStudent(String studentId) {
+    public synchronized void addStudent(String studentId) {
         if (studentId != null && !studentId.trim().isEmpty()) {
-            if (!studentIds.contains(studentId)) {
-                studentIds.add(studentId);
+            int handle = SymbolTable.getInstance().intern(studentId);
+            if (studentHandles.add(handle)) {
+                studentOrder.add(handle);
             }
         }
     }
@@ -147,8 +170,9 @@ public class Instructor {
      * @param studentId 확인할 학생 ID
      * @return 수강 여부
      */
-    public boolean hasStudent(String studentId) {
-        return studentIds.contains(studentId);
+    public synchronized boolean hasStudent(String studentId) {
+        int handle = SymbolTable.getInstance().lookup(studentId);
+        return handle >= 0 && studentHandles.contains(handle);
     }
 
     // ========== 조회 메서드 ==========
@@ -171,7 +195,29 @@ public class Instructor {
                 ", subject='" + subject + '\'' +
                 ", textbookId='" + (textbookId != null ? textbookId : "없음") + '\'' +
                 ", lectureCount=" + lectureIds.size() +
-                ", studentCount=" + studentIds.size() +
+                ", studentCount=" + getStudentCount() +
                 '}';
     }
+
+    /**
+     * 학생 핸들 목록을 학생 ID 문자열 목록처럼 보여주는 읽기 전용 뷰
+     */
+    private class StudentIdsView extends AbstractList<String> {
+        @Override
+        public String get(int index) {
+            synchronized (Instructor.this) {
+                return SymbolTable.getInstance().symbol(studentOrder.get(index));
+            }
+        }
+
+        @Override
+        public int size() {
+            return getStudentCount();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof String && hasStudent((String) o);
+        }
+    }
 }
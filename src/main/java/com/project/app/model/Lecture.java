@@ -0,0 +1,244 @@
+package com.project.app.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Lecture Model
+ *
+ * 특징:
+ * - 강의 기본 정보는 불변 (LectureData.txt의 14개 필드)
+ * - 대상 학년, 수업 시간은 읽기 전용 리스트
+ * - 요일 + 수업 시간은 생성 시 WeeklyTimeMask(168비트)로도 변환해 두어 시간 겹침을 AND 한 번으로 확인
+ * - 현재 수강생 수만 변경 가능 (increaseEnrollment / decreaseEnrollment)
+ * - 수강생 수는 AtomicInteger의 CAS로 변경 (락 없음, 정원 초과 불가)
+ *
+ * - 강의는 추가/삭제되지 않음
+ * - 변경되는 것: 현재 수강생 수
+ */
+public class Lecture {
+
+    // ========== 불변 필드 (Basic Information) ==========
+
+    private final String id;
+    private final String academyId;
+    private final String subject;
+    private final int year;                // 개설 년도
+    private final String name;             // 강의 이름
+    private final String instructorName;   // 강사명
+    private final String textbookName;     // 교재명
+    private final int price;               // 강의 가격
+    private final int textbookPrice;       // 교재 가격
+    private final String description;      // 강의 설명
+    private final int capacity;            // 정원
+    private final String dayOfWeek;        // 요일 (월~일)
+
+    // ========== 읽기 전용 필드 ==========
+
+    private final List<String> targetGrades; // 대상 학년 (예: 고2, 고3, N수)
+    private final List<Integer> timeSlots;   // 수업 시간 (시 단위, 예: 7,8,9,10)
+    private final WeeklyTimeMask timeMask;   // 요일 + 수업 시간 비트마스크
+
+    // ========== 변경 가능 필드 ==========
+
+    private final AtomicInteger currentEnrollment = new AtomicInteger();
+
+    /**
+     * 전체 필드 생성자
+     *
+     * @param id 강의 ID
+     * @param academyId 학원 ID
+     * @param subject 과목
+     * @param year 개설 년도
+     * @param name 강의 이름
+     * @param instructorName 강사명
+     * @param textbookName 교재명
+     * @param price 강의 가격
+     * @param textbookPrice 교재 가격
+     * @param description 강의 설명
+     * @param targetGrades 대상 학년 목록
+     * @param capacity 정원
+     * @param dayOfWeek 요일
+     * @param timeSlots 수업 시간 목록
+     */
+    public Lecture(String id, String academyId, String subject, int year, String name,
+                   String instructorName, String textbookName, int price, int textbookPrice,
+                   String description, List<String> targetGrades, int capacity,
+                   String dayOfWeek, List<Integer> timeSlots) {
+        this.id = id;
+        this.academyId = academyId;
+        this.subject = subject != null ? subject : "";
+        this.year = year;
+        this.name = name;
+        this.instructorName = instructorName;
+        this.textbookName = textbookName;
+        this.price = price;
+        this.textbookPrice = textbookPrice;
+        this.description = description;
+        this.capacity = capacity;
+        this.dayOfWeek = dayOfWeek;
+        this.targetGrades = Collections.unmodifiableList(
+            targetGrades != null ? new ArrayList<>(targetGrades) : new ArrayList<>()
+        );
+        this.timeSlots = Collections.unmodifiableList(
+            timeSlots != null ? new ArrayList<>(timeSlots) : new ArrayList<>()
+        );
+        this.timeMask = WeeklyTimeMask.of(dayOfWeek, this.timeSlots);
+    }
+
+    // ========== Getter 메서드 ==========
+
+    public String getId() {
+        return id;
+    }
+
+    public String getAcademyId() {
+        return academyId;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getInstructorName() {
+        return instructorName;
+    }
+
+    public String getTextbookName() {
+        return textbookName;
+    }
+
+    public int getPrice() {
+        return price;
+    }
+
+    public int getTextbookPrice() {
+        return textbookPrice;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public String getDayOfWeek() {
+        return dayOfWeek;
+    }
+
+    /**
+     * 대상 학년 목록 조회 (읽기 전용)
+     */
+    public List<String> getTargetGrades() {
+        return targetGrades;
+    }
+
+    /**
+     * 수업 시간 목록 조회 (읽기 전용)
+     */
+    public List<Integer> getTimeSlots() {
+        return timeSlots;
+    }
+
+    /**
+     * 수업 시간 비트마스크 (요일 + 수업 시간)
+     */
+    public WeeklyTimeMask getTimeMask() {
+        return timeMask;
+    }
+
+    public int getCurrentEnrollment() {
+        return currentEnrollment.get();
+    }
+
+    // ========== 비즈니스 메서드 ==========
+
+    /**
+     * 자리가 남아 있으면 수강생 수를 1 증가시킵니다 (CAS, 락 없음).
+     * 여러 스레드가 동시에 호출해도 정원을 넘지 않습니다.
+     *
+     * @return 자리를 확보했으면 true, 정원이 가득 찼으면 false
+     */
+    public boolean tryIncreaseEnrollment() {
+        while (true) {
+            int current = currentEnrollment.get();
+            if (current >= capacity) {
+                return false;
+            }
+            if (currentEnrollment.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 수강생 수 증가
+     *
+     * @throws IllegalStateException 정원이 가득 찬 경우
+     */
+    public void increaseEnrollment() {
+        if (!tryIncreaseEnrollment()) {
+            throw new IllegalStateException("정원이 초과되었습니다.");
+        }
+    }
+
+    /**
+     * 수강생 수 감소 (0 미만으로 내려가지 않음, CAS)
+     *
+     * @return 감소했으면 true, 이미 0이면 false
+     */
+    public boolean decreaseEnrollment() {
+        while (true) {
+            int current = currentEnrollment.get();
+            if (current <= 0) {
+                return false;
+            }
+            if (currentEnrollment.compareAndSet(current, current - 1)) {
+                return true;
+            }
+        }
+    }
+
+    public boolean isFull() {
+        return currentEnrollment.get() >= capacity;
+    }
+
+    public int getRemainingSeats() {
+        return Math.max(0, capacity - currentEnrollment.get());
+    }
+
+    /**
+     * 특정 학년이 수강 대상인지 확인
+     *
+     * @param gradeLabel 학년 표기 (예: "고3", "N수")
+     */
+    public boolean isTargetGrade(String gradeLabel) {
+        return targetGrades.contains(gradeLabel);
+    }
+
+    @Override
+    public String toString() {
+        return "Lecture{" +
+                "id='" + id + '\'' +
+                ", name='" + name + '\'' +
+                ", academyId='" + academyId + '\'' +
+                ", subject='" + subject + '\'' +
+                ", instructorName='" + instructorName + '\'' +
+                ", price=" + price +
+                ", capacity=" + capacity +
+                ", currentEnrollment=" + getCurrentEnrollment() +
+                '}';
+    }
+}
@@ -0,0 +1,110 @@
+package com.project.app.model;
+
+/**
+ * Payment Model (결제 내역)
+ *
+ * 특징:
+ * - PaymentData.txt의 한 줄 (결제ID/사용자ID/강의ID/결제금액/교재구매여부/결제수단/결제일시/결제상태)
+ * - 불변 객체: 상태가 바뀌면(결제 실패, 환불 등) 새 Payment를 만들어 저장
+ */
+public class Payment {
+
+    /**
+     * 결제 상태 (파일에는 한글 표기로 저장)
+     */
+    public enum Status {
+        COMPLETED("완료"),
+        FAILED("실패"),
+        REFUNDED("환불");
+
+        private final String label;
+
+        Status(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        /**
+         * 파일의 상태 표기를 Status로 변환합니다.
+         *
+         * @return 일치하는 상태, 알 수 없는 표기면 null
+         */
+        public static Status fromLabel(String label) {
+            for (Status status : values()) {
+                if (status.label.equals(label)) {
+                    return status;
+                }
+            }
+            return null;
+        }
+    }
+
+    private final String id;
+    private final String userId;
+    private final String lectureId;
+    private final int amount;                  // 결제 금액 (강의 + 교재)
+    private final boolean textbookPurchased;   // 교재 구매 여부
+    private final String method;               // 결제 수단
+    private final String paidAt;               // 결제 일시, "yyyy-MM-dd HH:mm:ss"
+    private final Status status;
+
+    public Payment(String id, String userId, String lectureId, int amount, boolean textbookPurchased,
+                   String method, String paidAt, Status status) {
+        this.id = id;
+        this.userId = userId;
+        this.lectureId = lectureId;
+        this.amount = amount;
+        this.textbookPurchased = textbookPurchased;
+        this.method = method;
+        this.paidAt = paidAt;
+        this.status = status;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public String getLectureId() {
+        return lectureId;
+    }
+
+    public int getAmount() {
+        return amount;
+    }
+
+    public boolean isTextbookPurchased() {
+        return textbookPurchased;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getPaidAt() {
+        return paidAt;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    @Override
+    public String toString() {
+        return "Payment{" +
+                "id='" + id + '\'' +
+                ", userId='" + userId + '\'' +
+                ", lectureId='" + lectureId + '\'' +
+                ", amount=" + amount +
+                ", textbookPurchased=" + textbookPurchased +
+                ", method='" + method + '\'' +
+                ", status=" + status.getLabel() +
+                '}';
+    }
+}
@@ -0,0 +1,164 @@
+package com.project.app.model;
+
+/**
+ * Review Model (강의/강사 리뷰)
+ *
+ * 특징:
+ * - ReviewData.txt의 한 줄 (리뷰ID/사용자ID/대상종류/대상ID/평점/작성일시/상태/내용)
+ * - 평점은 1~5 정수 별점 (별점별 개수 집계에 사용)
+ * - 불변 객체: 수정/삭제되면 같은 ID로 새 Review를 만들어 저장 (파일에는 변경 기록이 순서대로 추가됨)
+ * - 같은 리뷰 ID는 가장 마지막 기록이 현재 상태
+ */
+public class Review {
+
+    /** 최소/최대 별점 */
+    public static final int MIN_RATING = 1;
+    public static final int MAX_RATING = 5;
+
+    /**
+     * 리뷰 대상 종류 (파일에는 한글 표기로 저장)
+     */
+    public enum TargetType {
+        LECTURE("강의"),
+        INSTRUCTOR("강사");
+
+        private final String label;
+
+        TargetType(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        /**
+         * 파일의 대상 표기를 TargetType으로 변환합니다.
+         *
+         * @return 일치하는 종류, 알 수 없는 표기면 null
+         */
+        public static TargetType fromLabel(String label) {
+            for (TargetType type : values()) {
+                if (type.label.equals(label)) {
+                    return type;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * 리뷰 상태 (파일에는 한글 표기로 저장)
+     */
+    public enum Status {
+        POSTED("게시"),
+        DELETED("삭제");
+
+        private final String label;
+
+        Status(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        /**
+         * 파일의 상태 표기를 Status로 변환합니다.
+         *
+         * @return 일치하는 상태, 알 수 없는 표기면 null
+         */
+        public static Status fromLabel(String label) {
+            for (Status status : values()) {
+                if (status.label.equals(label)) {
+                    return status;
+                }
+            }
+            return null;
+        }
+    }
+
+    private final String id;
+    private final String userId;
+    private final TargetType targetType;
+    private final String targetId;     // 강의 ID 또는 강사 ID
+    private final int rating;          // 1~5
+    private final String createdAt;    // 작성 일시, "yyyy-MM-dd HH:mm:ss"
+    private final Status status;
+    private final String content;
+
+    public Review(String id, String userId, TargetType targetType, String targetId, int rating,
+                  String createdAt, Status status, String content) {
+        this.id = id;
+        this.userId = userId;
+        this.targetType = targetType;
+        this.targetId = targetId;
+        this.rating = rating;
+        this.createdAt = createdAt;
+        this.status = status;
+        this.content = content;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public TargetType getTargetType() {
+        return targetType;
+    }
+
+    public String getTargetId() {
+        return targetId;
+    }
+
+    public int getRating() {
+        return rating;
+    }
+
+    public String getCreatedAt() {
+        return createdAt;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public boolean isDeleted() {
+        return status == Status.DELETED;
+    }
+
+    /**
+     * 평점/내용만 바꾼 새 Review (ID, 작성자, 대상, 작성 일시는 유지)
+     */
+    public Review withContent(int newRating, String newContent) {
+        return new Review(id, userId, targetType, targetId, newRating, createdAt, status, newContent);
+    }
+
+    /**
+     * 삭제 상태의 새 Review
+     */
+    public Review deleted() {
+        return new Review(id, userId, targetType, targetId, rating, createdAt, Status.DELETED, content);
+    }
+
+    @Override
+    public String toString() {
+        return "Review{" +
+                "id='" + id + '\'' +
+                ", userId='" + userId + '\'' +
+                ", targetType=" + targetType.getLabel() +
+                ", targetId='" + targetId + '\'' +
+                ", rating=" + rating +
+                ", status=" + status.getLabel() +
+                '}';
+    }
+}
@@ -0,0 +1,75 @@
+package com.project.app.model;
+
+/**
+ * Textbook Model
+ *
+ * 특징:
+ * - 교재 정보는 모두 불변 (TextbookData.txt의 6개 필드)
+ * - 교재는 하나의 강의/강사에 연결됨
+ */
+public class Textbook {
+
+    private final String id;
+    private final String name;
+    private final int price;
+    private final String subject;
+    private final String lectureId;     // 연관 강의 ID
+    private final String instructorId;  // 저자 강사 ID
+
+    /**
+     * 전체 필드 생성자
+     *
+     * @param id 교재 ID
+     * @param name 교재명
+     * @param price 가격
+     * @param subject 과목
+     * @param lectureId 연관 강의 ID
+     * @param instructorId 강사 ID
+     */
+    public Textbook(String id, String name, int price, String subject, String lectureId, String instructorId) {
+        this.id = id;
+        this.name = name;
+        this.price = price;
+        this.subject = subject != null ? subject : "";
+        this.lectureId = lectureId;
+        this.instructorId = instructorId;
+    }
+
+    // ========== Getter 메서드 ==========
+
+    public String getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getPrice() {
+        return price;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public String getLectureId() {
+        return lectureId;
+    }
+
+    public String getInstructorId() {
+        return instructorId;
+    }
+
+    @Override
+    public String toString() {
+        return "Textbook{" +
+                "id='" + id + '\'' +
+                ", name='" + name + '\'' +
+                ", price=" + price +
+                ", subject='" + subject + '\'' +
+                ", lectureId='" + lectureId + '\'' +
+                ", instructorId='" + instructorId + '\'' +
+                '}';
+    }
+}
@@ -1,5 +1,9 @@
 package com.project.app.model;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 /**
  * User 엔티티
  *
@@ -19,16 +23,32 @@ public class User {
     private final String name;
     private final int grade;      // 1: 고1, 2: 고2, 3: 고3, 4: N수
     private final String birth;   // YYYY-MM-DD 형식
+    private final List<String> enrolledLectureIds; // 신청 강의 ID 목록 (읽기 전용)
+    private final List<String> paymentIds;         // 결제 내역 ID 목록 (읽기 전용)
 
     /**
-     * 전체 필드를 받는 생성자
+     * 전체 필드를 받는 생성자 (userData.txt의 모든 컬럼)
      */
-    public User(String id, String password, String name, int grade, String birth) {
+    public User(String id, String password, String name, int grade, String birth,
+                List<String> enrolledLectureIds, List<String> paymentIds) {
         this.id = id;
         this.password = password;
         this.name = name;
         this.grade = grade;
         this.birth = birth;
+        this.enrolledLectureIds = Collections.unmodifiableList(
+            enrolledLectureIds != null ? new ArrayList<>(enrolledLectureIds) : new ArrayList<>()
+        );
+        this.paymentIds = Collections.unmodifiableList(
+            paymentIds != null ? new ArrayList<>(paymentIds) : new ArrayList<>()
+        );
+    }
+
+    /**
+     * 기본 정보만 받는 생성자 (신청 강의/결제 내역 없음, 회원가입 등)
+     */
+    public User(String id, String password, String name, int grade, String birth) {
+        this(id, password, name, grade, birth, null, null);
     }
 
     /**
@@ -59,6 +79,14 @@ public class User {
         return birth;
     }
 
+    public List<String> getEnrolledLectureIds() {
+        return enrolledLectureIds;
+    }
+
+    public List<String> getPaymentIds() {
+        return paymentIds;
+    }
+
     /**
      * UI 학년 표현하는 헬퍼 메서드
      *
@@ -73,4 +101,23 @@ public class User {
             default -> "미지정";
         };
     }
+
+    /**
+     * 학년 표기를 grade 값으로 변환하는 헬퍼 메서드 (getGradeLabel의 역변환)
+     *
+     * @param label "고1", "고2", "고3", "N수"
+     * @return 1~4, 알 수 없는 표기면 0
+     */
+    public static int parseGradeLabel(String label) {
+        if (label == null) {
+            return 0;
+        }
+        return switch (label.trim()) {
+            case "고1" -> 1;
+            case "고2" -> 2;
+            case "고3" -> 3;
+            case "N수" -> 4;
+            default -> 0;
+        };
+    }
 }
@@ -0,0 +1,180 @@
+package com.project.app.model;
+
+import java.util.List;
+
+/**
+ * 일주일 시간표 비트마스크 (7일 × 24시간 = 168비트, long 3개)
+ *
+ * 특징:
+ * - (요일, 시) 한 칸을 비트 하나로 표현: 비트 번호 = 요일 번호(월=0 ~ 일=6) × 24 + 시
+ * - 시간 겹침 확인은 long 3개의 AND 한 번 (문자열 파싱 없음)
+ * - 불변 객체: or / andNot은 새 마스크를 반환
+ *
+ * 강의의 시간표는 Lecture.getTimeMask(), 사용자의 시간표는 신청한 강의 마스크의 OR로 표현합니다.
+ */
+public final class WeeklyTimeMask {
+
+    public static final int DAYS = 7;
+    public static final int HOURS = 24;
+    public static final String[] DAY_LABELS = {"월", "화", "수", "목", "금", "토", "일"};
+
+    public static final WeeklyTimeMask EMPTY = new WeeklyTimeMask(0L, 0L, 0L);
+
+    // 비트 0~63, 64~127, 128~167
+    private final long low;
+    private final long mid;
+    private final long high;
+
+    public WeeklyTimeMask(long low, long mid, long high) {
+        this.low = low;
+        this.mid = mid;
+        this.high = high;
+    }
+
+    /**
+     * 한 요일의 수업 시간들로 마스크를 만듭니다.
+     *
+     * @param dayLabel 요일 (월~일)
+     * @param hours 수업 시간 목록 (0~23), 범위를 벗어난 값은 무시
+     * @return 마스크, 알 수 없는 요일이면 EMPTY
+     */
+    public static WeeklyTimeMask of(String dayLabel, List<Integer> hours) {
+        int day = dayIndex(dayLabel);
+        if (day < 0 || hours == null) {
+            return EMPTY;
+        }
+        long[] words = new long[3];
+        for (Integer hour : hours) {
+            if (hour != null && hour >= 0 && hour < HOURS) {
+                int bit = day * HOURS + hour;
+                words[bit >>> 6] |= 1L << bit;
+            }
+        }
+        return new WeeklyTimeMask(words[0], words[1], words[2]);
+    }
+
+    /**
+     * 요일 표기를 번호로 변환합니다 ("월" 또는 "월요일" -> 0).
+     *
+     * @return 0(월) ~ 6(일), 알 수 없으면 -1
+     */
+    public static int dayIndex(String dayLabel) {
+        if (dayLabel == null || dayLabel.isEmpty()) {
+            return -1;
+        }
+        String first = dayLabel.substring(0, 1);
+        for (int i = 0; i < DAY_LABELS.length; i++) {
+            if (DAY_LABELS[i].equals(first)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // ========== 비트 연산 ==========
+
+    /**
+     * 겹치는 시간이 있는지 확인합니다 (AND).
+     */
+    public boolean overlaps(WeeklyTimeMask other) {
+        return ((low & other.low) | (mid & other.mid) | (high & other.high)) != 0;
+    }
+
+    /**
+     * 이 마스크의 모든 시간이 other 안에 들어가는지 확인합니다.
+     */
+    public boolean isWithin(WeeklyTimeMask other) {
+        return ((low & ~other.low) | (mid & ~other.mid) | (high & ~other.high)) == 0;
+    }
+
+    public WeeklyTimeMask or(WeeklyTimeMask other) {
+        return new WeeklyTimeMask(low | other.low, mid | other.mid, high | other.high);
+    }
+
+    public WeeklyTimeMask andNot(WeeklyTimeMask other) {
+        return new WeeklyTimeMask(low & ~other.low, mid & ~other.mid, high & ~other.high);
+    }
+
+    /**
+     * 비어 있는 시간 (168칸 중 이 마스크에 없는 칸)
+     */
+    public WeeklyTimeMask complement() {
+        return new WeeklyTimeMask(~low, ~mid, ~high & ((1L << (DAYS * HOURS - 128)) - 1));
+    }
+
+    public boolean isEmpty() {
+        return (low | mid | high) == 0;
+    }
+
+    /**
+     * 특정 (요일, 시) 칸이 포함되어 있는지 확인합니다.
+     */
+    public boolean contains(int day, int hour) {
+        int bit = day * HOURS + hour;
+        return (word(bit >>> 6) & (1L << bit)) != 0;
+    }
+
+    /**
+     * 특정 요일에 포함된 시간 수
+     */
+    public int hoursOn(int day) {
+        int count = 0;
+        for (int hour = 0; hour < HOURS; hour++) {
+            if (contains(day, hour)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 전체 시간 수 (popcount)
+     */
+    public int totalHours() {
+        return Long.bitCount(low) + Long.bitCount(mid) + Long.bitCount(high);
+    }
+
+    /**
+     * long 하나 조회 (0: 비트 0~63, 1: 64~127, 2: 128~167)
+     */
+    public long word(int index) {
+        switch (index) {
+            case 0: return low;
+            case 1: return mid;
+            case 2: return high;
+            default: throw new IndexOutOfBoundsException("word index: " + index);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof WeeklyTimeMask)) {
+            return false;
+        }
+        WeeklyTimeMask other = (WeeklyTimeMask) o;
+        return low == other.low && mid == other.mid && high == other.high;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(low) * 961 + Long.hashCode(mid) * 31 + Long.hashCode(high);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("WeeklyTimeMask{");
+        for (int day = 0; day < DAYS; day++) {
+            boolean first = true;
+            for (int hour = 0; hour < HOURS; hour++) {
+                if (contains(day, hour)) {
+                    sb.append(first ? (sb.length() > 15 ? " " : "") + DAY_LABELS[day] + ":" : ",").append(hour);
+                    first = false;
+                }
+            }
+        }
+        return sb.append('}').toString();
+    }
+}
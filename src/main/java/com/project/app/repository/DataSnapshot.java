@@ -0,0 +1,258 @@
+package com.project.app.repository;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * 데이터 파일의 바이너리 스냅샷 (빠른 시작용 캐시)
+ *
+ * 특징:
+ * - 텍스트 데이터 파일(src/main/data/*.txt)은 계속 편집 가능한 원본이며, 스냅샷은 그 파생물
+ *   (예: InstructorsData.txt -> InstructorsData.snap)
+ * - 시작 시 스냅샷 파일을 한 번에 읽고(Files.readAllBytes) 텍스트 파싱 없이 복원
+ * - 스냅샷은 원본의 크기와 수정 시각(나노초 단위까지 파일 시스템이 주는 정밀도)으로 연결:
+ *   둘 중 하나라도 헤더와 다르면 텍스트를 다시 파싱하고 스냅샷을 새로 생성
+ *   → 최신 여부 확인은 파일 속성 조회 한 번이며, 스냅샷이 최신이면 원본 내용을 읽지 않음
+ *   (수정 시각을 그대로 되돌려 놓은 같은 크기 편집은 감지하지 못함, 이때는 .snap 파일을 지우면 됨)
+ * - 블록마다 CRC32를 저장하여 손상된 스냅샷은 사용하지 않음 (텍스트로 대체)
+ * - 추가 기록 로그(PaymentData.txt 등)는 마지막 레코드가 온전할 때만 스냅샷을 사용 (isCompleteLog)
+ *
+ * 파일 형식 (big-endian):
+ *   헤더: [매직 "OOPS"][버전 int][원본 크기 long][원본 수정 시각(ns) long][블록 개수 int]
+ *   블록: [종류 int][길이 int][내용][내용의 CRC32 int]
+ *
+ * 블록 종류:
+ * - STRINGS / ROWS: DataTable (문자열 테이블 + 길이 접두 필드)
+ * - INT_ARRAY 계열: Repository 전용 인덱스 (예: 강의 줄 오프셋)
+ */
+final class DataSnapshot {
+
+    static final int VERSION = 3;
+
+    static final int BLOCK_STRINGS = 1;
+    static final int BLOCK_ROWS = 2;
+    static final int BLOCK_LINE_STARTS = 3;
+    static final int BLOCK_LINE_ENDS = 4;
+    static final int BLOCK_ID_TABLE = 5;
+    static final int BLOCK_ACADEMY_CODES = 6;
+    static final int BLOCK_SUBJECT_CODES = 7;
+    static final int BLOCK_INSTRUCTOR_CODES = 8;
+
+    private static final int MAGIC = 0x4F4F5053; // "OOPS"
+    private static final String SOURCE_EXTENSION = ".txt";
+    private static final String SNAPSHOT_EXTENSION = ".snap";
+
+    private DataSnapshot() {
+    }
+
+    /**
+     * 텍스트 데이터 파일을 표로 읽습니다.
+     * 최신 스냅샷이 있으면 스냅샷에서 복원하고, 없거나 오래되었으면 텍스트를 파싱한 뒤 스냅샷을 다시 씁니다.
+     *
+     * @param source 텍스트 데이터 파일
+     * @return 헤더를 제외한 행 목록
+     * @throws IOException 텍스트 파일을 읽을 수 없는 경우
+     */
+    static DataTable loadTable(Path source) throws IOException {
+        // 수정 시각은 내용을 읽기 전에 확인 (읽는 도중 바뀌면 다음 시작 때 시각이 달라 다시 파싱됨)
+        long modified = modifiedTimeOf(source);
+        Map<Integer, ByteBuffer> blocks = read(source, Files.size(source), modified);
+        if (blocks != null && blocks.containsKey(BLOCK_STRINGS) && blocks.containsKey(BLOCK_ROWS)) {
+            try {
+                return DataTable.decode(blocks.get(BLOCK_STRINGS), blocks.get(BLOCK_ROWS));
+            } catch (RuntimeException e) {
+                System.err.println("Ignoring malformed snapshot for " + source + ": " + e.getMessage());
+            }
+        }
+
+        byte[] content = Files.readAllBytes(source);
+        DataTable table = DataTable.parse(new String(content, StandardCharsets.UTF_8));
+        Map<Integer, byte[]> encoded = new LinkedHashMap<>();
+        encoded.put(BLOCK_STRINGS, table.encodeStrings());
+        encoded.put(BLOCK_ROWS, table.encodeRows());
+        write(source, content.length, modified, encoded);
+        return table;
+    }
+
+    /**
+     * 추가 기록(append-only) 로그 파일이 온전한지 확인합니다 (파일 크기와 마지막 1바이트만 읽음).
+     * 온전한 로그는 loadTable로 읽고, 그렇지 않으면 parseCompleteLines로 읽은 뒤 호출자가 파일을 다시 씁니다.
+     *
+     * @param source 로그 파일
+     * @return 파일이 있고 비어 있지 않으며 마지막 레코드가 개행으로 끝났으면 true
+     * @throws IOException 파일을 읽을 수 없는 경우
+     */
+    static boolean isCompleteLog(Path source) throws IOException {
+        if (Files.notExists(source)) {
+            return false;
+        }
+        try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size == 0) {
+                return false;
+            }
+            ByteBuffer last = ByteBuffer.allocate(1);
+            channel.read(last, size - 1);
+            return last.get(0) == '\n';
+        }
+    }
+
+    /**
+     * 로그 파일에서 개행으로 끝난 줄까지만 표로 읽습니다 (비정상 종료로 잘린 마지막 레코드는 버림).
+     * 파일이 없으면 빈 표를 반환합니다. 스냅샷은 만들지 않습니다 (호출자가 파일을 다시 쓰므로).
+     *
+     * @param source 로그 파일
+     * @return 헤더를 제외한 행 목록
+     * @throws IOException 파일을 읽을 수 없는 경우
+     */
+    static DataTable parseCompleteLines(Path source) throws IOException {
+        String content = Files.exists(source) ? Files.readString(source, StandardCharsets.UTF_8) : "";
+        int complete = content.lastIndexOf('\n') + 1;
+        if (complete > 0 && complete < content.length()) {
+            System.err.println("Discarding torn record (" + (content.length() - complete) + " chars): " + source);
+        }
+        return DataTable.parse(content.substring(0, complete));
+    }
+
+    /**
+     * 원본 파일의 수정 시각 (스냅샷 헤더에 기록하는 값, 나노초)
+     *
+     * @param source 텍스트 데이터 파일
+     * @throws IOException 파일 속성을 읽을 수 없는 경우
+     */
+    static long modifiedTimeOf(Path source) throws IOException {
+        return Files.getLastModifiedTime(source).to(TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 내용의 CRC32 (스냅샷 블록 검증용)
+     *
+     * @param content 블록 내용 (읽기 위치는 바뀌지 않음)
+     */
+    static long checksumOf(ByteBuffer content) {
+        CRC32 crc = new CRC32();
+        crc.update(content.duplicate());
+        return crc.getValue();
+    }
+
+    /**
+     * 원본 파일에 대한 최신 스냅샷의 블록들을 읽습니다.
+     *
+     * @param source 텍스트 데이터 파일
+     * @param sourceSize 원본 파일의 바이트 수
+     * @param sourceModified 원본 파일의 modifiedTimeOf() 값
+     * @return 블록 종류 -> 내용 (읽기 위치 0), 스냅샷이 없거나 원본과 맞지 않거나 손상되었으면 null
+     */
+    static Map<Integer, ByteBuffer> read(Path source, long sourceSize, long sourceModified) {
+        Path snapshot = snapshotPathOf(source);
+        if (Files.notExists(snapshot)) {
+            return null;
+        }
+        try {
+            ByteBuffer in = ByteBuffer.wrap(Files.readAllBytes(snapshot));
+            if (in.getInt() != MAGIC || in.getInt() != VERSION) {
+                System.out.println("Snapshot format changed, rebuilding: " + snapshot);
+                return null;
+            }
+            if (in.getLong() != sourceSize || in.getLong() != sourceModified) {
+                System.out.println("Source changed, rebuilding snapshot: " + snapshot);
+                return null;
+            }
+            int blockCount = in.getInt();
+            Map<Integer, ByteBuffer> blocks = new HashMap<>();
+            for (int i = 0; i < blockCount; i++) {
+                int type = in.getInt();
+                int length = in.getInt();
+                ByteBuffer content = in.slice(in.position(), length);
+                in.position(in.position() + length);
+                if ((int) checksumOf(content) != in.getInt()) {
+                    System.err.println("Snapshot checksum mismatch (block " + type + "): " + snapshot);
+                    return null;
+                }
+                blocks.put(type, content);
+            }
+            return blocks;
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Error reading snapshot " + snapshot + ": " + e);
+            return null;
+        }
+    }
+
+    /**
+     * 원본 파일의 스냅샷을 씁니다. 임시 파일에 쓴 뒤 원자적으로 교체합니다.
+     * 스냅샷은 캐시이므로 실패해도 예외를 던지지 않고 로그만 남깁니다.
+     *
+     * @param source 텍스트 데이터 파일
+     * @param sourceSize 블록을 만든 원본 내용의 바이트 수
+     * @param sourceModified 원본 내용을 읽기 전에 확인한 modifiedTimeOf() 값
+     * @param blocks 블록 종류 -> 내용
+     */
+    static void write(Path source, long sourceSize, long sourceModified, Map<Integer, byte[]> blocks) {
+        Path snapshot = snapshotPathOf(source);
+        Path temp = snapshot.resolveSibling(snapshot.getFileName() + ".tmp");
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            ByteBuffer header = ByteBuffer.allocate(28);
+            header.putInt(MAGIC).putInt(VERSION)
+                    .putLong(sourceSize).putLong(sourceModified)
+                    .putInt(blocks.size());
+            bytes.write(header.array());
+            for (Map.Entry<Integer, byte[]> block : blocks.entrySet()) {
+                byte[] content = block.getValue();
+                bytes.write(ByteBuffer.allocate(8).putInt(block.getKey()).putInt(content.length).array());
+                bytes.write(content);
+                bytes.write(ByteBuffer.allocate(4).putInt((int) checksumOf(ByteBuffer.wrap(content))).array());
+            }
+            Files.write(temp, bytes.toByteArray());
+            try {
+                Files.move(temp, snapshot, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, snapshot, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            System.err.println("Error writing snapshot " + snapshot + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * 텍스트 파일에 대응하는 스냅샷 파일 경로 (예: LectureData.txt -> LectureData.snap)
+     */
+    static Path snapshotPathOf(Path source) {
+        String name = source.getFileName().toString();
+        if (name.endsWith(SOURCE_EXTENSION)) {
+            name = name.substring(0, name.length() - SOURCE_EXTENSION.length());
+        }
+        return source.resolveSibling(name + SNAPSHOT_EXTENSION);
+    }
+
+    // ========== int 배열 블록 ==========
+
+    static byte[] encodeIntArray(int[] values, int length) {
+        ByteBuffer buffer = ByteBuffer.allocate(4 + length * 4);
+        buffer.putInt(length);
+        for (int i = 0; i < length; i++) {
+            buffer.putInt(values[i]);
+        }
+        return buffer.array();
+    }
+
+    static int[] decodeIntArray(ByteBuffer block) {
+        int length = block.getInt();
+        int[] values = new int[length];
+        block.asIntBuffer().get(values);
+        return values;
+    }
+}
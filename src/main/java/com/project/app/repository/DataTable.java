@@ -0,0 +1,268 @@
+package com.project.app.repository;
+
+import com.project.app.util.FieldCursor;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 데이터 파일 한 개의 내용을 행/필드 표 형태로 보관하는 클래스
+ *
+ * 특징:
+ * - src/main/data의 "필드/필드/..." 텍스트 파일(헤더 제외)을 행 단위로 보관
+ * - 같은 문자열(id, 과목, 학원 등)은 문자열 테이블에 한 번만 저장하고 각 칸은 테이블 번호(int)만 가짐
+ * - 텍스트 파싱 시 칸 값은 원문 구간으로 문자열 테이블을 조회하므로, String은 처음 나온 값에만 만듦
+ *   (이미 나온 값의 칸은 int 하나만 기록, 칸마다 String/Integer를 만들지 않음)
+ * - 목록 필드("L001,L002")는 원문 그대로 보관하며, Repository가 FieldCursor로 나눠서 사용
+ * - DataSnapshot의 문자열 블록/행 블록으로 직렬화·역직렬화 가능
+ *
+ * 행과 칸의 값은 불변입니다.
+ */
+final class DataTable {
+
+    private final String[] strings;  // 문자열 테이블
+    private final int[] rowStarts;   // 행 번호 -> cells 시작 위치 (rowCount + 1개)
+    private final int[] cells;       // 칸 -> 문자열 테이블 번호
+
+    private DataTable(String[] strings, int[] rowStarts, int[] cells) {
+        this.strings = strings;
+        this.rowStarts = rowStarts;
+        this.cells = cells;
+    }
+
+    int rowCount() {
+        return rowStarts.length - 1;
+    }
+
+    int fieldCount(int row) {
+        return rowStarts[row + 1] - rowStarts[row];
+    }
+
+    /**
+     * 행의 필드 값을 반환합니다 (앞뒤 공백 제거된 값).
+     */
+    String field(int row, int column) {
+        return strings[cells[rowStarts[row] + column]];
+    }
+
+    /**
+     * 오류 메시지용으로 행을 원래 텍스트 형식으로 되돌립니다.
+     */
+    String rowText(int row) {
+        StringBuilder builder = new StringBuilder();
+        for (int column = 0; column < fieldCount(row); column++) {
+            if (column > 0) {
+                builder.append(FieldCursor.FIELD_DELIMITER);
+            }
+            builder.append(field(row, column));
+        }
+        return builder.toString();
+    }
+
+    // ========== 텍스트 파싱 ==========
+
+    /**
+     * 데이터 파일 텍스트를 표로 변환합니다. 첫 줄(헤더)과 빈 줄은 제외합니다.
+     * 새 String은 문자열 테이블에 처음 들어가는 값에만 만들어집니다.
+     *
+     * @param text 파일 전체 내용
+     */
+    static DataTable parse(CharSequence text) {
+        Builder builder = new Builder();
+        FieldCursor cursor = new FieldCursor();
+        boolean[] header = {true};
+        FieldCursor.forEachLine(text, (content, start, end) -> {
+            if (header[0]) {
+                header[0] = false;
+                return;
+            }
+            cursor.reset(content, start, end);
+            if (cursor.isBlankLine()) {
+                return;
+            }
+            while (cursor.nextField()) {
+                builder.addCell(cursor);
+            }
+            builder.endRow();
+        });
+        return builder.build();
+    }
+
+    // ========== 스냅샷 블록 변환 ==========
+
+    /**
+     * 문자열 테이블 블록: [개수] + 각 문자열의 [UTF-8 바이트 길이][바이트]
+     */
+    byte[] encodeStrings() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeVarInt(out, strings.length);
+        for (String value : strings) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(out, bytes.length);
+            out.write(bytes, 0, bytes.length);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 행 블록: [행 개수] + 각 행의 [필드 개수][필드마다 문자열 테이블 번호]
+     */
+    byte[] encodeRows() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeVarInt(out, rowCount());
+        for (int row = 0; row < rowCount(); row++) {
+            writeVarInt(out, fieldCount(row));
+            for (int i = rowStarts[row]; i < rowStarts[row + 1]; i++) {
+                writeVarInt(out, cells[i]);
+            }
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 스냅샷의 문자열 블록과 행 블록으로 표를 복원합니다.
+     *
+     * @throws IllegalArgumentException 블록 내용이 올바르지 않은 경우
+     */
+    static DataTable decode(ByteBuffer stringBlock, ByteBuffer rowBlock) {
+        int stringCount = readVarInt(stringBlock);
+        String[] strings = new String[stringCount];
+        for (int i = 0; i < stringCount; i++) {
+            int length = readVarInt(stringBlock);
+            strings[i] = new String(stringBlock.array(), stringBlock.arrayOffset() + stringBlock.position(),
+                    length, StandardCharsets.UTF_8);
+            stringBlock.position(stringBlock.position() + length);
+        }
+
+        int rowCount = readVarInt(rowBlock);
+        int[] rowStarts = new int[rowCount + 1];
+        int[] cells = new int[Math.max(16, rowCount * 8)];
+        int cellCount = 0;
+        for (int row = 0; row < rowCount; row++) {
+            rowStarts[row] = cellCount;
+            int fieldCount = readVarInt(rowBlock);
+            if (cellCount + fieldCount > cells.length) {
+                cells = Arrays.copyOf(cells, Math.max(cells.length * 2, cellCount + fieldCount));
+            }
+            for (int i = 0; i < fieldCount; i++) {
+                int index = readVarInt(rowBlock);
+                if (index >= stringCount) {
+                    throw new IllegalArgumentException("String index out of range: " + index);
+                }
+                cells[cellCount++] = index;
+            }
+        }
+        rowStarts[rowCount] = cellCount;
+        return new DataTable(strings, rowStarts, Arrays.copyOf(cells, cellCount));
+    }
+
+    // ========== Varint Helper Methods ==========
+
+    static void writeVarInt(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    static int readVarInt(ByteBuffer in) {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = in.get();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (value < 0) {
+                    throw new IllegalArgumentException("Negative varint");
+                }
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+
+    /**
+     * 텍스트 파싱 중 행/칸을 모으는 빌더 (같은 문자열은 한 번만 등록)
+     * 문자열 테이블 조회는 int 배열 해시 테이블(선형 탐사)에서 커서의 현재 구간과 직접 비교합니다.
+     */
+    private static final class Builder {
+        private String[] strings = new String[64];
+        private int stringCount;
+        private int[] stringSlots = new int[128];  // 해시 슬롯 -> 문자열 번호 + 1 (0: 빈 칸)
+        private int[] rowStarts = new int[64];
+        private int rowCount;
+        private int[] cells = new int[256];
+        private int cellCount;
+
+        /**
+         * 커서의 현재 필드를 칸으로 추가합니다. 처음 나온 값일 때만 String을 만듭니다.
+         */
+        void addCell(FieldCursor cursor) {
+            int mask = stringSlots.length - 1;
+            int slot = hashOf(cursor) & mask;
+            while (stringSlots[slot] != 0 && !cursor.contentEquals(strings[stringSlots[slot] - 1])) {
+                slot = (slot + 1) & mask;
+            }
+            int index;
+            if (stringSlots[slot] != 0) {
+                index = stringSlots[slot] - 1;
+            } else {
+                index = stringCount;
+                if (stringCount == strings.length) {
+                    strings = Arrays.copyOf(strings, stringCount * 2);
+                }
+                strings[stringCount++] = cursor.text();
+                stringSlots[slot] = index + 1;
+                if (stringCount * 2 > stringSlots.length) {
+                    rehash();
+                }
+            }
+            if (cellCount == cells.length) {
+                cells = Arrays.copyOf(cells, cellCount * 2);
+            }
+            cells[cellCount++] = index;
+        }
+
+        void endRow() {
+            if (rowCount + 1 >= rowStarts.length) {
+                rowStarts = Arrays.copyOf(rowStarts, rowStarts.length * 2);
+            }
+            rowStarts[++rowCount] = cellCount;
+        }
+
+        DataTable build() {
+            return new DataTable(Arrays.copyOf(strings, stringCount),
+                    Arrays.copyOf(rowStarts, rowCount + 1), Arrays.copyOf(cells, cellCount));
+        }
+
+        private void rehash() {
+            int[] newSlots = new int[stringSlots.length * 2];
+            int mask = newSlots.length - 1;
+            for (int index = 0; index < stringCount; index++) {
+                int slot = spread(strings[index].hashCode()) & mask;
+                while (newSlots[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                newSlots[slot] = index + 1;
+            }
+            stringSlots = newSlots;
+        }
+
+        /**
+         * String.hashCode()와 같은 방식으로 커서 구간의 해시를 계산합니다.
+         */
+        private static int hashOf(FieldCursor cursor) {
+            int hash = 0;
+            for (int i = 0; i < cursor.length(); i++) {
+                hash = 31 * hash + cursor.charAt(i);
+            }
+            return spread(hash);
+        }
+
+        private static int spread(int hash) {
+            return hash ^ (hash >>> 16);
+        }
+    }
+}
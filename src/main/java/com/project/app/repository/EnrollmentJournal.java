@@ -0,0 +1,192 @@
+package com.project.app.repository;
+
+import com.project.app.util.FieldCursor;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 수강생 등록 저널 (Append-only Write-Ahead Log)
+ *
+ * 특징:
+ * - 수강생 추가 시 전체 데이터 파일을 다시 쓰지 않고, 한 줄짜리 레코드만 파일 끝에 추가
+ * - 레코드 형식: "순번/강사ID/학생ID" (순번은 1부터 단조 증가)
+ * - 쓰기는 PersistenceWriter를 통해 다른 쓰기 요청과 묶여(group commit) fsync됨
+ * - 시작 시 기본 데이터 파일 위에 저널을 재생(replay)하여 최신 상태 복원
+ * - 저널이 커지면 Repository가 스냅샷을 새로 쓰고 저널 앞부분을 잘라냄(compaction)
+ *
+ * 재생은 멱등적입니다. 같은 (강사, 학생) 레코드가 두 번 적용되어도 결과가 같으므로,
+ * 스냅샷 저장 직후 저널 정리 전에 종료되더라도 데이터가 손상되지 않습니다.
+ */
+class EnrollmentJournal {
+
+    private static final String HEADER = "순번/강사ID/학생ID";
+    private static final String FIELD_DELIMITER = "/";
+
+    /**
+     * 저널 레코드 재생 콜백
+     */
+    interface ReplayHandler {
+        void apply(long sequence, String instructorId, String studentId);
+    }
+
+    private final Path journalPath;
+    private final PersistenceWriter writer;
+
+    private long lastSequence;      // 마지막으로 기록된 순번
+    private int recordCount;        // 현재 저널 파일에 남아있는 레코드 수
+    private CompletableFuture<Void> lastWrite = CompletableFuture.completedFuture(null);
+
+    /**
+     * EnrollmentJournal 생성자
+     * 저널 파일이 없으면 헤더와 함께 새로 생성합니다.
+     *
+     * @param journalPath 저널 파일 경로
+     * @param writer 저널 쓰기에 사용할 공용 Writer
+     * @throws IOException 저널 파일을 열 수 없는 경우
+     */
+    EnrollmentJournal(Path journalPath, PersistenceWriter writer) throws IOException {
+        this.journalPath = journalPath;
+        this.writer = writer;
+        if (Files.notExists(journalPath)) {
+            awaitWrite(writer.replace(journalPath, List.of(HEADER)));
+        }
+        discardTornRecord();
+    }
+
+    /**
+     * 저널에 기록된 모든 레코드를 순서대로 재생합니다.
+     * 마지막 줄이 잘려 있는 등 형식이 맞지 않는 레코드는 무시합니다.
+     *
+     * @param handler 레코드마다 호출될 콜백
+     * @throws IOException 저널 파일을 읽을 수 없는 경우
+     */
+    synchronized void replay(ReplayHandler handler) throws IOException {
+        recordCount = 0;
+        for (String[] record : readRecords()) {
+            long sequence = Long.parseLong(record[0]);
+            handler.apply(sequence, record[1], record[2]);
+            lastSequence = Math.max(lastSequence, sequence);
+            recordCount++;
+        }
+    }
+
+    /**
+     * 수강생 등록 레코드를 저널 끝에 추가합니다.
+     * 순번 부여와 큐 등록을 같은 락 안에서 수행하므로 파일에는 순번 순서대로 기록됩니다.
+     *
+     * @param instructorId 강사 ID
+     * @param studentId 학생 ID
+     * @return 레코드가 fsync되면 완료되는 Future
+     */
+    synchronized CompletableFuture<Void> append(String instructorId, String studentId) {
+        long sequence = lastSequence + 1;
+        lastSequence = sequence;
+        recordCount++;
+        lastWrite = writer.append(journalPath, sequence + FIELD_DELIMITER + instructorId + FIELD_DELIMITER + studentId);
+        return lastWrite;
+    }
+
+    /**
+     * 지정한 순번 이하의 레코드를 저널에서 제거합니다.
+     * 스냅샷에 이미 반영된 레코드를 정리할 때 사용합니다.
+     *
+     * @param sequence 스냅샷에 반영된 마지막 순번
+     * @throws IOException 저널 재작성 실패 시
+     */
+    synchronized void truncateUpTo(long sequence) throws IOException {
+        // 이미 큐에 들어간 추가 요청이 파일에 반영될 때까지 대기 (락을 잡고 있으므로 새 요청은 없음)
+        awaitWrite(lastWrite);
+        List<String> lines = new ArrayList<>();
+        lines.add(HEADER);
+        for (String[] record : readRecords()) {
+            if (Long.parseLong(record[0]) > sequence) {
+                lines.add(String.join(FIELD_DELIMITER, record));
+            }
+        }
+        awaitWrite(writer.replace(journalPath, lines));
+        recordCount = lines.size() - 1;
+    }
+
+    synchronized long getLastSequence() {
+        return lastSequence;
+    }
+
+    synchronized int getRecordCount() {
+        return recordCount;
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private static void awaitWrite(CompletableFuture<Void> future) throws IOException {
+        try {
+            future.join();
+        } catch (CompletionException e) {
+            throw new IOException("Journal write failed", e.getCause());
+        }
+    }
+
+    /**
+     * 헤더를 제외한 저널 레코드를 읽어 [순번, 강사ID, 학생ID] 배열 목록으로 반환합니다.
+     */
+    private List<String[]> readRecords() throws IOException {
+        List<String[]> records = new ArrayList<>();
+        String content = Files.readString(journalPath, StandardCharsets.UTF_8);
+        FieldCursor cursor = new FieldCursor();
+        boolean[] header = {true};
+        FieldCursor.forEachLine(content, (text, start, end) -> {
+            if (header[0]) {
+                header[0] = false;
+                return;
+            }
+            cursor.reset(text, start, end);
+            if (cursor.countFields() != 3) {
+                System.err.println("Skipping invalid journal record: " + cursor.line());
+                return;
+            }
+            try {
+                cursor.nextField();
+                String sequence = Long.toString(cursor.longValue());
+                cursor.nextField();
+                String instructorId = cursor.symbol();
+                cursor.nextField();
+                String studentId = cursor.symbol();
+                if (instructorId == null || studentId == null) {
+                    System.err.println("Skipping invalid journal record: " + cursor.line());
+                    return;
+                }
+                records.add(new String[]{sequence, instructorId, studentId});
+            } catch (NumberFormatException e) {
+                System.err.println("Skipping invalid journal record: " + cursor.line());
+            }
+        });
+        return records;
+    }
+
+    /**
+     * 비정상 종료로 마지막 레코드가 개행 없이 끝난 경우 그 잘린 레코드를 잘라냅니다.
+     * 개행으로 끝난 레코드만 완전히 기록된 것으로 간주합니다.
+     */
+    private void discardTornRecord() throws IOException {
+        byte[] content = Files.readAllBytes(journalPath);
+        int end = content.length;
+        while (end > 0 && content[end - 1] != '\n') {
+            end--;
+        }
+        if (end < content.length) {
+            System.err.println("Discarding torn journal record (" + (content.length - end) + " bytes)");
+            try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.WRITE)) {
+                channel.truncate(end);
+                channel.force(false);
+            }
+        }
+    }
+}
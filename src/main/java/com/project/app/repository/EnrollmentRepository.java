@@ -0,0 +1,39 @@
+package com.project.app.repository;
+
+import com.project.app.model.Enrollment;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Enrollment Data Access Interface (MyLectureData.txt)
+ *
+ * 특징:
+ * - 신청/대기/취소 상태 변경을 기록 순서대로 저장
+ * - 조회 시에는 (사용자, 강의)마다 가장 마지막 상태만 반환
+ */
+public interface EnrollmentRepository {
+
+    // ========== 조회 메서드 ==========
+
+    /**
+     * (사용자, 강의)별 마지막 상태 목록 (취소 포함)
+     * 마지막으로 상태가 바뀐 순서대로 반환합니다 (대기 순서 복원에 사용).
+     */
+    List<Enrollment> findAll();
+
+    /**
+     * 사용자의 현재 신청/대기 내역 목록 (취소 제외)
+     */
+    List<Enrollment> findByUserId(String userId);
+
+    // ========== 저장 메서드 ==========
+
+    /**
+     * 상태 변경을 저장합니다.
+     *
+     * @param enrollment 새 상태
+     * @return 디스크 반영이 끝나면 완료되는 Future
+     */
+    CompletableFuture<Void> save(Enrollment enrollment);
+}
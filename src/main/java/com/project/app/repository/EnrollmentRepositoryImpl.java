@@ -0,0 +1,148 @@
+package com.project.app.repository;
+
+import com.project.app.model.Enrollment;
+import com.project.app.model.Enrollment.Status;
+import com.project.app.util.SymbolTable;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Enrollment Repository Implementation
+ *
+ * 특징:
+ * - MyLectureData.txt 자체를 추가 기록(append-only) 로그로 사용
+ *   (상태가 바뀔 때마다 "사용자ID/강의ID/일시/상태" 한 줄 추가, 같은 쌍은 마지막 줄이 현재 상태)
+ * - 시작 시 파일을 한 번 읽어 (사용자, 강의) -> 현재 상태 맵을 구성 (이후 파일을 다시 읽지 않음)
+ * - 모든 파일 쓰기는 PersistenceWriter를 통해 백그라운드에서 묶어서(group commit) 수행
+ * - 지난 기록이 많이 쌓이면 쌍마다 마지막 상태만 남기도록 파일을 교체(compaction)
+ * - 비정상 종료로 마지막 줄이 개행 없이 끝났으면 시작 시 그 줄을 버리고 파일을 정리
+ */
+public class EnrollmentRepositoryImpl implements EnrollmentRepository {
+
+    private static final String DATA_FILE_PATH = "src/main/data/MyLectureData.txt";
+    private static final String HEADER = "사용자ID/강의ID/신청일시/상태";
+    private static final String FIELD_DELIMITER = "/";
+    private static final int FIELD_COUNT = 4;
+
+    /** 현재 상태 수보다 이만큼 기록이 더 쌓이면 compaction 수행 */
+    private static final int COMPACTION_SLACK = 1000;
+
+    private final Path dataFile = Paths.get(DATA_FILE_PATH);
+    private final Map<String, Enrollment> latest = new LinkedHashMap<>(); // "userId/lectureId" -> 현재 상태
+    private final PersistenceWriter writer;
+    private int recordCount; // 파일에 기록된 줄 수 (헤더 제외)
+
+    public EnrollmentRepositoryImpl() {
+        this.writer = PersistenceWriter.getInstance();
+        loadDataFromFile();
+    }
+
+    @Override
+    public synchronized List<Enrollment> findAll() {
+        return new ArrayList<>(latest.values());
+    }
+
+    @Override
+    public synchronized List<Enrollment> findByUserId(String userId) {
+        List<Enrollment> result = new ArrayList<>();
+        for (Enrollment enrollment : latest.values()) {
+            if (enrollment.getUserId().equals(userId) && enrollment.getStatus() != Status.CANCELLED) {
+                result.add(enrollment);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public synchronized CompletableFuture<Void> save(Enrollment enrollment) {
+        apply(enrollment);
+        recordCount++;
+        CompletableFuture<Void> durable = writer.append(dataFile, enrollmentToLine(enrollment));
+        if (recordCount > latest.size() + COMPACTION_SLACK) {
+            writer.replace(dataFile, snapshotLines());
+            recordCount = latest.size();
+        }
+        return durable;
+    }
+
+    // ========== Private Helper Methods ==========
+
+    /**
+     * 데이터 파일을 읽어 현재 상태 맵을 구성합니다.
+     */
+    private void loadDataFromFile() {
+        try {
+            // 온전한 로그는 스냅샷으로 읽고, 없거나 마지막 줄이 잘린 파일(헤더만 있고 개행이 없는 파일 포함)만
+            // 텍스트를 읽어 추가 전에 정리
+            boolean complete = DataSnapshot.isCompleteLog(dataFile);
+            DataTable table = complete ? DataSnapshot.loadTable(dataFile) : DataSnapshot.parseCompleteLines(dataFile);
+            for (int row = 0; row < table.rowCount(); row++) {
+                Enrollment enrollment = parseRowToEnrollment(table, row);
+                if (enrollment != null) {
+                    apply(enrollment);
+                    recordCount++;
+                }
+            }
+            if (!complete) {
+                writer.replace(dataFile, snapshotLines()).join();
+                recordCount = latest.size();
+            }
+            System.out.println("Enrollment data loaded: " + latest.size() + " entries");
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Error reading data file: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * 상태 변경을 맵에 반영합니다. 지웠다가 다시 넣어 순서를 "마지막 변경 순"으로 유지합니다.
+     * 취소 상태도 남겨 두어야 userData.txt의 신청 강의 목록보다 우선 적용할 수 있습니다.
+     */
+    private void apply(Enrollment enrollment) {
+        String key = enrollment.getUserId() + FIELD_DELIMITER + enrollment.getLectureId();
+        latest.remove(key);
+        latest.put(key, enrollment);
+    }
+
+    private List<String> snapshotLines() {
+        List<String> lines = new ArrayList<>(latest.size() + 1);
+        lines.add(HEADER);
+        latest.values().forEach(enrollment -> lines.add(enrollmentToLine(enrollment)));
+        return lines;
+    }
+
+    /**
+     * 데이터 파일의 한 행을 `Enrollment` 객체로 변환합니다.
+     *
+     * @return 파싱에 성공하면 `Enrollment` 객체, 데이터 형식 오류 시 `null`
+     */
+    private Enrollment parseRowToEnrollment(DataTable table, int row) {
+        if (table.fieldCount(row) < FIELD_COUNT) {
+            System.err.println("Invalid data format: " + table.rowText(row));
+            return null;
+        }
+        Status status = Status.fromLabel(table.field(row, 3));
+        if (status == null) {
+            System.err.println("Unknown enrollment status: " + table.rowText(row));
+            return null;
+        }
+        SymbolTable symbols = SymbolTable.getInstance();
+        return new Enrollment(symbols.canonical(table.field(row, 0)), symbols.canonical(table.field(row, 1)),
+                table.field(row, 2), status);
+    }
+
+    private String enrollmentToLine(Enrollment enrollment) {
+        return String.join(FIELD_DELIMITER,
+                enrollment.getUserId(),
+                enrollment.getLectureId(),
+                enrollment.getEnrolledAt() != null ? enrollment.getEnrolledAt() : "",
+                enrollment.getStatus().getLabel());
+    }
+}
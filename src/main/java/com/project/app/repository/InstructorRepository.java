@@ -3,6 +3,7 @@ package com.project.app.repository;
 import com.project.app.model.Instructor;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Instructor Data Access Interface
@@ -32,26 +33,57 @@ public interface InstructorRepository {
     List<Instructor> findByAcademyId(String academyId);
 
     /**
-     * 이름으로 강사 검색 (부분 일치)
+     * 과목으로 강사 목록 조회
+     */
+    List<Instructor> findBySubject(String subject);
+
+    /**
+     * 이름으로 강사 검색 (부분 일치, 초성 검색 지원)
      */
     List<Instructor> findByName(String name);
 
+    /**
+     * 키워드로 강사 검색 (이름 또는 소개글 부분 일치)
+     */
+    List<Instructor> findByKeyword(String keyword);
+
+    /**
+     * 여러 조건을 모두 만족하는 강사 검색
+     * null(키워드는 빈 문자열 포함)인 조건은 무시합니다.
+     *
+     * @param keyword 이름 또는 소개글 키워드
+     * @param subject 과목
+     * @param academyId 학원 ID
+     * @return 조건을 모두 만족하는 강사 목록 (조건이 없으면 전체)
+     */
+    List<Instructor> findByConditions(String keyword, String subject, String academyId);
+
     // ========== 학생 관리 메서드 ==========
 
     /**
      * 강사의 수강 학생 추가
+     * 파일 저장(fsync)이 끝날 때까지 기다리므로 EDT에서는 addStudentToInstructorAsync를 사용하세요.
      *
      * @param instructorId 강사 ID
      * @param studentId 학생 ID
-     * @return 추가 성공 여부
+     * @return 추가하고 디스크에 반영했으면 true (추가할 수 없거나 저장에 실패하면 false)
      */
     boolean addStudentToInstructor(String instructorId, String studentId);
 
+    /**
+     * 강사의 수강 학생 추가 (저장 완료 통지)
+     *
+     * @param instructorId 강사 ID
+     * @param studentId 학생 ID
+     * @return 디스크 반영이 끝나면 true로 완료되는 Future (추가할 수 없는 경우 즉시 false)
+     */
+    CompletableFuture<Boolean> addStudentToInstructorAsync(String instructorId, String studentId);
+
     /**
      * 강사의 모든 수강 학생 ID 조회
      *
      * @param instructorId 강사 ID
-     * @return 학생 ID 목록
+     * @return 학생 ID 목록 (복사본이 아닌 읽기 전용 뷰)
      */
     List<String> getStudentIdsByInstructor(String instructorId);
 
@@ -1,12 +1,21 @@
 package com.project.app.repository;
 
 import com.project.app.model.Instructor;
+import com.project.app.util.FieldCursor;
+import com.project.app.util.IntList;
+import com.project.app.util.SortedIntArrays;
+import com.project.app.util.SymbolTable;
 
 import java.io.IOException;
-import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Instructor Repository Implementation
@@ -14,25 +23,78 @@ import java.util.stream.Collectors;
  * 특징:
  * - 초기 로드 시 파일에서 강사 정보를 읽어옴
  * - 강사 추가/삭제 없음 (고정된 데이터)
- * - 학생 추가/제거 시에만 파일에 저장
+ * - 학생 추가 시 전체 파일을 다시 쓰지 않고 등록 저널(EnrollmentJournal)에 한 줄만 추가
+ * - 모든 파일 쓰기는 PersistenceWriter를 통해 백그라운드에서 묶어서(group commit) 수행
+ * - 시작 시 기본 데이터 파일을 읽은 뒤 저널을 재생하여 최신 상태 복원
+ * - 저널이 COMPACTION_THRESHOLD를 넘으면 백그라운드에서 새 스냅샷을 저장하고 저널 정리
  * - 메모리 캐시 방식으로 빠른 조회 제공
+ * - 시작 시 바이너리 스냅샷(DataSnapshot)을 한 번에 읽어 복원, 텍스트가 바뀐 경우에만 FieldCursor로 다시 파싱
+ * - 파싱한 id/학원/과목 문자열은 SymbolTable의 정규 인스턴스로 통일 (중복 String 제거)
+ * - 이름/소개글 검색은 로드 시 구축한 n-gram 역색인(NGramIndex)으로 처리 (초성 검색 지원)
+ * - 학원/과목 필터는 보조 인덱스(값 -> 정렬된 문서 번호 목록)로 처리하고, 조건 조합은 목록 교집합으로 계산
  *
  */
 public class InstructorRepositoryImpl implements InstructorRepository {
 
     private static final String DATA_FILE_PATH = "src/main/data/InstructorsData.txt";
+    private static final String JOURNAL_FILE_PATH = "src/main/data/InstructorsData.journal";
+    private static final String HEADER = "강사ID/강사명/학원ID/소개/과목/교재목록/강의목록/수강생목록";
     private static final String FIELD_DELIMITER = "/";
     private static final String LIST_DELIMITER = ",";
+    private static final int FIELD_COUNT = 8;
 
+    /** 저널 레코드가 이 개수를 넘으면 스냅샷 저장(compaction) 수행 */
+    private static final int COMPACTION_THRESHOLD = 1000;
+
+    private final Path dataFile;
+    private final Path journalFile;
+    private final int compactionThreshold;
     private final Map<String, Instructor> instructorCache;
+    private final List<Instructor> instructorsByOrdinal; // 색인용 문서 번호 -> 강사
+    private final NGramIndex nameIndex;
+    private final NGramIndex introductionIndex;
+    private final Map<String, IntList> academyIndex;  // 학원 ID -> 문서 번호 목록
+    private final Map<String, IntList> subjectIndex;  // 과목 -> 문서 번호 목록
+    private final PersistenceWriter writer;
+    private final ExecutorService compactionExecutor;
+    private final AtomicBoolean compactionScheduled = new AtomicBoolean(false);
+    private EnrollmentJournal journal;
 
     /**
      * InstructorRepositoryImpl 생성자
-     * 객체 생성 시 파일로부터 데이터를 로드하여 캐시를 초기화합니다.
+     * 객체 생성 시 파일로부터 데이터를 로드하고, 등록 저널을 재생하여 캐시를 초기화합니다.
      */
     public InstructorRepositoryImpl() {
-        this.instructorCache = new HashMap<>();
+        this(Paths.get(DATA_FILE_PATH), Paths.get(JOURNAL_FILE_PATH), PersistenceWriter.getInstance(),
+                COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * 지정한 데이터 파일과 저널 파일로 저장소를 구성합니다.
+     *
+     * @param dataFile InstructorsData 형식의 파일 경로
+     * @param journalFile 등록 저널 파일 경로
+     * @param writer 파일 쓰기에 사용할 Writer
+     * @param compactionThreshold 스냅샷 저장을 시작할 저널 레코드 수
+     */
+    InstructorRepositoryImpl(Path dataFile, Path journalFile, PersistenceWriter writer, int compactionThreshold) {
+        this.dataFile = dataFile;
+        this.journalFile = journalFile;
+        this.compactionThreshold = compactionThreshold;
+        this.instructorCache = new LinkedHashMap<>();
+        this.instructorsByOrdinal = new ArrayList<>();
+        this.nameIndex = new NGramIndex(true);
+        this.introductionIndex = new NGramIndex(false);
+        this.academyIndex = new HashMap<>();
+        this.subjectIndex = new HashMap<>();
+        this.writer = writer;
+        this.compactionExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "instructor-compaction");
+            thread.setDaemon(true);
+            return thread;
+        });
         loadDataFromFile();
+        openJournal();
     }
 
     @Override
@@ -47,9 +109,39 @@ public class InstructorRepositoryImpl implements InstructorRepository {
 
     @Override
     public List<Instructor> findByAcademyId(String academyId) {
-        return instructorCache.values().stream()
-                .filter(instructor -> instructor.getAcademyId().equals(academyId))
-                .collect(Collectors.toList());
+        return toInstructors(postingsOf(academyIndex, academyId));
+    }
+
+    @Override
+    public List<Instructor> findBySubject(String subject) {
+        return toInstructors(postingsOf(subjectIndex, subject));
+    }
+
+    @Override
+    public List<Instructor> findByConditions(String keyword, String subject, String academyId) {
+        boolean hasKeyword = keyword != null && !keyword.trim().isEmpty();
+        if (!hasKeyword && subject == null && academyId == null) {
+            return findAll();
+        }
+
+        // 조건별 문서 번호 목록을 구한 뒤, 짧은 목록부터 교집합
+        List<int[]> lists = new ArrayList<>(3);
+        if (subject != null) {
+            lists.add(postingsOf(subjectIndex, subject));
+        }
+        if (academyId != null) {
+            lists.add(postingsOf(academyIndex, academyId));
+        }
+        if (hasKeyword) {
+            lists.add(SortedIntArrays.union(nameIndex.search(keyword), introductionIndex.search(keyword)));
+        }
+        lists.sort(Comparator.comparingInt(list -> list.length));
+
+        int[] result = lists.get(0);
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            result = SortedIntArrays.intersect(result, result.length, lists.get(i), lists.get(i).length);
+        }
+        return toInstructors(result);
     }
 
     @Override
@@ -57,27 +149,52 @@ public class InstructorRepositoryImpl implements InstructorRepository {
         if (name == null || name.trim().isEmpty()) {
             return new ArrayList<>();
         }
-        String keyword = name.toLowerCase();
-        return instructorCache.values().stream()
-                .filter(instructor -> instructor.getName().toLowerCase().contains(keyword))
-                .collect(Collectors.toList());
+        return toInstructors(nameIndex.search(name));
+    }
+
+    @Override
+    public List<Instructor> findByKeyword(String keyword) {
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return new ArrayList<>();
+        }
+        return toInstructors(SortedIntArrays.union(nameIndex.search(keyword), introductionIndex.search(keyword)));
     }
 
     @Override
     public boolean addStudentToInstructor(String instructorId, String studentId) {
+        return addStudentToInstructorAsync(instructorId, studentId).join();
+    }
+
+    @Override
+    public synchronized CompletableFuture<Boolean> addStudentToInstructorAsync(String instructorId, String studentId) {
         Instructor instructor = instructorCache.get(instructorId);
         if (instructor == null || studentId == null || studentId.trim().isEmpty()) {
-            return false;
+            return CompletableFuture.completedFuture(false);
         }
 
         // 이미 존재하는 학생인지 확인
         if (instructor.hasStudent(studentId)) {
-            return false;
+            return CompletableFuture.completedFuture(false);
         }
 
+        // 저널 기록을 큐에 넣은 뒤 메모리에 반영 (디스크 반영은 백그라운드에서 완료)
+        CompletableFuture<Void> durable = journal != null
+                ? journal.append(instructorId, studentId)
+                : null;
         instructor.addStudent(studentId);
-        saveDataToFile();
-        return true;
+
+        if (journal == null) {
+            durable = writer.replace(dataFile, snapshotLines());
+        } else if (journal.getRecordCount() >= compactionThreshold) {
+            scheduleCompaction();
+        }
+        return durable.handle((ignored, error) -> {
+            if (error != null) {
+                System.err.println("Error persisting enrollment " + instructorId + "/" + studentId + ": " + error.getMessage());
+                return false;
+            }
+            return true;
+        });
     }
 
     @Override
@@ -89,23 +206,38 @@ public class InstructorRepositoryImpl implements InstructorRepository {
         return instructor.getStudentIds();
     }
 
+    /**
+     * 예약된 백그라운드 스냅샷 저장이 있으면 끝날 때까지 대기합니다.
+     */
+    void awaitCompaction() throws Exception {
+        Future<?> marker = compactionExecutor.submit(() -> { });
+        marker.get();
+    }
+
     // ========== Private Helper Methods ==========
     // 파일 데이터 로딩, 저장, 파싱 등 내부 로직을 처리하는 보조 메서드들입니다.
 
     /**
-     * 데이터 파일(`DATA_FILE_PATH`)로부터 강사 정보를 로드하여 `instructorCache`를 초기화합니다.
+     * 데이터 파일(`dataFile`)로부터 강사 정보를 로드하여 `instructorCache`를 초기화합니다.
+     * 최신 바이너리 스냅샷이 있으면 텍스트 파싱 없이 스냅샷에서 읽습니다 (DataSnapshot).
      * 파일이 존재하지 않거나 데이터를 읽는 도중 오류가 발생하면 콘솔에 에러 메시지를 출력합니다.
      */
     private void loadDataFromFile() {
         try {
-            List<String> lines = Files.readAllLines(Paths.get(DATA_FILE_PATH));
-            // 첫 번째 줄(헤더)을 제외하고 각 라인을 파싱하여 캐시에 저장
-            lines.stream().skip(1).forEach(line -> {
-                Instructor instructor = parseLineToInstructor(line);
-                if (instructor != null) {
-                    instructorCache.put(instructor.getId(), instructor);
+            DataTable table = DataSnapshot.loadTable(dataFile);
+            FieldCursor cursor = new FieldCursor();
+            // 같은 ID가 여러 줄이면 마지막 줄을 사용 (기존 동작과 동일), 색인은 중복을 정리한 뒤 한 번만 추가
+            Map<String, Instructor> loaded = new LinkedHashMap<>();
+            for (int row = 0; row < table.rowCount(); row++) {
+                Instructor instructor = parseRowToInstructor(table, row, cursor);
+                if (instructor != null && loaded.put(instructor.getId(), instructor) != null) {
+                    System.err.println("Duplicate instructor id, keeping the last row: " + instructor.getId());
                 }
-            });
+            }
+            for (Instructor instructor : loaded.values()) {
+                instructorCache.put(instructor.getId(), instructor);
+                indexInstructor(instructor);
+            }
             System.out.println("Instructor data loaded: " + instructorCache.size() + " instructors");
         } catch (IOException e) {
             System.err.println("Error reading data file: " + e.getMessage());
@@ -114,58 +246,151 @@ public class InstructorRepositoryImpl implements InstructorRepository {
     }
 
     /**
-     * `instructorCache`에 저장된 현재 강사 데이터를 `DATA_FILE_PATH` 파일에 저장합니다.
-     * 파일에 데이터를 쓰는 도중 오류가 발생하면 콘솔에 에러 메시지를 출력합니다.
+     * 강사에게 문서 번호를 부여하고 이름/소개글 색인에 추가합니다.
+     */
+    private void indexInstructor(Instructor instructor) {
+        int ordinal = instructorsByOrdinal.size();
+        instructorsByOrdinal.add(instructor);
+        nameIndex.add(ordinal, instructor.getName());
+        introductionIndex.add(ordinal, instructor.getIntroduction());
+        academyIndex.computeIfAbsent(instructor.getAcademyId(), key -> new IntList()).add(ordinal);
+        subjectIndex.computeIfAbsent(instructor.getSubject(), key -> new IntList()).add(ordinal);
+    }
+
+    /**
+     * 보조 인덱스에서 값에 해당하는 문서 번호 목록을 반환합니다. 없으면 빈 배열을 반환합니다.
      */
-    private void saveDataToFile() {
+    private static int[] postingsOf(Map<String, IntList> index, String value) {
+        IntList list = value != null ? index.get(value) : null;
+        return list != null ? list.toArray() : SortedIntArrays.EMPTY;
+    }
+
+    /**
+     * 색인 검색 결과(문서 번호 목록)를 강사 목록으로 변환합니다.
+     */
+    private List<Instructor> toInstructors(int[] ordinals) {
+        List<Instructor> result = new ArrayList<>(ordinals.length);
+        for (int ordinal : ordinals) {
+            result.add(instructorsByOrdinal.get(ordinal));
+        }
+        return result;
+    }
+
+    /**
+     * 등록 저널을 열고 기록된 레코드를 캐시에 재생합니다.
+     * 저널을 열 수 없으면 저널 없이 동작하며, 이 경우 학생 추가 시마다 전체 파일 교체를 요청합니다.
+     */
+    private void openJournal() {
         try {
-            List<String> lines = new ArrayList<>();
-            // 헤더 추가
-            lines.add("InstructorID/InstructorName/AcademyID/Introduction/Subject/TextbookIDs/LectureIDs/StudentIDs");
-            // 각 강사 정보를 라인으로 변환하여 추가
-            instructorCache.values().forEach(instructor -> lines.add(instructorToLine(instructor)));
-            Files.write(Paths.get(DATA_FILE_PATH), lines);
-            System.out.println("Instructor data saved: " + instructorCache.size() + " instructors");
+            journal = new EnrollmentJournal(journalFile, writer);
+            journal.replay((sequence, instructorId, studentId) -> {
+                Instructor instructor = instructorCache.get(instructorId);
+                if (instructor != null) {
+                    instructor.addStudent(studentId);
+                }
+            });
+            System.out.println("Enrollment journal replayed: " + journal.getRecordCount() + " records");
+            if (journal.getRecordCount() >= compactionThreshold) {
+                scheduleCompaction();
+            }
         } catch (IOException e) {
-            System.err.println("Error writing data file: " + e.getMessage());
+            System.err.println("Error opening enrollment journal: " + e.getMessage());
+            journal = null;
+        }
+    }
+
+    /**
+     * 백그라운드에서 스냅샷 저장 및 저널 정리를 예약합니다.
+     * 이미 예약된 작업이 있으면 중복 예약하지 않습니다.
+     */
+    private void scheduleCompaction() {
+        if (compactionScheduled.compareAndSet(false, true)) {
+            compactionExecutor.execute(this::compact);
+        }
+    }
+
+    /**
+     * 현재 캐시를 새 스냅샷으로 저장하고, 스냅샷에 반영된 저널 레코드를 제거합니다.
+     *
+     * 순서:
+     *  1. 락을 잡은 상태에서 스냅샷 라인과 마지막 저널 순번을 함께 캡처
+     *  2. 락 없이 스냅샷 파일 교체를 요청하고 완료를 대기 (그동안 학생 추가는 계속 가능)
+     *  3. 캡처한 순번 이하의 저널 레코드 제거
+     */
+    private void compact() {
+        try {
+            List<String> lines;
+            long snapshotSequence;
+            synchronized (this) {
+                lines = snapshotLines();
+                snapshotSequence = journal.getLastSequence();
+            }
+            writeSnapshot(lines);
+            journal.truncateUpTo(snapshotSequence);
+            System.out.println("Instructor data compacted up to journal sequence " + snapshotSequence);
+        } catch (IOException e) {
+            System.err.println("Error compacting instructor data: " + e.getMessage());
             e.printStackTrace();
+        } finally {
+            compactionScheduled.set(false);
+        }
+    }
+
+    /**
+     * 헤더를 포함하여 현재 캐시 상태를 데이터 파일 형식의 라인 목록으로 변환합니다.
+     */
+    private List<String> snapshotLines() {
+        List<String> lines = new ArrayList<>();
+        lines.add(HEADER);
+        instructorCache.values().forEach(instructor -> lines.add(instructorToLine(instructor)));
+        return lines;
+    }
+
+    /**
+     * 스냅샷으로 `dataFile` 파일 교체를 요청하고 완료될 때까지 대기합니다.
+     * PersistenceWriter가 임시 파일에 쓴 뒤 원자적으로 교체하므로 기존 데이터 파일은 손상되지 않습니다.
+     */
+    private void writeSnapshot(List<String> lines) throws IOException {
+        try {
+            writer.replace(dataFile, lines).join();
+        } catch (CompletionException e) {
+            throw new IOException("Snapshot write failed", e.getCause());
         }
     }
 
     /**
-     * 데이터 파일의 한 줄 문자열을 파싱하여 `Instructor` 객체로 변환합니다.
+     * 데이터 파일의 한 행을 `Instructor` 객체로 변환합니다.
+     * id/학원/과목과 목록 값은 SymbolTable의 정규 인스턴스로 통일합니다.
      *
-     * @param line 데이터 파일의 한 줄에 해당하는 문자열 (예: "id/name/academyId/introduction/subject/textbookId/lectureIds/studentIds")
+     * @param table 데이터 파일 표 (행: "id/name/academyId/introduction/subject/textbookId/lectureIds/studentIds")
+     * @param row 행 번호
+     * @param cursor 목록 필드 분리에 재사용할 커서
      * @return 파싱에 성공하면 `Instructor` 객체, 데이터 형식 오류나 파싱 중 예외 발생 시 `null`
      */
-    private Instructor parseLineToInstructor(String line) {
-        if (line == null || line.trim().isEmpty()) {
+    private Instructor parseRowToInstructor(DataTable table, int row, FieldCursor cursor) {
+        if (table.fieldCount(row) < FIELD_COUNT) {
+            System.err.println("Invalid data format: " + table.rowText(row));
             return null;
         }
         try {
-            String[] parts = line.split(FIELD_DELIMITER, -1);
-            if (parts.length < 8) {
-                System.err.println("Invalid data format: " + line);
-                return null;
-            }
-
-            String id = parts[0].trim();
-            String name = parts[1].trim();
-            String academyId = parts[2].trim();
-            String introduction = parts[3].trim();
-            String subject = parts[4].trim();
+            SymbolTable symbols = SymbolTable.getInstance();
+            String id = symbols.canonical(table.field(row, 0));
+            String name = table.field(row, 1);
+            String academyId = symbols.canonical(table.field(row, 2));
+            String introduction = table.field(row, 3);
+            String subject = symbols.canonical(table.field(row, 4));
 
-            List<String> textbookIds = parseList(parts[5]);
-            String textbookId = textbookIds.isEmpty() ? null : textbookIds.get(0); // 더 명시적인 코드로 변경
-            List<String> lectureIds = parseList(parts[6]);
-            List<String> studentIds = parseList(parts[7]);
+            List<String> textbookIds = parseList(cursor, table.field(row, 5));
+            String textbookId = textbookIds.isEmpty() ? null : textbookIds.get(0); // 첫 번째 교재만 사용
+            List<String> lectureIds = parseList(cursor, table.field(row, 6));
+            List<String> studentIds = parseList(cursor, table.field(row, 7));
 
             return new Instructor(id, name, academyId, introduction, subject,
                     textbookId, lectureIds, studentIds);
 
         } catch (Exception e) {
-            System.err.println("Data parsing error: " + line);
-e.printStackTrace();
+            System.err.println("Data parsing error: " + table.rowText(row));
+            e.printStackTrace();
             return null;
         }
     }
@@ -191,20 +416,21 @@ e.printStackTrace();
     }
 
     /**
-     * 콤마(`LIST_DELIMITER`)로 구분된 문자열을 파싱하여 문자열 리스트(`List<String>`)로 변환합니다.
-     * 입력 문자열이 `null`이거나 비어있으면 빈 리스트를 반환합니다.
+     * 콤마(`LIST_DELIMITER`)로 구분된 필드 값을 FieldCursor로 나눠 문자열 리스트(`List<String>`)로 변환합니다.
+     * 필드가 비어있으면 빈 리스트를 반환합니다.
+     * 각 요소는 id이므로 SymbolTable의 정규 인스턴스로 변환합니다.
      *
-     * @param str 파싱할 콤마로 구분된 문자열
+     * @param cursor 재사용할 커서
+     * @param field 콤마로 구분된 필드 값
      * @return 파싱된 문자열 요소들을 담은 `List<String>`
      */
-    private List<String> parseList(String str) {
-        if (str == null || str.trim().isEmpty()) {
-            return new ArrayList<>();
+    private List<String> parseList(FieldCursor cursor, String field) {
+        List<String> items = new ArrayList<>();
+        cursor.reset(field).nextField();
+        while (cursor.nextItem()) {
+            items.add(cursor.symbol());
         }
-        return Arrays.stream(str.split(LIST_DELIMITER))
-                .map(String::trim)
-                .filter(s -> !s.isEmpty())
-                .collect(Collectors.toList());
+        return items;
     }
 
     /**
@@ -1,5 +1,55 @@
 package com.project.app.repository;
 
-public class LectureRepository {
-    
+import com.project.app.model.Lecture;
+
+import java.util.List;
+
+/**
+ * Lecture Data Access Interface
+ *
+ * 특징:
+ * - 강의 정보는 고정 (추가/삭제 없음)
+ * - 변경 가능한 데이터: 현재 수강생 수 (Lecture 객체에서 관리)
+ * - 주요 기능: 조회
+ */
+public interface LectureRepository {
+
+    // ========== 조회 메서드 ==========
+
+    /**
+     * 강의 ID로 강의 조회
+     *
+     * @return 존재하면 Lecture, 없으면 null
+     */
+    Lecture findById(String id);
+
+    /**
+     * 모든 강의 목록 조회 (파일 순서)
+     */
+    List<Lecture> findAll();
+
+    /**
+     * 과목으로 강의 조회
+     */
+    List<Lecture> findBySubject(String subject);
+
+    /**
+     * 학원 ID로 강의 조회
+     */
+    List<Lecture> findByAcademyId(String academyId);
+
+    /**
+     * 강사 이름으로 강의 조회 (파일 순서)
+     */
+    List<Lecture> findByInstructorName(String instructorName);
+
+    /**
+     * 강의 ID 존재 여부 확인
+     */
+    boolean existsById(String id);
+
+    /**
+     * 전체 강의 수
+     */
+    int count();
 }
@@ -0,0 +1,659 @@
+package com.project.app.repository;
+
+import com.project.app.model.Lecture;
+import com.project.app.util.FieldCursor;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Lecture Repository Implementation
+ *
+ * 특징:
+ * - 데이터 파일을 FileChannel.map으로 메모리 매핑 (파일 내용을 힙으로 복사하지 않음)
+ * - 시작 시에는 줄 단위 바이트 구간(시작/끝 오프셋), 강의 ID 해시 테이블, 학원/과목 열 색인만 구축
+ *   → 강의마다 String/Lecture 객체를 만들지 않고 int 배열만 사용
+ * - Lecture 객체는 처음 조회될 때 해당 줄만 디코딩하여 생성하고 캐시 (이후 조회는 배열 접근 한 번)
+ * - 강의 ID 조회는 매핑된 바이트와 직접 비교 (ID 문자열을 미리 만들지 않음)
+ * - 과목/학원/강사별 조회는 열 색인(값 -> 줄 번호 목록)으로 해당 줄만 디코딩 (전체 목록을 거치지 않음)
+ * - 강의 추가/삭제 없음 (고정된 데이터), 중복 ID는 처음 나온 줄만 사용
+ * - 오프셋 인덱스는 바이너리 스냅샷(DataSnapshot)으로 저장하여, 원본의 크기와 수정 시각이 같으면
+ *   다음 시작 때 매핑된 바이트를 한 번도 훑지 않음 (확인은 파일 속성 조회 한 번)
+ *
+ * 매핑은 읽기 전용이며, 단일 매핑 한도(2GB) 안의 파일을 대상으로 합니다.
+ * LectureService도 시작 시 findAll()을 호출하지 않으므로, 전체 강의 디코딩은
+ * 정렬/패싯 색인이 처음 필요할 때(강의 목록 화면) 한 번만 일어납니다.
+ */
+public class LectureRepositoryImpl implements LectureRepository {
+
+    private static final String DATA_FILE_PATH = "src/main/data/LectureData.txt";
+    private static final int FIELD_COUNT = 14;
+    private static final int INITIAL_CAPACITY = 256;
+    private static final int ACADEMY_COLUMN = 1;
+    private static final int SUBJECT_COLUMN = 2;
+    private static final int INSTRUCTOR_COLUMN = 5;
+
+    private final MappedByteBuffer buffer;
+    private final long modifiedTime;  // 매핑 전에 확인한 원본 수정 시각 (스냅샷 키)
+
+    // 줄 번호(파일 순서, 0부터) -> 바이트 구간 [lineStarts, lineEnds)
+    private int[] lineStarts = new int[INITIAL_CAPACITY];
+    private int[] lineEnds = new int[INITIAL_CAPACITY];
+    private int lineCount;
+
+    // 강의 ID 해시 -> 줄 번호 + 1 (0: 빈 칸, 선형 탐사)
+    private int[] idTable;
+
+    // 학원 ID / 과목 / 강사 열 색인 (값 -> 줄 번호 목록)
+    private final ColumnIndex academyIndex = new ColumnIndex(ACADEMY_COLUMN);
+    private final ColumnIndex subjectIndex = new ColumnIndex(SUBJECT_COLUMN);
+    private final ColumnIndex instructorIndex = new ColumnIndex(INSTRUCTOR_COLUMN);
+
+    // 줄 번호 -> 디코딩된 Lecture (처음 조회 전에는 null)
+    private final AtomicReferenceArray<Lecture> decoded;
+    private final FieldCursor cursor = new FieldCursor();
+
+    /**
+     * LectureRepositoryImpl 생성자
+     * 기본 데이터 파일을 매핑하고 오프셋 인덱스를 구축합니다.
+     */
+    public LectureRepositoryImpl() {
+        this(Paths.get(DATA_FILE_PATH));
+    }
+
+    /**
+     * 지정한 데이터 파일을 매핑하고 오프셋 인덱스를 구축합니다.
+     *
+     * @param dataFile LectureData 형식의 파일 경로
+     */
+    public LectureRepositoryImpl(Path dataFile) {
+        this.modifiedTime = modifiedTimeOf(dataFile);
+        this.buffer = mapFile(dataFile);
+        this.idTable = new int[INITIAL_CAPACITY * 2];
+        if (buffer != null && !loadIndexSnapshot(dataFile)) {
+            buildIndex(dataFile);
+        }
+        academyIndex.finish();
+        subjectIndex.finish();
+        instructorIndex.finish();
+        this.decoded = new AtomicReferenceArray<>(lineCount);
+        System.out.println("Lecture data indexed: " + lineCount + " lectures");
+    }
+
+    @Override
+    public Lecture findById(String id) {
+        int line = lineOf(id);
+        return line >= 0 ? lectureAt(line) : null;
+    }
+
+    @Override
+    public List<Lecture> findAll() {
+        List<Lecture> result = new ArrayList<>(lineCount);
+        for (int line = 0; line < lineCount; line++) {
+            Lecture lecture = lectureAt(line);
+            if (lecture != null) {
+                result.add(lecture);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<Lecture> findBySubject(String subject) {
+        return lecturesAt(subjectIndex, subject);
+    }
+
+    @Override
+    public List<Lecture> findByAcademyId(String academyId) {
+        return lecturesAt(academyIndex, academyId);
+    }
+
+    @Override
+    public List<Lecture> findByInstructorName(String instructorName) {
+        return lecturesAt(instructorIndex, instructorName);
+    }
+
+    @Override
+    public boolean existsById(String id) {
+        return lineOf(id) >= 0;
+    }
+
+    @Override
+    public int count() {
+        return lineCount;
+    }
+
+    // ========== Private Helper Methods ==========
+    // 파일 매핑, 오프셋 인덱스 구축, 지연 디코딩 등 내부 로직을 처리하는 보조 메서드들입니다.
+
+    /**
+     * 데이터 파일을 읽기 전용으로 매핑합니다.
+     * 파일이 없거나 매핑에 실패하면 콘솔에 에러 메시지를 출력하고 빈 버퍼를 반환합니다.
+     */
+    private static MappedByteBuffer mapFile(Path dataFile) {
+        try (FileChannel channel = FileChannel.open(dataFile, StandardOpenOption.READ)) {
+            // 매핑은 채널을 닫은 뒤에도 유효
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            System.err.println("Error mapping data file: " + e.getMessage());
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * 데이터 파일의 수정 시각을 읽습니다. 읽을 수 없으면 -1을 반환합니다 (스냅샷을 쓰지 않음).
+     */
+    private static long modifiedTimeOf(Path dataFile) {
+        try {
+            return DataSnapshot.modifiedTimeOf(dataFile);
+        } catch (IOException e) {
+            System.err.println("Error reading data file attributes: " + e.getMessage());
+            return -1;
+        }
+    }
+
+    /**
+     * 최신 스냅샷(DataSnapshot)에 저장된 오프셋 인덱스와 열 색인을 읽습니다.
+     * 매핑된 파일 전체를 훑지 않고 int 배열만 복원합니다 (열 색인의 값 사전은 서로 다른 값의 줄만 읽어 재구성).
+     *
+     * @return 스냅샷을 사용했으면 true, 없거나 오래되었거나 손상되었으면 false
+     */
+    private boolean loadIndexSnapshot(Path dataFile) {
+        if (modifiedTime < 0) {
+            return false;
+        }
+        Map<Integer, ByteBuffer> blocks = DataSnapshot.read(dataFile, buffer.limit(), modifiedTime);
+        if (blocks == null || !blocks.containsKey(DataSnapshot.BLOCK_LINE_STARTS)
+                || !blocks.containsKey(DataSnapshot.BLOCK_LINE_ENDS) || !blocks.containsKey(DataSnapshot.BLOCK_ID_TABLE)) {
+            return false;
+        }
+        if (!blocks.containsKey(DataSnapshot.BLOCK_ACADEMY_CODES) || !blocks.containsKey(DataSnapshot.BLOCK_SUBJECT_CODES)
+                || !blocks.containsKey(DataSnapshot.BLOCK_INSTRUCTOR_CODES)) {
+            return false;
+        }
+        int[] starts = DataSnapshot.decodeIntArray(blocks.get(DataSnapshot.BLOCK_LINE_STARTS));
+        int[] ends = DataSnapshot.decodeIntArray(blocks.get(DataSnapshot.BLOCK_LINE_ENDS));
+        int[] table = DataSnapshot.decodeIntArray(blocks.get(DataSnapshot.BLOCK_ID_TABLE));
+        int[] academyCodes = DataSnapshot.decodeIntArray(blocks.get(DataSnapshot.BLOCK_ACADEMY_CODES));
+        int[] subjectCodes = DataSnapshot.decodeIntArray(blocks.get(DataSnapshot.BLOCK_SUBJECT_CODES));
+        int[] instructorCodes = DataSnapshot.decodeIntArray(blocks.get(DataSnapshot.BLOCK_INSTRUCTOR_CODES));
+        if (starts.length != ends.length || Integer.bitCount(table.length) != 1 || table.length < starts.length * 2
+                || academyCodes.length != starts.length || subjectCodes.length != starts.length
+                || instructorCodes.length != starts.length || !ColumnIndex.isValid(academyCodes)
+                || !ColumnIndex.isValid(subjectCodes) || !ColumnIndex.isValid(instructorCodes)) {
+            System.err.println("Ignoring inconsistent lecture index snapshot");
+            return false;
+        }
+        lineStarts = starts;
+        lineEnds = ends;
+        lineCount = starts.length;
+        idTable = table;
+        academyIndex.restore(academyCodes);
+        subjectIndex.restore(subjectCodes);
+        instructorIndex.restore(instructorCodes);
+        return true;
+    }
+
+    /**
+     * 매핑된 바이트를 한 번 훑으며 줄 구간, ID 해시 테이블, 열 색인을 구축하고, 결과를 스냅샷으로 저장합니다.
+     * 첫 줄(헤더)과 빈 줄은 건너뜁니다. 이 단계에서는 String/Lecture 객체를 만들지 않습니다.
+     */
+    private void buildIndex(Path dataFile) {
+        int limit = buffer.limit();
+        int position = skipBom();
+        boolean header = true;
+        while (position < limit) {
+            int end = position;
+            while (end < limit && buffer.get(end) != '\n') {
+                end++;
+            }
+            int contentEnd = end > position && buffer.get(end - 1) == '\r' ? end - 1 : end;
+            if (header) {
+                header = false;
+            } else if (!isBlank(position, contentEnd)) {
+                addLine(position, contentEnd);
+            }
+            position = end + 1;
+        }
+
+        Map<Integer, byte[]> blocks = new LinkedHashMap<>();
+        blocks.put(DataSnapshot.BLOCK_LINE_STARTS, DataSnapshot.encodeIntArray(lineStarts, lineCount));
+        blocks.put(DataSnapshot.BLOCK_LINE_ENDS, DataSnapshot.encodeIntArray(lineEnds, lineCount));
+        blocks.put(DataSnapshot.BLOCK_ID_TABLE, DataSnapshot.encodeIntArray(idTable, idTable.length));
+        blocks.put(DataSnapshot.BLOCK_ACADEMY_CODES, academyIndex.encodeCodes());
+        blocks.put(DataSnapshot.BLOCK_SUBJECT_CODES, subjectIndex.encodeCodes());
+        blocks.put(DataSnapshot.BLOCK_INSTRUCTOR_CODES, instructorIndex.encodeCodes());
+        if (modifiedTime >= 0) {
+            DataSnapshot.write(dataFile, buffer.limit(), modifiedTime, blocks);
+        }
+    }
+
+    private int skipBom() {
+        if (buffer.limit() >= 3 && (buffer.get(0) & 0xFF) == 0xEF
+                && (buffer.get(1) & 0xFF) == 0xBB && (buffer.get(2) & 0xFF) == 0xBF) {
+            return 3;
+        }
+        return 0;
+    }
+
+    /**
+     * 줄 구간을 등록하고 ID 해시 테이블과 열 색인에 넣습니다. 이미 있는 ID면 무시합니다.
+     */
+    private void addLine(int start, int end) {
+        int idStart = skipSpaces(start, end);
+        int idEnd = fieldEnd(idStart, end);
+        if (idStart == idEnd) {
+            System.err.println("Invalid data format (missing lecture id) at byte " + start);
+            return;
+        }
+
+        int mask = idTable.length - 1;
+        int slot = hashOf(idStart, idEnd) & mask;
+        while (idTable[slot] != 0) {
+            int other = idTable[slot] - 1;
+            int otherStart = skipSpaces(lineStarts[other], lineEnds[other]);
+            if (bytesEqual(otherStart, fieldEnd(otherStart, lineEnds[other]), idStart, idEnd)) {
+                return; // 중복 ID
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        if (lineCount == lineStarts.length) {
+            lineStarts = Arrays.copyOf(lineStarts, lineCount * 2);
+            lineEnds = Arrays.copyOf(lineEnds, lineCount * 2);
+        }
+        lineStarts[lineCount] = start;
+        lineEnds[lineCount] = end;
+        idTable[slot] = lineCount + 1;
+        academyIndex.add(lineCount);
+        subjectIndex.add(lineCount);
+        instructorIndex.add(lineCount);
+        lineCount++;
+        if (lineCount * 2 > idTable.length) {
+            rehash();
+        }
+    }
+
+    private void rehash() {
+        int[] newTable = new int[idTable.length * 2];
+        int mask = newTable.length - 1;
+        for (int line = 0; line < lineCount; line++) {
+            int idStart = skipSpaces(lineStarts[line], lineEnds[line]);
+            int slot = hashOf(idStart, fieldEnd(idStart, lineEnds[line])) & mask;
+            while (newTable[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            newTable[slot] = line + 1;
+        }
+        idTable = newTable;
+    }
+
+    /**
+     * 강의 ID에 해당하는 줄 번호를 찾습니다.
+     *
+     * @return 줄 번호, 없으면 -1
+     */
+    private int lineOf(String id) {
+        if (id == null || lineCount == 0) {
+            return -1;
+        }
+        byte[] key = id.trim().getBytes(StandardCharsets.UTF_8);
+        int mask = idTable.length - 1;
+        int slot = hashOf(key) & mask;
+        while (idTable[slot] != 0) {
+            int line = idTable[slot] - 1;
+            int idStart = skipSpaces(lineStarts[line], lineEnds[line]);
+            if (bytesEqual(idStart, fieldEnd(idStart, lineEnds[line]), key)) {
+                return line;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * 열 색인에서 값에 해당하는 줄만 디코딩하여 반환합니다 (파일 순서).
+     */
+    private List<Lecture> lecturesAt(ColumnIndex index, String value) {
+        List<Lecture> result = new ArrayList<>();
+        if (value == null) {
+            return result;
+        }
+        int[] lines = index.linesOf(value);
+        for (int line : lines) {
+            Lecture lecture = lectureAt(line);
+            if (lecture != null) {
+                result.add(lecture);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 줄 번호의 Lecture를 반환합니다. 처음 조회하는 줄이면 디코딩하여 캐시합니다.
+     * 이미 디코딩된 강의는 락 없이 반환하며, 디코딩(공용 커서 사용)만 락 안에서 수행합니다.
+     */
+    private Lecture lectureAt(int line) {
+        Lecture lecture = decoded.get(line);
+        if (lecture != null) {
+            return lecture;
+        }
+        synchronized (this) {
+            lecture = decoded.get(line);
+            if (lecture == null) {
+                lecture = decodeLine(line);
+                decoded.set(line, lecture);
+            }
+            return lecture;
+        }
+    }
+
+    /**
+     * 한 줄의 바이트를 UTF-8로 디코딩한 뒤 FieldCursor로 파싱하여 `Lecture` 객체로 변환합니다.
+     *
+     * @return 파싱에 성공하면 `Lecture` 객체, 데이터 형식 오류나 파싱 중 예외 발생 시 `null`
+     */
+    private Lecture decodeLine(int line) {
+        int start = lineStarts[line];
+        byte[] bytes = new byte[lineEnds[line] - start];
+        buffer.get(start, bytes);
+        String text = new String(bytes, StandardCharsets.UTF_8);
+
+        cursor.reset(text);
+        if (cursor.countFields() < FIELD_COUNT) {
+            System.err.println("Invalid data format: " + text);
+            return null;
+        }
+        try {
+            cursor.nextField();
+            String id = cursor.symbol();
+            cursor.nextField();
+            String academyId = cursor.symbol();
+            cursor.nextField();
+            String subject = cursor.symbol();
+            cursor.nextField();
+            int year = cursor.intValue();
+            cursor.nextField();
+            String name = cursor.text();
+            cursor.nextField();
+            String instructorName = cursor.symbol();
+            cursor.nextField();
+            String textbookName = cursor.text();
+            cursor.nextField();
+            int price = cursor.intValue();
+            cursor.nextField();
+            int textbookPrice = cursor.intValue();
+            cursor.nextField();
+            String description = cursor.text();
+            cursor.nextField();
+            List<String> targetGrades = new ArrayList<>(4);
+            while (cursor.nextItem()) {
+                targetGrades.add(cursor.symbol());
+            }
+            cursor.nextField();
+            int capacity = cursor.intValue();
+            cursor.nextField();
+            String dayOfWeek = cursor.symbol();
+            cursor.nextField();
+            List<Integer> timeSlots = new ArrayList<>(4);
+            while (cursor.nextItem()) {
+                timeSlots.add(cursor.intValue());
+            }
+
+            return new Lecture(id, academyId, subject, year, name, instructorName, textbookName,
+                    price, textbookPrice, description, targetGrades, capacity, dayOfWeek, timeSlots);
+
+        } catch (Exception e) {
+            System.err.println("Data parsing error: " + text);
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    // ========== Byte Helper Methods ==========
+
+    private boolean isBlank(int start, int end) {
+        return skipSpaces(start, end) == end;
+    }
+
+    private int skipSpaces(int start, int end) {
+        while (start < end && (buffer.get(start) == ' ' || buffer.get(start) == '\t')) {
+            start++;
+        }
+        return start;
+    }
+
+    /**
+     * 필드(다음 '/' 전까지, 뒤 공백 제외)의 끝 위치
+     */
+    private int fieldEnd(int fieldStart, int lineEnd) {
+        int end = fieldStart;
+        while (end < lineEnd && buffer.get(end) != '/') {
+            end++;
+        }
+        while (end > fieldStart && (buffer.get(end - 1) == ' ' || buffer.get(end - 1) == '\t')) {
+            end--;
+        }
+        return end;
+    }
+
+    /**
+     * 줄에서 column번째 필드(앞 공백 제외)의 시작 위치. 필드가 없으면 줄 끝
+     */
+    private int fieldStart(int line, int column) {
+        int position = lineStarts[line];
+        int lineEnd = lineEnds[line];
+        for (int i = 0; i < column; i++) {
+            while (position < lineEnd && buffer.get(position) != '/') {
+                position++;
+            }
+            if (position == lineEnd) {
+                return lineEnd;
+            }
+            position++;
+        }
+        return skipSpaces(position, lineEnd);
+    }
+
+    private int hashOf(int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + buffer.get(i);
+        }
+        return spread(hash);
+    }
+
+    private static int hashOf(byte[] key) {
+        int hash = 0;
+        for (byte b : key) {
+            hash = 31 * hash + b;
+        }
+        return spread(hash);
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private boolean bytesEqual(int start, int end, int otherStart, int otherEnd) {
+        if (end - start != otherEnd - otherStart) {
+            return false;
+        }
+        for (int i = 0; i < end - start; i++) {
+            if (buffer.get(start + i) != buffer.get(otherStart + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean bytesEqual(int start, int end, byte[] key) {
+        if (end - start != key.length) {
+            return false;
+        }
+        for (int i = 0; i < key.length; i++) {
+            if (buffer.get(start + i) != key[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 한 열(학원 ID, 과목, 강사)의 값 -> 줄 번호 목록 색인
+     *
+     * 특징:
+     * - 줄마다 값 번호(서로 다른 값에 0부터 부여)만 int로 저장, 값 문자열은 만들지 않음
+     * - 값 사전은 해시 슬롯 -> 값 번호 + 1 (선형 탐사), 비교는 그 값이 처음 나온 줄의 매핑된 바이트와 수행
+     * - finish()에서 값 번호별 줄 번호 목록을 계수 정렬로 한 번에 생성 (파일 순서 유지)
+     */
+    private final class ColumnIndex {
+        private final int column;
+        private int[] codes = new int[INITIAL_CAPACITY];  // 줄 번호 -> 값 번호
+        private int[] valueLines = new int[16];           // 값 번호 -> 그 값이 처음 나온 줄
+        private int valueCount;
+        private int[] valueTable = new int[32];           // 해시 슬롯 -> 값 번호 + 1 (0: 빈 칸)
+        private int[] postingStarts = new int[1];         // 값 번호 -> postingLines 시작 위치 (valueCount + 1개)
+        private int[] postingLines = new int[0];
+
+        ColumnIndex(int column) {
+            this.column = column;
+        }
+
+        /**
+         * 줄의 열 값을 사전에 등록하고 값 번호를 기록합니다.
+         */
+        void add(int line) {
+            int start = fieldStart(line, column);
+            int end = fieldEnd(start, lineEnds[line]);
+            int mask = valueTable.length - 1;
+            int slot = hashOf(start, end) & mask;
+            while (valueTable[slot] != 0) {
+                int code = valueTable[slot] - 1;
+                int otherStart = fieldStart(valueLines[code], column);
+                if (bytesEqual(otherStart, fieldEnd(otherStart, lineEnds[valueLines[code]]), start, end)) {
+                    setCode(line, code);
+                    return;
+                }
+                slot = (slot + 1) & mask;
+            }
+            if (valueCount == valueLines.length) {
+                valueLines = Arrays.copyOf(valueLines, valueCount * 2);
+            }
+            valueLines[valueCount] = line;
+            valueTable[slot] = valueCount + 1;
+            setCode(line, valueCount++);
+            if (valueCount * 2 > valueTable.length) {
+                rehashValues();
+            }
+        }
+
+        /**
+         * 스냅샷의 값 번호가 add()로 만든 형태(처음 나온 순서대로 0, 1, 2, ...)인지 확인합니다.
+         */
+        static boolean isValid(int[] savedCodes) {
+            int valueCount = 0;
+            for (int code : savedCodes) {
+                if (code < 0 || code > valueCount) {
+                    return false;
+                }
+                if (code == valueCount) {
+                    valueCount++;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * 스냅샷의 값 번호로 색인을 복원합니다 (isValid 확인 후 호출).
+         * 값 사전은 값마다 처음 나온 줄만 읽어 재구성합니다.
+         */
+        void restore(int[] savedCodes) {
+            codes = savedCodes;
+            for (int line = 0; line < savedCodes.length; line++) {
+                if (savedCodes[line] == valueCount) {
+                    if (valueCount == valueLines.length) {
+                        valueLines = Arrays.copyOf(valueLines, valueCount * 2);
+                    }
+                    valueLines[valueCount++] = line;
+                }
+            }
+            rehashValues();
+        }
+
+        /**
+         * 값 번호별 줄 번호 목록을 만듭니다 (계수 정렬).
+         */
+        void finish() {
+            postingStarts = new int[valueCount + 1];
+            for (int line = 0; line < lineCount; line++) {
+                postingStarts[codes[line] + 1]++;
+            }
+            for (int code = 0; code < valueCount; code++) {
+                postingStarts[code + 1] += postingStarts[code];
+            }
+            postingLines = new int[lineCount];
+            int[] next = Arrays.copyOf(postingStarts, valueCount);
+            for (int line = 0; line < lineCount; line++) {
+                postingLines[next[codes[line]]++] = line;
+            }
+        }
+
+        /**
+         * 값에 해당하는 줄 번호 목록 (파일 순서, 없으면 빈 배열)
+         */
+        int[] linesOf(String value) {
+            byte[] key = value.trim().getBytes(StandardCharsets.UTF_8);
+            int mask = valueTable.length - 1;
+            int slot = hashOf(key) & mask;
+            while (valueTable[slot] != 0) {
+                int code = valueTable[slot] - 1;
+                int start = fieldStart(valueLines[code], column);
+                if (bytesEqual(start, fieldEnd(start, lineEnds[valueLines[code]]), key)) {
+                    return Arrays.copyOfRange(postingLines, postingStarts[code], postingStarts[code + 1]);
+                }
+                slot = (slot + 1) & mask;
+            }
+            return new int[0];
+        }
+
+        byte[] encodeCodes() {
+            return DataSnapshot.encodeIntArray(codes, lineCount);
+        }
+
+        private void setCode(int line, int code) {
+            if (line == codes.length) {
+                codes = Arrays.copyOf(codes, line * 2);
+            }
+            codes[line] = code;
+        }
+
+        private void rehashValues() {
+            int size = Integer.highestOneBit(Math.max(16, valueCount) * 4);
+            int[] newTable = new int[size];
+            int mask = size - 1;
+            for (int code = 0; code < valueCount; code++) {
+                int start = fieldStart(valueLines[code], column);
+                int slot = hashOf(start, fieldEnd(start, lineEnds[valueLines[code]])) & mask;
+                while (newTable[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                newTable[slot] = code + 1;
+            }
+            valueTable = newTable;
+        }
+    }
+}
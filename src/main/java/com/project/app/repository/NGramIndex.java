@@ -0,0 +1,171 @@
+package com.project.app.repository;
+
+import com.project.app.util.HangulUtils;
+import com.project.app.util.IntList;
+import com.project.app.util.SortedIntArrays;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 문자 n-gram 역색인 (부분 문자열 검색용)
+ *
+ * 특징:
+ * - 문서(예: 강사 이름, 소개글)를 1~3글자 단위(n-gram)로 잘라 gram -> 문서 번호 목록(posting list)으로 저장
+ * - 검색 시 검색어의 n-gram posting list를 교집합하여 후보를 구하고, 후보만 실제 문자열로 검증
+ * - 문서 번호는 Repository가 부여하는 0부터 시작하는 정수(ordinal)
+ * - 한글은 음절 단위로 처리하며, 초성 검색 옵션 사용 시 초성 문자열도 별도로 색인 (예: "ㅎㅇㅈ" -> 현우진)
+ * - 문서 추가/삭제 시 해당 문서의 gram만 갱신 (전체 재색인 없음)
+ *
+ * 정규화(NFC + 소문자)는 색인 시 한 번만 수행하고 결과를 보관하므로,
+ * 검색할 때마다 모든 문서를 다시 소문자로 바꾸지 않습니다.
+ */
+class NGramIndex {
+
+    private static final int MAX_GRAM = 3;
+
+    private final boolean choseongEnabled;
+    private final Map<String, IntList> postings = new HashMap<>();
+    private final Map<String, IntList> choseongPostings = new HashMap<>();
+    private final List<String> texts = new ArrayList<>(); // 문서 번호 -> 정규화된 문자열
+
+    /**
+     * @param choseongEnabled 초성 검색 지원 여부
+     */
+    NGramIndex(boolean choseongEnabled) {
+        this.choseongEnabled = choseongEnabled;
+    }
+
+    /**
+     * 문서를 색인에 추가합니다. 같은 번호의 문서가 이미 있으면 교체합니다.
+     *
+     * @param docId 문서 번호
+     * @param text 색인할 문자열
+     */
+    synchronized void add(int docId, String text) {
+        remove(docId);
+        String normalized = HangulUtils.normalize(text);
+        while (texts.size() <= docId) {
+            texts.add(null);
+        }
+        texts.set(docId, normalized);
+        forEachGram(normalized, gram -> postings.computeIfAbsent(gram, key -> new IntList()).addSorted(docId));
+        if (choseongEnabled) {
+            forEachGram(HangulUtils.toChoseong(normalized),
+                    gram -> choseongPostings.computeIfAbsent(gram, key -> new IntList()).addSorted(docId));
+        }
+    }
+
+    /**
+     * 문서를 색인에서 제거합니다.
+     *
+     * @param docId 문서 번호
+     */
+    synchronized void remove(int docId) {
+        if (docId >= texts.size() || texts.get(docId) == null) {
+            return;
+        }
+        String normalized = texts.get(docId);
+        texts.set(docId, null);
+        forEachGram(normalized, gram -> removePosting(postings, gram, docId));
+        if (choseongEnabled) {
+            forEachGram(HangulUtils.toChoseong(normalized), gram -> removePosting(choseongPostings, gram, docId));
+        }
+    }
+
+    /**
+     * 검색어를 부분 문자열로 포함하는 문서 번호 목록을 반환합니다.
+     * 초성 검색이 켜져 있고 검색어에 초성(ㄱ~ㅎ)이 있으면 초성 색인으로 검색합니다.
+     *
+     * @param query 검색어
+     * @return 일치하는 문서 번호 (오름차순)
+     */
+    synchronized int[] search(String query) {
+        String normalized = HangulUtils.normalize(query);
+        if (normalized.isEmpty()) {
+            return SortedIntArrays.EMPTY;
+        }
+
+        boolean choseongQuery = choseongEnabled && HangulUtils.containsChoseong(normalized);
+        int[] candidates = choseongQuery
+                ? candidates(choseongPostings, HangulUtils.toChoseong(normalized))
+                : candidates(postings, normalized);
+
+        // n-gram 교집합은 gram들이 떨어져 있어도 일치하므로, 검색어가 MAX_GRAM보다 길거나
+        // 초성이 섞인 경우에만 실제 문자열로 검증
+        if (!choseongQuery && normalized.length() <= MAX_GRAM) {
+            return candidates;
+        }
+        int[] verified = new int[candidates.length];
+        int count = 0;
+        for (int docId : candidates) {
+            String text = texts.get(docId);
+            boolean matches = choseongQuery
+                    ? HangulUtils.matchesWithChoseong(text, normalized)
+                    : text.contains(normalized);
+            if (matches) {
+                verified[count++] = docId;
+            }
+        }
+        return Arrays.copyOf(verified, count);
+    }
+
+    // ========== Private Helper Methods ==========
+
+    /**
+     * 검색어의 n-gram(검색어가 짧으면 검색어 길이만큼의 gram)들의 posting list 교집합
+     * 가장 짧은 목록부터 교집합하여 중간 결과를 최대한 작게 유지합니다.
+     */
+    private int[] candidates(Map<String, IntList> index, String query) {
+        int n = Math.min(MAX_GRAM, query.length());
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + n <= query.length(); i++) {
+            grams.add(query.substring(i, i + n));
+        }
+
+        List<IntList> lists = new ArrayList<>(grams.size());
+        for (String gram : grams) {
+            IntList list = index.get(gram);
+            if (list == null || list.isEmpty()) {
+                return SortedIntArrays.EMPTY;
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(IntList::size));
+
+        int[] result = lists.get(0).toArray();
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            IntList list = lists.get(i);
+            result = SortedIntArrays.intersect(result, result.length, list.rawArray(), list.size());
+        }
+        return result;
+    }
+
+    private static void removePosting(Map<String, IntList> index, String gram, int docId) {
+        IntList list = index.get(gram);
+        if (list != null) {
+            list.removeSorted(docId);
+            if (list.isEmpty()) {
+                index.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * 문자열의 1~MAX_GRAM 글자 gram을 모두 순회합니다.
+     */
+    private static void forEachGram(String text, Consumer<String> action) {
+        for (int n = 1; n <= MAX_GRAM; n++) {
+            for (int i = 0; i + n <= text.length(); i++) {
+                action.accept(text.substring(i, i + n));
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.project.app.repository;
+
+import com.project.app.model.Payment;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Payment Data Access Interface (PaymentData.txt)
+ *
+ * 특징:
+ * - 결제 생성/상태 변경을 기록 순서대로 저장
+ * - 조회 시에는 결제 ID마다 가장 마지막 상태만 반환
+ */
+public interface PaymentRepository {
+
+    // ========== 조회 메서드 ==========
+
+    /**
+     * 결제 ID로 결제 조회
+     *
+     * @return 존재하면 Payment, 없으면 null
+     */
+    Payment findById(String id);
+
+    /**
+     * 사용자의 결제 내역 목록 (결제 순서)
+     */
+    List<Payment> findByUserId(String userId);
+
+    // ========== 저장 메서드 ==========
+
+    /**
+     * 결제(또는 상태 변경)를 저장합니다.
+     *
+     * @param payment 새 결제 또는 같은 ID의 새 상태
+     * @return 디스크 반영이 끝나면 완료되는 Future
+     */
+    CompletableFuture<Void> save(Payment payment);
+}
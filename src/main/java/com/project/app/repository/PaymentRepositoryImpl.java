@@ -0,0 +1,137 @@
+package com.project.app.repository;
+
+import com.project.app.model.Payment;
+import com.project.app.model.Payment.Status;
+import com.project.app.util.SymbolTable;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Payment Repository Implementation
+ *
+ * 특징:
+ * - PaymentData.txt를 추가 기록(append-only) 로그로 사용 (같은 결제 ID는 마지막 줄이 현재 상태)
+ * - 시작 시 파일을 한 번 읽어 결제 ID -> 현재 상태 맵을 구성
+ * - 모든 파일 쓰기는 PersistenceWriter를 통해 백그라운드에서 수행
+ * - 비정상 종료로 마지막 줄이 개행 없이 끝났으면 시작 시 그 줄을 버리고 파일을 정리
+ */
+public class PaymentRepositoryImpl implements PaymentRepository {
+
+    private static final String DATA_FILE_PATH = "src/main/data/PaymentData.txt";
+    private static final String HEADER = "결제ID/사용자ID/강의ID/결제금액/교재구매여부/결제수단/결제일시/결제상태";
+    private static final String FIELD_DELIMITER = "/";
+    private static final int FIELD_COUNT = 8;
+    private static final String YES = "Y";
+    private static final String NO = "N";
+
+    private final Path dataFile = Paths.get(DATA_FILE_PATH);
+    private final Map<String, Payment> payments = new LinkedHashMap<>(); // 결제 ID -> 현재 상태
+    private final PersistenceWriter writer;
+
+    public PaymentRepositoryImpl() {
+        this.writer = PersistenceWriter.getInstance();
+        loadDataFromFile();
+    }
+
+    @Override
+    public synchronized Payment findById(String id) {
+        return payments.get(id);
+    }
+
+    @Override
+    public synchronized List<Payment> findByUserId(String userId) {
+        List<Payment> result = new ArrayList<>();
+        for (Payment payment : payments.values()) {
+            if (payment.getUserId().equals(userId)) {
+                result.add(payment);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public synchronized CompletableFuture<Void> save(Payment payment) {
+        payments.put(payment.getId(), payment);
+        return writer.append(dataFile, paymentToLine(payment));
+    }
+
+    // ========== Private Helper Methods ==========
+
+    /**
+     * 데이터 파일을 읽어 결제 맵을 구성합니다.
+     */
+    private void loadDataFromFile() {
+        try {
+            // 온전한 로그는 스냅샷으로 읽고, 없거나 마지막 줄이 잘린 파일만 텍스트를 읽어 정리
+            boolean complete = DataSnapshot.isCompleteLog(dataFile);
+            DataTable table = complete ? DataSnapshot.loadTable(dataFile) : DataSnapshot.parseCompleteLines(dataFile);
+            for (int row = 0; row < table.rowCount(); row++) {
+                Payment payment = parseRowToPayment(table, row);
+                if (payment != null) {
+                    payments.put(payment.getId(), payment);
+                }
+            }
+            if (!complete) {
+                List<String> lines = new ArrayList<>(payments.size() + 1);
+                lines.add(HEADER);
+                payments.values().forEach(payment -> lines.add(paymentToLine(payment)));
+                writer.replace(dataFile, lines).join();
+            }
+            System.out.println("Payment data loaded: " + payments.size() + " payments");
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Error reading data file: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * 데이터 파일의 한 행을 `Payment` 객체로 변환합니다.
+     *
+     * @return 파싱에 성공하면 `Payment` 객체, 데이터 형식 오류 시 `null`
+     */
+    private Payment parseRowToPayment(DataTable table, int row) {
+        if (table.fieldCount(row) < FIELD_COUNT) {
+            System.err.println("Invalid data format: " + table.rowText(row));
+            return null;
+        }
+        Status status = Status.fromLabel(table.field(row, 7));
+        if (status == null) {
+            System.err.println("Unknown payment status: " + table.rowText(row));
+            return null;
+        }
+        try {
+            SymbolTable symbols = SymbolTable.getInstance();
+            return new Payment(
+                    table.field(row, 0),
+                    symbols.canonical(table.field(row, 1)),
+                    symbols.canonical(table.field(row, 2)),
+                    Integer.parseInt(table.field(row, 3)),
+                    YES.equals(table.field(row, 4)),
+                    table.field(row, 5),
+                    table.field(row, 6),
+                    status);
+        } catch (NumberFormatException e) {
+            System.err.println("Invalid number format: " + table.rowText(row));
+            return null;
+        }
+    }
+
+    private String paymentToLine(Payment payment) {
+        return String.join(FIELD_DELIMITER,
+                payment.getId(),
+                payment.getUserId(),
+                payment.getLectureId(),
+                String.valueOf(payment.getAmount()),
+                payment.isTextbookPurchased() ? YES : NO,
+                payment.getMethod() != null ? payment.getMethod() : "",
+                payment.getPaidAt() != null ? payment.getPaidAt() : "",
+                payment.getStatus().getLabel());
+    }
+}
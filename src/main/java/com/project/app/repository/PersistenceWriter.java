@@ -0,0 +1,257 @@
+package com.project.app.repository;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 공용 파일 저장 Writer (Group Commit)
+ *
+ * 특징:
+ * - 모든 Repository/Service의 파일 쓰기를 하나의 백그라운드 스레드에서 처리
+ * - 호출 스레드(Swing EDT 등)는 디스크 I/O를 기다리지 않고 CompletableFuture를 받음
+ * - 일정 시간(window) 또는 일정 개수(maxBatchOps) 안에 들어온 쓰기 요청을 묶어서
+ *   파일마다 한 번의 write + fsync로 처리
+ * - Future는 해당 쓰기가 fsync까지 끝난 뒤(디스크에 반영된 뒤) 완료됨
+ *
+ * 쓰기 종류:
+ * - append: 파일 끝에 한 줄 추가 (저널, 회원 정보 등)
+ * - replace: 파일 전체를 원자적으로 교체 (스냅샷 저장 등)
+ *
+ * 같은 파일에 대한 요청은 들어온 순서대로 반영됩니다.
+ * 큐가 가득 차면 호출 스레드는 자리가 날 때까지 대기합니다(backpressure).
+ */
+public class PersistenceWriter {
+
+    // ========== 기본 설정 ==========
+
+    /** 첫 요청 이후 다른 요청을 기다리는 최대 시간 (ms) */
+    public static final long DEFAULT_WINDOW_MILLIS = 5;
+
+    /** 한 배치에서 처리하는 최대 요청 수 */
+    public static final int DEFAULT_MAX_BATCH_OPS = 256;
+
+    /** 대기 큐 최대 크기 */
+    public static final int DEFAULT_QUEUE_CAPACITY = 4096;
+
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 2000;
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private static PersistenceWriter instance;
+
+    /**
+     * 싱글톤 인스턴스를 반환하는 메서드
+     *
+     * @return 기본 설정으로 생성된 PersistenceWriter
+     */
+    public static synchronized PersistenceWriter getInstance() {
+        if (instance == null) {
+            instance = new PersistenceWriter(DEFAULT_WINDOW_MILLIS, DEFAULT_MAX_BATCH_OPS, DEFAULT_QUEUE_CAPACITY);
+            // 종료 시 남은 쓰기 처리 (공용 인스턴스만 등록, 직접 만든 인스턴스는 shutdown()을 호출해야 함)
+            Runtime.getRuntime().addShutdownHook(new Thread(instance::shutdown, "persistence-writer-shutdown"));
+        }
+        return instance;
+    }
+
+    // ========== 쓰기 요청 ==========
+
+    private enum OpType { APPEND, REPLACE }
+
+    private static final class WriteOp {
+        final OpType type;
+        final Path path;
+        final List<String> lines;
+        final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        WriteOp(OpType type, Path path, List<String> lines) {
+            this.type = type;
+            this.path = path.toAbsolutePath().normalize();
+            this.lines = lines;
+        }
+    }
+
+    private final long windowNanos;
+    private final int maxBatchOps;
+    private final BlockingQueue<WriteOp> queue;
+    private final Thread worker;
+    private volatile boolean running = true;
+
+    /**
+     * PersistenceWriter 생성자
+     *
+     * @param windowMillis 요청을 묶는 시간 (ms)
+     * @param maxBatchOps 한 배치의 최대 요청 수
+     * @param queueCapacity 대기 큐 최대 크기
+     */
+    public PersistenceWriter(long windowMillis, int maxBatchOps, int queueCapacity) {
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis);
+        this.maxBatchOps = maxBatchOps;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.worker = new Thread(this::runLoop, "persistence-writer");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    // ========== 공개 메서드 ==========
+
+    /**
+     * 파일 끝에 한 줄을 추가합니다. 파일이 없으면 새로 생성합니다.
+     *
+     * @param path 대상 파일
+     * @param line 추가할 내용 (개행 문자 제외)
+     * @return fsync까지 완료되면 완료되는 Future
+     */
+    public CompletableFuture<Void> append(Path path, String line) {
+        return submit(new WriteOp(OpType.APPEND, path, List.of(line)));
+    }
+
+    /**
+     * 파일 전체를 주어진 내용으로 원자적으로 교체합니다.
+     * 같은 배치 안에 같은 파일에 대한 교체 요청이 여러 개 있으면 마지막 것만 실제로 기록됩니다.
+     *
+     * @param path 대상 파일
+     * @param lines 새 파일 내용 (각 요소가 한 줄)
+     * @return 새 파일이 fsync 후 교체되면 완료되는 Future
+     */
+    public CompletableFuture<Void> replace(Path path, List<String> lines) {
+        return submit(new WriteOp(OpType.REPLACE, path, new ArrayList<>(lines)));
+    }
+
+    /**
+     * 큐에 남은 요청을 모두 처리한 뒤 Writer를 종료합니다.
+     * 공용 인스턴스(getInstance)는 JVM 종료 시 셧다운 훅에서 자동으로 호출됩니다.
+     */
+    public void shutdown() {
+        running = false;
+        try {
+            worker.join(SHUTDOWN_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private CompletableFuture<Void> submit(WriteOp op) {
+        if (!running) {
+            op.future.completeExceptionally(new IOException("PersistenceWriter is shut down"));
+            return op.future;
+        }
+        try {
+            queue.put(op);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            op.future.completeExceptionally(e);
+        }
+        return op.future;
+    }
+
+    /**
+     * 백그라운드 스레드 루프
+     * 첫 요청을 받은 뒤 window 동안(또는 maxBatchOps개가 찰 때까지) 요청을 더 모아 한 번에 처리합니다.
+     */
+    private void runLoop() {
+        List<WriteOp> batch = new ArrayList<>(maxBatchOps);
+        while (running || !queue.isEmpty()) {
+            try {
+                // FileChannel은 인터럽트 시 닫히므로, 종료 신호는 인터럽트 대신 running 플래그로 전달
+                WriteOp first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + windowNanos;
+                while (batch.size() < maxBatchOps) {
+                    long remaining = deadline - System.nanoTime();
+                    WriteOp next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                running = false;
+            }
+            if (!batch.isEmpty()) {
+                commit(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 배치를 파일별로 묶어 파일마다 한 번씩 쓰고 fsync한 뒤 Future를 완료합니다.
+     */
+    private void commit(List<WriteOp> batch) {
+        Map<Path, List<WriteOp>> byPath = new LinkedHashMap<>();
+        for (WriteOp op : batch) {
+            byPath.computeIfAbsent(op.path, key -> new ArrayList<>()).add(op);
+        }
+        for (Map.Entry<Path, List<WriteOp>> entry : byPath.entrySet()) {
+            List<WriteOp> ops = entry.getValue();
+            try {
+                writeGroup(entry.getKey(), ops);
+                ops.forEach(op -> op.future.complete(null));
+            } catch (IOException | RuntimeException e) {
+                System.err.println("Error writing " + entry.getKey() + ": " + e.getMessage());
+                ops.forEach(op -> op.future.completeExceptionally(e));
+            }
+        }
+    }
+
+    /**
+     * 한 파일에 대한 요청 묶음을 처리합니다.
+     * 마지막 교체 요청이 있으면 그 내용 + 이후 추가 요청들을 새 파일로 쓰고,
+     * 없으면 모든 추가 요청을 한 번의 append로 씁니다.
+     */
+    private void writeGroup(Path path, List<WriteOp> ops) throws IOException {
+        int lastReplace = -1;
+        for (int i = 0; i < ops.size(); i++) {
+            if (ops.get(i).type == OpType.REPLACE) {
+                lastReplace = i;
+            }
+        }
+
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        for (int i = Math.max(lastReplace, 0); i < ops.size(); i++) {
+            for (String line : ops.get(i).lines) {
+                content.writeBytes(line.getBytes(StandardCharsets.UTF_8));
+                content.write('\n');
+            }
+        }
+
+        if (lastReplace >= 0) {
+            Path tempPath = path.resolveSibling(path.getFileName() + ".tmp");
+            writeAndForce(tempPath, content.toByteArray(),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } else {
+            writeAndForce(path, content.toByteArray(),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        }
+    }
+
+    private static void writeAndForce(Path path, byte[] bytes, StandardOpenOption... options) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, options)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+}
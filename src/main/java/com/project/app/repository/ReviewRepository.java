@@ -0,0 +1,46 @@
+package com.project.app.repository;
+
+import com.project.app.model.Review;
+import com.project.app.model.Review.TargetType;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Review Data Access Interface (ReviewData.txt)
+ *
+ * 특징:
+ * - 리뷰 작성/수정/삭제를 기록 순서대로 저장
+ * - 조회 시에는 리뷰 ID마다 가장 마지막 상태만 반환
+ */
+public interface ReviewRepository {
+
+    // ========== 조회 메서드 ==========
+
+    /**
+     * 리뷰 ID로 리뷰 조회 (삭제된 리뷰 포함)
+     *
+     * @return 존재하면 Review, 없으면 null
+     */
+    Review findById(String id);
+
+    /**
+     * 모든 리뷰의 현재 상태 (삭제된 리뷰 포함, 처음 작성 순서)
+     */
+    List<Review> findAll();
+
+    /**
+     * 대상(강의/강사)의 삭제되지 않은 리뷰 목록 (처음 작성 순서)
+     */
+    List<Review> findByTarget(TargetType targetType, String targetId);
+
+    // ========== 저장 메서드 ==========
+
+    /**
+     * 리뷰(또는 수정/삭제된 새 상태)를 저장합니다.
+     *
+     * @param review 새 리뷰 또는 같은 ID의 새 상태
+     * @return 디스크 반영이 끝나면 완료되는 Future
+     */
+    CompletableFuture<Void> save(Review review);
+}
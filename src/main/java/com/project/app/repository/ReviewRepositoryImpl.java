@@ -0,0 +1,183 @@
+package com.project.app.repository;
+
+import com.project.app.model.Review;
+import com.project.app.model.Review.Status;
+import com.project.app.model.Review.TargetType;
+import com.project.app.util.SymbolTable;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Review Repository Implementation
+ *
+ * 특징:
+ * - ReviewData.txt를 추가 기록(append-only) 로그로 사용 (같은 리뷰 ID는 마지막 줄이 현재 상태)
+ * - 시작 시 파일을 한 번 읽어 리뷰 ID -> 현재 상태 맵과 대상(강의/강사)별 리뷰 맵을 구성
+ * - 모든 파일 쓰기는 PersistenceWriter를 통해 백그라운드에서 수행
+ * - 비정상 종료로 마지막 줄이 개행 없이 끝났으면 시작 시 그 줄을 버리고 파일을 정리
+ * - 내용은 줄의 마지막 필드이므로 '/'가 들어 있어도 그대로 복원 (개행은 공백으로 바꿔 저장)
+ */
+public class ReviewRepositoryImpl implements ReviewRepository {
+
+    private static final String DATA_FILE_PATH = "src/main/data/ReviewData.txt";
+    private static final String HEADER = "리뷰ID/사용자ID/대상종류/대상ID/평점/작성일시/상태/내용";
+    private static final String FIELD_DELIMITER = "/";
+    private static final int FIELD_COUNT = 7; // 내용이 비어 있으면 7개
+    private static final int CONTENT_COLUMN = 7;
+
+    private final Path dataFile;
+    private final Map<String, Review> reviews = new LinkedHashMap<>();        // 리뷰 ID -> 현재 상태
+    private final Map<String, Map<String, Review>> byTarget = new HashMap<>(); // "종류/대상ID" -> (리뷰 ID -> 리뷰)
+    private final PersistenceWriter writer;
+
+    public ReviewRepositoryImpl() {
+        this(Paths.get(DATA_FILE_PATH));
+    }
+
+    /**
+     * 지정한 데이터 파일을 사용합니다.
+     *
+     * @param dataFile ReviewData 형식의 파일 경로 (없으면 헤더만 있는 파일을 만듦)
+     */
+    public ReviewRepositoryImpl(Path dataFile) {
+        this.dataFile = dataFile;
+        this.writer = PersistenceWriter.getInstance();
+        loadDataFromFile();
+    }
+
+    @Override
+    public synchronized Review findById(String id) {
+        return reviews.get(id);
+    }
+
+    @Override
+    public synchronized List<Review> findAll() {
+        return new ArrayList<>(reviews.values());
+    }
+
+    @Override
+    public synchronized List<Review> findByTarget(TargetType targetType, String targetId) {
+        Map<String, Review> targetReviews = byTarget.get(targetKey(targetType, targetId));
+        if (targetReviews == null) {
+            return new ArrayList<>();
+        }
+        List<Review> result = new ArrayList<>(targetReviews.size());
+        for (Review review : targetReviews.values()) {
+            if (!review.isDeleted()) {
+                result.add(review);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public synchronized CompletableFuture<Void> save(Review review) {
+        apply(review);
+        return writer.append(dataFile, reviewToLine(review));
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private void apply(Review review) {
+        reviews.put(review.getId(), review);
+        byTarget.computeIfAbsent(targetKey(review.getTargetType(), review.getTargetId()),
+                key -> new LinkedHashMap<>()).put(review.getId(), review);
+    }
+
+    private static String targetKey(TargetType targetType, String targetId) {
+        return targetType.name() + "/" + targetId;
+    }
+
+    /**
+     * 데이터 파일을 읽어 리뷰 맵을 구성합니다.
+     */
+    private void loadDataFromFile() {
+        try {
+            // 온전한 로그는 스냅샷으로 읽고, 없거나 마지막 줄이 잘린 파일만 텍스트를 읽어 정리
+            boolean complete = DataSnapshot.isCompleteLog(dataFile);
+            DataTable table = complete ? DataSnapshot.loadTable(dataFile) : DataSnapshot.parseCompleteLines(dataFile);
+            for (int row = 0; row < table.rowCount(); row++) {
+                Review review = parseRowToReview(table, row);
+                if (review != null) {
+                    apply(review);
+                }
+            }
+            if (!complete) {
+                List<String> lines = new ArrayList<>(reviews.size() + 1);
+                lines.add(HEADER);
+                reviews.values().forEach(review -> lines.add(reviewToLine(review)));
+                writer.replace(dataFile, lines).join();
+            }
+            System.out.println("Review data loaded: " + reviews.size() + " reviews");
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Error reading data file: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * 데이터 파일의 한 행을 `Review` 객체로 변환합니다.
+     *
+     * @return 파싱에 성공하면 `Review` 객체, 데이터 형식 오류 시 `null`
+     */
+    private Review parseRowToReview(DataTable table, int row) {
+        if (table.fieldCount(row) < FIELD_COUNT) {
+            System.err.println("Invalid data format: " + table.rowText(row));
+            return null;
+        }
+        TargetType targetType = TargetType.fromLabel(table.field(row, 2));
+        Status status = Status.fromLabel(table.field(row, 6));
+        if (targetType == null || status == null) {
+            System.err.println("Unknown review type or status: " + table.rowText(row));
+            return null;
+        }
+        try {
+            int rating = Integer.parseInt(table.field(row, 4));
+            if (rating < Review.MIN_RATING || rating > Review.MAX_RATING) {
+                System.err.println("Rating out of range: " + table.rowText(row));
+                return null;
+            }
+            StringBuilder text = new StringBuilder();
+            for (int column = CONTENT_COLUMN; column < table.fieldCount(row); column++) {
+                if (column > CONTENT_COLUMN) {
+                    text.append(FIELD_DELIMITER);
+                }
+                text.append(table.field(row, column));
+            }
+            SymbolTable symbols = SymbolTable.getInstance();
+            return new Review(
+                    table.field(row, 0),
+                    symbols.canonical(table.field(row, 1)),
+                    targetType,
+                    symbols.canonical(table.field(row, 3)),
+                    rating,
+                    table.field(row, 5),
+                    status,
+                    text.toString());
+        } catch (NumberFormatException e) {
+            System.err.println("Invalid number format: " + table.rowText(row));
+            return null;
+        }
+    }
+
+    private String reviewToLine(Review review) {
+        String content = review.getContent() != null ? review.getContent().replaceAll("[\\r\\n]+", " ") : "";
+        return String.join(FIELD_DELIMITER,
+                review.getId(),
+                review.getUserId(),
+                review.getTargetType().getLabel(),
+                review.getTargetId(),
+                String.valueOf(review.getRating()),
+                review.getCreatedAt() != null ? review.getCreatedAt() : "",
+                review.getStatus().getLabel(),
+                content);
+    }
+}
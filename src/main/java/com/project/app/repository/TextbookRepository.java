@@ -0,0 +1,44 @@
+package com.project.app.repository;
+
+import com.project.app.model.Textbook;
+
+import java.util.List;
+
+/**
+ * Textbook Data Access Interface
+ *
+ * 특징:
+ * - 교재 정보는 고정 (추가/삭제/수정 없음)
+ * - 주요 기능: 조회
+ */
+public interface TextbookRepository {
+
+    // ========== 조회 메서드 ==========
+
+    /**
+     * 교재 ID로 교재 조회
+     *
+     * @return 존재하면 Textbook, 없으면 null
+     */
+    Textbook findById(String id);
+
+    /**
+     * 모든 교재 목록 조회 (파일 순서)
+     */
+    List<Textbook> findAll();
+
+    /**
+     * 강의 ID로 연관 교재 조회
+     */
+    List<Textbook> findByLectureId(String lectureId);
+
+    /**
+     * 강사 ID로 교재 조회
+     */
+    List<Textbook> findByInstructorId(String instructorId);
+
+    /**
+     * 가격이 [minPrice, maxPrice] 안인 교재 조회 (가격 오름차순, 같으면 파일 순서)
+     */
+    List<Textbook> findByPriceRange(int minPrice, int maxPrice);
+}
@@ -0,0 +1,138 @@
+package com.project.app.repository;
+
+import com.project.app.model.Textbook;
+import com.project.app.util.IntRangeIndex;
+import com.project.app.util.SymbolTable;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Textbook Repository Implementation
+ *
+ * 특징:
+ * - 초기 로드 시 파일에서 교재 정보를 읽어옴 (최신 바이너리 스냅샷이 있으면 스냅샷에서 복원)
+ * - 교재 추가/삭제 없음 (고정된 데이터)
+ * - 메모리 캐시 방식으로 빠른 조회 제공
+ * - id 문자열은 SymbolTable의 정규 인스턴스로 통일
+ * - 가격 범위 조회는 가격순으로 정렬된 int 배열(IntRangeIndex)에서 이진 탐색으로 처리
+ */
+public class TextbookRepositoryImpl implements TextbookRepository {
+
+    private static final String DATA_FILE_PATH = "src/main/data/TextbookData.txt";
+    private static final int FIELD_COUNT = 6;
+
+    private final Map<String, Textbook> textbookCache;
+    private final Textbook[] rows;            // 행 번호(파일 순서) -> 교재
+    private final IntRangeIndex priceIndex;   // 가격 -> 행 번호
+
+    /**
+     * TextbookRepositoryImpl 생성자
+     * 객체 생성 시 파일로부터 데이터를 로드하여 캐시를 초기화합니다.
+     */
+    public TextbookRepositoryImpl() {
+        this.textbookCache = new LinkedHashMap<>();
+        loadDataFromFile();
+        this.rows = textbookCache.values().toArray(new Textbook[0]);
+        int[] prices = new int[rows.length];
+        for (int row = 0; row < rows.length; row++) {
+            prices[row] = rows[row].getPrice();
+        }
+        this.priceIndex = new IntRangeIndex(prices);
+    }
+
+    @Override
+    public Textbook findById(String id) {
+        return textbookCache.get(id);
+    }
+
+    @Override
+    public List<Textbook> findAll() {
+        return new ArrayList<>(textbookCache.values());
+    }
+
+    @Override
+    public List<Textbook> findByLectureId(String lectureId) {
+        List<Textbook> result = new ArrayList<>();
+        for (Textbook textbook : textbookCache.values()) {
+            if (textbook.getLectureId() != null && textbook.getLectureId().equals(lectureId)) {
+                result.add(textbook);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<Textbook> findByInstructorId(String instructorId) {
+        List<Textbook> result = new ArrayList<>();
+        for (Textbook textbook : textbookCache.values()) {
+            if (textbook.getInstructorId() != null && textbook.getInstructorId().equals(instructorId)) {
+                result.add(textbook);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<Textbook> findByPriceRange(int minPrice, int maxPrice) {
+        int[] matches = priceIndex.rowsByValue(minPrice, maxPrice);
+        List<Textbook> result = new ArrayList<>(matches.length);
+        for (int row : matches) {
+            result.add(rows[row]);
+        }
+        return result;
+    }
+
+    // ========== Private Helper Methods ==========
+
+    /**
+     * 데이터 파일(`DATA_FILE_PATH`)로부터 교재 정보를 로드하여 `textbookCache`를 초기화합니다.
+     */
+    private void loadDataFromFile() {
+        try {
+            DataTable table = DataSnapshot.loadTable(Paths.get(DATA_FILE_PATH));
+            for (int row = 0; row < table.rowCount(); row++) {
+                Textbook textbook = parseRowToTextbook(table, row);
+                if (textbook != null && !textbookCache.containsKey(textbook.getId())) {
+                    textbookCache.put(textbook.getId(), textbook);
+                }
+            }
+            System.out.println("Textbook data loaded: " + textbookCache.size() + " textbooks");
+        } catch (IOException e) {
+            System.err.println("Error reading data file: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * 데이터 파일의 한 행을 `Textbook` 객체로 변환합니다.
+     *
+     * @param table 데이터 파일 표 (행: "id/name/price/subject/lectureId/instructorId")
+     * @param row 행 번호
+     * @return 파싱에 성공하면 `Textbook` 객체, 데이터 형식 오류 시 `null`
+     */
+    private Textbook parseRowToTextbook(DataTable table, int row) {
+        if (table.fieldCount(row) < FIELD_COUNT) {
+            System.err.println("Invalid data format: " + table.rowText(row));
+            return null;
+        }
+        try {
+            SymbolTable symbols = SymbolTable.getInstance();
+            return new Textbook(
+                    symbols.canonical(table.field(row, 0)),
+                    table.field(row, 1),
+                    Integer.parseInt(table.field(row, 2)),
+                    symbols.canonical(table.field(row, 3)),
+                    symbols.canonical(table.field(row, 4)),
+                    symbols.canonical(table.field(row, 5)));
+        } catch (NumberFormatException e) {
+            System.err.println("Data parsing error: " + table.rowText(row));
+            e.printStackTrace();
+            return null;
+        }
+    }
+}
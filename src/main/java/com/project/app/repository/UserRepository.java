@@ -1,12 +1,15 @@
 package com.project.app.repository;
 import com.project.app.model.User;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * UserRepository
  *
  * - User 엔티티에 대한 데이터 접근 인터페이스
- * - 구현체(UserRepositoryImpl)는 현재 인메모리 기반 임시 구현이며,
- *   추후 파일(users.txt) 또는 DB 연동으로 교체해야 함.
+ * - 구현체(UserRepositoryImpl)는 src/main/data/userData.txt + 추가 기록 저널로 영속화되며,
+ *   조회는 메모리 해시 인덱스로 처리 (파일을 다시 읽지 않음)
  */
 public interface UserRepository {
 
@@ -19,12 +22,27 @@ public interface UserRepository {
     User findById(String id);
 
     /**
-     * 사용자 저장 (회원가입 등)
+     * 모든 사용자 목록 조회
+     */
+    List<User> findAll();
+
+    /**
+     * 사용자 저장 (같은 ID가 있으면 덮어씀)
+     * 디스크 반영을 기다리지 않습니다.
      *
      * @param user 저장할 사용자
      */
     void save(User user);
 
+    /**
+     * 새 사용자 저장 (회원가입)
+     * 이미 같은 ID가 있으면 저장하지 않습니다.
+     *
+     * @param user 저장할 사용자
+     * @return 디스크 반영이 끝나면 true, 중복 ID/잘못된 값/저장 실패 시 false로 완료되는 Future
+     */
+    CompletableFuture<Boolean> saveNewAsync(User user);
+
     /**
      * ID 중복 여부 확인
      *
@@ -1,44 +1,381 @@
 package com.project.app.repository;
 import com.project.app.model.User;
+import com.project.app.util.FieldCursor;
+import com.project.app.util.SymbolTable;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
- * UserRepository 구현체 (임시 인메모리 버전)
+ * UserRepository 구현체 (userData.txt + 추가 기록 저널)
  *
- * - 현재는 애플리케이션 메모리에만 사용자 정보를 저장
- * - 추후 파일(users.txt) 또는 DB 연동으로 교체해야 함.
+ * 특징:
+ * - 시작 시 userData.txt(최신 스냅샷이 있으면 바이너리 스냅샷)를 한 번 읽고, 저널을 재생하여 메모리 해시 인덱스 구성
+ *   → findById / existsById는 O(1), 회원가입 시 파일을 다시 읽지 않음
+ * - 사용자 저장 시 전체 파일을 다시 쓰지 않고 저널(userData.journal)에 한 줄만 추가
+ *   (저널 형식은 userData.txt와 동일, 같은 ID가 다시 나오면 나중 줄이 우선)
+ * - 모든 파일 쓰기는 PersistenceWriter를 통해 백그라운드에서 묶어서(group commit) 수행
+ * - 저널 추가가 실패하면 메모리 인덱스를 이전 상태로 되돌림 (기록되지 않은 사용자는 조회되지 않음)
+ * - 저널이 COMPACTION_THRESHOLD를 넘으면 userData.txt를 새로 쓰고 저널에서 반영된 줄 제거
+ * - 기존 회원가입 파일(users.txt: "id,pw,name,birth")이 있으면 최초 로드 시 한 번 가져옴
  *
- * TODO:
- *  - SignUpService 리팩토링 시, users.txt 대신 이 Repository를 사용하도록 변경
- *  - 파일/DB 연동 구현 후, 인메모리 store 제거 또는 테스트용으로만 사용
+ * 애플리케이션에서는 getInstance()로 하나의 인스턴스를 공유해야 합니다.
  */
 public class UserRepositoryImpl implements UserRepository {
 
+    private static final String DATA_FILE_PATH = "src/main/data/userData.txt";
+    private static final String JOURNAL_FILE_PATH = "src/main/data/userData.journal";
+    private static final String LEGACY_USERS_FILE_PATH = "users.txt";
+    private static final String HEADER = "사용자ID/비밀번호/이름/생년월일/학년/신청강의목록/결제내역목록";
+    private static final String FIELD_DELIMITER = "/";
+    private static final String LIST_DELIMITER = ",";
+    private static final int FIELD_COUNT = 7;
+
+    /** 저널 레코드가 이 개수를 넘으면 데이터 파일 재작성(compaction) 수행 */
+    private static final int COMPACTION_THRESHOLD = 500;
+
+    private static UserRepositoryImpl instance;
+
     /**
-     * 인메모리 저장소
+     * 싱글톤 인스턴스를 반환하는 메서드
+     */
+    public static synchronized UserRepositoryImpl getInstance() {
+        if (instance == null) {
+            instance = new UserRepositoryImpl();
+        }
+        return instance;
+    }
+
+    /**
+     * 해시 인덱스
      * key: userId, value: User
      */
-    private final Map<String, User> store = new ConcurrentHashMap<>();
+    private final Map<String, User> store = new LinkedHashMap<>();
+    private final List<String> journalRecords = new ArrayList<>(); // 마지막 compaction 이후 저널에 추가된 줄
+    private final PersistenceWriter writer;
+    private final Path dataFile;
+    private final Path journalFile;
+    private final Path legacyUsersFile;
+    private final int compactionThreshold;
+    private boolean compacting;
+    private boolean dataFileStale; // 데이터 파일에 되돌린 저장이 들어갔을 수 있음 (다시 compaction 필요)
+    private CompletableFuture<Void> compaction = CompletableFuture.completedFuture(null);
 
     public UserRepositoryImpl() {
-        // 필요하다면 여기에 테스트용 기본 계정 삽입 가능
+        this(Paths.get(DATA_FILE_PATH), Paths.get(JOURNAL_FILE_PATH), Paths.get(LEGACY_USERS_FILE_PATH),
+                PersistenceWriter.getInstance(), COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * 지정한 파일들로 저장소를 구성합니다.
+     *
+     * @param dataFile userData 형식의 파일 경로
+     * @param journalFile 사용자 저널 파일 경로
+     * @param legacyUsersFile 기존 회원가입 파일(users.txt) 경로
+     * @param writer 파일 쓰기에 사용할 Writer
+     * @param compactionThreshold 데이터 파일 재작성을 시작할 저널 레코드 수
+     */
+    UserRepositoryImpl(Path dataFile, Path journalFile, Path legacyUsersFile, PersistenceWriter writer,
+                       int compactionThreshold) {
+        this.dataFile = dataFile;
+        this.journalFile = journalFile;
+        this.legacyUsersFile = legacyUsersFile;
+        this.writer = writer;
+        this.compactionThreshold = compactionThreshold;
+        loadDataFromFile();
+        replayJournal();
+        importLegacyUsers();
     }
 
     @Override
-    public User findById(String id) {
+    public synchronized User findById(String id) {
         if (id == null) {
             return null;
         }
         return store.get(id);
     }
 
+    @Override
+    public synchronized List<User> findAll() {
+        return new ArrayList<>(store.values());
+    }
+
     @Override
     public void save(User user) {
-        if (user == null || user.getId() == null) {
+        if (isValid(user)) {
+            persist(user);
+        }
+    }
+
+    @Override
+    public synchronized CompletableFuture<Boolean> saveNewAsync(User user) {
+        if (!isValid(user) || store.containsKey(user.getId())) {
+            return CompletableFuture.completedFuture(false);
+        }
+        return persist(user).handle((ignored, error) -> {
+            if (error != null) {
+                System.err.println("Error persisting user " + user.getId() + ": " + error.getMessage());
+                return false;
+            }
+            return true;
+        });
+    }
+
+    /**
+     * 진행 중인 compaction(데이터 파일 교체 + 저널 정리)이 있으면 끝날 때까지 대기합니다.
+     */
+    void awaitCompaction() {
+        CompletableFuture<Void> pending;
+        synchronized (this) {
+            pending = compaction;
+        }
+        pending.join();
+    }
+
+    // ========== Private Helper Methods ==========
+
+    /**
+     * 메모리 인덱스를 갱신하고 저널에 한 줄 추가를 요청합니다.
+     * 추가가 실패하면 인덱스를 되돌린 뒤 반환한 Future가 실패로 완료됩니다.
+     */
+    private synchronized CompletableFuture<Void> persist(User user) {
+        String line = userToLine(user);
+        String id = SymbolTable.getInstance().canonical(user.getId());
+        User previous = store.put(id, user);
+        journalRecords.add(line);
+        CompletableFuture<Void> durable = writer.append(journalFile, line);
+        if (journalRecords.size() >= compactionThreshold && !compacting) {
+            compact();
+        }
+        return durable.whenComplete((ignored, error) -> {
+            if (error != null) {
+                rollback(id, user, previous, line);
+            }
+        });
+    }
+
+    /**
+     * 기록에 실패한 저장을 메모리에서 되돌립니다.
+     * 그 사이 같은 ID가 다시 저장되었으면 나중 저장을 유지합니다.
+     * 진행 중이거나 끝난 compaction이 되돌린 사용자를 데이터 파일에 썼을 수 있으면 데이터 파일을 다시 씁니다.
+     */
+    private synchronized void rollback(String id, User user, User previous, String line) {
+        if (store.get(id) == user) {
+            if (previous != null) {
+                store.put(id, previous);
+            } else {
+                store.remove(id);
+            }
+        }
+        boolean removed = false;
+        for (int i = journalRecords.size() - 1; i >= 0 && !removed; i--) {
+            if (journalRecords.get(i) == line) {
+                journalRecords.remove(i);
+                removed = true;
+            }
+        }
+        System.err.println("Rolled back unsaved user " + id);
+        if (compacting || !removed) {
+            dataFileStale = true;
+            if (!compacting) {
+                compact();
+            }
+        }
+    }
+
+    /**
+     * 현재 인덱스로 userData.txt 교체를 요청하고, 완료되면 그 시점까지의 저널 줄을 제거합니다.
+     * 같은 파일에 대한 요청은 순서대로 반영되므로, 교체 이후 추가된 줄은 저널에 남습니다.
+     * 반영된 줄은 같은 객체로 찾아 제거합니다 (그 사이 되돌린 줄이 빠져도 이후 줄을 지우지 않음).
+     */
+    private void compact() {
+        compacting = true;
+        dataFileStale = false;
+        List<String> lines = new ArrayList<>(store.size() + 1);
+        lines.add(HEADER);
+        store.values().forEach(user -> lines.add(userToLine(user)));
+        Set<String> compactedRecords = Collections.newSetFromMap(new IdentityHashMap<>());
+        compactedRecords.addAll(journalRecords);
+
+        compaction = writer.replace(dataFile, lines).handleAsync((ignored, error) -> {
+            synchronized (this) {
+                compacting = false;
+                if (error != null) {
+                    System.err.println("Error compacting user data: " + error.getMessage());
+                    return CompletableFuture.<Void>completedFuture(null);
+                }
+                journalRecords.removeIf(compactedRecords::contains);
+                List<String> remaining = new ArrayList<>(journalRecords.size() + 1);
+                remaining.add(HEADER);
+                remaining.addAll(journalRecords);
+                CompletableFuture<Void> rewrite = writer.replace(journalFile, remaining);
+                if (dataFileStale) {
+                    compact();
+                    return rewrite.thenCombine(compaction, (first, second) -> (Void) null);
+                }
+                return rewrite;
+            }
+        }).thenCompose(rewrite -> rewrite);
+    }
+
+    /**
+     * 데이터 파일(`DATA_FILE_PATH`)로부터 사용자 정보를 로드합니다.
+     */
+    private void loadDataFromFile() {
+        try {
+            DataTable table = DataSnapshot.loadTable(dataFile);
+            applyRows(table);
+            System.out.println("User data loaded: " + store.size() + " users");
+        } catch (IOException e) {
+            System.err.println("Error reading data file: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * 저널을 재생하여 데이터 파일 이후의 변경을 반영합니다.
+     * 비정상 종료로 마지막 줄이 개행 없이 잘려 있으면 그 줄은 버리고 저널을 정리합니다.
+     */
+    private void replayJournal() {
+        Path journal = journalFile;
+        try {
+            if (Files.notExists(journal)) {
+                writer.replace(journal, List.of(HEADER)).join();
+                return;
+            }
+            String content = Files.readString(journal, StandardCharsets.UTF_8);
+            int complete = content.lastIndexOf('\n') + 1;
+            DataTable table = DataTable.parse(content.substring(0, complete));
+            applyRows(table);
+            for (int row = 0; row < table.rowCount(); row++) {
+                journalRecords.add(table.rowText(row));
+            }
+            if (complete < content.length()) {
+                System.err.println("Discarding torn user journal record");
+                List<String> lines = new ArrayList<>(journalRecords.size() + 1);
+                lines.add(HEADER);
+                lines.addAll(journalRecords);
+                writer.replace(journal, lines).join();
+            }
+            System.out.println("User journal replayed: " + table.rowCount() + " records");
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Error replaying user journal: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * 기존 회원가입 파일(users.txt)의 사용자 중 아직 없는 사용자를 저장합니다.
+     * 한 번 가져온 사용자는 저널에 남으므로 다음 시작부터는 다시 가져오지 않습니다.
+     */
+    private void importLegacyUsers() {
+        Path legacy = legacyUsersFile;
+        if (Files.notExists(legacy)) {
             return;
         }
-        store.put(user.getId(), user);
+        try {
+            String content = Files.readString(legacy, StandardCharsets.UTF_8);
+            FieldCursor cursor = new FieldCursor();
+            FieldCursor.forEachLine(content, (text, start, end) -> {
+                cursor.reset(text, start, end);
+                if (cursor.isBlankLine() || !cursor.nextField()) {
+                    return;
+                }
+                List<String> parts = new ArrayList<>(4);
+                while (cursor.nextItem()) {
+                    parts.add(cursor.text());
+                }
+                if (parts.size() >= 4 && !store.containsKey(parts.get(0))) {
+                    save(new User(parts.get(0), parts.get(1), parts.get(2), 0, parts.get(3)));
+                }
+            });
+        } catch (IOException e) {
+            System.err.println("Error importing legacy users: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 표의 각 행을 사용자로 변환하여 인덱스에 넣습니다 (같은 ID는 나중 행이 우선).
+     */
+    private void applyRows(DataTable table) {
+        FieldCursor cursor = new FieldCursor();
+        for (int row = 0; row < table.rowCount(); row++) {
+            User user = parseRowToUser(table, row, cursor);
+            if (user != null) {
+                store.put(user.getId(), user);
+            }
+        }
+    }
+
+    /**
+     * 데이터 파일의 한 행을 `User` 객체로 변환합니다.
+     *
+     * @param table 데이터 파일 표 (행: "id/password/name/birth/gradeLabel/lectureIds/paymentIds")
+     * @return 파싱에 성공하면 `User` 객체, 데이터 형식 오류 시 `null`
+     */
+    private User parseRowToUser(DataTable table, int row, FieldCursor cursor) {
+        if (table.fieldCount(row) < FIELD_COUNT) {
+            System.err.println("Invalid data format: " + table.rowText(row));
+            return null;
+        }
+        SymbolTable symbols = SymbolTable.getInstance();
+        return new User(
+                symbols.canonical(table.field(row, 0)),
+                table.field(row, 1),
+                table.field(row, 2),
+                User.parseGradeLabel(table.field(row, 4)),
+                table.field(row, 3),
+                parseList(cursor, table.field(row, 5)),
+                parseList(cursor, table.field(row, 6)));
+    }
+
+    private List<String> parseList(FieldCursor cursor, String field) {
+        List<String> items = new ArrayList<>();
+        cursor.reset(field).nextField();
+        while (cursor.nextItem()) {
+            items.add(cursor.symbol());
+        }
+        return items;
+    }
+
+    /**
+     * `User` 객체를 데이터 파일 형식의 한 줄로 변환합니다.
+     */
+    private String userToLine(User user) {
+        return String.join(FIELD_DELIMITER,
+                user.getId(),
+                user.getPassword(),
+                user.getName(),
+                user.getBirth() != null ? user.getBirth() : "",
+                user.getGradeLabel(),
+                String.join(LIST_DELIMITER, user.getEnrolledLectureIds()),
+                String.join(LIST_DELIMITER, user.getPaymentIds()));
+    }
+
+    /**
+     * 필드 구분자나 개행이 들어간 값은 파일 형식을 깨뜨리므로 저장하지 않습니다.
+     */
+    private static boolean isValid(User user) {
+        if (user == null || user.getId() == null || user.getId().isBlank()) {
+            return false;
+        }
+        for (String value : new String[]{user.getId(), user.getPassword(), user.getName(), user.getBirth()}) {
+            if (value != null && (value.contains(FIELD_DELIMITER) || value.contains(LIST_DELIMITER)
+                    || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0)) {
+                return false;
+            }
+        }
+        return user.getPassword() != null && user.getName() != null;
     }
 }
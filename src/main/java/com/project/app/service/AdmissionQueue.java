@@ -0,0 +1,183 @@
+package com.project.app.service;
+
+import com.project.app.dto.EnrollLectureRequest;
+import com.project.app.dto.EnrollLectureResponse;
+import com.project.app.dto.EnrollLectureResponse.ErrorType;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 신청 대기열 (Admission Queue)
+ *
+ * 특징:
+ * - 강의별로 크기가 제한된 FIFO 대기열을 두고, 들어온 순서대로 단조 증가하는 번호표(AdmissionTicket) 발급
+ * - 대기열이 가득 차면 즉시 QUEUE_FULL 결과를 돌려주어 호출자가 무한히 기다리지 않음
+ * - 백그라운드 스레드 하나가 일정 주기(tickMillis)마다 강의별로 최대 permitsPerTick개씩 꺼내
+ *   신청 처리기(LectureService.enrollLectureAsync → 좌석 엔진)에 전달 → 처리량이 일정하게 제한됨
+ * - 처리기는 CompletableFuture를 반환하며, 처리 스레드는 결과를 기다리지 않음
+ *   (같은 멱등 키의 요청이 다른 스레드에서 처리 중이면 그 결과가 나올 때 번호표가 완료됨)
+ * - 처리 스레드가 하나이므로 같은 강의의 신청은 항상 번호 순서대로 처리 (과부하 시에도 결정적인 순서)
+ * - 강의 간에는 매 주기 돌아가며 처리하여 한 강의가 처리량을 독점하지 않음
+ *
+ * 호출자는 재시도하지 않고 번호표의 대기 순서/결과를 조회(polling)합니다.
+ */
+public class AdmissionQueue {
+
+    // ========== 기본 설정 ==========
+
+    /** 강의별 최대 대기 인원 */
+    public static final int DEFAULT_CAPACITY_PER_LECTURE = 10_000;
+
+    /** 한 주기에 강의별로 처리하는 최대 요청 수 */
+    public static final int DEFAULT_PERMITS_PER_TICK = 50;
+
+    /** 처리 주기 (ms) */
+    public static final long DEFAULT_TICK_MILLIS = 20;
+
+    private final Function<EnrollLectureRequest, CompletableFuture<EnrollLectureResponse>> processor;
+    private final int capacityPerLecture;
+    private final int permitsPerTick;
+    private final Map<String, Line> lines = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService drainer;
+
+    /**
+     * 기본 설정으로 대기열을 생성합니다.
+     *
+     * @param processor 대기열에서 꺼낸 신청을 처리할 함수 (결과 future를 반환)
+     */
+    public AdmissionQueue(Function<EnrollLectureRequest, CompletableFuture<EnrollLectureResponse>> processor) {
+        this(processor, DEFAULT_CAPACITY_PER_LECTURE, DEFAULT_PERMITS_PER_TICK, DEFAULT_TICK_MILLIS);
+    }
+
+    public AdmissionQueue(Function<EnrollLectureRequest, CompletableFuture<EnrollLectureResponse>> processor,
+                          int capacityPerLecture, int permitsPerTick, long tickMillis) {
+        this.processor = processor;
+        this.capacityPerLecture = capacityPerLecture;
+        this.permitsPerTick = permitsPerTick;
+        this.drainer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "admission-drainer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        drainer.scheduleWithFixedDelay(this::drain, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 신청 요청을 대기열에 넣고 번호표를 발급합니다.
+     *
+     * @param request 신청 요청
+     * @return 번호표 (대기열이 가득 찼으면 QUEUE_FULL 결과로 이미 완료된 번호표)
+     */
+    public AdmissionTicket submit(EnrollLectureRequest request) {
+        if (request == null || request.getLectureId() == null) {
+            AdmissionTicket ticket = new AdmissionTicket(null, AdmissionTicket.REJECTED_NUMBER, request);
+            ticket.complete(EnrollLectureResponse.failure(ErrorType.SYSTEM_ERROR, "신청 정보가 올바르지 않습니다."));
+            return ticket;
+        }
+        Line line = lines.computeIfAbsent(request.getLectureId(), key -> new Line());
+        AdmissionTicket ticket = line.enqueue(request, capacityPerLecture);
+        if (ticket == null) {
+            ticket = new AdmissionTicket(null, AdmissionTicket.REJECTED_NUMBER, request);
+            ticket.complete(EnrollLectureResponse.failure(ErrorType.QUEUE_FULL,
+                    "신청자가 많아 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요."));
+        }
+        return ticket;
+    }
+
+    /**
+     * 강의의 현재 대기 인원
+     */
+    public int getWaitingCount(String lectureId) {
+        Line line = lines.get(lectureId);
+        return line != null ? line.size() : 0;
+    }
+
+    /**
+     * 처리 스레드를 종료합니다. 대기 중인 번호표는 SYSTEM_ERROR로 완료됩니다.
+     */
+    public void shutdown() {
+        drainer.shutdownNow();
+        for (Line line : lines.values()) {
+            for (AdmissionTicket ticket : line.take(Integer.MAX_VALUE)) {
+                ticket.complete(EnrollLectureResponse.failure(ErrorType.SYSTEM_ERROR, "신청 처리가 중단되었습니다."));
+            }
+        }
+    }
+
+    // ========== Private Helper Methods ==========
+
+    /**
+     * 한 주기 처리: 강의마다 최대 permitsPerTick개의 신청을 번호 순서대로 처리기에 넘깁니다.
+     * 결과는 처리기가 돌려준 future가 완료될 때 번호표에 전달합니다.
+     */
+    private void drain() {
+        for (Line line : lines.values()) {
+            for (AdmissionTicket ticket : line.take(permitsPerTick)) {
+                CompletableFuture<EnrollLectureResponse> result;
+                try {
+                    result = processor.apply(ticket.getRequest());
+                } catch (RuntimeException e) {
+                    result = CompletableFuture.failedFuture(e);
+                }
+                line.markServed(ticket.getNumber());
+                result.whenComplete((response, error) -> {
+                    if (error != null) {
+                        System.err.println("Error processing admission ticket " + ticket.getNumber() + ": " + error.getMessage());
+                        error.printStackTrace();
+                        response = EnrollLectureResponse.failure(ErrorType.SYSTEM_ERROR, "신청 처리 중 오류가 발생했습니다.");
+                    }
+                    ticket.complete(response);
+                });
+            }
+        }
+    }
+
+    /**
+     * 강의 하나의 대기열
+     * 번호 발급과 대기열 추가를 같은 락 안에서 수행하므로 대기열 안의 번호는 항상 오름차순입니다.
+     */
+    static final class Line {
+        private final ArrayDeque<AdmissionTicket> waiting = new ArrayDeque<>();
+        private long nextNumber = 1;
+        private volatile long lastServed;
+
+        synchronized AdmissionTicket enqueue(EnrollLectureRequest request, int capacity) {
+            if (waiting.size() >= capacity) {
+                return null;
+            }
+            AdmissionTicket ticket = new AdmissionTicket(this, nextNumber++, request);
+            waiting.addLast(ticket);
+            return ticket;
+        }
+
+        synchronized List<AdmissionTicket> take(int max) {
+            int count = Math.min(max, waiting.size());
+            List<AdmissionTicket> taken = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                taken.add(waiting.pollFirst());
+            }
+            return taken;
+        }
+
+        synchronized int size() {
+            return waiting.size();
+        }
+
+        long lastServed() {
+            return lastServed;
+        }
+
+        void markServed(long number) {
+            lastServed = number;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.project.app.service;
+
+import com.project.app.dto.EnrollLectureRequest;
+import com.project.app.dto.EnrollLectureResponse;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 신청 대기열 번호표
+ *
+ * 특징:
+ * - AdmissionQueue가 강의별로 1부터 단조 증가하는 번호를 부여
+ * - 호출자는 재시도 대신 getPosition()/isDone()을 주기적으로 확인(polling)하거나 future()로 결과를 기다림
+ * - 대기열이 가득 차서 받지 못한 요청은 번호 없이(REJECTED_NUMBER) 즉시 완료된 번호표를 받음
+ */
+public class AdmissionTicket {
+
+    /** 대기열에 들어가지 못한 번호표의 번호 */
+    public static final long REJECTED_NUMBER = -1;
+
+    private final AdmissionQueue.Line line;
+    private final long number;
+    private final EnrollLectureRequest request;
+    private final CompletableFuture<EnrollLectureResponse> result = new CompletableFuture<>();
+
+    AdmissionTicket(AdmissionQueue.Line line, long number, EnrollLectureRequest request) {
+        this.line = line;
+        this.number = number;
+        this.request = request;
+    }
+
+    public String getLectureId() {
+        return request.getLectureId();
+    }
+
+    /**
+     * 번호표 번호 (강의별 단조 증가, 대기열에 못 들어갔으면 REJECTED_NUMBER)
+     */
+    public long getNumber() {
+        return number;
+    }
+
+    /**
+     * 현재 대기 순서
+     *
+     * @return 1이면 다음 차례, 처리가 끝났으면 0
+     */
+    public long getPosition() {
+        if (isDone() || line == null) {
+            return 0;
+        }
+        return Math.max(1, number - line.lastServed());
+    }
+
+    public boolean isDone() {
+        return result.isDone();
+    }
+
+    /**
+     * 신청 결과 (아직 처리되지 않았으면 null)
+     */
+    public EnrollLectureResponse getResult() {
+        return result.getNow(null);
+    }
+
+    /**
+     * 처리가 끝나면 완료되는 Future
+     */
+    public CompletableFuture<EnrollLectureResponse> future() {
+        return result;
+    }
+
+    EnrollLectureRequest getRequest() {
+        return request;
+    }
+
+    void complete(EnrollLectureResponse response) {
+        result.complete(response);
+    }
+}
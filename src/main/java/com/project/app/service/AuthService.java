@@ -1,5 +1,51 @@
 package com.project.app.service;
 
+/**
+ * 로그인 상태(현재 사용자)를 보관하는 서비스 클래스
+ *
+ * 기능:
+ * - 로그인 성공 시 LoginController가 사용자 ID를 등록, 로그아웃 시 해제
+ * - 강의 신청 등 사용자 ID가 필요한 Controller가 현재 사용자를 조회
+ *
+ * 비밀번호 확인은 SignInService가 담당하고, 이 클래스는 결과만 보관합니다.
+ */
 public class AuthService {
-    
+
+    private static AuthService instance;
+
+    /**
+     * 싱글톤 인스턴스를 반환하는 메서드
+     */
+    public static synchronized AuthService getInstance() {
+        if (instance == null) {
+            instance = new AuthService();
+        }
+        return instance;
+    }
+
+    private volatile String currentUserId;
+
+    /**
+     * 로그인한 사용자를 등록합니다.
+     */
+    public void signIn(String userId) {
+        this.currentUserId = userId;
+    }
+
+    public void signOut() {
+        this.currentUserId = null;
+    }
+
+    /**
+     * 현재 로그인한 사용자 ID
+     *
+     * @return 사용자 ID, 로그인하지 않았으면 null
+     */
+    public String getCurrentUserId() {
+        return currentUserId;
+    }
+
+    public boolean isSignedIn() {
+        return currentUserId != null;
+    }
 }
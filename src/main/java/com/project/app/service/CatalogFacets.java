@@ -0,0 +1,96 @@
+package com.project.app.service;
+
+import com.project.app.dto.FacetCountResponse;
+import com.project.app.dto.SearchFacet;
+import com.project.app.util.FacetIndex;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 카탈로그(강의 또는 강사 목록) 하나의 패싯 색인
+ *
+ * 특징:
+ * - SearchFacet을 FacetIndex의 패싯 번호로 연결 (카탈로그가 지원하는 패싯만 등록)
+ * - 지원하지 않는 패싯의 선택 조건은 무시 (예: 강사 목록의 요일)
+ * - 행 번호는 카탈로그 순서 (강의/강사 목록에서의 위치)
+ *
+ * 모든 행을 add한 뒤에는 읽기 전용으로 사용합니다.
+ */
+class CatalogFacets {
+
+    private final FacetIndex index;
+    private final SearchFacet[] facets;  // 패싯 번호 -> SearchFacet
+
+    CatalogFacets(int rowCount, SearchFacet... facets) {
+        this.index = new FacetIndex(rowCount, facets.length);
+        this.facets = facets.clone();
+    }
+
+    /**
+     * 값을 미리 등록합니다 (해당 행이 없어도 0개로 표시, 등록 순서가 표시 순서).
+     */
+    void declare(SearchFacet facet, String value) {
+        int number = numberOf(facet);
+        if (number >= 0) {
+            index.declare(number, value);
+        }
+    }
+
+    void add(SearchFacet facet, String value, int row) {
+        int number = numberOf(facet);
+        if (number >= 0) {
+            index.add(number, value, row);
+        }
+    }
+
+    /**
+     * 선택 조건으로 한 번에 개수를 셉니다.
+     *
+     * @param selected 패싯 -> 선택한 값들 (null이면 조건 없음)
+     */
+    FacetIndex.Counts count(Map<SearchFacet, ? extends Collection<String>> selected) {
+        return count(selected, null);
+    }
+
+    /**
+     * 행 필터(예: 가격 범위 비트셋)를 함께 적용하여 개수를 셉니다.
+     *
+     * @param selected 패싯 -> 선택한 값들 (null이면 조건 없음)
+     * @param rowFilter 포함할 행의 비트셋 (null이면 모든 행)
+     */
+    FacetIndex.Counts count(Map<SearchFacet, ? extends Collection<String>> selected, long[] rowFilter) {
+        List<Collection<String>> byNumber = new ArrayList<>(facets.length);
+        for (SearchFacet facet : facets) {
+            byNumber.add(selected != null ? selected.get(facet) : null);
+        }
+        return index.count(byNumber, rowFilter);
+    }
+
+    FacetCountResponse toResponse(FacetIndex.Counts counts) {
+        Map<SearchFacet, Map<String, Integer>> result = new EnumMap<>(SearchFacet.class);
+        for (int f = 0; f < facets.length; f++) {
+            Map<String, Integer> facetCounts = new LinkedHashMap<>();
+            for (int v = 0; v < counts.valueCount(f); v++) {
+                facetCounts.put(counts.value(f, v), counts.count(f, v));
+            }
+            result.put(facets[f], facetCounts);
+        }
+        return new FacetCountResponse(counts.matchCount(), result);
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private int numberOf(SearchFacet facet) {
+        for (int f = 0; f < facets.length; f++) {
+            if (facets[f] == facet) {
+                return f;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,183 @@
+package com.project.app.service;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 베이즈 보정 + 시간 감쇠 평점 점수 계산기
+ *
+ * 점수 = (C * m + Σ wᵢ·rᵢ) / (C + Σ wᵢ),  wᵢ = 0.5^(경과 시간 / 반감기)
+ *   - m: 전체 리뷰의 평균 별점 (사전 평균), C: 사전 가중치 (리뷰 C개만큼의 무게)
+ *   - 리뷰가 적으면 m 쪽으로 당겨지므로 5점 리뷰 2개짜리가 리뷰 많은 강사보다 앞서지 않음
+ *   - 오래된 리뷰일수록 가중치가 줄어듦
+ *
+ * 특징:
+ * - 대상마다 (가중 합, 가중치 합, 기준 시각, 리뷰 수)만 보관 (리뷰 수와 관계없이 O(1) 상태)
+ * - 리뷰가 들어오면 기존 합을 새 기준 시각까지 감쇠시킨 뒤 더함 (O(1))
+ * - 같은 공식을 리뷰 배열 전체에 한 번에 적용하는 batchScores와 결과가 같음 (부동소수 오차 범위)
+ * - 리뷰가 없는 대상은 점수 0 (순위 맨 뒤)
+ *
+ * 동기화하지 않으므로 ReviewService의 락 안에서만 사용합니다.
+ */
+final class DecayedRatingEngine {
+
+    /** 리뷰 가중치가 절반이 되는 기간 */
+    static final long HALF_LIFE_MILLIS = 90L * 24 * 60 * 60 * 1000;
+
+    /** 사전 가중치 C (리뷰 몇 개만큼 사전 평균을 믿을지) */
+    static final double PRIOR_WEIGHT = 5.0;
+
+    private static final double DECAY_RATE = Math.log(2) / HALF_LIFE_MILLIS; // ms당 감쇠율
+
+    private static final class State {
+        double weightedSum;  // Σ wᵢ·rᵢ (기준 시각 기준)
+        double weight;       // Σ wᵢ (기준 시각 기준)
+        long time;           // 기준 시각 (ms)
+        int count;           // 리뷰 수
+    }
+
+    private final Map<String, State> states = new HashMap<>();
+    private long ratingSum;   // 사전 평균용 전체 별점 합계
+    private int ratingCount;  // 사전 평균용 전체 리뷰 수
+
+    /**
+     * 리뷰 하나를 반영합니다.
+     *
+     * @param time 리뷰 작성 시각 (ms)
+     */
+    void add(String id, int rating, long time) {
+        State state = states.computeIfAbsent(id, key -> new State());
+        contribute(state, rating, 1, time);
+        state.count++;
+        ratingSum += rating;
+        ratingCount++;
+    }
+
+    /**
+     * 반영했던 리뷰 하나를 뺍니다 (삭제, 또는 수정 전 별점).
+     *
+     * @param time 리뷰 작성 시각 (add 때와 같은 값)
+     */
+    void remove(String id, int rating, long time) {
+        State state = states.get(id);
+        if (state == null) {
+            return;
+        }
+        contribute(state, rating, -1, time);
+        state.count--;
+        ratingSum -= rating;
+        ratingCount--;
+        if (state.count == 0) {
+            states.remove(id);
+        }
+    }
+
+    /**
+     * 사전 평균 m (리뷰가 없으면 0)
+     */
+    double priorMean() {
+        return ratingCount > 0 ? (double) ratingSum / ratingCount : 0.0;
+    }
+
+    /**
+     * now 시각의 점수
+     */
+    double score(String id, long now) {
+        State state = states.get(id);
+        if (state == null) {
+            return 0.0;
+        }
+        double decay = Math.exp(-DECAY_RATE * (now - state.time));
+        return smoothed(priorMean(), state.weightedSum * decay, state.weight * decay);
+    }
+
+    /**
+     * 배치 계산 결과로 상태를 다시 맞춥니다 (뺄셈이 누적된 부동소수 오차 제거).
+     *
+     * @param priorSum 전체 별점 합계
+     * @param priorCount 전체 리뷰 수
+     */
+    void reset(String[] ids, double[] weightedSums, double[] weights, int[] counts, long now,
+               long priorSum, int priorCount) {
+        states.clear();
+        ratingSum = priorSum;
+        ratingCount = priorCount;
+        for (int i = 0; i < ids.length; i++) {
+            if (counts[i] == 0) {
+                continue;
+            }
+            State state = new State();
+            state.weightedSum = weightedSums[i];
+            state.weight = weights[i];
+            state.time = now;
+            state.count = counts[i];
+            states.put(ids[i], state);
+        }
+    }
+
+    // ========== 배치 계산 ==========
+
+    /**
+     * 리뷰 배열 전체로 대상별 가중 합/가중치 합/리뷰 수를 한 번에 계산합니다.
+     * 가중치는 연속된 double 배열에 먼저 계산하고(원소별 독립 연산), 그다음 대상별로 모읍니다.
+     *
+     * @param targets [리뷰] -> 대상 번호
+     * @param ratings [리뷰] -> 별점
+     * @param times [리뷰] -> 작성 시각 (ms)
+     * @param weightedSums [대상] -> Σ wᵢ·rᵢ (출력)
+     * @param weights [대상] -> Σ wᵢ (출력)
+     * @param counts [대상] -> 리뷰 수 (출력)
+     * @param now 기준 시각 (ms)
+     */
+    static void batchAccumulate(int[] targets, int[] ratings, long[] times, int size,
+                                double[] weightedSums, double[] weights, int[] counts, long now) {
+        double[] w = new double[size];
+        for (int i = 0; i < size; i++) {
+            w[i] = Math.exp(-DECAY_RATE * (now - times[i]));
+        }
+        for (int i = 0; i < size; i++) {
+            int target = targets[i];
+            weightedSums[target] += w[i] * ratings[i];
+            weights[target] += w[i];
+            counts[target]++;
+        }
+    }
+
+    /**
+     * 배치 결과로 대상별 점수를 계산합니다 (리뷰가 없는 대상은 0).
+     */
+    static double[] batchScores(double[] weightedSums, double[] weights, int[] counts, double priorMean) {
+        double[] scores = new double[counts.length];
+        for (int i = 0; i < counts.length; i++) {
+            scores[i] = counts[i] > 0 ? smoothed(priorMean, weightedSums[i], weights[i]) : 0.0;
+        }
+        return scores;
+    }
+
+    // ========== Private Helper Methods ==========
+
+    /**
+     * 기존 합을 두 시각 중 늦은 쪽으로 맞춘 뒤 sign * (w·r, w)를 더합니다.
+     */
+    private static void contribute(State state, int rating, int sign, long time) {
+        if (state.count == 0 && sign > 0) {
+            state.time = time;
+        }
+        double weight;
+        if (time >= state.time) {
+            double decay = Math.exp(-DECAY_RATE * (time - state.time));
+            state.weightedSum *= decay;
+            state.weight *= decay;
+            state.time = time;
+            weight = 1.0;
+        } else {
+            weight = Math.exp(-DECAY_RATE * (state.time - time));
+        }
+        state.weightedSum += sign * weight * rating;
+        state.weight += sign * weight;
+    }
+
+    private static double smoothed(double priorMean, double weightedSum, double weight) {
+        return (PRIOR_WEIGHT * priorMean + weightedSum) / (PRIOR_WEIGHT + Math.max(0.0, weight));
+    }
+}
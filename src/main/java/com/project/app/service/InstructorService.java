@@ -0,0 +1,293 @@
+package com.project.app.service;
+
+import com.project.app.dto.FacetCountResponse;
+import com.project.app.dto.InstructorCardView;
+import com.project.app.dto.InstructorListResponse;
+import com.project.app.dto.InstructorSearchRequest;
+import com.project.app.dto.SearchFacet;
+import com.project.app.model.Instructor;
+import com.project.app.repository.InstructorRepository;
+import com.project.app.repository.InstructorRepositoryImpl;
+import com.project.app.util.PageCursor;
+import com.project.app.util.SortedPermutation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 강사 목록 조회를 처리하는 서비스 클래스
+ *
+ * 기능:
+ * - 평점순/이름순으로 미리 정렬한 순열(SortedPermutation)에서 페이지 단위로 강사 카드 제공
+ * - 커서(정렬 값 + 강사 ID) 기반 페이지: 다음 페이지 시작 위치를 이진 탐색으로 찾으므로
+ *   몇 번째 페이지든 O(log n + 페이지 크기)
+ * - 검색 조건(키워드/과목/학원)이 있으면 InstructorRepository의 색인으로 대상 강사를 구해 정렬 순서대로 모아 두고
+ *   (조건별 정렬 순열, 최근 MAX_CACHED_FILTERS개 보관), 페이지는 그 배열에서 바로 읽음 → 조건이 있어도 O(log m + 페이지 크기)
+ *   평점순 배열은 순위 점수가 바뀌면 버리고 다음 조회 때 다시 만듦
+ * - 평점순(순위 점수순)은 ReviewService가 계산한 보정 점수를 사용하고, 점수가 바뀐 강사만 옮김
+ *   (카드에는 평균 평점을 표시: updateInstructorRating / 정렬에는 순위 점수 사용: updateInstructorRankScore)
+ * - 과목/학원 필터 칩의 강사 수를 패싯 비트셋으로 한 번에 계산 (getInstructorFacetCounts)
+ * - 순위 점수 상위 강사("베스트 강사")는 전체/과목별 순위표에서 앞쪽 K명만 읽음 (getTopInstructors)
+ */
+public class InstructorService {
+
+    public static final String SORT_BY_REVIEW_SCORE = "reviewScore";
+    public static final String SORT_BY_NAME = "name";
+
+    /** 보관할 검색 조건별 정렬 순열 수 (정렬 순서마다) */
+    static final int MAX_CACHED_FILTERS = 64;
+
+    private static InstructorService instance;
+
+    /**
+     * 싱글톤 인스턴스를 반환하는 메서드 (화면의 Controller, ReviewService에서 사용)
+     *
+     * @return 기본 Repository로 생성된 InstructorService
+     */
+    public static synchronized InstructorService getInstance() {
+        if (instance == null) {
+            instance = new InstructorService(new InstructorRepositoryImpl());
+        }
+        return instance;
+    }
+
+    private final InstructorRepository instructorRepository;
+    private final Instructor[] instructors;
+    private final Map<String, Integer> indexById;
+    private final int[] idRanks;       // 강사 ID 오름차순 순위 (값이 같을 때 순서 결정)
+    private final double[] ratings;    // 평균 평점 (카드 표시용, 리뷰가 없으면 0)
+    private final double[] rankScores; // 순위 점수 (평점순 정렬/순위표용, 리뷰가 없으면 0)
+    private final SortedPermutation byRating;
+    private final SortedPermutation byName;
+    private final CatalogFacets facets;  // 행 번호 = instructors의 위치
+    private final SubjectRankings rankings = new SubjectRankings();  // 순위 점수 순위표 (전체 + 과목별)
+
+    /** 검색 조건 -> 조건에 맞는 강사 번호를 정렬 순서대로 나열한 배열 (가장 오래 쓰지 않은 조건부터 제거) */
+    private final Map<String, int[]> filteredByRating = newFilterCache();
+    private final Map<String, int[]> filteredByName = newFilterCache();
+
+    public InstructorService(InstructorRepository instructorRepository) {
+        this.instructorRepository = instructorRepository;
+        this.instructors = instructorRepository.findAll().toArray(new Instructor[0]);
+        int size = instructors.length;
+        this.indexById = new HashMap<>(size * 2);
+        this.idRanks = new int[size];
+        this.ratings = new double[size];
+        this.rankScores = new double[size];
+
+        Integer[] byId = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            indexById.put(instructors[i].getId(), i);
+            byId[i] = i;
+        }
+        Arrays.sort(byId, Comparator.comparing(i -> instructors[i].getId()));
+        for (int rank = 0; rank < size; rank++) {
+            idRanks[byId[rank]] = rank;
+        }
+        this.byRating = new SortedPermutation(size,
+                (a, b) -> compareRating(rankScores[a], idRanks[a], rankScores[b], idRanks[b]));
+        this.byName = new SortedPermutation(size,
+                (a, b) -> compareName(instructors[a].getName(), idRanks[a], instructors[b].getName(), idRanks[b]));
+
+        this.facets = new CatalogFacets(size, SearchFacet.SUBJECT, SearchFacet.ACADEMY);
+        for (int i = 0; i < size; i++) {
+            facets.add(SearchFacet.SUBJECT, instructors[i].getSubject(), i);
+            facets.add(SearchFacet.ACADEMY, instructors[i].getAcademyId(), i);
+            rankings.update(instructors[i].getId(), instructors[i].getSubject(), rankScores[i]);
+        }
+    }
+
+    /**
+     * 강사 목록의 한 페이지를 조회합니다.
+     *
+     * @param request 검색 조건과 정렬 순서 ("reviewScore" 또는 "name")
+     * @param cursor 이전 페이지 응답의 nextCursor (null이면 첫 페이지)
+     * @param limit 최대 개수
+     * @return 강사 카드 목록, 조건에 맞는 전체 수, 다음 페이지 커서
+     * @throws IllegalArgumentException 잘못된 커서이거나 다른 정렬 순서의 커서인 경우
+     */
+    public synchronized InstructorListResponse getInstructorPage(InstructorSearchRequest request, String cursor, int limit) {
+        InstructorSearchRequest search = request != null ? request : new InstructorSearchRequest();
+        boolean byNameOrder = SORT_BY_NAME.equals(search.getSortOrder());
+        SortedPermutation permutation = byNameOrder ? byName : byRating;
+        String scope = "instructor:" + (byNameOrder ? SORT_BY_NAME : SORT_BY_REVIEW_SCORE);
+
+        int[] filtered = search.isEmpty() ? null : filteredOrder(search, byNameOrder);
+        int size = filtered != null ? filtered.length : permutation.size();
+
+        int start = 0;
+        if (cursor != null) {
+            PageCursor position = PageCursor.decode(cursor, scope);
+            Integer cursorIndex = indexById.get(position.getId());
+            if (cursorIndex == null) {
+                throw new IllegalArgumentException("커서의 강사를 찾을 수 없습니다: " + position.getId());
+            }
+            int cursorIdRank = idRanks[cursorIndex];
+            SortedPermutation.Probe probe;
+            if (byNameOrder) {
+                String cursorName = position.getKey();
+                probe = i -> compareName(instructors[i].getName(), idRanks[i], cursorName, cursorIdRank);
+            } else {
+                double cursorRating = parseRating(position.getKey());
+                probe = i -> compareRating(rankScores[i], idRanks[i], cursorRating, cursorIdRank);
+            }
+            start = filtered != null ? firstPositionAfter(filtered, probe) : permutation.firstRankAfter(probe);
+        }
+
+        int end = (int) Math.min(size, (long) start + Math.max(0, limit));
+        List<InstructorCardView> cards = new ArrayList<>(Math.max(0, end - start));
+        for (int position = start; position < end; position++) {
+            cards.add(toCardView(filtered != null ? filtered[position] : permutation.at(position)));
+        }
+        String nextCursor = null;
+        if (end < size && end > start) {
+            int last = filtered != null ? filtered[end - 1] : permutation.at(end - 1);
+            String key = byNameOrder ? instructors[last].getName() : Double.toString(rankScores[last]);
+            nextCursor = new PageCursor(scope, key, instructors[last].getId()).encode();
+        }
+        return new InstructorListResponse(cards, size, nextCursor);
+    }
+
+    /**
+     * 필터 칩에 표시할 과목/학원별 강사 수를 한 번에 계산합니다 (예: "수학 (9)").
+     * 강사 목록은 대상 학년/요일 패싯을 지원하지 않으므로 해당 조건은 무시합니다.
+     *
+     * @param selected 패싯 -> 선택한 값들 (null이거나 비어 있으면 조건 없음)
+     */
+    public FacetCountResponse getInstructorFacetCounts(Map<SearchFacet, ? extends Collection<String>> selected) {
+        return facets.toResponse(facets.count(selected));
+    }
+
+    /**
+     * 순위 점수 상위 강사 ("베스트 강사", 순위표 앞에서 limit명만 읽음)
+     *
+     * @param subject 과목 (null이면 전체)
+     * @param limit 최대 인원
+     */
+    public synchronized List<InstructorCardView> getTopInstructors(String subject, int limit) {
+        List<String> ids = rankings.top(subject, limit);
+        List<InstructorCardView> cards = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            cards.add(toCardView(indexById.get(id)));
+        }
+        return cards;
+    }
+
+    /**
+     * 카드에 표시할 강사의 평균 평점을 갱신합니다.
+     */
+    public synchronized void updateInstructorRating(String instructorId, double averageRating) {
+        Integer index = indexById.get(instructorId);
+        if (index != null) {
+            ratings[index] = averageRating;
+        }
+    }
+
+    /**
+     * 강사의 순위 점수를 갱신합니다 (평점순 순서와 순위표에서 그 강사만 옮김).
+     */
+    public synchronized void updateInstructorRankScore(String instructorId, double score) {
+        Integer index = indexById.get(instructorId);
+        if (index == null || rankScores[index] == score) {
+            return;
+        }
+        rankScores[index] = score;
+        byRating.reposition(index);
+        filteredByRating.clear();  // 평점 순서가 바뀌었으므로 조건별 평점순 배열은 다시 만듦
+        rankings.update(instructorId, instructors[index].getSubject(), score);
+    }
+
+    // ========== Private Helper Methods ==========
+
+    /**
+     * 검색 조건에 맞는 강사 번호를 정렬 순서대로 나열한 배열 (보관된 것이 없으면 만들어서 보관)
+     * 대상 강사의 순위를 모아 정렬하므로 O(m log m), m = 조건에 맞는 강사 수
+     */
+    private int[] filteredOrder(InstructorSearchRequest search, boolean byNameOrder) {
+        Map<String, int[]> cache = byNameOrder ? filteredByName : filteredByRating;
+        String key = search.getKeyword() + "\u0000" + search.getSubject() + "\u0000" + search.getAcademyId();
+        int[] filtered = cache.get(key);
+        if (filtered == null) {
+            SortedPermutation permutation = byNameOrder ? byName : byRating;
+            List<Instructor> matching = instructorRepository.findByConditions(
+                    search.getKeyword(), search.getSubject(), search.getAcademyId());
+            int[] ranks = new int[matching.size()];
+            int count = 0;
+            for (Instructor instructor : matching) {
+                Integer index = indexById.get(instructor.getId());
+                if (index != null) {
+                    ranks[count++] = permutation.rankOf(index);
+                }
+            }
+            Arrays.sort(ranks, 0, count);
+            filtered = new int[count];
+            for (int i = 0; i < count; i++) {
+                filtered[i] = permutation.at(ranks[i]);
+            }
+            cache.put(key, filtered);
+        }
+        return filtered;
+    }
+
+    /**
+     * 정렬된 번호 배열에서 커서 바로 다음 위치를 찾습니다 (SortedPermutation.firstRankAfter와 같은 이진 탐색).
+     */
+    private static int firstPositionAfter(int[] sorted, SortedPermutation.Probe probe) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (probe.compareWith(sorted[mid]) > 0) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    private static Map<String, int[]> newFilterCache() {
+        return new LinkedHashMap<String, int[]>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, int[]> eldest) {
+                return size() > MAX_CACHED_FILTERS;
+            }
+        };
+    }
+
+    private InstructorCardView toCardView(int index) {
+        Instructor instructor = instructors[index];
+        return new InstructorCardView(instructor.getId(), instructor.getName(), instructor.getIntroduction(),
+                instructor.getProfileImagePath(), ratings[index], instructor.getSubject());
+    }
+
+    /**
+     * 평점 내림차순, 같으면 ID 오름차순
+     */
+    private static int compareRating(double ratingA, int idRankA, double ratingB, int idRankB) {
+        int result = Double.compare(ratingB, ratingA);
+        return result != 0 ? result : Integer.compare(idRankA, idRankB);
+    }
+
+    /**
+     * 이름 오름차순(가나다순), 같으면 ID 오름차순
+     */
+    private static int compareName(String nameA, int idRankA, String nameB, int idRankB) {
+        int result = nameA.compareTo(nameB);
+        return result != 0 ? result : Integer.compare(idRankA, idRankB);
+    }
+
+    private static double parseRating(String key) {
+        try {
+            return Double.parseDouble(key);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+}
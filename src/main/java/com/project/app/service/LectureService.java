@@ -0,0 +1,968 @@
+package com.project.app.service;
+
+import com.project.app.dto.EnrollLectureRequest;
+import com.project.app.dto.EnrollLectureResponse;
+import com.project.app.dto.EnrollLectureResponse.ErrorType;
+import com.project.app.dto.FacetCountResponse;
+import com.project.app.dto.LectureCardView;
+import com.project.app.dto.LectureDetailResponse;
+import com.project.app.dto.LectureListResponse;
+import com.project.app.dto.LectureSortOrder;
+import com.project.app.dto.SearchFacet;
+import com.project.app.model.Enrollment;
+import com.project.app.model.Enrollment.Status;
+import com.project.app.model.Lecture;
+import com.project.app.model.Payment;
+import com.project.app.model.User;
+import com.project.app.model.WeeklyTimeMask;
+import com.project.app.repository.EnrollmentRepository;
+import com.project.app.repository.EnrollmentRepositoryImpl;
+import com.project.app.repository.LectureRepository;
+import com.project.app.repository.LectureRepositoryImpl;
+import com.project.app.repository.PaymentRepositoryImpl;
+import com.project.app.repository.UserRepository;
+import com.project.app.repository.UserRepositoryImpl;
+import com.project.app.util.DedupCache;
+import com.project.app.util.IntRangeIndex;
+import com.project.app.util.PageCursor;
+import com.project.app.util.SortedIntArrays;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
+
+/**
+ * 강의 관련 비즈니스 로직을 처리하는 서비스 클래스
+ *
+ * 기능:
+ * - 강의 신청 / 수강 취소
+ * - 좌석 수 관리는 SeatReservationEngine(CAS 기반, 전역 락 없음)에 위임
+ * - 같은 사용자의 같은 강의 중복 신청 방지 (동시 요청 포함)
+ * - 신청이 몰리는 경우 submitEnrollment로 대기열(AdmissionQueue)을 거쳐 번호 순서대로 일정 속도로 처리
+ * - 정원이 찬 강의는 대기 신청(joinWaitlist) 가능, 취소/결제 실패로 자리가 나면 맨 앞 대기자를 O(1)로 승격
+ *   (승격 시 대기 신청 때 고른 교재/결제 수단으로 결제를 만들고 알림을 남김, 결제에 실패하면 다음 대기자에게 넘김)
+ * - 신청/대기/취소/승격은 모두 EnrollmentRepository(MyLectureData.txt)에 같은 방식으로 기록
+ * - 신청 성공 시 PaymentService로 결제 생성 (응답에 결제 ID 포함)
+ * - 사용자별 시간표를 WeeklyTimeMask(long 3개)로 관리: 신청/대기 시 시간 겹침을 AND 한 번으로 거절,
+ *   "내 빈 시간에 들을 수 있는 강의"는 LectureTimeIndex의 비트 연산으로 전체 강의를 필터링
+ * - 강의 목록 정렬(최신순/인기순/평점순/가격순)은 LectureSortIndex에 미리 계산된 순열로 제공,
+ *   좌석 수/평점이 바뀐 강의만 순서를 고치므로 페이지 조회는 O(페이지 크기)
+ * - 정렬/패싯/가격 색인은 전체 강의 디코딩이 필요하므로 처음 사용할 때(강의 목록 화면) 한 번 생성
+ *   (시작 시에는 findAll()을 호출하지 않음, 홈 화면의 인기 강의/상세 화면은 필요한 강의만 디코딩)
+ * - 멱등 키가 있는 요청은 처음 처리한 응답을 DedupCache에 보관했다가, 같은 키로 다시 오면
+ *   검증/좌석 예약/파일 기록 없이 그 응답을 그대로 반환 (더블 클릭, 재시도 대비)
+ *
+ * 시작 시 userData.txt의 신청 강의 목록에 MyLectureData.txt의 상태 기록을 덮어써서
+ * 좌석 수와 대기 순서를 복원합니다 (이후 주기적으로 신청 테이블 전체를 훑는 작업은 없음).
+ */
+public class LectureService {
+
+    private static LectureService instance;
+
+    /**
+     * 싱글톤 인스턴스를 반환하는 메서드 (화면의 Controller에서 사용)
+     *
+     * @return 기본 Repository로 생성된 LectureService
+     */
+    public static synchronized LectureService getInstance() {
+        if (instance == null) {
+            instance = new LectureService(new LectureRepositoryImpl(), UserRepositoryImpl.getInstance());
+        }
+        return instance;
+    }
+
+    private final LectureRepository lectureRepository;
+    private final UserRepository userRepository;
+    private final SeatReservationEngine seatEngine;
+    private final AdmissionQueue admissionQueue;
+    private final EnrollmentRepository enrollmentRepository;
+    private final PaymentService paymentService;
+
+    /** 멱등 키 보관 시간/개수는 결제와 동일하게 사용 */
+    private final DedupCache<String, CompletableFuture<EnrollLectureResponse>> processedRequests =
+            new DedupCache<>(PaymentService.IDEMPOTENCY_TTL_MILLIS, PaymentService.IDEMPOTENCY_TICK_MILLIS,
+                    PaymentService.IDEMPOTENCY_MAX_KEYS);
+
+    /** 대상 학년 칩 표시 순서 (데이터에 없는 값은 뒤에 붙음) */
+    private static final String[] GRADE_LABELS = {"고1", "고2", "고3", "N수", "전체"};
+
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    /** 강의 카드 썸네일 리소스 폴더 (강사별 교재 표지: "<강사명>교재<순번>.png", 한 권뿐이면 "<강사명>교재.png") */
+    private static final String THUMBNAIL_DIRECTORY = "lectureThumbnail/";
+
+    /** 대기 신청 요청이 남아 있지 않은 대기자(저장된 데이터에서 복원)를 승격할 때 쓰는 결제 수단 */
+    private static final String DEFAULT_PAYMENT_METHOD = "카드";
+
+    /** 신청/대기 중인 (사용자, 강의) 쌍의 상태 (취소되면 제거). 키: "userId/lectureId" */
+    private final Map<String, Status> enrollments = new ConcurrentHashMap<>();
+
+    /** 강의 ID -> 대기자 명단. 대기 추가/취소와 좌석 반환/승격은 이 명단 객체를 락으로 잡고 수행 */
+    private final Map<String, LectureWaitlist> waitlists = new ConcurrentHashMap<>();
+
+    /** (사용자, 강의) 키 -> 대기 신청 요청 (승격 시 결제에 쓸 교재 구매 여부/결제 수단) */
+    private final Map<String, EnrollLectureRequest> waitlistRequests = new ConcurrentHashMap<>();
+
+    /** 사용자 ID -> 아직 확인하지 않은 알림 (대기 승격 등) */
+    private final Map<String, Queue<String>> notices = new ConcurrentHashMap<>();
+
+    /** 사용자 ID -> 신청/대기 중인 강의 시간표 (불변 객체, CAS로 교체) */
+    private final Map<String, Timetable> timetables = new ConcurrentHashMap<>();
+
+    /** 정렬/패싯/가격 색인 (처음 사용할 때 생성, 생성과 공개는 catalogLock 안에서 수행) */
+    private volatile Catalog catalog;
+    private final Object catalogLock = new Object();
+
+    /** 강의 ID -> 평균 평점 (리뷰가 없는 강의는 없음, 색인 생성 전에 받은 평점도 보관) */
+    private final Map<String, Double> ratings = new ConcurrentHashMap<>();
+
+    /** 강사 이름 -> (강의 ID -> 카드 썸네일 리소스 경로), 강사별로 처음 카드를 만들 때 계산 */
+    private final Map<String, Map<String, String>> thumbnailPaths = new ConcurrentHashMap<>();
+
+    /** 수강생 수 순위표 (전체 + 과목별, 좌석이 바뀔 때마다 갱신, 수강생이 생긴 강의부터 들어감) */
+    private final SubjectRankings popularity = new SubjectRankings();
+
+    /** 전체 강의 시간표 색인 (처음 사용할 때 생성) */
+    private volatile LectureTimeIndex timeIndex;
+
+    public LectureService(LectureRepository lectureRepository, UserRepository userRepository) {
+        this(lectureRepository, userRepository, new EnrollmentRepositoryImpl(),
+                new PaymentService(new PaymentRepositoryImpl()));
+    }
+
+    public LectureService(LectureRepository lectureRepository, UserRepository userRepository,
+                          EnrollmentRepository enrollmentRepository, PaymentService paymentService) {
+        this.lectureRepository = lectureRepository;
+        this.userRepository = userRepository;
+        this.enrollmentRepository = enrollmentRepository;
+        this.paymentService = paymentService;
+        this.seatEngine = new SeatReservationEngine(lectureRepository, this::onEnrollmentChanged);
+        this.admissionQueue = new AdmissionQueue(this::enrollLectureAsync);
+        restoreEnrollments();
+    }
+
+    // ========== 수강 신청/취소 ==========
+
+    /**
+     * 강의 신청을 대기열에 넣고 번호표를 반환합니다 (신청 오픈 직후 등 요청이 몰릴 때 사용).
+     * 호출자는 번호표의 대기 순서를 조회하며 결과를 기다리고, 실패 시 다시 요청하지 않습니다.
+     *
+     * @param request 신청 요청
+     * @return 번호표 (결과는 AdmissionTicket.future() 또는 getResult()로 확인)
+     */
+    public AdmissionTicket submitEnrollment(EnrollLectureRequest request) {
+        return admissionQueue.submit(request);
+    }
+
+    /**
+     * 강의 신청
+     *
+     * 순서:
+     *  1. 강의/사용자 확인, 대상 학년 확인
+     *  2. (사용자, 강의) 쌍을 먼저 등록하여 동시 중복 신청 차단
+     *  3. 시간표 CAS 등록 (시간이 겹치면 거절), 좌석 CAS 예약, 실패하면 앞의 등록을 되돌림
+     *  4. 신청 기록, 결제 생성 (결제 중 오류가 나면 handlePaymentFailure와 같이 좌석을 반환하고 실패 응답)
+     *
+     * 같은 멱등 키로 다시 요청하면 위 과정을 거치지 않고 처음 응답을 반환합니다.
+     *
+     * @param request 신청 요청
+     * @return 신청 결과
+     */
+    public EnrollLectureResponse enrollLecture(EnrollLectureRequest request) {
+        return deduplicate(request, this::processEnrollment).join();
+    }
+
+    /**
+     * 강의 신청 (결과를 기다리지 않는 버전, 신청 대기열의 처리 스레드에서 사용)
+     * 같은 멱등 키의 요청이 처리 중이면 그 요청의 결과 future를 그대로 반환합니다.
+     */
+    CompletableFuture<EnrollLectureResponse> enrollLectureAsync(EnrollLectureRequest request) {
+        return deduplicate(request, this::processEnrollment);
+    }
+
+    private EnrollLectureResponse processEnrollment(EnrollLectureRequest request) {
+        // 1. 검증
+        if (request == null || request.getLectureId() == null || request.getUserId() == null) {
+            return EnrollLectureResponse.failure(ErrorType.SYSTEM_ERROR, "신청 정보가 올바르지 않습니다.");
+        }
+        Lecture lecture = lectureRepository.findById(request.getLectureId());
+        if (lecture == null) {
+            return EnrollLectureResponse.failure(ErrorType.SYSTEM_ERROR, "강의를 찾을 수 없습니다.");
+        }
+        User user = userRepository.findById(request.getUserId());
+        if (user == null) {
+            return EnrollLectureResponse.failure(ErrorType.SYSTEM_ERROR, "사용자 정보를 찾을 수 없습니다.");
+        }
+        if (user.getGrade() > 0 && !lecture.isTargetGrade(user.getGradeLabel())) {
+            return EnrollLectureResponse.failure(ErrorType.GRADE_MISMATCH,
+                    "수강 대상 학년이 아닙니다. (대상: " + String.join(", ", lecture.getTargetGrades()) + ")");
+        }
+
+        // 2. 처리
+        String key = enrollmentKey(user.getId(), lecture.getId());
+        if (enrollments.putIfAbsent(key, Status.ENROLLED) != null) {
+            return EnrollLectureResponse.failure(ErrorType.ALREADY_ENROLLED, "이미 신청(대기)한 강의입니다.");
+        }
+        if (!tryOccupyTime(user.getId(), lecture)) {
+            enrollments.remove(key, Status.ENROLLED);
+            return EnrollLectureResponse.failure(ErrorType.TIME_CONFLICT, "수업 시간이 겹치는 강의가 있습니다.");
+        }
+        if (!seatEngine.tryReserve(lecture.getId())) {
+            vacateTime(user.getId(), lecture.getId());
+            enrollments.remove(key, Status.ENROLLED);
+            return EnrollLectureResponse.failure(ErrorType.LECTURE_FULL, "정원이 마감되었습니다. 대기 신청을 할 수 있습니다.");
+        }
+        record(user.getId(), lecture.getId(), Status.ENROLLED);
+        Payment payment = charge(request.getIdempotencyKey(), user, lecture,
+                request.isPurchaseTextbook(), request.getPaymentMethod());
+        if (payment == null) {
+            handlePaymentFailure(user.getId(), lecture.getId());
+            return EnrollLectureResponse.failure(ErrorType.SYSTEM_ERROR, "결제 처리 중 오류가 발생하여 신청이 취소되었습니다.");
+        }
+
+        // 3. 반환
+        return EnrollLectureResponse.success(lecture.getName() + " 신청이 완료되었습니다.", payment.getId());
+    }
+
+    /**
+     * 대기 신청
+     * 자리가 남아 있으면 바로 신청 처리(결제 포함)하고, 정원이 찼으면 대기자 명단 끝에 추가합니다.
+     * 대기 중에도 수업 시간을 시간표에 잡아 두므로, 승격될 때 시간이 겹치는 일은 없습니다.
+     * 승격될 때는 이 요청의 교재 구매 여부/결제 수단으로 결제합니다.
+     *
+     * @param request 신청 요청
+     * @return 신청 결과 (대기 등록 시에도 success, 메시지에 대기 순서 포함)
+     */
+    public EnrollLectureResponse joinWaitlist(EnrollLectureRequest request) {
+        return deduplicate(request, this::processWaitlist).join();
+    }
+
+    private EnrollLectureResponse processWaitlist(EnrollLectureRequest request) {
+        if (request == null || request.getLectureId() == null || request.getUserId() == null) {
+            return EnrollLectureResponse.failure(ErrorType.SYSTEM_ERROR, "신청 정보가 올바르지 않습니다.");
+        }
+        Lecture lecture = lectureRepository.findById(request.getLectureId());
+        if (lecture == null) {
+            return EnrollLectureResponse.failure(ErrorType.SYSTEM_ERROR, "강의를 찾을 수 없습니다.");
+        }
+        User user = userRepository.findById(request.getUserId());
+        if (user == null) {
+            return EnrollLectureResponse.failure(ErrorType.SYSTEM_ERROR, "사용자 정보를 찾을 수 없습니다.");
+        }
+        if (user.getGrade() > 0 && !lecture.isTargetGrade(user.getGradeLabel())) {
+            return EnrollLectureResponse.failure(ErrorType.GRADE_MISMATCH,
+                    "수강 대상 학년이 아닙니다. (대상: " + String.join(", ", lecture.getTargetGrades()) + ")");
+        }
+
+        String key = enrollmentKey(user.getId(), lecture.getId());
+        LectureWaitlist waitlist = waitlistOf(lecture.getId());
+        synchronized (waitlist) {
+            if (enrollments.putIfAbsent(key, Status.WAITLISTED) != null) {
+                return EnrollLectureResponse.failure(ErrorType.ALREADY_ENROLLED, "이미 신청(대기)한 강의입니다.");
+            }
+            if (!tryOccupyTime(user.getId(), lecture)) {
+                enrollments.remove(key, Status.WAITLISTED);
+                return EnrollLectureResponse.failure(ErrorType.TIME_CONFLICT, "수업 시간이 겹치는 강의가 있습니다.");
+            }
+            // 앞선 대기자가 없고 자리가 있으면 바로 신청
+            if (waitlist.isEmpty() && seatEngine.tryReserve(lecture.getId())) {
+                enrollments.put(key, Status.ENROLLED);
+                record(user.getId(), lecture.getId(), Status.ENROLLED);
+                Payment payment = charge(request.getIdempotencyKey(), user, lecture,
+                        request.isPurchaseTextbook(), request.getPaymentMethod());
+                if (payment == null) {
+                    handlePaymentFailure(user.getId(), lecture.getId());
+                    return EnrollLectureResponse.failure(ErrorType.SYSTEM_ERROR, "결제 처리 중 오류가 발생하여 신청이 취소되었습니다.");
+                }
+                return EnrollLectureResponse.success(lecture.getName() + " 신청이 완료되었습니다.", payment.getId());
+            }
+            int position = waitlist.add(user.getId());
+            waitlistRequests.put(key, request);
+            record(user.getId(), lecture.getId(), Status.WAITLISTED);
+            return EnrollLectureResponse.success(lecture.getName() + " 대기 신청이 완료되었습니다. (대기 " + position + "번)", null);
+        }
+    }
+
+    /**
+     * 수강(또는 대기) 취소
+     * 신청 상태였다면 맨 앞 대기자에게 좌석을 그대로 넘기고(승격), 대기자가 없을 때만 좌석을 반환합니다.
+     *
+     * @return 취소했으면 true, 신청/대기 내역이 없으면 false
+     */
+    public boolean cancelEnrollment(String userId, String lectureId) {
+        if (userId == null || lectureId == null) {
+            return false;
+        }
+        LectureWaitlist waitlist = waitlistOf(lectureId);
+        synchronized (waitlist) {
+            String key = enrollmentKey(userId, lectureId);
+            Status previous = enrollments.remove(key);
+            if (previous == null) {
+                return false;
+            }
+            vacateTime(userId, lectureId);
+            if (previous == Status.WAITLISTED) {
+                waitlist.remove(userId);
+                waitlistRequests.remove(key);
+            } else {
+                handOverSeat(lectureId, waitlist);
+            }
+            record(userId, lectureId, Status.CANCELLED);
+        }
+        return true;
+    }
+
+    /**
+     * 결제 실패 처리: 확보했던 좌석(또는 대기)을 취소하고, 좌석은 맨 앞 대기자에게 넘깁니다.
+     *
+     * @return 처리했으면 true, 신청 내역이 없으면 false
+     */
+    public boolean handlePaymentFailure(String userId, String lectureId) {
+        return cancelEnrollment(userId, lectureId);
+    }
+
+    public boolean isEnrolled(String userId, String lectureId) {
+        return userId != null && lectureId != null
+                && enrollments.get(enrollmentKey(userId, lectureId)) == Status.ENROLLED;
+    }
+
+    // ========== 목록 조회 ==========
+
+    /**
+     * 강의 상세 정보 (상세 화면 표시용)
+     *
+     * @param lectureId 강의 ID
+     * @param userId 현재 사용자 ID (로그인하지 않았으면 null)
+     * @return 상세 정보, 없는 강의면 null
+     */
+    public LectureDetailResponse getLectureDetail(String lectureId, String userId) {
+        Lecture lecture = lectureId != null ? lectureRepository.findById(lectureId) : null;
+        if (lecture == null) {
+            return null;
+        }
+        // 대기 중인 신청은 수강 확정이 아니므로 대기 순서로 따로 알려줌
+        boolean enrolled = isEnrolled(userId, lectureId);
+        int waitlistPosition = getWaitlistPosition(userId, lectureId);
+        return new LectureDetailResponse(lecture.getId(), lecture.getName(), lecture.getSubject(),
+                lecture.getAcademyId(), lecture.getInstructorName(), lecture.getTextbookName(),
+                lecture.getTextbookPrice(), lecture.getPrice(), lecture.getCapacity(),
+                lecture.getCurrentEnrollment(), lecture.getDayOfWeek(), timeLabel(lecture),
+                lecture.getDescription(), ratingOf(lecture.getId()), enrolled, waitlistPosition,
+                !enrolled && waitlistPosition == 0 && lecture.getRemainingSeats() > 0);
+    }
+
+    /**
+     * 정렬된 강의 목록의 한 페이지를 반환합니다 (O(페이지 크기)).
+     *
+     * @param order 정렬 순서
+     * @param offset 시작 위치 (0부터)
+     * @param limit 최대 개수
+     */
+    public LectureListResponse getLecturePage(LectureSortOrder order, int offset, int limit) {
+        LectureSortIndex sortIndex = catalog().sortIndex;
+        List<Lecture> page = sortIndex.page(order != null ? order : LectureSortOrder.LATEST, offset, limit);
+        List<LectureCardView> cards = new ArrayList<>(page.size());
+        for (Lecture lecture : page) {
+            cards.add(toCardView(lecture));
+        }
+        return new LectureListResponse(cards, sortIndex.size());
+    }
+
+    /**
+     * 커서 다음부터 정렬된 강의 목록의 한 페이지를 반환합니다.
+     * 앞쪽 강의의 순서가 바뀌어도(예: 인기순에서 수강생 수 변경) 이어 읽는 위치가 밀리지 않습니다.
+     *
+     * @param order 정렬 순서
+     * @param cursor 이전 페이지 응답의 nextCursor (null이면 첫 페이지)
+     * @param limit 최대 개수
+     * @throws IllegalArgumentException 잘못된 커서이거나 다른 정렬 순서의 커서인 경우
+     */
+    public LectureListResponse getLecturePage(LectureSortOrder order, String cursor, int limit) {
+        LectureSortOrder sortOrder = order != null ? order : LectureSortOrder.LATEST;
+        PageCursor position = cursor != null ? PageCursor.decode(cursor, LectureSortIndex.scopeOf(sortOrder)) : null;
+        LectureSortIndex sortIndex = catalog().sortIndex;
+        LectureSortIndex.Page page = sortIndex.pageAfter(sortOrder, position, limit);
+        List<LectureCardView> cards = new ArrayList<>(page.lectures.size());
+        for (Lecture lecture : page.lectures) {
+            cards.add(toCardView(lecture));
+        }
+        return new LectureListResponse(cards, sortIndex.size(), page.next != null ? page.next.encode() : null);
+    }
+
+    /**
+     * 수강생 수 상위 강의 ("인기 강의", 순위표 앞에서 limit개만 읽음, 수강생이 한 번도 없었던 강의는 제외)
+     *
+     * @param subject 과목 (null이면 전체)
+     * @param limit 최대 개수
+     */
+    public List<LectureCardView> getPopularLectures(String subject, int limit) {
+        List<String> ids = popularity.top(subject, limit);
+        List<LectureCardView> cards = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            cards.add(toCardView(lectureRepository.findById(id)));
+        }
+        return cards;
+    }
+
+    /**
+     * 강의의 평균 평점을 갱신합니다 (리뷰 등록 시 호출, 평점순 순서를 그 강의만 옮겨 반영).
+     */
+    public void updateLectureRating(String lectureId, double averageRating) {
+        if (lectureId == null) {
+            return;
+        }
+        ratings.put(lectureId, averageRating);
+        Catalog current = builtCatalog();
+        if (current != null) {
+            // 동시에 바뀐 경우에도 마지막 평점이 남도록 보관한 값을 다시 읽어 반영
+            current.sortIndex.updateRating(lectureId, ratingOf(lectureId));
+        }
+    }
+
+    // ========== 시간표 ==========
+
+    /**
+     * 사용자의 시간표 (신청/대기 중인 강의 시간의 합)
+     */
+    public WeeklyTimeMask getTimetable(String userId) {
+        Timetable timetable = userId != null ? timetables.get(userId) : null;
+        return timetable != null ? timetable.mask : WeeklyTimeMask.EMPTY;
+    }
+
+    /**
+     * 사용자의 시간표와 겹치지 않는 강의 목록 ("내 빈 시간에 들을 수 있는 강의")
+     */
+    public List<Lecture> findLecturesFittingTimetable(String userId) {
+        return timeIndex().findNotOverlapping(getTimetable(userId));
+    }
+
+    /**
+     * 수업 시간이 모두 주어진 시간 안에 들어가는 강의 목록
+     *
+     * @param available 수강 가능한 시간 (예: 사용자가 고른 요일/시간)
+     */
+    public List<Lecture> findLecturesWithin(WeeklyTimeMask available) {
+        return timeIndex().findWithin(available);
+    }
+
+    // ========== 패싯/가격 검색 ==========
+
+    /**
+     * 필터 칩에 표시할 패싯별 강의 수를 한 번에 계산합니다 (예: "수학 (42)").
+     * 같은 패싯 안에서 고른 값은 OR, 다른 패싯끼리는 AND로 적용합니다.
+     *
+     * @param selected 패싯 -> 선택한 값들 (null이거나 비어 있으면 조건 없음)
+     */
+    public FacetCountResponse getLectureFacetCounts(Map<SearchFacet, ? extends Collection<String>> selected) {
+        CatalogFacets facets = catalog().facets;
+        return facets.toResponse(facets.count(selected));
+    }
+
+    /**
+     * 강의 가격 범위를 함께 적용한 패싯별 강의 수 (예: "5만원 이하"를 고른 상태의 칩 개수)
+     *
+     * @param selected 패싯 -> 선택한 값들 (null이거나 비어 있으면 조건 없음)
+     * @param minPrice 최소 강의 가격 (포함)
+     * @param maxPrice 최대 강의 가격 (포함)
+     */
+    public FacetCountResponse getLectureFacetCounts(Map<SearchFacet, ? extends Collection<String>> selected,
+                                                    int minPrice, int maxPrice) {
+        Catalog current = catalog();
+        return current.facets.toResponse(current.facets.count(selected,
+                current.priceIndex.rowBits(minPrice, maxPrice, current.rows.length)));
+    }
+
+    /**
+     * 선택한 패싯 조건에 모두 맞는 강의 목록 (카탈로그 순서)
+     *
+     * @param selected 패싯 -> 선택한 값들 (null이거나 비어 있으면 조건 없음)
+     */
+    public List<Lecture> findLecturesByFacets(Map<SearchFacet, ? extends Collection<String>> selected) {
+        Catalog current = catalog();
+        return current.toLectures(current.facets.count(selected).matchingRows());
+    }
+
+    /**
+     * 선택한 패싯 조건과 강의 가격 범위에 모두 맞는 강의 목록 (카탈로그 순서)
+     *
+     * @param selected 패싯 -> 선택한 값들 (null이거나 비어 있으면 조건 없음)
+     * @param minPrice 최소 강의 가격 (포함)
+     * @param maxPrice 최대 강의 가격 (포함)
+     */
+    public List<Lecture> findLecturesByFacets(Map<SearchFacet, ? extends Collection<String>> selected,
+                                              int minPrice, int maxPrice) {
+        Catalog current = catalog();
+        int[] facetMatches = current.facets.count(selected).matchingRows();
+        int[] priceMatches = current.priceIndex.rowsInOrder(minPrice, maxPrice);
+        return current.toLectures(SortedIntArrays.intersect(facetMatches, facetMatches.length,
+                priceMatches, priceMatches.length));
+    }
+
+    /**
+     * 강의 가격이 [minPrice, maxPrice] 안인 강의 목록 (가격 오름차순, 같으면 카탈로그 순서)
+     * 정렬된 가격 배열에서 이진 탐색으로 구간만 잘라내므로 전체 강의를 훑지 않습니다.
+     */
+    public List<Lecture> findLecturesByPrice(int minPrice, int maxPrice) {
+        Catalog current = catalog();
+        return current.toLectures(current.priceIndex.rowsByValue(minPrice, maxPrice));
+    }
+
+    /**
+     * 강의 가격이 [minPrice, maxPrice] 안인 강의 수
+     */
+    public int countLecturesByPrice(int minPrice, int maxPrice) {
+        return catalog().priceIndex.count(minPrice, maxPrice);
+    }
+
+    /**
+     * 대기 순서 (1부터 시작)
+     *
+     * @return 순서, 대기 중이 아니면 0
+     */
+    public int getWaitlistPosition(String userId, String lectureId) {
+        if (userId == null || lectureId == null) {
+            return 0;
+        }
+        LectureWaitlist waitlist = waitlists.get(lectureId);
+        if (waitlist == null) {
+            return 0;
+        }
+        synchronized (waitlist) {
+            return waitlist.positionOf(userId);
+        }
+    }
+
+    /**
+     * 아직 확인하지 않은 알림을 꺼냅니다 (대기 승격 결과 등, 꺼낸 알림은 지워짐).
+     *
+     * @return 알림 목록 (오래된 것부터), 없으면 빈 목록
+     */
+    public List<String> pollNotices(String userId) {
+        Queue<String> queue = userId != null ? notices.remove(userId) : null;
+        return queue != null ? new ArrayList<>(queue) : new ArrayList<>();
+    }
+
+    /**
+     * 대기자 수
+     */
+    public int getWaitlistSize(String lectureId) {
+        LectureWaitlist waitlist = lectureId != null ? waitlists.get(lectureId) : null;
+        if (waitlist == null) {
+            return 0;
+        }
+        synchronized (waitlist) {
+            return waitlist.size();
+        }
+    }
+
+    /**
+     * 남은 좌석 수 (없는 강의면 -1)
+     */
+    public int getRemainingSeats(String lectureId) {
+        return seatEngine.getRemainingSeats(lectureId);
+    }
+
+    // ========== Private Helper Methods ==========
+
+    /**
+     * 멱등 키가 있으면 같은 키의 첫 요청만 처리하고, 나머지는 그 결과 future를 반환합니다.
+     * 첫 요청이 아직 처리 중이면 미완료 future를 그대로 돌려주므로, 기다릴지는 호출자가 정합니다
+     * (신청 대기열의 처리 스레드는 기다리지 않음). 키는 사용자별로 구분합니다.
+     */
+    private CompletableFuture<EnrollLectureResponse> deduplicate(EnrollLectureRequest request,
+                                                                 Function<EnrollLectureRequest, EnrollLectureResponse> handler) {
+        if (request == null || request.getIdempotencyKey() == null || request.getUserId() == null) {
+            return CompletableFuture.completedFuture(handler.apply(request));
+        }
+        String key = request.getUserId() + "/" + request.getIdempotencyKey();
+        CompletableFuture<EnrollLectureResponse> mine = new CompletableFuture<>();
+        CompletableFuture<EnrollLectureResponse> original = processedRequests.putIfAbsent(key, mine);
+        if (original != null) {
+            return original;  // 처리 중이면 완료될 때 결과가 전달됨 (여기서 기다리지 않음)
+        }
+        try {
+            mine.complete(handler.apply(request));
+            return mine;
+        } catch (RuntimeException e) {
+            processedRequests.remove(key);
+            mine.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 비워진 좌석을 맨 앞 대기자에게 넘깁니다 (O(1), 대기자 명단 락을 잡은 상태에서 호출).
+     * 승격하면 수강생 수는 그대로이고, 대기자가 없을 때만 좌석을 반환합니다.
+     * 승격한 대기자는 결제를 만들고 알림을 남기며, 결제에 실패하면 취소하고 다음 대기자에게 넘깁니다.
+     */
+    private void handOverSeat(String lectureId, LectureWaitlist waitlist) {
+        Lecture lecture = lectureRepository.findById(lectureId);
+        String next;
+        while ((next = waitlist.pollFirst()) != null) {
+            String key = enrollmentKey(next, lectureId);
+            EnrollLectureRequest waiting = waitlistRequests.remove(key);
+            enrollments.put(key, Status.ENROLLED);
+            record(next, lectureId, Status.ENROLLED);
+            User user = userRepository.findById(next);
+            Payment payment = user != null && lecture != null
+                    ? charge(null, user, lecture, waiting != null && waiting.isPurchaseTextbook(),
+                            waiting != null ? waiting.getPaymentMethod() : DEFAULT_PAYMENT_METHOD)
+                    : null;
+            if (payment != null) {
+                addNotice(next, lecture.getName() + " 대기 신청이 수강 신청으로 확정되었습니다. (결제 번호: " + payment.getId() + ")");
+                return;
+            }
+            // 결제하지 못한 대기자는 취소하고 다음 대기자에게 넘김
+            enrollments.remove(key);
+            vacateTime(next, lectureId);
+            record(next, lectureId, Status.CANCELLED);
+            addNotice(next, (lecture != null ? lecture.getName() : lectureId) + " 대기 순서가 되었으나 결제에 실패하여 취소되었습니다.");
+        }
+        seatEngine.release(lectureId);
+    }
+
+    /**
+     * 결제를 생성합니다. 결제 중 오류가 나면 기록만 하고 null을 반환합니다 (신청을 되돌리는 것은 호출자).
+     */
+    private Payment charge(String idempotencyKey, User user, Lecture lecture, boolean purchaseTextbook, String method) {
+        try {
+            return paymentService.createPayment(idempotencyKey, user, lecture, purchaseTextbook, method);
+        } catch (RuntimeException e) {
+            System.err.println("Payment failed, cancelling enrollment: "
+                    + enrollmentKey(user.getId(), lecture.getId()) + " " + e.getMessage());
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    private void addNotice(String userId, String message) {
+        notices.computeIfAbsent(userId, key -> new ConcurrentLinkedQueue<>()).add(message);
+    }
+
+    /**
+     * 상태 변경을 MyLectureData.txt에 기록합니다 (백그라운드 저장, 실패 시 로그만 남김).
+     */
+    private void record(String userId, String lectureId, Status status) {
+        String now = LocalDateTime.now().format(TIMESTAMP_FORMAT);
+        enrollmentRepository.save(new Enrollment(userId, lectureId, now, status))
+                .exceptionally(e -> {
+                    System.err.println("Failed to save enrollment: " + userId + "/" + lectureId + " " + e.getMessage());
+                    return null;
+                });
+    }
+
+    /**
+     * 시간표에 강의 시간을 추가합니다 (CAS, 겹치면 추가하지 않음).
+     *
+     * @return 추가했으면 true, 이미 잡힌 시간과 겹치면 false
+     */
+    private boolean tryOccupyTime(String userId, Lecture lecture) {
+        return occupyTime(userId, lecture, false);
+    }
+
+    /**
+     * @param allowOverlap true면 겹쳐도 추가 (저장된 데이터에 이미 겹치는 신청이 있는 경우)
+     */
+    private boolean occupyTime(String userId, Lecture lecture, boolean allowOverlap) {
+        while (true) {
+            Timetable current = timetables.get(userId);
+            Timetable base = current != null ? current : Timetable.EMPTY;
+            if (!allowOverlap && base.mask.overlaps(lecture.getTimeMask())) {
+                return false;
+            }
+            Timetable next = base.with(lecture.getId(), lecture.getTimeMask());
+            if (current == null ? timetables.putIfAbsent(userId, next) == null : timetables.replace(userId, current, next)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 시간표에서 강의를 뺍니다 (CAS). 남은 강의 시간으로 다시 계산하므로 겹치는 신청이 있어도 다른 강의의 시간은 남습니다.
+     */
+    private void vacateTime(String userId, String lectureId) {
+        while (true) {
+            Timetable current = timetables.get(userId);
+            if (current == null) {
+                return;
+            }
+            Timetable next = current.without(lectureId);
+            if (next == current || timetables.replace(userId, current, next)) {
+                return;
+            }
+        }
+    }
+
+    private LectureCardView toCardView(Lecture lecture) {
+        return new LectureCardView(lecture.getId(), lecture.getName(), lecture.getSubject(),
+                lecture.getInstructorName(), lecture.getAcademyId(), thumbnailOf(lecture),
+                ratingOf(lecture.getId()),
+                lecture.getPrice(), lecture.getDayOfWeek(), timeLabel(lecture), lecture.getRemainingSeats());
+    }
+
+    /**
+     * 수업 시간 표기 (예: "19:00~23:00", 시간이 없으면 빈 문자열)
+     */
+    private static String timeLabel(Lecture lecture) {
+        List<Integer> slots = lecture.getTimeSlots();
+        return slots.isEmpty() ? ""
+                : String.format("%02d:00~%02d:00", slots.get(0), slots.get(slots.size() - 1) + 1);
+    }
+
+    /**
+     * 좌석 수가 바뀐 강의를 정렬 색인과 인기 순위표에 알립니다 (SeatReservationEngine에서 호출).
+     * 순위표에는 호출 시점의 현재 수강생 수를 넣으므로, 알림 순서가 뒤바뀌어도 마지막 알림이 최신 값을 반영합니다.
+     */
+    private void onEnrollmentChanged(String lectureId) {
+        Catalog current = builtCatalog();
+        if (current != null) {
+            current.sortIndex.markEnrollmentChanged(lectureId);
+        }
+        Lecture lecture = lectureRepository.findById(lectureId);
+        if (lecture != null) {
+            popularity.update(lectureId, lecture.getSubject(), lecture.getCurrentEnrollment());
+        }
+    }
+
+    private double ratingOf(String lectureId) {
+        Double rating = ratings.get(lectureId);
+        return rating != null ? rating : 0.0;
+    }
+
+    /**
+     * 강의 카드의 표지 이미지 경로 (없으면 null). 강사별로 처음 요청될 때 그 강사의 강의만 읽어 계산합니다.
+     */
+    private String thumbnailOf(Lecture lecture) {
+        String instructor = lecture.getInstructorName();
+        if (instructor == null) {
+            return null;
+        }
+        return thumbnailPaths.computeIfAbsent(instructor, this::buildThumbnailPaths).get(lecture.getId());
+    }
+
+    /**
+     * 강사의 강의마다 표지 이미지 경로를 찾습니다. 강사의 강의를 데이터 순서대로 세어 n번째 강의에 "교재n" 이미지를 붙이고,
+     * 클래스패스에 없는 이미지는 넣지 않습니다 (카드에는 "썸네일" 문구 표시).
+     */
+    private Map<String, String> buildThumbnailPaths(String instructor) {
+        Map<String, String> paths = new HashMap<>();
+        ClassLoader resources = LectureService.class.getClassLoader();
+        int ordinal = 0;
+        for (Lecture lecture : lectureRepository.findByInstructorName(instructor)) {
+            ordinal++;
+            String numbered = THUMBNAIL_DIRECTORY + instructor + "교재" + ordinal + ".png";
+            String single = THUMBNAIL_DIRECTORY + instructor + "교재.png";
+            if (resources.getResource(numbered) != null) {
+                paths.put(lecture.getId(), numbered);
+            } else if (ordinal == 1 && resources.getResource(single) != null) {
+                paths.put(lecture.getId(), single);
+            }
+        }
+        return paths;
+    }
+
+    private static CatalogFacets buildFacets(Lecture[] rows) {
+        CatalogFacets result = new CatalogFacets(rows.length,
+                SearchFacet.SUBJECT, SearchFacet.ACADEMY, SearchFacet.GRADE, SearchFacet.DAY);
+        for (String grade : GRADE_LABELS) {
+            result.declare(SearchFacet.GRADE, grade);
+        }
+        for (String day : WeeklyTimeMask.DAY_LABELS) {
+            result.declare(SearchFacet.DAY, day);
+        }
+        for (int row = 0; row < rows.length; row++) {
+            Lecture lecture = rows[row];
+            result.add(SearchFacet.SUBJECT, lecture.getSubject(), row);
+            result.add(SearchFacet.ACADEMY, lecture.getAcademyId(), row);
+            for (String grade : lecture.getTargetGrades()) {
+                result.add(SearchFacet.GRADE, grade, row);
+            }
+            result.add(SearchFacet.DAY, lecture.getDayOfWeek(), row);
+        }
+        return result;
+    }
+
+    private static IntRangeIndex buildPriceIndex(Lecture[] rows) {
+        int[] prices = new int[rows.length];
+        for (int row = 0; row < rows.length; row++) {
+            prices[row] = rows[row].getPrice();
+        }
+        return new IntRangeIndex(prices);
+    }
+
+    /**
+     * 정렬/패싯/가격 색인을 반환합니다. 처음 호출될 때 전체 강의를 디코딩하여 생성합니다.
+     */
+    private Catalog catalog() {
+        Catalog current = catalog;
+        if (current == null) {
+            synchronized (catalogLock) {
+                current = catalog;
+                if (current == null) {
+                    current = new Catalog(lectureRepository.findAll());
+                    // 색인 생성 전에 받은 평점 반영 (생성 중에 바뀐 평점은 catalogLock을 기다렸다가 반영됨)
+                    ratings.forEach(current.sortIndex::updateRating);
+                    catalog = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 이미 생성된 색인을 반환합니다 (없으면 null, 새로 만들지 않음).
+     * 생성 중이면 끝날 때까지 기다리므로, 호출자가 반영하는 변경이 생성 시점의 값과 엇갈려 빠지지 않습니다.
+     */
+    private Catalog builtCatalog() {
+        Catalog current = catalog;
+        if (current == null) {
+            synchronized (catalogLock) {
+                current = catalog;
+            }
+        }
+        return current;
+    }
+
+    private LectureTimeIndex timeIndex() {
+        LectureTimeIndex index = timeIndex;
+        if (index == null) {
+            index = new LectureTimeIndex(lectureRepository.findAll());
+            timeIndex = index;
+        }
+        return index;
+    }
+
+    private LectureWaitlist waitlistOf(String lectureId) {
+        return waitlists.computeIfAbsent(lectureId, id -> new LectureWaitlist());
+    }
+
+    /**
+     * 신청 내역, 좌석 수, 대기 순서를 복원합니다.
+     * userData.txt의 신청 강의 목록을 기본값으로 하고, MyLectureData.txt의 마지막 상태를 덮어씁니다.
+     * 대기자는 기록 순서(대기 신청 순서)대로 명단에 다시 넣습니다.
+     */
+    private void restoreEnrollments() {
+        Map<String, Enrollment> states = new LinkedHashMap<>();
+        for (User user : userRepository.findAll()) {
+            for (String lectureId : user.getEnrolledLectureIds()) {
+                states.put(enrollmentKey(user.getId(), lectureId),
+                        new Enrollment(user.getId(), lectureId, null, Status.ENROLLED));
+            }
+        }
+        for (Enrollment enrollment : enrollmentRepository.findAll()) {
+            String key = enrollmentKey(enrollment.getUserId(), enrollment.getLectureId());
+            states.remove(key);
+            states.put(key, enrollment);
+        }
+
+        for (Map.Entry<String, Enrollment> entry : states.entrySet()) {
+            Enrollment enrollment = entry.getValue();
+            String lectureId = enrollment.getLectureId();
+            if (enrollment.getStatus() == Status.ENROLLED) {
+                if (!seatEngine.tryReserve(lectureId)) {
+                    System.err.println("Enrollment exceeds capacity or unknown lecture: " + entry.getKey());
+                    continue;
+                }
+            } else if (enrollment.getStatus() == Status.WAITLISTED) {
+                if (lectureRepository.findById(lectureId) == null) {
+                    System.err.println("Waitlist entry for unknown lecture: " + entry.getKey());
+                    continue;
+                }
+                waitlistOf(lectureId).add(enrollment.getUserId());
+            } else {
+                continue;
+            }
+            enrollments.put(entry.getKey(), enrollment.getStatus());
+            Lecture lecture = lectureRepository.findById(lectureId);
+            if (!tryOccupyTime(enrollment.getUserId(), lecture)) {
+                System.err.println("Enrollment time conflict in saved data: " + entry.getKey());
+                occupyTime(enrollment.getUserId(), lecture, true);
+            }
+        }
+
+        // 비정상 종료 등으로 자리가 비어 있는데 대기자가 남아 있으면 승격 (취소 때와 같이 결제/알림 포함)
+        for (Map.Entry<String, LectureWaitlist> entry : waitlists.entrySet()) {
+            LectureWaitlist waitlist = entry.getValue();
+            synchronized (waitlist) {
+                while (!waitlist.isEmpty() && seatEngine.tryReserve(entry.getKey())) {
+                    handOverSeat(entry.getKey(), waitlist);
+                }
+            }
+        }
+    }
+
+    private static String enrollmentKey(String userId, String lectureId) {
+        return userId + "/" + lectureId;
+    }
+
+    /**
+     * 전체 강의로 만든 정렬/패싯/가격 색인 (행 번호 = rows의 위치, 카탈로그 순서)
+     */
+    private static final class Catalog {
+        final Lecture[] rows;
+        final LectureSortIndex sortIndex;
+        final CatalogFacets facets;
+        final IntRangeIndex priceIndex;
+
+        Catalog(List<Lecture> lectures) {
+            this.rows = lectures.toArray(new Lecture[0]);
+            this.sortIndex = new LectureSortIndex(lectures);
+            this.facets = buildFacets(rows);
+            this.priceIndex = buildPriceIndex(rows);
+        }
+
+        List<Lecture> toLectures(int[] rowNumbers) {
+            List<Lecture> result = new ArrayList<>(rowNumbers.length);
+            for (int row : rowNumbers) {
+                result.add(rows[row]);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * 사용자 한 명의 시간표 (불변, 바뀔 때마다 새 객체로 CAS 교체)
+     * 시간의 합(mask)과 그 시간을 차지한 강의 목록을 한 객체로 교체하므로,
+     * 강의를 뺄 때 신청 테이블 전체를 훑지 않고 이 사용자의 강의만으로 다시 계산하며 동시 추가와 엇갈리지 않습니다.
+     */
+    private static final class Timetable {
+        static final Timetable EMPTY = new Timetable(WeeklyTimeMask.EMPTY, Map.of());
+
+        final WeeklyTimeMask mask;
+        final Map<String, WeeklyTimeMask> lectures;  // 강의 ID -> 수업 시간
+
+        private Timetable(WeeklyTimeMask mask, Map<String, WeeklyTimeMask> lectures) {
+            this.mask = mask;
+            this.lectures = lectures;
+        }
+
+        Timetable with(String lectureId, WeeklyTimeMask time) {
+            Map<String, WeeklyTimeMask> copy = new HashMap<>(lectures);
+            copy.put(lectureId, time);
+            return new Timetable(mask.or(time), copy);
+        }
+
+        Timetable without(String lectureId) {
+            if (!lectures.containsKey(lectureId)) {
+                return this;
+            }
+            Map<String, WeeklyTimeMask> copy = new HashMap<>(lectures);
+            copy.remove(lectureId);
+            WeeklyTimeMask rebuilt = WeeklyTimeMask.EMPTY;
+            for (WeeklyTimeMask time : copy.values()) {
+                rebuilt = rebuilt.or(time);
+            }
+            return new Timetable(rebuilt, copy);
+        }
+    }
+}
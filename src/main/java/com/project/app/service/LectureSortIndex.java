@@ -0,0 +1,242 @@
+package com.project.app.service;
+
+import com.project.app.dto.LectureSortOrder;
+import com.project.app.model.Lecture;
+import com.project.app.util.PageCursor;
+import com.project.app.util.SortedPermutation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * 정렬 순서별로 미리 계산해 둔 강의 순열(permutation) 색인
+ *
+ * 특징:
+ * - 강의마다 카탈로그 번호(0..n-1)를 붙이고, 정렬 순서마다 SortedPermutation(순위 <-> 번호)을 유지
+ * - 최신순/가격순은 값이 바뀌지 않으므로 시작 시 한 번만 정렬
+ * - 인기순/평점순은 값이 바뀐 강의만 제자리에서 앞뒤로 옮김 (삽입 정렬 한 단계, 전체 재정렬 없음)
+ * - 수강생 수 변경은 신청 경로에서 락 없이 "변경됨" 표시만 하고(강의당 한 번),
+ *   목록을 조회할 때 표시된 강의만 모아서 순서에 반영
+ * - 페이지 조회는 순열 배열을 limit개 읽으므로 O(페이지 크기)
+ * - 커서(정렬 값 + ID)로 이어 읽을 때는 이진 탐색으로 시작 위치를 찾음 (O(log n + 페이지 크기))
+ *
+ * 강의는 추가/삭제되지 않으므로 카탈로그 번호는 바뀌지 않습니다.
+ */
+class LectureSortIndex {
+
+    /**
+     * 한 페이지 조회 결과 (강의 목록 + 다음 페이지 커서)
+     */
+    static final class Page {
+        final List<Lecture> lectures;
+        final PageCursor next;  // 마지막 페이지면 null
+
+        Page(List<Lecture> lectures, PageCursor next) {
+            this.lectures = lectures;
+            this.next = next;
+        }
+    }
+
+    private final Lecture[] lectures;
+    private final Map<String, Integer> indexById;
+    private final int[] idRanks;           // 강의 ID 오름차순 순위 (값이 같을 때 순서 결정)
+    private final int[] enrollmentCounts;  // 인기순 배열에 반영된 수강생 수
+    private final double[] ratings;        // 평점순 배열에 반영된 평균 평점
+
+    private final SortedPermutation[] orders;  // [정렬 순서] -> 순열
+
+    private final AtomicIntegerArray enrollmentDirty;  // 1: 수강생 수가 바뀌어 아직 반영 안 됨
+    private final ConcurrentLinkedQueue<Integer> pendingEnrollments = new ConcurrentLinkedQueue<>();
+
+    LectureSortIndex(List<Lecture> catalog) {
+        int size = catalog.size();
+        this.lectures = catalog.toArray(new Lecture[0]);
+        this.indexById = new HashMap<>(size * 2);
+        this.idRanks = new int[size];
+        this.enrollmentCounts = new int[size];
+        this.ratings = new double[size];
+        this.enrollmentDirty = new AtomicIntegerArray(size);
+
+        Integer[] byId = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            indexById.put(lectures[i].getId(), i);
+            enrollmentCounts[i] = lectures[i].getCurrentEnrollment();
+            byId[i] = i;
+        }
+        Arrays.sort(byId, Comparator.comparing(i -> lectures[i].getId()));
+        for (int rank = 0; rank < size; rank++) {
+            idRanks[byId[rank]] = rank;
+        }
+
+        LectureSortOrder[] sortOrders = LectureSortOrder.values();
+        this.orders = new SortedPermutation[sortOrders.length];
+        for (LectureSortOrder order : sortOrders) {
+            orders[order.ordinal()] = new SortedPermutation(size,
+                    (a, b) -> compare(order, sortKey(order, a), idRanks[a], sortKey(order, b), idRanks[b]));
+        }
+    }
+
+    /**
+     * 수강생 수가 바뀐 강의를 표시합니다 (락 없음, 신청/취소 경로에서 호출).
+     * 실제 순서 변경은 다음 조회 때 반영됩니다.
+     */
+    void markEnrollmentChanged(String lectureId) {
+        Integer index = indexById.get(lectureId);
+        if (index != null && enrollmentDirty.compareAndSet(index, 0, 1)) {
+            pendingEnrollments.offer(index);
+        }
+    }
+
+    /**
+     * 강의의 평균 평점을 바꾸고 평점순 배열에서 위치를 옮깁니다.
+     */
+    synchronized void updateRating(String lectureId, double rating) {
+        Integer index = indexById.get(lectureId);
+        if (index == null || ratings[index] == rating) {
+            return;
+        }
+        ratings[index] = rating;
+        orders[LectureSortOrder.RATING.ordinal()].reposition(index);
+    }
+
+    /**
+     * 평점순 배열에 반영된 평균 평점 (평점이 없으면 0)
+     */
+    synchronized double ratingOf(String lectureId) {
+        Integer index = indexById.get(lectureId);
+        return index != null ? ratings[index] : 0.0;
+    }
+
+    /**
+     * 정렬된 목록의 한 페이지를 반환합니다.
+     *
+     * @param order 정렬 순서
+     * @param offset 시작 순위 (0부터)
+     * @param limit 최대 개수
+     */
+    synchronized List<Lecture> page(LectureSortOrder order, int offset, int limit) {
+        applyPendingEnrollments();
+        return slice(order, Math.max(0, offset), limit).lectures;
+    }
+
+    /**
+     * 커서 바로 다음부터 한 페이지를 반환합니다.
+     *
+     * @param order 정렬 순서
+     * @param cursor 이전 페이지의 마지막 위치 (null이면 처음부터)
+     * @param limit 최대 개수
+     * @throws IllegalArgumentException 다른 정렬 순서의 커서이거나 없는 강의를 가리키는 경우
+     */
+    synchronized Page pageAfter(LectureSortOrder order, PageCursor cursor, int limit) {
+        applyPendingEnrollments();
+        if (cursor == null) {
+            return slice(order, 0, limit);
+        }
+        if (!scopeOf(order).equals(cursor.getScope())) {
+            throw new IllegalArgumentException("다른 정렬 순서의 커서입니다: " + cursor.getScope());
+        }
+        Integer cursorIndex = indexById.get(cursor.getId());
+        if (cursorIndex == null) {
+            throw new IllegalArgumentException("커서의 강의를 찾을 수 없습니다: " + cursor.getId());
+        }
+        double cursorKey;
+        try {
+            cursorKey = Double.parseDouble(cursor.getKey());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+        int cursorIdRank = idRanks[cursorIndex];
+        int start = orders[order.ordinal()].firstRankAfter(
+                index -> compare(order, sortKey(order, index), idRanks[index], cursorKey, cursorIdRank));
+        return slice(order, start, limit);
+    }
+
+    /**
+     * 정렬 순서에서 강의의 순위 (0부터)
+     *
+     * @return 순위, 없는 강의면 -1
+     */
+    synchronized int rankOf(LectureSortOrder order, String lectureId) {
+        Integer index = indexById.get(lectureId);
+        if (index == null) {
+            return -1;
+        }
+        applyPendingEnrollments();
+        return orders[order.ordinal()].rankOf(index);
+    }
+
+    int size() {
+        return lectures.length;
+    }
+
+    static String scopeOf(LectureSortOrder order) {
+        return "lecture:" + order.name();
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private Page slice(LectureSortOrder order, int from, int limit) {
+        SortedPermutation permutation = orders[order.ordinal()];
+        int to = (int) Math.min(permutation.size(), (long) from + Math.max(0, limit));
+        List<Lecture> result = new ArrayList<>(Math.max(0, to - from));
+        for (int rank = from; rank < to; rank++) {
+            result.add(lectures[permutation.at(rank)]);
+        }
+        PageCursor next = null;
+        if (to < permutation.size() && to > from) {
+            int last = permutation.at(to - 1);
+            next = new PageCursor(scopeOf(order), formatKey(sortKey(order, last)), lectures[last].getId());
+        }
+        return new Page(result, next);
+    }
+
+    private void applyPendingEnrollments() {
+        Integer index;
+        while ((index = pendingEnrollments.poll()) != null) {
+            // 표시를 먼저 지워야, 읽은 뒤에 바뀐 값이 다시 표시되어 다음 조회 때 반영됨
+            enrollmentDirty.set(index, 0);
+            int count = lectures[index].getCurrentEnrollment();
+            if (enrollmentCounts[index] != count) {
+                enrollmentCounts[index] = count;
+                orders[LectureSortOrder.POPULAR.ordinal()].reposition(index);
+            }
+        }
+    }
+
+    /**
+     * 정렬 값 (정수 값도 double로 정확히 표현됨)
+     */
+    private double sortKey(LectureSortOrder order, int index) {
+        switch (order) {
+            case LATEST:
+                return lectures[index].getYear();
+            case POPULAR:
+                return enrollmentCounts[index];
+            case RATING:
+                return ratings[index];
+            case PRICE:
+                return lectures[index].getPrice();
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * 정렬 순서에서 (keyA, idRankA)가 (keyB, idRankB)보다 앞이면 음수
+     */
+    private static int compare(LectureSortOrder order, double keyA, int idRankA, double keyB, int idRankB) {
+        // 가격순만 오름차순, 나머지는 내림차순
+        int result = order == LectureSortOrder.PRICE ? Double.compare(keyA, keyB) : Double.compare(keyB, keyA);
+        return result != 0 ? result : Integer.compare(idRankA, idRankB);
+    }
+
+    private static String formatKey(double key) {
+        return key == Math.rint(key) ? Long.toString((long) key) : Double.toString(key);
+    }
+}
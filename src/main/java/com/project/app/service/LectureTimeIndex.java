@@ -0,0 +1,77 @@
+package com.project.app.service;
+
+import com.project.app.model.Lecture;
+import com.project.app.model.WeeklyTimeMask;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 전체 강의의 시간표 비트마스크 색인
+ *
+ * 특징:
+ * - 강의마다 WeeklyTimeMask의 long 3개를 세 개의 long 배열(열 단위)에 나란히 저장
+ * - "내 빈 시간에 들을 수 있는 강의" 같은 필터는 배열을 한 번 훑으며 AND / ANDNOT만 수행
+ *   (객체 참조나 문자열 파싱 없이 연속된 long 배열만 읽으므로 JIT가 SIMD로 벡터화하기 쉬움)
+ * - 강의는 추가/삭제되지 않으므로 한 번 만든 뒤 변경하지 않음
+ */
+class LectureTimeIndex {
+
+    private final Lecture[] lectures;
+    private final long[] low;
+    private final long[] mid;
+    private final long[] high;
+
+    LectureTimeIndex(List<Lecture> catalog) {
+        int size = catalog.size();
+        this.lectures = catalog.toArray(new Lecture[0]);
+        this.low = new long[size];
+        this.mid = new long[size];
+        this.high = new long[size];
+        for (int i = 0; i < size; i++) {
+            WeeklyTimeMask mask = lectures[i].getTimeMask();
+            low[i] = mask.word(0);
+            mid[i] = mask.word(1);
+            high[i] = mask.word(2);
+        }
+    }
+
+    /**
+     * busy와 겹치지 않는 강의 목록 (카탈로그 순서)
+     */
+    List<Lecture> findNotOverlapping(WeeklyTimeMask busy) {
+        return select(busy.word(0), busy.word(1), busy.word(2));
+    }
+
+    /**
+     * 수업 시간이 모두 free 안에 들어가는 강의 목록 (카탈로그 순서)
+     */
+    List<Lecture> findWithin(WeeklyTimeMask free) {
+        // free 밖의 시간과 겹치지 않으면 free 안에 들어감
+        return select(~free.word(0), ~free.word(1), ~free.word(2));
+    }
+
+    int size() {
+        return lectures.length;
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private List<Lecture> select(long blockedLow, long blockedMid, long blockedHigh) {
+        int size = lectures.length;
+        boolean[] fits = new boolean[size];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            boolean fit = ((low[i] & blockedLow) | (mid[i] & blockedMid) | (high[i] & blockedHigh)) == 0;
+            fits[i] = fit;
+            count += fit ? 1 : 0;
+        }
+        List<Lecture> result = new ArrayList<>(count);
+        for (int i = 0; i < size; i++) {
+            if (fits[i]) {
+                result.add(lectures[i]);
+            }
+        }
+        return result;
+    }
+}
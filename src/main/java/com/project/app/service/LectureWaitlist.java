@@ -0,0 +1,65 @@
+package com.project.app.service;
+
+import com.project.app.util.IntRingQueue;
+import com.project.app.util.SymbolTable;
+
+/**
+ * 강의 하나의 대기자 명단
+ *
+ * 특징:
+ * - 사용자 ID 대신 SymbolTable 번호(int)를 원형 배열 큐(IntRingQueue)에 저장 (대기자당 int 하나)
+ * - 맨 앞 대기자 꺼내기 O(1) — 자리가 나면 신청 테이블을 훑지 않고 바로 승격
+ * - 대기 취소(중간 제거)만 O(n)
+ *
+ * 동기화하지 않습니다. LectureService가 이 객체를 락으로 잡고 좌석 반환/승격과 함께 묶어서 사용합니다.
+ */
+class LectureWaitlist {
+
+    private final SymbolTable symbols = SymbolTable.getInstance();
+    private final IntRingQueue queue = new IntRingQueue();
+
+    /**
+     * 명단 끝에 추가합니다.
+     *
+     * @return 추가된 위치 (1부터 시작)
+     */
+    int add(String userId) {
+        queue.offer(symbols.intern(userId));
+        return queue.size();
+    }
+
+    /**
+     * 맨 앞 대기자를 꺼냅니다.
+     *
+     * @return 사용자 ID, 대기자가 없으면 null
+     */
+    String pollFirst() {
+        return queue.isEmpty() ? null : symbols.symbol(queue.poll());
+    }
+
+    /**
+     * @return 제거했으면 true
+     */
+    boolean remove(String userId) {
+        int handle = symbols.lookup(userId);
+        return handle >= 0 && queue.remove(handle);
+    }
+
+    /**
+     * 대기 순서 (1부터 시작)
+     *
+     * @return 순서, 명단에 없으면 0
+     */
+    int positionOf(String userId) {
+        int handle = symbols.lookup(userId);
+        return handle >= 0 ? queue.indexOf(handle) + 1 : 0;
+    }
+
+    int size() {
+        return queue.size();
+    }
+
+    boolean isEmpty() {
+        return queue.isEmpty();
+    }
+}
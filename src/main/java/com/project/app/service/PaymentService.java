@@ -0,0 +1,160 @@
+package com.project.app.service;
+
+import com.project.app.model.Lecture;
+import com.project.app.model.Payment;
+import com.project.app.model.User;
+import com.project.app.repository.PaymentRepository;
+import com.project.app.util.DedupCache;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 결제 생성/상태 변경을 처리하는 서비스 클래스
+ *
+ * 기능:
+ * - 강의(+교재) 결제 생성, 결제 ID 발급 (PAY<사용자 번호>_<순번>, 기존 userData 형식과 동일)
+ * - 멱등 키(idempotency key): 같은 사용자가 같은 키로 다시 요청하면 새로 결제하지 않고 처음 만든 결제를 반환
+ *   (DedupCache에 일정 시간 보관, 처리 중인 요청과 겹치면 그 결과를 기다림)
+ * - 결제 실패 처리 (상태만 '실패'로 기록, 좌석 반환은 LectureService.handlePaymentFailure)
+ */
+public class PaymentService {
+
+    // ========== 멱등 키 설정 (LectureService의 신청 요청 중복 제거에도 사용) ==========
+
+    /** 멱등 키 보관 시간 (ms) */
+    public static final long IDEMPOTENCY_TTL_MILLIS = 10 * 60 * 1000L;
+
+    /** 만료 타이밍 휠 한 칸의 시간 (ms) */
+    public static final long IDEMPOTENCY_TICK_MILLIS = 1000L;
+
+    /** 보관할 최대 키 수 (넘으면 오래된 키부터 제거) */
+    public static final int IDEMPOTENCY_MAX_KEYS = 10_000;
+
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final String PAYMENT_ID_PREFIX = "PAY";
+
+    private final PaymentRepository paymentRepository;
+    private final DedupCache<String, CompletableFuture<Payment>> processed =
+            new DedupCache<>(IDEMPOTENCY_TTL_MILLIS, IDEMPOTENCY_TICK_MILLIS, IDEMPOTENCY_MAX_KEYS);
+
+    /** 사용자 ID -> 마지막으로 발급한 결제 순번 */
+    private final Map<String, AtomicInteger> sequences = new ConcurrentHashMap<>();
+
+    public PaymentService(PaymentRepository paymentRepository) {
+        this.paymentRepository = paymentRepository;
+    }
+
+    /**
+     * 강의 결제를 생성합니다.
+     *
+     * @param idempotencyKey 멱등 키 (null이면 중복 확인 없이 항상 새로 생성)
+     * @param user 결제 사용자
+     * @param lecture 결제 강의
+     * @param purchaseTextbook 교재 구매 여부 (true면 교재 가격 포함)
+     * @param method 결제 수단
+     * @return 생성된 결제, 같은 키로 이미 처리된 요청이면 그때 만든 결제
+     */
+    public Payment createPayment(String idempotencyKey, User user, Lecture lecture,
+                                 boolean purchaseTextbook, String method) {
+        if (idempotencyKey == null) {
+            return newPayment(user, lecture, purchaseTextbook, method);
+        }
+        String key = user.getId() + "/" + idempotencyKey;
+        CompletableFuture<Payment> mine = new CompletableFuture<>();
+        CompletableFuture<Payment> original = processed.putIfAbsent(key, mine);
+        if (original != null) {
+            return original.join();
+        }
+        try {
+            Payment payment = newPayment(user, lecture, purchaseTextbook, method);
+            mine.complete(payment);
+            return payment;
+        } catch (RuntimeException e) {
+            processed.remove(key);
+            mine.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 결제를 실패 상태로 기록합니다.
+     *
+     * @return 기록했으면 true, 없는 결제면 false
+     */
+    public boolean markFailed(String paymentId) {
+        Payment payment = paymentRepository.findById(paymentId);
+        if (payment == null) {
+            return false;
+        }
+        paymentRepository.save(new Payment(payment.getId(), payment.getUserId(), payment.getLectureId(),
+                payment.getAmount(), payment.isTextbookPurchased(), payment.getMethod(), now(), Payment.Status.FAILED));
+        return true;
+    }
+
+    public Payment findById(String paymentId) {
+        return paymentRepository.findById(paymentId);
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private Payment newPayment(User user, Lecture lecture, boolean purchaseTextbook, String method) {
+        int amount = lecture.getPrice() + (purchaseTextbook ? lecture.getTextbookPrice() : 0);
+        Payment payment = new Payment(nextPaymentId(user), user.getId(), lecture.getId(), amount,
+                purchaseTextbook, method, now(), Payment.Status.COMPLETED);
+        paymentRepository.save(payment).exceptionally(e -> {
+            System.err.println("Failed to save payment: " + payment.getId() + " " + e.getMessage());
+            return null;
+        });
+        return payment;
+    }
+
+    /**
+     * 사용자별 다음 결제 ID를 발급합니다.
+     * 처음 발급할 때 userData의 결제 내역과 PaymentData의 결제 중 가장 큰 순번에서 이어갑니다.
+     */
+    private String nextPaymentId(User user) {
+        String prefix = PAYMENT_ID_PREFIX + userNumber(user.getId()) + "_";
+        AtomicInteger sequence = sequences.computeIfAbsent(user.getId(), id -> {
+            int last = 0;
+            for (String paymentId : user.getPaymentIds()) {
+                last = Math.max(last, sequenceOf(paymentId, prefix));
+            }
+            for (Payment payment : paymentRepository.findByUserId(id)) {
+                last = Math.max(last, sequenceOf(payment.getId(), prefix));
+            }
+            return new AtomicInteger(last);
+        });
+        return prefix + sequence.incrementAndGet();
+    }
+
+    /**
+     * "user001" -> "001" (숫자 부분이 없으면 ID 전체)
+     */
+    private static String userNumber(String userId) {
+        int start = userId.length();
+        while (start > 0 && Character.isDigit(userId.charAt(start - 1))) {
+            start--;
+        }
+        return start < userId.length() ? userId.substring(start) : userId;
+    }
+
+    private static int sequenceOf(String paymentId, String prefix) {
+        if (!paymentId.startsWith(prefix)) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(paymentId.substring(prefix.length()));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static String now() {
+        return LocalDateTime.now().format(TIMESTAMP_FORMAT);
+    }
+}
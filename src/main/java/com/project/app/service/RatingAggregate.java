@@ -0,0 +1,47 @@
+package com.project.app.service;
+
+import com.project.app.dto.RatingSummary;
+import com.project.app.model.Review;
+
+/**
+ * 리뷰 대상(강의/강사) 하나의 평점 누적 집계
+ *
+ * 특징:
+ * - 별점 합계, 리뷰 수, 별점별 개수만 보관 (리뷰 수와 관계없이 상태 크기 일정)
+ * - 리뷰 작성/수정/삭제 때 add/remove로 O(1) 갱신하므로 평균을 구하려고 리뷰를 다시 훑지 않음
+ *
+ * 동기화하지 않으므로 ReviewService의 락 안에서만 사용합니다.
+ */
+final class RatingAggregate {
+
+    private long sum;
+    private int count;
+    private final int[] histogram = new int[Review.MAX_RATING + 1]; // [별점] -> 리뷰 수
+
+    void add(int rating) {
+        sum += rating;
+        count++;
+        histogram[rating]++;
+    }
+
+    void remove(int rating) {
+        sum -= rating;
+        count--;
+        histogram[rating]--;
+    }
+
+    int count() {
+        return count;
+    }
+
+    /**
+     * 평균 평점 (리뷰가 없으면 0)
+     */
+    double average() {
+        return count > 0 ? (double) sum / count : 0.0;
+    }
+
+    RatingSummary toSummary() {
+        return new RatingSummary(sum, histogram);
+    }
+}
@@ -0,0 +1,344 @@
+package com.project.app.service;
+
+import com.project.app.dto.CreateReviewRequest;
+import com.project.app.dto.RatingSummary;
+import com.project.app.model.Review;
+import com.project.app.model.Review.TargetType;
+import com.project.app.repository.ReviewRepository;
+import com.project.app.repository.ReviewRepositoryImpl;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 리뷰 작성/수정/삭제와 평점 집계를 처리하는 서비스 클래스
+ *
+ * 기능:
+ * - 강의/강사 리뷰 작성, 작성자의 수정/삭제
+ * - 대상마다 별점 합계, 리뷰 수, 별점별 개수(RatingAggregate)를 리뷰가 바뀔 때마다 O(1)로 갱신
+ *   (시작 시 저장된 리뷰를 한 번만 훑어 집계를 만들고, 이후에는 리뷰 목록을 다시 읽지 않음)
+ * - 평균이 바뀌면 LectureService / InstructorService에 알려 카드 평점과 평점순 순서에 반영
+ *   (카드 화면은 서비스가 보관한 평균을 그대로 읽으므로 리뷰 수와 관계없이 O(1))
+ * - 강사 순위는 평균 대신 베이즈 보정 + 시간 감쇠 점수(DecayedRatingEngine)를 사용
+ *   (리뷰 2개짜리 5점 강사가 맨 위로 오르지 않음, 오래된 리뷰일수록 덜 반영)
+ *   리뷰가 바뀐 강사의 점수는 바로 갱신하고, 사전 평균 변화와 시간 경과는 주기적인 일괄 재계산으로 전체에 반영
+ */
+public class ReviewService {
+
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final String REVIEW_ID_PREFIX = "R";
+
+    /** 강사 순위 점수 일괄 재계산 주기 (분) */
+    public static final long SCORE_REFRESH_MINUTES = 60;
+
+    /** 스트리밍 점수와 일괄 재계산 점수의 허용 오차 */
+    private static final double SCORE_TOLERANCE = 1e-9;
+
+    private static ReviewService instance;
+
+    /**
+     * 싱글톤 인스턴스를 반환하는 메서드 (화면의 Controller에서 사용)
+     *
+     * @return 기본 Repository로 생성된 ReviewService
+     */
+    public static synchronized ReviewService getInstance() {
+        if (instance == null) {
+            instance = new ReviewService(new ReviewRepositoryImpl(), LectureService.getInstance(),
+                    InstructorService.getInstance());
+        }
+        return instance;
+    }
+
+    private final ReviewRepository reviewRepository;
+    private final LectureService lectureService;
+    private final InstructorService instructorService;
+
+    /** 대상 종류 -> (대상 ID -> 평점 집계) */
+    private final Map<TargetType, Map<String, RatingAggregate>> aggregates = new EnumMap<>(TargetType.class);
+
+    /** 강사 순위 점수 (강사 리뷰만 반영) */
+    private final DecayedRatingEngine instructorScores = new DecayedRatingEngine();
+    private final ScheduledExecutorService scoreRefresher;
+
+    /** 마지막으로 발급한 리뷰 번호 (삭제된 리뷰 포함) */
+    private int lastSequence;
+
+    public ReviewService(ReviewRepository reviewRepository, LectureService lectureService,
+                         InstructorService instructorService) {
+        this.reviewRepository = reviewRepository;
+        this.lectureService = lectureService;
+        this.instructorService = instructorService;
+        for (TargetType type : TargetType.values()) {
+            aggregates.put(type, new HashMap<>());
+        }
+        restoreAggregates();
+        this.scoreRefresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "review-score-refresher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scoreRefresher.scheduleWithFixedDelay(this::refreshScoresSafely,
+                SCORE_REFRESH_MINUTES, SCORE_REFRESH_MINUTES, TimeUnit.MINUTES);
+    }
+
+    // ========== 리뷰 작성/수정/삭제 ==========
+
+    /**
+     * 리뷰를 작성합니다.
+     *
+     * @return 저장된 리뷰
+     * @throws IllegalArgumentException 필수 값이 없거나 별점이 1~5 밖인 경우
+     */
+    public synchronized Review createReview(CreateReviewRequest request) {
+        if (request == null || request.getUserId() == null || request.getTargetType() == null
+                || request.getTargetId() == null) {
+            throw new IllegalArgumentException("리뷰 작성 정보가 올바르지 않습니다.");
+        }
+        validateRating(request.getRating());
+        Review review = new Review(REVIEW_ID_PREFIX + (++lastSequence), request.getUserId(),
+                request.getTargetType(), request.getTargetId(), request.getRating(), now(),
+                Review.Status.POSTED, request.getContent());
+        save(review);
+        RatingAggregate aggregate = aggregateOf(review.getTargetType(), review.getTargetId());
+        aggregate.add(review.getRating());
+        if (review.getTargetType() == TargetType.INSTRUCTOR) {
+            instructorScores.add(review.getTargetId(), review.getRating(), timeOf(review));
+        }
+        publish(review.getTargetType(), review.getTargetId(), aggregate);
+        return review;
+    }
+
+    /**
+     * 작성자가 리뷰의 별점/내용을 수정합니다.
+     *
+     * @return 수정된 리뷰
+     * @throws IllegalArgumentException 없는(삭제된) 리뷰이거나 작성자가 아닌 경우, 별점이 1~5 밖인 경우
+     */
+    public synchronized Review updateReview(String reviewId, String userId, int rating, String content) {
+        validateRating(rating);
+        Review current = findOwnReview(reviewId, userId);
+        Review updated = current.withContent(rating, content);
+        save(updated);
+        if (current.getRating() != rating) {
+            RatingAggregate aggregate = aggregateOf(current.getTargetType(), current.getTargetId());
+            aggregate.remove(current.getRating());
+            aggregate.add(rating);
+            if (current.getTargetType() == TargetType.INSTRUCTOR) {
+                instructorScores.remove(current.getTargetId(), current.getRating(), timeOf(current));
+                instructorScores.add(current.getTargetId(), rating, timeOf(current));
+            }
+            publish(current.getTargetType(), current.getTargetId(), aggregate);
+        }
+        return updated;
+    }
+
+    /**
+     * 작성자가 리뷰를 삭제합니다.
+     *
+     * @throws IllegalArgumentException 없는(이미 삭제된) 리뷰이거나 작성자가 아닌 경우
+     */
+    public synchronized void deleteReview(String reviewId, String userId) {
+        Review current = findOwnReview(reviewId, userId);
+        save(current.deleted());
+        RatingAggregate aggregate = aggregateOf(current.getTargetType(), current.getTargetId());
+        aggregate.remove(current.getRating());
+        if (current.getTargetType() == TargetType.INSTRUCTOR) {
+            instructorScores.remove(current.getTargetId(), current.getRating(), timeOf(current));
+        }
+        publish(current.getTargetType(), current.getTargetId(), aggregate);
+    }
+
+    // ========== 조회 ==========
+
+    /**
+     * 대상의 평균 평점, 리뷰 수, 별점별 개수 (집계값을 그대로 반환, O(1))
+     */
+    public synchronized RatingSummary getRatingSummary(TargetType targetType, String targetId) {
+        RatingAggregate aggregate = aggregates.get(targetType).get(targetId);
+        return aggregate != null ? aggregate.toSummary() : RatingSummary.EMPTY;
+    }
+
+    /**
+     * 강사의 현재 순위 점수 (베이즈 보정 + 시간 감쇠, 리뷰가 없으면 0)
+     */
+    public synchronized double getInstructorScore(String instructorId) {
+        return instructorScores.score(instructorId, System.currentTimeMillis());
+    }
+
+    /**
+     * 저장된 강사 리뷰 전체로 순위 점수를 일괄 재계산하고, 모든 강사 점수를 InstructorService에 다시 반영합니다.
+     * 리뷰마다 갱신해 온 스트리밍 점수와 비교하여 차이가 허용 오차를 넘으면 기록하고,
+     * 스트리밍 상태를 재계산 값으로 맞춥니다 (뺄셈으로 쌓인 부동소수 오차 제거).
+     *
+     * @return 스트리밍 점수와 재계산 점수의 최대 차이
+     */
+    public synchronized double refreshScores() {
+        long now = System.currentTimeMillis();
+        List<Review> reviews = reviewRepository.findAll();
+        Map<String, Integer> targetNumbers = new HashMap<>();
+        List<String> targetIds = new ArrayList<>();
+        int[] targets = new int[reviews.size()];
+        int[] ratings = new int[reviews.size()];
+        long[] times = new long[reviews.size()];
+        int size = 0;
+        long ratingSum = 0;
+        for (Review review : reviews) {
+            if (review.isDeleted() || review.getTargetType() != TargetType.INSTRUCTOR) {
+                continue;
+            }
+            Integer number = targetNumbers.get(review.getTargetId());
+            if (number == null) {
+                number = targetIds.size();
+                targetNumbers.put(review.getTargetId(), number);
+                targetIds.add(review.getTargetId());
+            }
+            targets[size] = number;
+            ratings[size] = review.getRating();
+            times[size] = timeOf(review);
+            ratingSum += review.getRating();
+            size++;
+        }
+
+        int targetCount = targetIds.size();
+        double[] weightedSums = new double[targetCount];
+        double[] weights = new double[targetCount];
+        int[] counts = new int[targetCount];
+        DecayedRatingEngine.batchAccumulate(targets, ratings, times, size, weightedSums, weights, counts, now);
+        double priorMean = size > 0 ? (double) ratingSum / size : 0.0;
+        double[] scores = DecayedRatingEngine.batchScores(weightedSums, weights, counts, priorMean);
+
+        double maxDifference = 0.0;
+        for (int i = 0; i < targetCount; i++) {
+            maxDifference = Math.max(maxDifference,
+                    Math.abs(scores[i] - instructorScores.score(targetIds.get(i), now)));
+        }
+        if (maxDifference > SCORE_TOLERANCE) {
+            System.err.println("Instructor score drift corrected: " + maxDifference);
+        }
+
+        String[] ids = targetIds.toArray(new String[0]);
+        instructorScores.reset(ids, weightedSums, weights, counts, now, ratingSum, size);
+        for (Map.Entry<String, RatingAggregate> entry : aggregates.get(TargetType.INSTRUCTOR).entrySet()) {
+            Integer number = targetNumbers.get(entry.getKey());
+            instructorService.updateInstructorRankScore(entry.getKey(), number != null ? scores[number] : 0.0);
+        }
+        return maxDifference;
+    }
+
+    /**
+     * 대상의 삭제되지 않은 리뷰 목록 (작성 순서)
+     */
+    public List<Review> getReviews(TargetType targetType, String targetId) {
+        return reviewRepository.findByTarget(targetType, targetId);
+    }
+
+    // ========== Private Helper Methods ==========
+
+    /**
+     * 저장된 리뷰를 한 번 훑어 대상별 집계를 만들고, 평균을 각 서비스에 반영합니다.
+     */
+    private void restoreAggregates() {
+        for (Review review : reviewRepository.findAll()) {
+            lastSequence = Math.max(lastSequence, sequenceOf(review.getId()));
+            if (!review.isDeleted()) {
+                aggregateOf(review.getTargetType(), review.getTargetId()).add(review.getRating());
+                if (review.getTargetType() == TargetType.INSTRUCTOR) {
+                    instructorScores.add(review.getTargetId(), review.getRating(), timeOf(review));
+                }
+            }
+        }
+        for (Map.Entry<TargetType, Map<String, RatingAggregate>> byType : aggregates.entrySet()) {
+            for (Map.Entry<String, RatingAggregate> entry : byType.getValue().entrySet()) {
+                publish(byType.getKey(), entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    private Review findOwnReview(String reviewId, String userId) {
+        Review review = reviewId != null ? reviewRepository.findById(reviewId) : null;
+        if (review == null || review.isDeleted()) {
+            throw new IllegalArgumentException("리뷰를 찾을 수 없습니다: " + reviewId);
+        }
+        if (!review.getUserId().equals(userId)) {
+            throw new IllegalArgumentException("작성자만 리뷰를 수정/삭제할 수 있습니다.");
+        }
+        return review;
+    }
+
+    private RatingAggregate aggregateOf(TargetType targetType, String targetId) {
+        return aggregates.get(targetType).computeIfAbsent(targetId, id -> new RatingAggregate());
+    }
+
+    /**
+     * 바뀐 평균을 카드/정렬에 반영합니다.
+     */
+    private void publish(TargetType targetType, String targetId, RatingAggregate aggregate) {
+        if (targetType == TargetType.LECTURE) {
+            lectureService.updateLectureRating(targetId, aggregate.average());
+        } else {
+            instructorService.updateInstructorRating(targetId, aggregate.average());
+            instructorService.updateInstructorRankScore(targetId,
+                    instructorScores.score(targetId, System.currentTimeMillis()));
+        }
+    }
+
+    private void refreshScoresSafely() {
+        try {
+            refreshScores();
+        } catch (RuntimeException e) {
+            System.err.println("Failed to refresh instructor scores: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * 리뷰 작성 시각 (ms). 작성 일시를 알 수 없으면 가장 오래된 리뷰로 취급 (0)
+     */
+    private static long timeOf(Review review) {
+        try {
+            return LocalDateTime.parse(review.getCreatedAt(), TIMESTAMP_FORMAT)
+                    .atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        } catch (DateTimeParseException | NullPointerException e) {
+            return 0L;
+        }
+    }
+
+    private void save(Review review) {
+        reviewRepository.save(review).exceptionally(e -> {
+            System.err.println("Failed to save review: " + review.getId() + " " + e.getMessage());
+            return null;
+        });
+    }
+
+    private static void validateRating(int rating) {
+        if (rating < Review.MIN_RATING || rating > Review.MAX_RATING) {
+            throw new IllegalArgumentException("별점은 " + Review.MIN_RATING + "~" + Review.MAX_RATING
+                    + " 사이여야 합니다: " + rating);
+        }
+    }
+
+    private static int sequenceOf(String reviewId) {
+        if (reviewId == null || !reviewId.startsWith(REVIEW_ID_PREFIX)) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(reviewId.substring(REVIEW_ID_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static String now() {
+        return LocalDateTime.now().format(TIMESTAMP_FORMAT);
+    }
+}
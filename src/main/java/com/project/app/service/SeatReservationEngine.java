@@ -0,0 +1,75 @@
+package com.project.app.service;
+
+import com.project.app.model.Lecture;
+import com.project.app.repository.LectureRepository;
+
+import java.util.function.Consumer;
+
+/**
+ * 강의 정원(좌석) 예약 엔진
+ *
+ * 특징:
+ * - 강의마다 현재 수강생 수를 AtomicInteger로 관리하고 CAS로 증가/감소 (Lecture.tryIncreaseEnrollment)
+ * - 전역 락이 없으므로 서로 다른 강의의 신청은 서로 기다리지 않고,
+ *   같은 강의에 신청이 몰려도 CAS 재시도만 발생 (스레드가 잠들지 않음)
+ * - 정원을 넘는 예약은 불가능 (증가 직전 값이 정원 미만일 때만 CAS 성공)
+ * - 강의 조회는 LectureRepository의 O(1) ID 조회 사용
+ *
+ * 신청 중복 확인, 결제 등은 LectureService가 담당하고 이 클래스는 좌석 수만 관리합니다.
+ * 좌석 수가 바뀌면 생성 시 받은 리스너에 강의 ID를 알립니다 (인기순 정렬 갱신 등, 리스너는 락 없이 빠르게 끝나야 함).
+ */
+public class SeatReservationEngine {
+
+    private final LectureRepository lectureRepository;
+    private final Consumer<String> changeListener;
+
+    public SeatReservationEngine(LectureRepository lectureRepository) {
+        this(lectureRepository, lectureId -> { });
+    }
+
+    public SeatReservationEngine(LectureRepository lectureRepository, Consumer<String> changeListener) {
+        this.lectureRepository = lectureRepository;
+        this.changeListener = changeListener;
+    }
+
+    /**
+     * 좌석 하나를 예약합니다.
+     *
+     * @param lectureId 강의 ID
+     * @return 예약했으면 true, 정원이 가득 찼거나 없는 강의면 false
+     */
+    public boolean tryReserve(String lectureId) {
+        Lecture lecture = lectureRepository.findById(lectureId);
+        if (lecture == null || !lecture.tryIncreaseEnrollment()) {
+            return false;
+        }
+        changeListener.accept(lectureId);
+        return true;
+    }
+
+    /**
+     * 예약한 좌석 하나를 반환합니다 (수강 취소, 결제 실패 등).
+     *
+     * @param lectureId 강의 ID
+     * @return 반환했으면 true, 예약된 좌석이 없거나 없는 강의면 false
+     */
+    public boolean release(String lectureId) {
+        Lecture lecture = lectureRepository.findById(lectureId);
+        if (lecture == null || !lecture.decreaseEnrollment()) {
+            return false;
+        }
+        changeListener.accept(lectureId);
+        return true;
+    }
+
+    /**
+     * 남은 좌석 수
+     *
+     * @param lectureId 강의 ID
+     * @return 남은 좌석 수, 없는 강의면 -1
+     */
+    public int getRemainingSeats(String lectureId) {
+        Lecture lecture = lectureRepository.findById(lectureId);
+        return lecture != null ? lecture.getRemainingSeats() : -1;
+    }
+}
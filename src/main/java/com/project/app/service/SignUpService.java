@@ -1,24 +1,37 @@
 package com.project.app.service;
 
+import com.project.app.model.User;
+import com.project.app.repository.UserRepository;
+import com.project.app.repository.UserRepositoryImpl;
+
 import javax.swing.*;
 import java.awt.*;
-import java.io.*;
 
 /**
  * 회원가입 비즈니스 로직을 처리하는 서비스 클래스
  *
  * 기능:
  * - 회원가입 입력값 검증 (필수 입력, 비밀번호 규칙, ID 중복 체크 등)
- * - users.txt 파일에 사용자 정보 저장
+ * - UserRepository를 통해 사용자 정보 저장 (디스크 반영은 EDT 밖에서 수행)
  * - 날짜 계산 유틸리티 제공 (윤년 처리 등)
  *
  * 주요 내용:
- * 1. handleSignUp: 모든 입력값 검증 후 파일에 저장
- * 2. isDuplicateId: users.txt를 읽어 ID 중복 확인
+ * 1. handleSignUp: 모든 입력값 검증 후 저장
+ * 2. isDuplicateId: UserRepository의 해시 인덱스로 ID 중복 확인 (파일을 읽지 않음)
  * 3. getDaysInMonth: 월별 날짜 수 계산 (윤년 고려)
  */
 public class SignUpService {
 
+    private final UserRepository userRepository;
+
+    public SignUpService() {
+        this(UserRepositoryImpl.getInstance());
+    }
+
+    public SignUpService(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
     /**
      * 회원가입 처리 메서드
      *
@@ -48,6 +61,13 @@ public class SignUpService {
             }
         }
 
+        for (String value : new String[]{id, name}) {
+            if (value.contains("/") || value.contains(",")) {
+                JOptionPane.showMessageDialog(parent, "아이디와 이름에는 '/' 또는 ','를 사용할 수 없습니다.", "입력 오류", JOptionPane.ERROR_MESSAGE);
+                return;
+            }
+        }
+
         if (password.length() < 6) {
             JOptionPane.showMessageDialog(parent, "비밀번호는 6자리 이상이어야 합니다.", "비밀번호 오류", JOptionPane.ERROR_MESSAGE);
             return;
@@ -63,27 +83,21 @@ public class SignUpService {
             return;
         }
 
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter("users.txt", true))) {
-            writer.write(id + "," + password + "," + name + "," + birth);
-            writer.newLine();
-        } catch (IOException ex) {
-            JOptionPane.showMessageDialog(parent, "회원정보 저장 중 오류가 발생했습니다.", "파일 오류", JOptionPane.ERROR_MESSAGE);
-            return;
-        }
-
-        JOptionPane.showMessageDialog(parent, "회원가입이 완료되었습니다!");
-        clearFields(tfId, pfPw, tfName, cbYear, cbMonth, cbDay);
+        // 저장은 백그라운드에서 수행하고, 디스크 반영이 끝나면 EDT에서 결과 안내
+        // (중복 확인 이후 같은 ID가 먼저 저장된 경우에도 saveNewAsync가 false를 반환)
+        userRepository.saveNewAsync(new User(id, password, name, 0, birth))
+                .thenAccept(saved -> SwingUtilities.invokeLater(() -> {
+                    if (!saved) {
+                        JOptionPane.showMessageDialog(parent, "회원정보 저장 중 오류가 발생했습니다.", "파일 오류", JOptionPane.ERROR_MESSAGE);
+                        return;
+                    }
+                    JOptionPane.showMessageDialog(parent, "회원가입이 완료되었습니다!");
+                    clearFields(tfId, pfPw, tfName, cbYear, cbMonth, cbDay);
+                }));
     }
 
     public boolean isDuplicateId(String id) {
-        try (BufferedReader reader = new BufferedReader(new FileReader("users.txt"))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                String[] parts = line.split(",");
-                if (parts.length > 0 && parts[0].equals(id)) return true;
-            }
-        } catch (IOException e) {}
-        return false;
+        return userRepository.existsById(id);
     }
 
     /**
@@ -0,0 +1,42 @@
+package com.project.app.service;
+
+import com.project.app.util.Leaderboard;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 전체 순위표 + 과목별 순위표
+ *
+ * 특징:
+ * - 점수가 바뀌면 전체 순위표와 그 항목 과목의 순위표만 갱신 (O(log n))
+ * - 상위 K개 조회는 순위표 앞에서 K개만 읽음 (전체 목록을 정렬하지 않음)
+ * - 항목의 과목은 바뀌지 않는다고 가정 (강의/강사의 과목은 고정 데이터)
+ */
+class SubjectRankings {
+
+    private final Leaderboard overall = new Leaderboard();
+    private final Map<String, Leaderboard> bySubject = new ConcurrentHashMap<>();
+
+    void update(String id, String subject, double score) {
+        overall.update(id, score);
+        if (subject != null) {
+            bySubject.computeIfAbsent(subject, key -> new Leaderboard()).update(id, score);
+        }
+    }
+
+    /**
+     * 상위 k개의 ID
+     *
+     * @param subject 과목 (null이면 전체)
+     */
+    List<String> top(String subject, int k) {
+        if (subject == null) {
+            return overall.top(k);
+        }
+        Leaderboard leaderboard = bySubject.get(subject);
+        return leaderboard != null ? leaderboard.top(k) : Collections.emptyList();
+    }
+}
@@ -0,0 +1,178 @@
+package com.project.app.util;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * 중복 요청 제거용 캐시 (유효 시간 + 최대 개수 제한, 타이밍 휠 만료)
+ *
+ * 특징:
+ * - 키마다 처음 들어온 값을 일정 시간(ttl) 동안 보관 (멱등 키 -> 최초 처리 결과)
+ * - 만료는 타이밍 휠로 처리: ttl을 tick 단위 칸(slot)으로 나누고, 항목은 들어온 tick의 칸에 저장
+ *   시간이 지나 휠이 한 바퀴 돌아 그 칸에 다시 오면 칸 안의 항목을 한꺼번에 제거
+ * - 별도 스레드 없이 get / putIfAbsent 호출 시 지난 칸만 정리 (항목마다 타이머를 두지 않음)
+ * - 최대 개수에 도달하면 가장 오래 전에 들어온 항목 하나를 제거하여 메모리 사용량을 제한
+ *   (칸 안의 항목은 들어온 순서대로 있으므로 가장 오래된 칸의 맨 앞 항목)
+ *
+ * 모든 메서드는 synchronized로 동기화됩니다.
+ *
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ */
+public class DedupCache<K, V> {
+
+    private static final class Entry<K, V> {
+        final K key;
+        final V value;
+
+        Entry(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    private final Map<K, Entry<K, V>> entries = new HashMap<>();
+    private final ArrayDeque<Entry<K, V>>[] wheel;
+    private final long tickMillis;
+    private final int maxEntries;
+    private final LongSupplier clock;
+    private long currentTick;  // 마지막으로 정리한 시점의 tick
+    private long oldestTick;   // 아직 비우지 않은 가장 오래된 tick
+
+    /**
+     * @param ttlMillis 항목 유효 시간 (ms)
+     * @param tickMillis 휠 한 칸의 시간 (ms), ttl의 약수가 아니면 유효 시간이 최대 한 칸만큼 길어짐
+     * @param maxEntries 최대 항목 수
+     */
+    public DedupCache(long ttlMillis, long tickMillis, int maxEntries) {
+        this(ttlMillis, tickMillis, maxEntries, System::currentTimeMillis);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public DedupCache(long ttlMillis, long tickMillis, int maxEntries, LongSupplier clock) {
+        if (ttlMillis <= 0 || tickMillis <= 0 || maxEntries <= 0) {
+            throw new IllegalArgumentException("ttl, tick, maxEntries는 0보다 커야 합니다.");
+        }
+        int slots = (int) Math.max(1, (ttlMillis + tickMillis - 1) / tickMillis);
+        this.wheel = new ArrayDeque[slots];
+        for (int i = 0; i < slots; i++) {
+            wheel[i] = new ArrayDeque<>();
+        }
+        this.tickMillis = tickMillis;
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+        this.currentTick = clock.getAsLong() / tickMillis;
+        this.oldestTick = currentTick;
+    }
+
+    /**
+     * 만료되지 않은 값을 조회합니다.
+     *
+     * @return 값, 없거나 만료되었으면 null
+     */
+    public synchronized V get(K key) {
+        advance();
+        Entry<K, V> entry = entries.get(key);
+        return entry != null ? entry.value : null;
+    }
+
+    /**
+     * 키가 없을 때만 값을 저장합니다.
+     *
+     * @return 이미 있던 값 (이 경우 저장하지 않음), 새로 저장했으면 null
+     */
+    public synchronized V putIfAbsent(K key, V value) {
+        advance();
+        Entry<K, V> existing = entries.get(key);
+        if (existing != null) {
+            return existing.value;
+        }
+        if (entries.size() >= maxEntries) {
+            evictOldest();  // 한 번에 하나씩 추가되므로 하나만 제거하면 됨
+        }
+        Entry<K, V> entry = new Entry<>(key, value);
+        entries.put(key, entry);
+        wheel[slotOf(currentTick)].addLast(entry);
+        return null;
+    }
+
+    /**
+     * 항목을 제거합니다 (처리 중 예외 등으로 결과를 보관하면 안 되는 경우).
+     *
+     * @return 제거했으면 true
+     */
+    public synchronized boolean remove(K key) {
+        return entries.remove(key) != null;
+    }
+
+    public synchronized int size() {
+        advance();
+        return entries.size();
+    }
+
+    // ========== Private Helper Methods ==========
+
+    /**
+     * 현재 시각까지 휠을 돌리며 유효 시간이 지난 칸을 비웁니다.
+     * 한 칸은 ttl이 지나면(휠이 한 바퀴 돌면) 만료되므로 (현재 tick - 칸 수) 이전의 칸만 비우면 됩니다.
+     */
+    private void advance() {
+        long now = clock.getAsLong() / tickMillis;
+        if (now > currentTick) {
+            currentTick = now;
+        }
+        long firstLive = currentTick - wheel.length + 1;
+        if (firstLive - oldestTick >= wheel.length) {
+            // 오래 호출이 없었던 경우: 모든 칸이 만료됨
+            for (int i = 0; i < wheel.length; i++) {
+                clearSlot(i);
+            }
+            oldestTick = firstLive;
+            return;
+        }
+        while (oldestTick < firstLive) {
+            expireSlot(oldestTick++);
+        }
+    }
+
+    /**
+     * 가장 오래된 항목 하나를 제거합니다. 앞쪽 칸이 비면 oldestTick을 당깁니다.
+     * remove()로 미리 지워진 항목은 건너뜁니다.
+     *
+     * @return 제거했으면 true, 남은 항목이 없으면 false
+     */
+    private boolean evictOldest() {
+        for (long tick = oldestTick; tick <= currentTick; tick++) {
+            ArrayDeque<Entry<K, V>> bucket = wheel[slotOf(tick)];
+            Entry<K, V> entry;
+            while ((entry = bucket.pollFirst()) != null) {
+                if (entries.remove(entry.key, entry)) {
+                    return true;
+                }
+            }
+            if (tick < currentTick) {
+                oldestTick = tick + 1;
+            }
+        }
+        return false;
+    }
+
+    private void expireSlot(long tick) {
+        clearSlot(slotOf(tick));
+    }
+
+    private void clearSlot(int slot) {
+        ArrayDeque<Entry<K, V>> bucket = wheel[slot];
+        for (Entry<K, V> entry : bucket) {
+            // remove()로 미리 지워졌거나 같은 키로 다시 저장된 경우는 건드리지 않음
+            entries.remove(entry.key, entry);
+        }
+        bucket.clear();
+    }
+
+    private int slotOf(long tick) {
+        return (int) Math.floorMod(tick, (long) wheel.length);
+    }
+}
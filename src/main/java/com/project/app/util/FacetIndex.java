@@ -0,0 +1,226 @@
+package com.project.app.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 패싯(facet) 검색 색인 (값마다 행 번호 비트셋)
+ *
+ * 특징:
+ * - 행(강의, 강사 등)마다 0..n-1 번호를 붙이고, 패싯(과목, 학원 등)의 값마다 long[] 비트셋을 유지
+ * - 한 행이 한 패싯에 여러 값을 가질 수 있음 (예: 대상 학년 고2, 고3)
+ * - 같은 패싯 안에서 선택한 값은 OR, 서로 다른 패싯끼리는 AND
+ * - count()는 비트셋을 64행 단위(word)로 한 번만 훑으며 모든 패싯의 모든 값 개수를 AND + popcount로 계산
+ *   (패싯마다, 값마다 데이터를 다시 훑지 않음)
+ * - 패싯 f의 값 개수는 "f를 제외한 나머지 패싯의 선택 조건"으로 센 값이므로,
+ *   칩에 표시하면 "이 값을 (추가로) 고르면 몇 개인지"를 뜻함 (예: "수학 (42)")
+ *
+ * 생성 후 add로 모든 행을 채운 다음에는 읽기 전용으로 사용합니다 (count는 여러 스레드에서 동시에 호출 가능).
+ */
+public class FacetIndex {
+
+    private final int rowCount;
+    private final int wordCount;
+    private final List<Map<String, Integer>> ordinals;  // [패싯] 값 -> 값 번호
+    private final List<List<String>> values;             // [패싯] 값 번호 -> 값
+    private final List<List<long[]>> bits;               // [패싯][값 번호] -> 행 비트셋
+
+    /**
+     * @param rowCount 행 수
+     * @param facetCount 패싯 수 (패싯 번호는 0..facetCount-1)
+     */
+    public FacetIndex(int rowCount, int facetCount) {
+        this.rowCount = rowCount;
+        this.wordCount = (rowCount + 63) >>> 6;
+        this.ordinals = new ArrayList<>(facetCount);
+        this.values = new ArrayList<>(facetCount);
+        this.bits = new ArrayList<>(facetCount);
+        for (int f = 0; f < facetCount; f++) {
+            ordinals.add(new HashMap<>());
+            values.add(new ArrayList<>());
+            bits.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * 패싯 값을 미리 등록합니다 (해당하는 행이 없어도 0개로 표시하고, 값 순서를 정할 때 사용).
+     *
+     * @return 값 번호
+     */
+    public int declare(int facet, String value) {
+        Integer ordinal = ordinals.get(facet).get(value);
+        if (ordinal != null) {
+            return ordinal;
+        }
+        int created = values.get(facet).size();
+        ordinals.get(facet).put(value, created);
+        values.get(facet).add(value);
+        bits.get(facet).add(new long[wordCount]);
+        return created;
+    }
+
+    /**
+     * 행이 패싯 값을 가진다고 기록합니다.
+     */
+    public void add(int facet, String value, int row) {
+        if (value == null || row < 0 || row >= rowCount) {
+            return;
+        }
+        long[] set = bits.get(facet).get(declare(facet, value));
+        set[row >>> 6] |= 1L << row;
+    }
+
+    public int rowCount() {
+        return rowCount;
+    }
+
+    public int facetCount() {
+        return values.size();
+    }
+
+    /**
+     * 선택 조건에 맞는 행 수와 모든 패싯 값의 개수를 계산합니다.
+     *
+     * @param selected [패싯 번호] -> 선택한 값들 (null이거나 비어 있으면 그 패싯은 조건 없음)
+     */
+    public Counts count(List<? extends Collection<String>> selected) {
+        return count(selected, null);
+    }
+
+    /**
+     * 행 필터(예: 가격 범위)를 함께 적용하여 개수를 계산합니다.
+     * 행 필터는 모든 패싯 값 개수에 적용됩니다.
+     *
+     * @param selected [패싯 번호] -> 선택한 값들 (null이거나 비어 있으면 그 패싯은 조건 없음)
+     * @param rowFilter 포함할 행의 비트셋 (null이면 모든 행)
+     */
+    public Counts count(List<? extends Collection<String>> selected, long[] rowFilter) {
+        int facetCount = facetCount();
+        long[][][] valueBits = new long[facetCount][][];
+        long[][] selectedBits = new long[facetCount][];  // null: 조건 없음
+        for (int f = 0; f < facetCount; f++) {
+            valueBits[f] = bits.get(f).toArray(new long[0][]);
+            Collection<String> chosen = f < selected.size() ? selected.get(f) : null;
+            if (chosen != null && !chosen.isEmpty()) {
+                selectedBits[f] = union(f, chosen);
+            }
+        }
+
+        int[][] counts = new int[facetCount][];
+        for (int f = 0; f < facetCount; f++) {
+            counts[f] = new int[valueBits[f].length];
+        }
+        long[] matches = new long[wordCount];
+        int matchCount = 0;
+        long[] prefix = new long[facetCount + 1];  // prefix[f]: 패싯 0..f-1 조건의 AND
+        for (int w = 0; w < wordCount; w++) {
+            long valid = w == wordCount - 1 && (rowCount & 63) != 0 ? (1L << rowCount) - 1 : -1L;
+            if (rowFilter != null) {
+                valid &= rowFilter[w];
+            }
+            prefix[0] = valid;
+            for (int f = 0; f < facetCount; f++) {
+                prefix[f + 1] = selectedBits[f] != null ? prefix[f] & selectedBits[f][w] : prefix[f];
+            }
+            matches[w] = prefix[facetCount];
+            matchCount += Long.bitCount(prefix[facetCount]);
+
+            long suffix = -1L;  // 패싯 f+1.. 조건의 AND
+            for (int f = facetCount - 1; f >= 0; f--) {
+                long others = prefix[f] & suffix;
+                if (others != 0) {
+                    long[][] facetBits = valueBits[f];
+                    int[] facetCounts = counts[f];
+                    for (int v = 0; v < facetBits.length; v++) {
+                        facetCounts[v] += Long.bitCount(others & facetBits[v][w]);
+                    }
+                }
+                if (selectedBits[f] != null) {
+                    suffix &= selectedBits[f][w];
+                }
+            }
+        }
+        return new Counts(counts, matches, matchCount);
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private long[] union(int facet, Collection<String> chosen) {
+        long[] result = new long[wordCount];
+        for (String value : chosen) {
+            Integer ordinal = ordinals.get(facet).get(value);
+            if (ordinal != null) {
+                long[] set = bits.get(facet).get(ordinal);
+                for (int w = 0; w < wordCount; w++) {
+                    result[w] |= set[w];
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * count() 결과 (값 번호 순서 = 등록 순서)
+     */
+    public final class Counts {
+        private final int[][] counts;
+        private final long[] matches;
+        private final int matchCount;
+
+        private Counts(int[][] counts, long[] matches, int matchCount) {
+            this.counts = counts;
+            this.matches = matches;
+            this.matchCount = matchCount;
+        }
+
+        /**
+         * 모든 선택 조건에 맞는 행 수
+         */
+        public int matchCount() {
+            return matchCount;
+        }
+
+        /**
+         * 모든 선택 조건에 맞는 행 번호 (오름차순)
+         */
+        public int[] matchingRows() {
+            int[] rows = new int[matchCount];
+            int n = 0;
+            for (int w = 0; w < matches.length; w++) {
+                long word = matches[w];
+                while (word != 0) {
+                    rows[n++] = (w << 6) + Long.numberOfTrailingZeros(word);
+                    word &= word - 1;
+                }
+            }
+            return rows;
+        }
+
+        public int valueCount(int facet) {
+            return counts[facet].length;
+        }
+
+        public String value(int facet, int ordinal) {
+            return values.get(facet).get(ordinal);
+        }
+
+        /**
+         * 패싯 값의 개수 (그 패싯을 제외한 나머지 선택 조건 기준)
+         */
+        public int count(int facet, int ordinal) {
+            return counts[facet][ordinal];
+        }
+
+        @Override
+        public String toString() {
+            return "FacetIndex.Counts{" +
+                    "matchCount=" + matchCount +
+                    ", counts=" + Arrays.deepToString(counts) +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,289 @@
+package com.project.app.util;
+
+/**
+ * 구분자 기반 데이터 파일용 커서 파서
+ *
+ * 특징:
+ * - src/main/data의 "필드/필드/..." 형식과 필드 안의 "값,값,..." 목록 형식을 처리
+ * - String.split, 정규식, Stream을 사용하지 않고 문자열을 한 번만 훑으며 구간(start, end)만 이동
+ * - 한 객체를 여러 줄에 재사용 가능 (reset)
+ * - 필드/목록 값은 구간으로만 유지하고, 필요할 때만 String으로 만듦
+ *   (id는 symbol()로 SymbolTable의 정규 인스턴스를 받아 이미 등록된 id면 할당 없음)
+ * - 앞뒤 공백은 자동으로 제외
+ *
+ * 사용 예:
+ *   cursor.reset(line);
+ *   cursor.nextField();  String id = cursor.symbol();
+ *   cursor.nextField();  int price = cursor.intValue();
+ *   cursor.nextField();  while (cursor.nextItem()) { ids.add(cursor.symbol()); }
+ */
+public class FieldCursor {
+
+    public static final char FIELD_DELIMITER = '/';
+    public static final char LIST_DELIMITER = ',';
+
+    /**
+     * 여러 줄로 된 텍스트의 각 줄 구간을 전달받는 콜백
+     */
+    public interface LineHandler {
+        void handle(CharSequence text, int start, int end);
+    }
+
+    private final SymbolTable symbols;
+
+    private CharSequence text;
+    private int lineStart;
+    private int lineEnd;
+    private int position;      // 다음 필드 시작 위치 (lineEnd + 1이면 더 이상 필드 없음)
+    private int fieldEnd;      // 현재 필드 끝 (목록 순회 범위)
+    private int itemPosition;  // 현재 필드 안에서 다음 목록 값 시작 위치
+    private int tokenStart;    // 현재 토큰(필드 또는 목록 값) 구간
+    private int tokenEnd;
+
+    public FieldCursor() {
+        this(SymbolTable.getInstance());
+    }
+
+    /**
+     * 지정한 심볼 테이블로 id를 정규화하는 커서를 만듭니다.
+     *
+     * @param symbols symbol()/symbolHandle()이 사용할 테이블
+     */
+    public FieldCursor(SymbolTable symbols) {
+        this.symbols = symbols;
+    }
+
+    /**
+     * 텍스트의 각 줄(\n 기준, \r 제외)을 순서대로 전달합니다. 줄마다 String을 만들지 않습니다.
+     *
+     * @param text 파일 전체 내용
+     * @param handler 줄마다 호출될 콜백
+     */
+    public static void forEachLine(CharSequence text, LineHandler handler) {
+        int length = text.length();
+        int start = 0;
+        while (start < length) {
+            int end = start;
+            while (end < length && text.charAt(end) != '\n') {
+                end++;
+            }
+            int contentEnd = end > start && text.charAt(end - 1) == '\r' ? end - 1 : end;
+            handler.handle(text, start, contentEnd);
+            start = end + 1;
+        }
+    }
+
+    /**
+     * 한 줄 전체를 파싱 대상으로 설정합니다.
+     */
+    public FieldCursor reset(CharSequence line) {
+        return reset(line, 0, line.length());
+    }
+
+    /**
+     * 텍스트의 [start, end) 구간을 한 줄로 보고 파싱 대상으로 설정합니다.
+     */
+    public FieldCursor reset(CharSequence text, int start, int end) {
+        this.text = text;
+        this.lineStart = start;
+        this.lineEnd = end;
+        this.position = start;
+        this.fieldEnd = start;
+        this.itemPosition = start;
+        this.tokenStart = start;
+        this.tokenEnd = start;
+        return this;
+    }
+
+    /**
+     * 현재 줄이 공백만으로 이루어져 있는지 확인합니다.
+     */
+    public boolean isBlankLine() {
+        for (int i = lineStart; i < lineEnd; i++) {
+            if (!Character.isWhitespace(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 현재 줄의 전체 필드 수를 반환합니다 (커서 위치는 바뀌지 않음).
+     */
+    public int countFields() {
+        int count = 1;
+        for (int i = lineStart; i < lineEnd; i++) {
+            if (text.charAt(i) == FIELD_DELIMITER) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 현재 줄 전체를 String으로 반환합니다 (오류 메시지 등 예외 경로용).
+     */
+    public String line() {
+        return text.subSequence(lineStart, lineEnd).toString();
+    }
+
+    /**
+     * 다음 필드로 이동합니다.
+     *
+     * @return 필드가 있으면 true, 줄 끝을 지났으면 false
+     */
+    public boolean nextField() {
+        if (position > lineEnd) {
+            return false;
+        }
+        int end = position;
+        while (end < lineEnd && text.charAt(end) != FIELD_DELIMITER) {
+            end++;
+        }
+        setToken(position, end);
+        fieldEnd = end;
+        itemPosition = position;
+        position = end + 1;
+        return true;
+    }
+
+    /**
+     * 지정한 개수만큼 필드를 건너뜁니다.
+     *
+     * @return 모두 건너뛰었으면 true
+     */
+    public boolean skipFields(int count) {
+        for (int i = 0; i < count; i++) {
+            if (!nextField()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 현재 필드 안의 다음 목록 값(콤마 구분)으로 이동합니다. 빈 값은 건너뜁니다.
+     *
+     * @return 값이 있으면 true
+     */
+    public boolean nextItem() {
+        while (itemPosition < fieldEnd) {
+            int end = itemPosition;
+            while (end < fieldEnd && text.charAt(end) != LIST_DELIMITER) {
+                end++;
+            }
+            setToken(itemPosition, end);
+            itemPosition = end + 1;
+            if (tokenStart < tokenEnd) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // ========== 현재 토큰 조회 ==========
+
+    public boolean isEmpty() {
+        return tokenStart == tokenEnd;
+    }
+
+    public int length() {
+        return tokenEnd - tokenStart;
+    }
+
+    public char charAt(int index) {
+        return text.charAt(tokenStart + index);
+    }
+
+    /**
+     * 현재 토큰을 새 String으로 반환합니다 (이름, 설명 등 일반 텍스트용).
+     */
+    public String text() {
+        return text.subSequence(tokenStart, tokenEnd).toString();
+    }
+
+    /**
+     * 현재 토큰을 SymbolTable의 정규 인스턴스로 반환합니다 (id, 분류 값용).
+     * 빈 토큰이면 null을 반환합니다.
+     */
+    public String symbol() {
+        return isEmpty() ? null : symbols.canonical(text, tokenStart, tokenEnd);
+    }
+
+    /**
+     * 현재 토큰을 SymbolTable의 정수 핸들로 반환합니다. 빈 토큰이면 -1을 반환합니다.
+     */
+    public int symbolHandle() {
+        return isEmpty() ? -1 : symbols.intern(text, tokenStart, tokenEnd);
+    }
+
+    /**
+     * 현재 토큰을 정수로 변환합니다 (부호 허용, 할당 없음).
+     *
+     * @throws NumberFormatException 숫자가 아닌 경우
+     */
+    public int intValue() {
+        long value = longValue();
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new NumberFormatException("int 범위를 벗어난 값: " + text());
+        }
+        return (int) value;
+    }
+
+    /**
+     * 현재 토큰을 long으로 변환합니다 (부호 허용, 할당 없음).
+     *
+     * @throws NumberFormatException 숫자가 아닌 경우
+     */
+    public long longValue() {
+        int i = tokenStart;
+        boolean negative = false;
+        if (i < tokenEnd && (text.charAt(i) == '-' || text.charAt(i) == '+')) {
+            negative = text.charAt(i) == '-';
+            i++;
+        }
+        if (i == tokenEnd) {
+            throw new NumberFormatException("숫자가 아닌 값: '" + text() + "'");
+        }
+        long value = 0;
+        for (; i < tokenEnd; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9 || value > (Long.MAX_VALUE - digit) / 10) {
+                throw new NumberFormatException("숫자가 아닌 값: '" + text() + "'");
+            }
+            value = value * 10 + digit;
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * 현재 토큰이 주어진 문자열과 같은지 확인합니다 (할당 없음).
+     */
+    public boolean contentEquals(String value) {
+        if (value.length() != length()) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) != text.charAt(tokenStart + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // ========== Private Helper Methods ==========
+
+    /**
+     * 앞뒤 공백을 제외하고 현재 토큰 구간을 설정합니다.
+     */
+    private void setToken(int start, int end) {
+        while (start < end && Character.isWhitespace(text.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(text.charAt(end - 1))) {
+            end--;
+        }
+        tokenStart = start;
+        tokenEnd = end;
+    }
+}
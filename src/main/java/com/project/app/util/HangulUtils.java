@@ -0,0 +1,117 @@
+package com.project.app.util;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * 한글 처리 유틸리티
+ *
+ * 기능:
+ * - 검색용 정규화 (NFC 정규화 + 소문자 변환)
+ * - 완성형 음절의 초성 추출 (예: "현우진" -> "ㅎㅇㅈ")
+ * - 초성 검색어 판별 및 초성 혼합 검색어 매칭 (예: "현ㅇ" 은 "현우진"과 일치)
+ */
+public final class HangulUtils {
+
+    private static final char SYLLABLE_START = '가';
+    private static final char SYLLABLE_END = '힣';
+    private static final int SYLLABLES_PER_CHOSEONG = 21 * 28;
+
+    /** 초성 19자 (호환용 자모, 코드 순으로 정렬됨) */
+    private static final char[] CHOSEONG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private HangulUtils() {
+    }
+
+    /**
+     * 검색용 정규화
+     * 조합형(NFD)으로 들어온 한글도 완성형(NFC)으로 맞추고, 영문은 소문자로 변환합니다.
+     *
+     * @param text 원본 문자열
+     * @return 정규화된 문자열 (null이면 빈 문자열)
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text.trim(), Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+
+    public static boolean isSyllable(char c) {
+        return c >= SYLLABLE_START && c <= SYLLABLE_END;
+    }
+
+    /**
+     * 초성으로 쓰이는 호환용 자음(19자)인지 확인
+     * ㄳ, ㄵ, ㅀ 같은 겹받침 자모는 ㄱ~ㅎ 범위 안에 있지만 초성이 아니므로 제외합니다.
+     */
+    public static boolean isChoseong(char c) {
+        return c >= CHOSEONG[0] && c <= CHOSEONG[CHOSEONG.length - 1] && Arrays.binarySearch(CHOSEONG, c) >= 0;
+    }
+
+    /**
+     * 음절의 초성을 반환합니다. 완성형 한글이 아니면 그대로 반환합니다.
+     */
+    public static char choseongOf(char c) {
+        if (!isSyllable(c)) {
+            return c;
+        }
+        return CHOSEONG[(c - SYLLABLE_START) / SYLLABLES_PER_CHOSEONG];
+    }
+
+    /**
+     * 문자열의 각 음절을 초성으로 바꾼 문자열
+     *
+     * @param text 정규화된 문자열
+     * @return 초성 문자열 (예: "현우진" -> "ㅎㅇㅈ")
+     */
+    public static String toChoseong(String text) {
+        char[] chars = new char[text.length()];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = choseongOf(text.charAt(i));
+        }
+        return new String(chars);
+    }
+
+    /**
+     * 검색어에 초성(ㄱ~ㅎ)이 하나라도 포함되어 있는지 확인
+     */
+    public static boolean containsChoseong(String query) {
+        for (int i = 0; i < query.length(); i++) {
+            if (isChoseong(query.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 초성이 섞인 검색어가 대상 문자열의 연속된 부분과 일치하는지 확인합니다.
+     * 검색어의 초성 문자는 대상 음절의 초성과, 나머지 문자는 그대로 비교합니다.
+     *
+     * @param text 정규화된 대상 문자열
+     * @param query 정규화된 검색어
+     * @return 일치하는 구간이 있으면 true
+     */
+    public static boolean matchesWithChoseong(String text, String query) {
+        int last = text.length() - query.length();
+        for (int start = 0; start <= last; start++) {
+            int i = 0;
+            while (i < query.length() && charMatches(text.charAt(start + i), query.charAt(i))) {
+                i++;
+            }
+            if (i == query.length()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean charMatches(char textChar, char queryChar) {
+        return textChar == queryChar || (isChoseong(queryChar) && choseongOf(textChar) == queryChar);
+    }
+}
@@ -0,0 +1,146 @@
+package com.project.app.util;
+
+/**
+ * int 전용 해시 집합 (오픈 어드레싱, 선형 탐사)
+ *
+ * 특징:
+ * - HashSet<Integer>와 달리 원소마다 객체를 만들지 않고 int 배열 하나에 저장
+ * - add / contains / remove 모두 평균 O(1)
+ * - 0 이상의 값만 저장 가능 (내부적으로 0을 빈 칸 표시로 사용하기 위해 값+1을 저장)
+ */
+public class IntHashSet {
+
+    private static final int DEFAULT_CAPACITY = 8;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private int[] slots; // 0: 빈 칸, 그 외: 값 + 1
+    private int size;
+    private int resizeThreshold;
+
+    public IntHashSet() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public IntHashSet(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(DEFAULT_CAPACITY, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        allocate(capacity);
+    }
+
+    /**
+     * 값을 추가합니다.
+     *
+     * @param value 0 이상의 값
+     * @return 새로 추가되었으면 true, 이미 있으면 false
+     */
+    public boolean add(int value) {
+        checkValue(value);
+        int stored = value + 1;
+        int mask = slots.length - 1;
+        int index = mix(value) & mask;
+        while (slots[index] != 0) {
+            if (slots[index] == stored) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        slots[index] = stored;
+        if (++size > resizeThreshold) {
+            rehash(slots.length << 1);
+        }
+        return true;
+    }
+
+    public boolean contains(int value) {
+        if (value < 0) {
+            return false;
+        }
+        int stored = value + 1;
+        int mask = slots.length - 1;
+        int index = mix(value) & mask;
+        while (slots[index] != 0) {
+            if (slots[index] == stored) {
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * 값을 제거합니다. 뒤따르는 원소들을 당겨와 탐사 체인이 끊어지지 않도록 합니다.
+     *
+     * @return 제거했으면 true
+     */
+    public boolean remove(int value) {
+        if (value < 0) {
+            return false;
+        }
+        int stored = value + 1;
+        int mask = slots.length - 1;
+        int index = mix(value) & mask;
+        while (slots[index] != stored) {
+            if (slots[index] == 0) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        // backward shift deletion
+        int gap = index;
+        int next = (gap + 1) & mask;
+        while (slots[next] != 0) {
+            int home = mix(slots[next] - 1) & mask;
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                slots[gap] = slots[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        slots[gap] = 0;
+        size--;
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private void allocate(int capacity) {
+        slots = new int[capacity];
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private void rehash(int newCapacity) {
+        int[] old = slots;
+        allocate(newCapacity);
+        int mask = slots.length - 1;
+        for (int stored : old) {
+            if (stored != 0) {
+                int index = mix(stored - 1) & mask;
+                while (slots[index] != 0) {
+                    index = (index + 1) & mask;
+                }
+                slots[index] = stored;
+            }
+        }
+    }
+
+    /**
+     * 연속된 id가 같은 구역에 몰리지 않도록 비트를 섞습니다.
+     */
+    private static int mix(int value) {
+        int h = value * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static void checkValue(int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("IntHashSet은 0 이상의 값만 저장할 수 있습니다: " + value);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.project.app.util;
+
+import java.util.Arrays;
+
+/**
+ * int 전용 가변 길이 리스트
+ *
+ * 특징:
+ * - ArrayList<Integer>와 달리 박싱(Integer 객체 생성)이 없음
+ * - 인덱스, 역색인의 posting list 등 id 목록을 촘촘하게 저장하는 용도
+ */
+public class IntList {
+
+    private static final int DEFAULT_CAPACITY = 4;
+
+    private int[] values;
+    private int size;
+
+    public IntList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public IntList(int initialCapacity) {
+        this.values = new int[Math.max(initialCapacity, 1)];
+    }
+
+    public void add(int value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        values[size++] = value;
+    }
+
+    public int get(int index) {
+        if (index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return values[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 정렬된 리스트에서 값을 이진 탐색으로 찾아 제거합니다.
+     *
+     * @param value 제거할 값
+     * @return 제거했으면 true
+     */
+    public boolean removeSorted(int value) {
+        int index = Arrays.binarySearch(values, 0, size, value);
+        if (index < 0) {
+            return false;
+        }
+        System.arraycopy(values, index + 1, values, index, size - index - 1);
+        size--;
+        return true;
+    }
+
+    /**
+     * 정렬 상태를 유지하면서 값을 삽입합니다. 이미 있으면 무시합니다.
+     * 마지막 값보다 크면 끝에 추가하므로 증가하는 순서로 넣을 때 O(1)입니다.
+     *
+     * @param value 삽입할 값
+     */
+    public void addSorted(int value) {
+        if (size == 0 || values[size - 1] < value) {
+            add(value);
+            return;
+        }
+        int index = Arrays.binarySearch(values, 0, size, value);
+        if (index >= 0) {
+            return;
+        }
+        int insertAt = -index - 1;
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        System.arraycopy(values, insertAt, values, insertAt + 1, size - insertAt);
+        values[insertAt] = value;
+        size++;
+    }
+
+    /**
+     * 내부 배열을 직접 반환합니다 (복사 없음).
+     * 유효한 값은 0 ~ size()-1 구간뿐이며, 호출자는 배열을 수정하면 안 됩니다.
+     */
+    public int[] rawArray() {
+        return values;
+    }
+
+    public int[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+}
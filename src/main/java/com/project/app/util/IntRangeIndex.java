@@ -0,0 +1,125 @@
+package com.project.app.util;
+
+import java.util.Arrays;
+
+/**
+ * int 값(가격 등) 범위 검색 색인
+ *
+ * 특징:
+ * - 행 번호(0..n-1)를 값 오름차순(같으면 행 번호 오름차순)으로 정렬한 int 배열 두 개(값, 행 번호)만 유지
+ * - 정렬은 (값 << 32 | 행 번호)를 long 배열에 담아 한 번에 수행 (Integer 박싱 없음)
+ * - "5만원 이하" 같은 범위 검색은 이진 탐색 두 번으로 [from, to) 구간을 찾고 그 구간만 복사 (전체를 훑지 않음)
+ * - 다른 필터와 조합할 수 있도록 행 번호 오름차순 배열(SortedIntArrays.intersect용)이나
+ *   행 비트셋(FacetIndex.count용)으로도 반환
+ *
+ * 생성 후 변경하지 않으므로 여러 스레드에서 동시에 읽을 수 있습니다.
+ */
+public class IntRangeIndex {
+
+    private final int[] sortedValues;  // 순위 -> 값
+    private final int[] sortedRows;    // 순위 -> 행 번호
+
+    /**
+     * @param values 행 번호 -> 값
+     */
+    public IntRangeIndex(int[] values) {
+        int size = values.length;
+        long[] packed = new long[size];
+        for (int row = 0; row < size; row++) {
+            packed[row] = ((long) values[row] << 32) | row;
+        }
+        Arrays.sort(packed);
+        this.sortedValues = new int[size];
+        this.sortedRows = new int[size];
+        for (int rank = 0; rank < size; rank++) {
+            sortedValues[rank] = (int) (packed[rank] >> 32);
+            sortedRows[rank] = (int) packed[rank];
+        }
+    }
+
+    public int size() {
+        return sortedRows.length;
+    }
+
+    public int valueAt(int rank) {
+        return sortedValues[rank];
+    }
+
+    public int rowAt(int rank) {
+        return sortedRows[rank];
+    }
+
+    /**
+     * 값이 min 이상인 첫 순위
+     */
+    public int lowerBound(int min) {
+        int low = 0;
+        int high = sortedValues.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sortedValues[mid] < min) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 값이 max보다 큰 첫 순위
+     */
+    public int upperBound(int max) {
+        int low = 0;
+        int high = sortedValues.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sortedValues[mid] <= max) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 값이 [min, max] 안인 행 수
+     */
+    public int count(int min, int max) {
+        return Math.max(0, upperBound(max) - lowerBound(min));
+    }
+
+    /**
+     * 값이 [min, max] 안인 행 번호 (값 오름차순)
+     */
+    public int[] rowsByValue(int min, int max) {
+        int from = lowerBound(min);
+        int to = upperBound(max);
+        return from < to ? Arrays.copyOfRange(sortedRows, from, to) : SortedIntArrays.EMPTY;
+    }
+
+    /**
+     * 값이 [min, max] 안인 행 번호 (행 번호 오름차순, 다른 정렬 목록과 교집합용)
+     */
+    public int[] rowsInOrder(int min, int max) {
+        int[] rows = rowsByValue(min, max);
+        Arrays.sort(rows);
+        return rows;
+    }
+
+    /**
+     * 값이 [min, max] 안인 행의 비트셋 (FacetIndex.count의 행 필터용)
+     *
+     * @param rowCount 전체 행 수
+     */
+    public long[] rowBits(int min, int max, int rowCount) {
+        long[] bits = new long[(rowCount + 63) >>> 6];
+        int to = upperBound(max);
+        for (int rank = lowerBound(min); rank < to; rank++) {
+            int row = sortedRows[rank];
+            bits[row >>> 6] |= 1L << row;
+        }
+        return bits;
+    }
+}
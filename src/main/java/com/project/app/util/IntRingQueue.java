@@ -0,0 +1,113 @@
+package com.project.app.util;
+
+/**
+ * int 전용 FIFO 큐 (원형 배열)
+ *
+ * 특징:
+ * - ArrayDeque<Integer>와 달리 박싱이 없고 원소당 int 하나만 사용
+ * - offer / poll / peek 모두 O(1) (배열이 가득 차면 두 배로 늘림)
+ * - 중간 원소 제거(remove)는 O(n) — 드물게 일어나는 작업(대기 취소 등)에만 사용
+ *
+ * 동기화하지 않으므로 여러 스레드에서 사용할 때는 외부에서 락을 잡아야 합니다.
+ */
+public class IntRingQueue {
+
+    private static final int DEFAULT_CAPACITY = 8;
+
+    private int[] values;
+    private int head;  // 다음에 꺼낼 위치
+    private int size;
+
+    public IntRingQueue() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public IntRingQueue(int initialCapacity) {
+        this.values = new int[Math.max(initialCapacity, 1)];
+    }
+
+    /**
+     * 큐 끝에 값을 추가합니다.
+     */
+    public void offer(int value) {
+        if (size == values.length) {
+            grow();
+        }
+        values[(head + size) % values.length] = value;
+        size++;
+    }
+
+    /**
+     * 큐 앞의 값을 꺼냅니다.
+     *
+     * @throws IllegalStateException 큐가 비어 있는 경우
+     */
+    public int poll() {
+        int value = peek();
+        head = (head + 1) % values.length;
+        size--;
+        return value;
+    }
+
+    /**
+     * 큐 앞의 값을 꺼내지 않고 반환합니다.
+     *
+     * @throws IllegalStateException 큐가 비어 있는 경우
+     */
+    public int peek() {
+        if (size == 0) {
+            throw new IllegalStateException("큐가 비어 있습니다.");
+        }
+        return values[head];
+    }
+
+    /**
+     * 값이 처음 나오는 위치를 찾아 제거하고 뒤의 원소를 한 칸씩 당깁니다 (O(n)).
+     *
+     * @return 제거했으면 true
+     */
+    public boolean remove(int value) {
+        int index = indexOf(value);
+        if (index < 0) {
+            return false;
+        }
+        for (int i = index; i < size - 1; i++) {
+            values[(head + i) % values.length] = values[(head + i + 1) % values.length];
+        }
+        size--;
+        return true;
+    }
+
+    /**
+     * 값의 위치 (0이면 맨 앞)
+     *
+     * @return 위치, 없으면 -1
+     */
+    public int indexOf(int value) {
+        for (int i = 0; i < size; i++) {
+            if (values[(head + i) % values.length] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private void grow() {
+        int[] grown = new int[values.length * 2];
+        for (int i = 0; i < size; i++) {
+            grown[i] = values[(head + i) % values.length];
+        }
+        values = grown;
+        head = 0;
+    }
+}
@@ -0,0 +1,90 @@
+package com.project.app.util;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 점수 순위표 (점수 내림차순, 같으면 ID 오름차순)
+ *
+ * 특징:
+ * - ConcurrentSkipListSet에 (점수, ID) 항목을 정렬된 상태로 유지
+ * - 점수가 바뀌면 이전 항목을 빼고 새 항목을 넣음 (O(log n), 전체 재정렬 없음)
+ * - 상위 K개 조회는 앞에서부터 K개만 읽음 (O(K))
+ * - 같은 ID의 갱신은 ConcurrentHashMap.compute로 직렬화하고, 조회는 락 없이 수행
+ *   (갱신 도중의 조회에서는 그 항목이 잠깐 빠져 보일 수 있음)
+ */
+public class Leaderboard {
+
+    private static final class Entry implements Comparable<Entry> {
+        final double score;
+        final String id;
+
+        Entry(double score, String id) {
+            this.score = score;
+            this.id = id;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            int result = Double.compare(other.score, score);
+            return result != 0 ? result : id.compareTo(other.id);
+        }
+    }
+
+    private final ConcurrentSkipListSet<Entry> ranking = new ConcurrentSkipListSet<>();
+    private final ConcurrentHashMap<String, Entry> current = new ConcurrentHashMap<>();
+
+    /**
+     * ID의 점수를 등록하거나 바꿉니다.
+     */
+    public void update(String id, double score) {
+        current.compute(id, (key, previous) -> {
+            if (previous != null) {
+                if (previous.score == score) {
+                    return previous;
+                }
+                ranking.remove(previous);
+            }
+            Entry entry = new Entry(score, key);
+            ranking.add(entry);
+            return entry;
+        });
+    }
+
+    /**
+     * ID를 순위표에서 뺍니다.
+     */
+    public void remove(String id) {
+        current.computeIfPresent(id, (key, previous) -> {
+            ranking.remove(previous);
+            return null;
+        });
+    }
+
+    /**
+     * 상위 k개의 ID (1위부터)
+     */
+    public List<String> top(int k) {
+        List<String> result = new ArrayList<>(Math.max(0, Math.min(k, current.size())));
+        Iterator<Entry> iterator = ranking.iterator();
+        while (result.size() < k && iterator.hasNext()) {
+            result.add(iterator.next().id);
+        }
+        return result;
+    }
+
+    /**
+     * ID의 현재 점수 (없으면 NaN)
+     */
+    public double scoreOf(String id) {
+        Entry entry = current.get(id);
+        return entry != null ? entry.score : Double.NaN;
+    }
+
+    public int size() {
+        return current.size();
+    }
+}
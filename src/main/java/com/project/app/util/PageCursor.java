@@ -0,0 +1,87 @@
+package com.project.app.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 목록 페이지 커서 (정렬 값 + ID)
+ *
+ * 특징:
+ * - "이 페이지의 마지막 항목" 위치를 (정렬 순서, 정렬 값, ID)로 기억
+ * - 다음 페이지는 순서상 이 위치 바로 뒤부터 읽음 (offset 방식과 달리 앞쪽 항목의 순서가 바뀌어도
+ *   페이지가 통째로 밀리거나 당겨지지 않고, 깊은 페이지도 O(log n)으로 시작 위치를 찾음)
+ * - 문자열로 주고받을 때는 Base64(URL-safe)로 인코딩한 불투명(opaque) 토큰 사용
+ *
+ * 토큰 형식(인코딩 전): "v1" / scope / key / id  (구분자 '\n', 필드에는 개행이 없어야 함)
+ */
+public final class PageCursor {
+
+    private static final String VERSION = "v1";
+    private static final char SEPARATOR = '\n';
+
+    private final String scope;  // 목록 종류 + 정렬 순서 (예: "lecture:POPULAR")
+    private final String key;    // 마지막 항목의 정렬 값
+    private final String id;     // 마지막 항목의 ID
+
+    public PageCursor(String scope, String key, String id) {
+        if (scope == null || key == null || id == null) {
+            throw new IllegalArgumentException("커서 값은 null일 수 없습니다.");
+        }
+        this.scope = scope;
+        this.key = key;
+        this.id = id;
+    }
+
+    public String getScope() {
+        return scope;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * 불투명 토큰으로 인코딩합니다.
+     */
+    public String encode() {
+        String raw = VERSION + SEPARATOR + scope + SEPARATOR + key + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 토큰을 해석합니다.
+     *
+     * @param token encode()로 만든 토큰
+     * @param expectedScope 요청한 목록의 scope (다른 목록/정렬의 커서를 거절)
+     * @throws IllegalArgumentException 형식이 잘못되었거나 scope가 다른 경우
+     */
+    public static PageCursor decode(String token, String expectedScope) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+        String[] parts = raw.split(String.valueOf(SEPARATOR), -1);
+        if (parts.length != 4 || !VERSION.equals(parts[0])) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+        if (!parts[1].equals(expectedScope)) {
+            throw new IllegalArgumentException("다른 목록의 커서입니다: " + parts[1]);
+        }
+        return new PageCursor(parts[1], parts[2], parts[3]);
+    }
+
+    @Override
+    public String toString() {
+        return "PageCursor{" +
+                "scope='" + scope + '\'' +
+                ", key='" + key + '\'' +
+                ", id='" + id + '\'' +
+                '}';
+    }
+}
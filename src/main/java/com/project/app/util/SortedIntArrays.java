@@ -0,0 +1,96 @@
+package com.project.app.util;
+
+import java.util.Arrays;
+
+/**
+ * 정렬된 int 배열(id 목록) 연산 모음
+ *
+ * 특징:
+ * - 역색인/보조 인덱스의 posting list 교집합, 합집합 계산
+ * - 크기 차이가 큰 목록끼리는 갈로핑(지수 탐색)으로 작은 쪽 길이에 비례하는 시간에 교집합 계산
+ */
+public final class SortedIntArrays {
+
+    public static final int[] EMPTY = new int[0];
+
+    private SortedIntArrays() {
+    }
+
+    /**
+     * 두 정렬 목록의 교집합
+     *
+     * @param a 정렬된 배열
+     * @param aSize a의 유효 길이
+     * @param b 정렬된 배열
+     * @param bSize b의 유효 길이
+     * @return 교집합 (정렬됨)
+     */
+    public static int[] intersect(int[] a, int aSize, int[] b, int bSize) {
+        if (aSize > bSize) {
+            return intersect(b, bSize, a, aSize);
+        }
+        int[] result = new int[aSize];
+        int count = 0;
+        int j = 0;
+        for (int i = 0; i < aSize && j < bSize; i++) {
+            int target = a[i];
+            j = gallop(b, j, bSize, target);
+            if (j < bSize && b[j] == target) {
+                result[count++] = target;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * 두 정렬 목록의 합집합 (중복 제거)
+     */
+    public static int[] union(int[] a, int[] b) {
+        int[] result = new int[a.length + b.length];
+        int i = 0;
+        int j = 0;
+        int count = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                result[count++] = a[i++];
+            } else if (a[i] > b[j]) {
+                result[count++] = b[j++];
+            } else {
+                result[count++] = a[i++];
+                j++;
+            }
+        }
+        while (i < a.length) {
+            result[count++] = a[i++];
+        }
+        while (j < b.length) {
+            result[count++] = b[j++];
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * from 위치부터 target 이상인 첫 위치를 지수 탐색 + 이진 탐색으로 찾습니다.
+     */
+    private static int gallop(int[] array, int from, int size, int target) {
+        int step = 1;
+        int low = from;
+        int high = from;
+        while (high < size && array[high] < target) {
+            low = high + 1;
+            high = from + step;
+            step <<= 1;
+        }
+        high = Math.min(high, size);
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (array[mid] < target) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,109 @@
+package com.project.app.util;
+
+import java.util.Arrays;
+
+/**
+ * 정렬된 순열 (번호 0..n-1을 정렬 기준에 따라 나열한 int 배열 + 역순열)
+ *
+ * 특징:
+ * - 원소 자체가 아니라 번호만 정렬하므로 정렬 기준(비교 함수)만 바꿔 여러 순서를 동시에 유지 가능
+ * - 값이 바뀐 번호 하나는 reposition으로 앞뒤 이웃과 비교하며 제자리로 옮김 (옮긴 칸 수만큼의 비용)
+ * - 순위로 조회 O(1), 번호의 순위 조회 O(1)
+ * - 커서 위치 찾기(firstRankAfter)는 이진 탐색 O(log n)
+ *
+ * 동기화하지 않으므로 여러 스레드에서 사용할 때는 외부에서 락을 잡아야 합니다.
+ */
+public class SortedPermutation {
+
+    /**
+     * 번호 두 개를 비교하는 함수 (a가 앞이면 음수)
+     * 같은 번호가 아니면 0을 반환하지 않아야 합니다 (예: 값이 같으면 ID로 비교).
+     */
+    public interface IndexComparator {
+        int compare(int a, int b);
+    }
+
+    /**
+     * 커서 위치와 번호를 비교하는 함수
+     * 번호가 커서보다 뒤에 있어야 하면 양수, 앞이거나 커서 자신이면 0 이하를 반환합니다.
+     */
+    public interface Probe {
+        int compareWith(int index);
+    }
+
+    private final int[] order;  // 순위 -> 번호
+    private final int[] ranks;  // 번호 -> 순위
+    private final IndexComparator comparator;
+
+    public SortedPermutation(int size, IndexComparator comparator) {
+        this.comparator = comparator;
+        this.order = new int[size];
+        this.ranks = new int[size];
+        Integer[] sorted = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            sorted[i] = i;
+        }
+        Arrays.sort(sorted, comparator::compare);
+        for (int rank = 0; rank < size; rank++) {
+            order[rank] = sorted[rank];
+            ranks[sorted[rank]] = rank;
+        }
+    }
+
+    /**
+     * 순위의 번호
+     */
+    public int at(int rank) {
+        return order[rank];
+    }
+
+    /**
+     * 번호의 순위
+     */
+    public int rankOf(int index) {
+        return ranks[index];
+    }
+
+    public int size() {
+        return order.length;
+    }
+
+    /**
+     * 값이 바뀐 번호 하나를 제자리로 옮깁니다.
+     * 다른 번호의 값은 바뀌지 않았어야 합니다 (여러 개가 바뀌었으면 하나씩 호출).
+     */
+    public void reposition(int index) {
+        int rank = ranks[index];
+        while (rank > 0 && comparator.compare(index, order[rank - 1]) < 0) {
+            order[rank] = order[rank - 1];
+            ranks[order[rank]] = rank;
+            rank--;
+        }
+        while (rank < order.length - 1 && comparator.compare(order[rank + 1], index) < 0) {
+            order[rank] = order[rank + 1];
+            ranks[order[rank]] = rank;
+            rank++;
+        }
+        order[rank] = index;
+        ranks[index] = rank;
+    }
+
+    /**
+     * 커서 바로 다음 순위를 찾습니다 (이진 탐색).
+     *
+     * @return probe가 양수를 반환하는 첫 순위, 없으면 size()
+     */
+    public int firstRankAfter(Probe probe) {
+        int low = 0;
+        int high = order.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (probe.compareWith(order[mid]) > 0) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+}
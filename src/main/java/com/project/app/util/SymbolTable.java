@@ -0,0 +1,210 @@
+package com.project.app.util;
+
+import java.util.Arrays;
+
+/**
+ * 전역 심볼 테이블 (id 문자열 정규화 및 정수 핸들 변환)
+ *
+ * 특징:
+ * - 데이터 파일에서 읽은 id(L001, I001, B1, user001 등)와 분류 값(학원 ID, 과목)을
+ *   하나의 정규(canonical) String 인스턴스로 통일하여 중복 String 객체를 제거
+ * - 같은 id에는 항상 같은 정수 핸들(0부터 순서대로 부여)을 반환
+ *   → IntHashSet 등 원시 타입 자료구조에 id를 저장하고 int 비교로 동등성 판단 가능
+ * - 핸들 -> 문자열 변환은 배열 조회 한 번 (O(1))
+ * - 내부 해시 테이블은 int 배열 기반이므로 항목마다 Integer/Entry 객체를 만들지 않음
+ * - 한 번 등록된 id는 제거되지 않음
+ * - 등록(intern)은 synchronized, 조회(lookup)는 같은 int 배열 테이블을 락 없이 탐색
+ *   (수강 여부 확인처럼 자주 호출되는 읽기 경로가 전역 락을 기다리지 않도록 함)
+ *   → 등록할 때마다 슬롯을 채운 뒤 symbols를 다시 volatile로 공개하고, 조회는 symbols를 먼저 읽어
+ *     그 시점까지 등록된 id를 모두 볼 수 있음 (아직 공개 중인 슬롯은 건너뜀)
+ *
+ * 모든 Repository의 파일 파서는 id 필드를 canonical()로 통과시켜야 합니다.
+ */
+public class SymbolTable {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private static SymbolTable instance;
+
+    /**
+     * 애플리케이션 전체에서 공유하는 테이블을 반환합니다.
+     */
+    public static synchronized SymbolTable getInstance() {
+        if (instance == null) {
+            instance = new SymbolTable();
+        }
+        return instance;
+    }
+
+    private volatile String[] symbols = new String[INITIAL_CAPACITY]; // 핸들 -> 문자열
+    private volatile int[] table = new int[INITIAL_CAPACITY * 2];     // 해시 슬롯 -> 핸들 + 1 (0: 빈 칸)
+    private int size;
+
+    /**
+     * id를 등록하고 정수 핸들을 반환합니다. 이미 등록된 id면 기존 핸들을 반환합니다.
+     *
+     * @param symbol id 문자열
+     * @return 0 이상의 정수 핸들
+     */
+    public synchronized int intern(String symbol) {
+        int slot = findSlot(symbol);
+        if (table[slot] != 0) {
+            return table[slot] - 1;
+        }
+        return insert(slot, symbol);
+    }
+
+    /**
+     * 문자열의 일부 구간을 id로 등록하고 정수 핸들을 반환합니다.
+     * 이미 등록된 id면 String 객체를 새로 만들지 않습니다 (파서의 할당 없는 경로).
+     *
+     * @param text 원본 문자열 (한 줄 또는 파일 전체)
+     * @param start 구간 시작 (포함)
+     * @param end 구간 끝 (제외)
+     * @return 0 이상의 정수 핸들
+     */
+    public synchronized int intern(CharSequence text, int start, int end) {
+        int mask = table.length - 1;
+        int slot = spread(hashOf(text, start, end)) & mask;
+        String[] current = symbols;
+        while (table[slot] != 0) {
+            if (regionEquals(current[table[slot] - 1], text, start, end)) {
+                return table[slot] - 1;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return insert(slot, text.subSequence(start, end).toString());
+    }
+
+    /**
+     * 문자열 구간의 정규 String 인스턴스를 반환합니다.
+     */
+    public String canonical(CharSequence text, int start, int end) {
+        return symbol(intern(text, start, end));
+    }
+
+    /**
+     * id의 정규 String 인스턴스를 반환합니다.
+     * 같은 내용의 id는 항상 같은 인스턴스가 반환되므로 중복 String이 메모리에 남지 않습니다.
+     *
+     * @param symbol id 문자열 (null이면 null 반환)
+     * @return 정규 인스턴스
+     */
+    public String canonical(String symbol) {
+        if (symbol == null) {
+            return null;
+        }
+        return symbol(intern(symbol));
+    }
+
+    /**
+     * 등록된 id의 핸들을 반환합니다.
+     *
+     * @return 핸들, 등록되지 않은 id면 -1
+     */
+    public int lookup(String symbol) {
+        if (symbol == null) {
+            return -1;
+        }
+        String[] current = symbols;  // 먼저 읽어야 이 시점까지 공개된 슬롯이 모두 보임
+        int[] slots = table;
+        int mask = slots.length - 1;
+        int slot = spread(symbol.hashCode()) & mask;
+        int entry;
+        while ((entry = slots[slot]) != 0) {
+            // 공개 전인 핸들은 current에 없을 수 있으므로 건너뜀 (찾는 id가 아님)
+            String candidate = entry <= current.length ? current[entry - 1] : null;
+            if (candidate != null && candidate.equals(symbol)) {
+                return entry - 1;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * 핸들에 해당하는 id 문자열을 반환합니다.
+     *
+     * @param handle intern()이 반환한 핸들
+     * @return id 문자열
+     */
+    public String symbol(int handle) {
+        return symbols[handle];
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    // ========== Private Helper Methods ==========
+
+    /**
+     * 문자열이 있는 슬롯, 또는 넣을 수 있는 빈 슬롯을 찾습니다 (선형 탐사).
+     */
+    private int findSlot(String symbol) {
+        int mask = table.length - 1;
+        int slot = spread(symbol.hashCode()) & mask;
+        String[] current = symbols;
+        while (table[slot] != 0 && !current[table[slot] - 1].equals(symbol)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private int insert(int slot, String symbol) {
+        int handle = size;
+        String[] current = symbols;
+        if (handle == current.length) {
+            current = Arrays.copyOf(current, handle * 2);
+        }
+        current[handle] = symbol;
+        table[slot] = handle + 1;
+        size++;
+        symbols = current;  // 슬롯을 채운 뒤 공개 (lookup이 읽는 시점의 등록 상태를 확정)
+        if (size * 2 > table.length) {
+            rehash();
+        }
+        return handle;
+    }
+
+    private void rehash() {
+        int[] newTable = new int[table.length * 2];
+        int mask = newTable.length - 1;
+        String[] current = symbols;
+        for (int handle = 0; handle < size; handle++) {
+            int slot = spread(current[handle].hashCode()) & mask;
+            while (newTable[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            newTable[slot] = handle + 1;
+        }
+        table = newTable;
+    }
+
+    /**
+     * String.hashCode()와 같은 방식으로 구간의 해시를 계산합니다.
+     */
+    private static int hashOf(CharSequence text, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + text.charAt(i);
+        }
+        return hash;
+    }
+
+    private static boolean regionEquals(String symbol, CharSequence text, int start, int end) {
+        if (symbol.length() != end - start) {
+            return false;
+        }
+        for (int i = 0; i < symbol.length(); i++) {
+            if (symbol.charAt(i) != text.charAt(start + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
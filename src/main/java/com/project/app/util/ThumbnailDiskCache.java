@@ -0,0 +1,116 @@
+package com.project.app.util;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 축소 이미지 디스크 캐시 (원본 내용 해시 + 목표 크기 키)
+ *
+ * 특징:
+ * - 한 번 축소한 썸네일을 PNG로 저장해 두고, 다음 실행부터는 작은 PNG만 읽음 (원본 크기 디코딩 생략)
+ * - 파일 이름: "<경로 해시>_<너비>x<높이>[a]_<내용 해시>.png" (a: 비율 유지)
+ *   원본 내용이 바뀌면 내용 해시가 달라져 이전 항목은 쓰이지 않고, 새 항목을 저장할 때 같은 경로/크기의 이전 파일을 지움
+ * - 저장은 임시 파일에 쓴 뒤 원자적으로 교체 (중간에 종료되어도 깨진 파일을 읽지 않음)
+ * - 읽기/쓰기 실패는 캐시 없음으로 처리 (원본을 다시 디코딩하면 되므로 예외를 밖으로 던지지 않음)
+ *
+ * ThumbnailLoader의 작업 스레드에서 호출합니다.
+ */
+public class ThumbnailDiskCache {
+
+    /** 기본 캐시 폴더 (다른 데이터 파일과 같은 위치) */
+    public static final Path DEFAULT_DIRECTORY = Paths.get("src/main/data/thumbnails");
+
+    private static final String EXTENSION = ".png";
+
+    private final Path directory;
+
+    public ThumbnailDiskCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * 원본 내용의 해시 (SHA-256, 16진수)
+     */
+    public static String contentHash(byte[] content) {
+        return hex(digest(content));
+    }
+
+    /**
+     * 저장된 썸네일을 읽습니다.
+     *
+     * @return 썸네일, 없거나 읽을 수 없으면 null
+     */
+    public BufferedImage get(String sourcePath, String contentHash, int width, int height, boolean keepAspect) {
+        Path file = directory.resolve(prefix(sourcePath, width, height, keepAspect) + contentHash + EXTENSION);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try {
+            return ImageIO.read(file.toFile());
+        } catch (IOException e) {
+            System.err.println("썸네일 캐시 읽기 실패: " + file + " - " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 썸네일을 저장하고 같은 경로/크기의 이전 내용 항목을 지웁니다.
+     */
+    public void put(String sourcePath, String contentHash, int width, int height, boolean keepAspect,
+                    BufferedImage image) {
+        String prefix = prefix(sourcePath, width, height, keepAspect);
+        String fileName = prefix + contentHash + EXTENSION;
+        Path file = directory.resolve(fileName);
+        try {
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, prefix, ".tmp");
+            try {
+                ImageIO.write(image, "png", temp.toFile());
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            try (DirectoryStream<Path> stale = Files.newDirectoryStream(directory, prefix + "*" + EXTENSION)) {
+                for (Path old : stale) {
+                    if (!old.getFileName().toString().equals(fileName)) {
+                        Files.deleteIfExists(old);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("썸네일 캐시 저장 실패: " + file + " - " + e.getMessage());
+        }
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private static String prefix(String sourcePath, int width, int height, boolean keepAspect) {
+        String pathHash = hex(digest(sourcePath.getBytes(StandardCharsets.UTF_8))).substring(0, 16);
+        return pathHash + "_" + width + "x" + height + (keepAspect ? "a" : "") + "_";
+    }
+
+    private static byte[] digest(byte[] content) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(content);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);  // 모든 JDK에 포함됨
+        }
+    }
+
+    private static String hex(byte[] bytes) {
+        StringBuilder sb = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return sb.toString();
+    }
+}
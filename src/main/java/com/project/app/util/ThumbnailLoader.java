@@ -0,0 +1,361 @@
+package com.project.app.util;
+
+import javax.imageio.ImageIO;
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 이미지 썸네일 비동기 로더 (작업 스레드 디코딩 + 축소 이미지 LRU 캐시)
+ *
+ * 특징:
+ * - 이미지 읽기(ImageIO)와 축소를 작업 스레드 풀에서 처리하여 Swing EDT를 막지 않음
+ * - 축소한 BufferedImage를 (경로, 너비, 높이, 비율 유지 여부) 키로 캐시
+ *   캐시 크기는 픽셀 수 x 4바이트로 계산한 바이트 예산으로 제한하고, 넘으면 가장 오래 안 쓴 이미지부터 제거
+ * - 같은 이미지를 동시에 여러 곳에서 요청하면 한 번만 읽고 결과를 모두에게 전달
+ * - 이미지가 도착하기 전까지 라벨에는 같은 크기의 자리 표시(placeholder) 이미지를 표시
+ * - 완료 콜백은 항상 EDT에서 호출 (캐시에 있으면 EDT에서 바로 호출)
+ * - 디스크 캐시(ThumbnailDiskCache)가 있으면 원본 내용 해시로 저장된 썸네일을 먼저 찾고,
+ *   있으면 원본을 디코딩하지 않음 (다음 실행부터 카드 크기의 작은 PNG만 읽음)
+ *
+ * 경로는 파일 경로(예: "src/main/resources/HomePageImages/...")를 먼저 찾고,
+ * 없으면 클래스패스 리소스(예: "icons/home.png")로 찾습니다.
+ */
+public class ThumbnailLoader {
+
+    // ========== 기본 설정 ==========
+
+    /** 축소 이미지 캐시의 기본 바이트 예산 (32MB) */
+    public static final long DEFAULT_BYTE_BUDGET = 32L * 1024 * 1024;
+
+    /** 강사 카드 프로필 사진 크기 (InstructorsPageView, 정사각형) */
+    public static final int INSTRUCTOR_CARD_IMAGE_SIZE = 83;
+
+    /** 강의 카드 썸네일 크기 (LecturePageView, 카드의 썸네일 영역에서 테두리를 뺀 크기) */
+    public static final int LECTURE_CARD_IMAGE_WIDTH = 138;
+    public static final int LECTURE_CARD_IMAGE_HEIGHT = 98;
+
+    /** 자리 표시 이미지 색상 */
+    private static final Color PLACEHOLDER_COLOR = new Color(235, 235, 235);
+
+    private static final String PENDING_KEY = "ThumbnailLoader.pending";
+
+    private static ThumbnailLoader instance;
+
+    /**
+     * 싱글톤 인스턴스를 반환하는 메서드
+     *
+     * @return 기본 설정으로 생성된 ThumbnailLoader
+     */
+    public static synchronized ThumbnailLoader getInstance() {
+        if (instance == null) {
+            int workers = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+            instance = new ThumbnailLoader(workers, DEFAULT_BYTE_BUDGET,
+                    new ThumbnailDiskCache(ThumbnailDiskCache.DEFAULT_DIRECTORY));
+        }
+        return instance;
+    }
+
+    /**
+     * 캐시 키 (경로 + 목표 크기 + 비율 유지 여부)
+     */
+    private static final class Key {
+        final String path;
+        final int width;
+        final int height;
+        final boolean keepAspect;
+
+        Key(String path, int width, int height, boolean keepAspect) {
+            this.path = path;
+            this.width = width;
+            this.height = height;
+            this.keepAspect = keepAspect;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            return width == other.width && height == other.height
+                    && keepAspect == other.keepAspect && path.equals(other.path);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(path, width, height, keepAspect);
+        }
+    }
+
+    private final ExecutorService workers;
+    private final long byteBudget;
+    private final ThumbnailDiskCache diskCache;  // null이면 디스크 캐시 없음
+    private final LinkedHashMap<Key, BufferedImage> cache = new LinkedHashMap<>(64, 0.75f, true);  // 접근 순서
+    private final Map<Key, List<Consumer<BufferedImage>>> inFlight = new HashMap<>();
+    private final Map<Long, ImageIcon> placeholders = new HashMap<>();
+    private long cachedBytes;
+
+    /**
+     * @param workerCount 작업 스레드 수
+     * @param byteBudget 축소 이미지 캐시의 최대 바이트 수
+     */
+    public ThumbnailLoader(int workerCount, long byteBudget) {
+        this(workerCount, byteBudget, null);
+    }
+
+    /**
+     * @param workerCount 작업 스레드 수
+     * @param byteBudget 축소 이미지 캐시의 최대 바이트 수
+     * @param diskCache 축소 이미지 디스크 캐시 (null이면 사용 안 함)
+     */
+    public ThumbnailLoader(int workerCount, long byteBudget, ThumbnailDiskCache diskCache) {
+        if (workerCount <= 0 || byteBudget <= 0) {
+            throw new IllegalArgumentException("workerCount, byteBudget은 0보다 커야 합니다.");
+        }
+        AtomicInteger sequence = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "thumbnail-loader-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.byteBudget = byteBudget;
+        this.diskCache = diskCache;
+    }
+
+    // ========== 조회 ==========
+
+    /**
+     * 라벨에 자리 표시 이미지를 먼저 보여주고, 축소 이미지가 준비되면 바꿔 끼웁니다.
+     * 같은 라벨에 다른 이미지를 다시 요청하면 이전 요청의 결과는 무시됩니다 (카드 재사용, 슬라이드 넘김).
+     * EDT에서 호출해야 합니다.
+     *
+     * @param label 이미지를 표시할 라벨
+     * @param path 파일 경로 또는 클래스패스 리소스 경로
+     * @param width 목표 너비
+     * @param height 목표 높이
+     * @param keepAspect true면 비율을 유지하여 width x height 안에 맞춤, false면 정확히 width x height
+     */
+    public void loadInto(JLabel label, String path, int width, int height, boolean keepAspect) {
+        Key key = new Key(path, width, height, keepAspect);
+        label.putClientProperty(PENDING_KEY, key);
+        BufferedImage cached = getCached(key);
+        if (cached != null) {
+            label.setIcon(new ImageIcon(cached));
+            return;
+        }
+        label.setIcon(placeholder(width, height));
+        request(key, image -> {
+            if (label.getClientProperty(PENDING_KEY) == key) {
+                label.setIcon(new ImageIcon(image));
+            }
+        });
+    }
+
+    /**
+     * 축소 이미지를 비동기로 요청합니다.
+     *
+     * @param onLoaded 축소 이미지를 받을 콜백 (EDT에서 호출, 읽기에 실패하면 호출되지 않음)
+     */
+    public void load(String path, int width, int height, boolean keepAspect, Consumer<ImageIcon> onLoaded) {
+        Key key = new Key(path, width, height, keepAspect);
+        BufferedImage cached = getCached(key);
+        if (cached != null && SwingUtilities.isEventDispatchThread()) {
+            onLoaded.accept(new ImageIcon(cached));
+            return;
+        }
+        request(key, image -> onLoaded.accept(new ImageIcon(image)));
+    }
+
+    /**
+     * 화면에 표시하기 전에 축소 이미지를 미리 읽어 메모리/디스크 캐시에 넣습니다 (스크롤 앞쪽 카드 등).
+     */
+    public void prefetch(String path, int width, int height, boolean keepAspect) {
+        Key key = new Key(path, width, height, keepAspect);
+        if (getCached(key) == null) {
+            request(key, image -> { });
+        }
+    }
+
+    /**
+     * 자리 표시 이미지 (연한 회색 사각형, 크기별로 하나만 생성)
+     */
+    public synchronized ImageIcon placeholder(int width, int height) {
+        return placeholders.computeIfAbsent(((long) width << 32) | height, size -> {
+            BufferedImage image = new BufferedImage(Math.max(1, width), Math.max(1, height),
+                    BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g2 = image.createGraphics();
+            g2.setColor(PLACEHOLDER_COLOR);
+            g2.fillRect(0, 0, width, height);
+            g2.dispose();
+            return new ImageIcon(image);
+        });
+    }
+
+    /**
+     * 캐시에 보관 중인 축소 이미지의 바이트 수
+     */
+    public synchronized long cachedBytes() {
+        return cachedBytes;
+    }
+
+    public synchronized int cachedCount() {
+        return cache.size();
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private synchronized BufferedImage getCached(Key key) {
+        return cache.get(key);
+    }
+
+    /**
+     * 캐시에 없는 이미지를 작업 스레드에 맡깁니다 (이미 읽는 중이면 콜백만 추가).
+     */
+    private void request(Key key, Consumer<BufferedImage> callback) {
+        synchronized (this) {
+            BufferedImage cached = cache.get(key);
+            if (cached == null) {
+                List<Consumer<BufferedImage>> waiting = inFlight.get(key);
+                if (waiting != null) {
+                    waiting.add(callback);
+                    return;
+                }
+                waiting = new ArrayList<>(2);
+                waiting.add(callback);
+                inFlight.put(key, waiting);
+            } else {
+                SwingUtilities.invokeLater(() -> callback.accept(cached));
+                return;
+            }
+        }
+        workers.execute(() -> {
+            BufferedImage image = null;
+            try {
+                image = decodeScaled(key);
+            } catch (Exception e) {
+                System.err.println("이미지 로드 실패: " + key.path + " - " + e.getMessage());
+            }
+            List<Consumer<BufferedImage>> waiting;
+            synchronized (this) {
+                waiting = inFlight.remove(key);
+                if (image != null) {
+                    put(key, image);
+                }
+            }
+            if (image != null) {
+                BufferedImage loaded = image;
+                SwingUtilities.invokeLater(() -> {
+                    for (Consumer<BufferedImage> each : waiting) {
+                        each.accept(loaded);
+                    }
+                });
+            }
+        });
+    }
+
+    private void put(Key key, BufferedImage image) {
+        long bytes = bytesOf(image);
+        if (bytes > byteBudget) {
+            return;  // 예산보다 큰 이미지는 캐시하지 않음
+        }
+        BufferedImage previous = cache.put(key, image);
+        if (previous != null) {
+            cachedBytes -= bytesOf(previous);
+        }
+        cachedBytes += bytes;
+        Iterator<Map.Entry<Key, BufferedImage>> eldest = cache.entrySet().iterator();
+        while (cachedBytes > byteBudget && eldest.hasNext()) {
+            cachedBytes -= bytesOf(eldest.next().getValue());
+            eldest.remove();
+        }
+    }
+
+    private BufferedImage decodeScaled(Key key) throws IOException {
+        byte[] content = read(key.path);
+        String contentHash = null;
+        if (diskCache != null) {
+            contentHash = ThumbnailDiskCache.contentHash(content);
+            BufferedImage stored = diskCache.get(key.path, contentHash, key.width, key.height, key.keepAspect);
+            if (stored != null) {
+                return stored;
+            }
+        }
+
+        BufferedImage source = ImageIO.read(new ByteArrayInputStream(content));
+        if (source == null) {
+            throw new IOException("지원하지 않는 이미지 형식입니다.");
+        }
+        int targetWidth = key.width;
+        int targetHeight = key.height;
+        if (key.keepAspect) {
+            double scale = Math.min((double) key.width / source.getWidth(), (double) key.height / source.getHeight());
+            targetWidth = Math.max(1, (int) (source.getWidth() * scale));
+            targetHeight = Math.max(1, (int) (source.getHeight() * scale));
+        }
+        BufferedImage scaled = scale(source, targetWidth, targetHeight);
+        if (diskCache != null) {
+            diskCache.put(key.path, contentHash, key.width, key.height, key.keepAspect, scaled);
+        }
+        return scaled;
+    }
+
+    /**
+     * 원본 파일 내용 (파일 경로를 먼저 찾고, 없으면 클래스패스 리소스)
+     */
+    private byte[] read(String path) throws IOException {
+        File file = new File(path);
+        if (file.isFile()) {
+            return Files.readAllBytes(file.toPath());
+        }
+        URL url = ThumbnailLoader.class.getClassLoader().getResource(path);
+        if (url == null) {
+            throw new IOException("파일을 찾을 수 없습니다.");
+        }
+        try (InputStream in = url.openStream()) {
+            return in.readAllBytes();
+        }
+    }
+
+    /**
+     * 고품질 축소: 절반씩 여러 번 줄인 뒤(bilinear) 마지막에 목표 크기로 맞춤
+     * (한 번에 크게 줄이면 픽셀을 건너뛰어 거칠어지므로 SCALE_SMOOTH와 비슷한 품질을 내기 위함)
+     */
+    static BufferedImage scale(BufferedImage source, int targetWidth, int targetHeight) {
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        do {
+            width = width / 2 >= targetWidth ? width / 2 : targetWidth;
+            height = height / 2 >= targetHeight ? height / 2 : targetHeight;
+            BufferedImage next = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g2 = next.createGraphics();
+            g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g2.drawImage(current, 0, 0, width, height, null);
+            g2.dispose();
+            current = next;
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    private static long bytesOf(BufferedImage image) {
+        return (long) image.getWidth() * image.getHeight() * 4;
+    }
+}
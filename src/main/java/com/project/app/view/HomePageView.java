@@ -2,11 +2,21 @@ package com.project.app.view;
 
 import javax.swing.*;
 import java.awt.*;
+import java.awt.event.HierarchyEvent;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
 
+import com.project.app.dto.InstructorCardView;
+import com.project.app.dto.LectureCardView;
 import com.project.app.model.HomePageModel;
 import com.project.app.controller.HomePageController;
+import com.project.app.controller.HomeRankingController;
+import com.project.app.service.InstructorService;
+import com.project.app.service.LectureService;
+import com.project.app.util.ThumbnailLoader;
 
 /**
  * 홈 화면 뷰
@@ -15,6 +25,7 @@ import com.project.app.controller.HomePageController;
  * - SidePanel 우측 콘텐츠 영역에 들어갈 "홈" 화면
  * - 내부에 MVC 구조(HomeImageModel, HomeImageView, HomeImageController)를 사용하여
  *   이미지 슬라이더(이전/다음) 기능 제공
+ * - 슬라이더 아래에 인기 강의 / 베스트 강사 순위 표시 (HomeRankingView, HomeRankingController)
  * - 싱글톤 패턴을 사용하여 애플리케이션 전체에서 하나의 인스턴스만 유지
  *
  */
@@ -39,12 +50,18 @@ public class HomePageView extends JPanel {
         return instance;
     }
 
+    /** 순위표에 표시할 강의/강사 수 */
+    public static final int RANKING_SIZE = 5;
+
     private final HomePageModel model;
     private final HomeImageView view;
+    private final HomeRankingView rankingView;
 
     // Controller는 View와 Model을 연결하는 역할만 하므로 필드로 유지
     @SuppressWarnings("unused")
     private final HomePageController controller;
+    @SuppressWarnings("unused")
+    private final HomeRankingController rankingController;
 
     // 싱글톤 패턴: private 생성자
     private HomePageView() {
@@ -68,13 +85,23 @@ public class HomePageView extends JPanel {
         // Controller 생성 (버튼 리스너 등록 + 첫 이미지 표시)
         controller = new HomePageController(model, view);
 
-        // 이 패널의 CENTER에 View 추가
+        // 순위표 View/Controller 생성 (화면이 보일 때마다 순위 갱신)
+        rankingView = new HomeRankingView();
+        rankingController = new HomeRankingController(rankingView, LectureService.getInstance(),
+                InstructorService.getInstance());
+
+        // 이 패널의 CENTER에 이미지, SOUTH에 순위표 추가
         add(view, BorderLayout.CENTER);
+        add(rankingView, BorderLayout.SOUTH);
     }
 
 
     // ======== View ========
 
+    /** 이미지 슬라이더 크기 */
+    static final int IMAGE_WIDTH = 760;
+    static final int IMAGE_HEIGHT = 400;
+
     /**
      * 오른쪽 영역 안에
      * - 중앙: 이미지
@@ -88,8 +115,8 @@ public class HomePageView extends JPanel {
         private final RoundButton nextButton;
 
         public HomeImageView() {
-            // 우측 영역 기본 크기 (SidePanel과 합쳐졌을 때 자연스럽게 보이도록)
-            setPreferredSize(new Dimension(760, 600));
+            // 우측 영역 기본 크기 (SidePanel과 합쳐졌을 때 자연스럽게 보이도록, 아래는 순위표 자리)
+            setPreferredSize(new Dimension(IMAGE_WIDTH, IMAGE_HEIGHT));
 
             // 바깥쪽은 BorderLayout 사용 (CENTER에 이미지 라벨 하나만 둘 예정)
             setLayout(new BorderLayout());
@@ -122,41 +149,20 @@ public class HomePageView extends JPanel {
 
         /**
          * 이미지를 패널 크기에 맞춰 비율을 유지하면서 스케일링하여 표시
-         * - 패널 크기: 760x600 (preferred size)
+         * - 패널 크기: IMAGE_WIDTH x IMAGE_HEIGHT (preferred size)
          * - 이미지 비율을 유지하면서 패널에 맞게 조정
+         * - 읽기와 축소는 ThumbnailLoader 작업 스레드에서 처리하고, 그동안 자리 표시 이미지를 표시
+         *   (빠르게 넘기면 마지막으로 요청한 이미지만 표시됨)
          */
-        public void setImageIcon(ImageIcon icon) {
+        public void setImagePath(String path) {
             imageLabel.setText(null);
 
-            if (icon == null || icon.getImage() == null) {
+            if (path == null) {
                 imageLabel.setIcon(null);
                 return;
             }
 
-            // 원본 이미지 크기
-            int originalWidth = icon.getIconWidth();
-            int originalHeight = icon.getIconHeight();
-
-            // 패널 크기 (preferred size 기준)
-            int panelWidth = 760;
-            int panelHeight = 600;
-
-            // 비율을 유지하면서 패널에 맞게 스케일링
-            double widthRatio = (double) panelWidth / originalWidth;
-            double heightRatio = (double) panelHeight / originalHeight;
-            double scale = Math.min(widthRatio, heightRatio); // 비율 유지를 위해 더 작은 비율 사용
-
-            int scaledWidth = (int) (originalWidth * scale);
-            int scaledHeight = (int) (originalHeight * scale);
-
-            // 이미지 스케일링 (SCALE_SMOOTH: 부드러운 스케일링)
-            Image scaledImage = icon.getImage().getScaledInstance(
-                scaledWidth,
-                scaledHeight,
-                Image.SCALE_SMOOTH
-            );
-
-            imageLabel.setIcon(new ImageIcon(scaledImage));
+            ThumbnailLoader.getInstance().loadInto(imageLabel, path, IMAGE_WIDTH, IMAGE_HEIGHT, true);
         }
 
         public void setNoImageText(String text) {
@@ -173,6 +179,105 @@ public class HomePageView extends JPanel {
         }
     }
 
+    /**
+     * 인기 강의 / 베스트 강사 순위표
+     * - 왼쪽: 수강생 수 상위 강의 (클릭하면 상세 화면)
+     * - 오른쪽: 순위 점수 상위 강사
+     */
+    public class HomeRankingView extends JPanel {
+
+        private final JPanel lectureList;
+        private final JPanel instructorList;
+        private Consumer<LectureCardView> lectureClickListener;
+
+        public HomeRankingView() {
+            setLayout(new GridLayout(1, 2, 20, 0));
+            setBackground(Color.WHITE);
+            setBorder(BorderFactory.createEmptyBorder(10, 20, 10, 20));
+
+            lectureList = createList();
+            instructorList = createList();
+            add(createSection("인기 강의", lectureList));
+            add(createSection("베스트 강사", instructorList));
+        }
+
+        public void showPopularLectures(List<LectureCardView> lectures) {
+            lectureList.removeAll();
+            for (int i = 0; i < lectures.size(); i++) {
+                LectureCardView lecture = lectures.get(i);
+                JLabel row = createRow(i + 1, lecture.getName(), String.format("★ %.1f", lecture.getRating()));
+                row.setCursor(Cursor.getPredefinedCursor(Cursor.HAND_CURSOR));
+                row.addMouseListener(new MouseAdapter() {
+                    @Override
+                    public void mouseClicked(MouseEvent e) {
+                        if (lectureClickListener != null) {
+                            lectureClickListener.accept(lecture);
+                        }
+                    }
+                });
+                lectureList.add(row);
+            }
+            lectureList.revalidate();
+            lectureList.repaint();
+        }
+
+        public void showTopInstructors(List<InstructorCardView> instructors) {
+            instructorList.removeAll();
+            for (int i = 0; i < instructors.size(); i++) {
+                InstructorCardView instructor = instructors.get(i);
+                instructorList.add(createRow(i + 1, instructor.getName() + " (" + instructor.getSubject() + ")",
+                        String.format("★ %.1f", instructor.getReviewScore())));
+            }
+            instructorList.revalidate();
+            instructorList.repaint();
+        }
+
+        /**
+         * Controller가 인기 강의 클릭 이벤트를 등록하기 위한 메서드
+         */
+        public void addLectureClickListener(Consumer<LectureCardView> listener) {
+            this.lectureClickListener = listener;
+        }
+
+        /**
+         * 순위표가 화면에 보이게 될 때마다 호출할 리스너 (다른 메뉴에서 돌아오면 순위 갱신)
+         */
+        public void addShownListener(Runnable listener) {
+            addHierarchyListener(e -> {
+                if ((e.getChangeFlags() & HierarchyEvent.SHOWING_CHANGED) != 0 && isShowing()) {
+                    listener.run();
+                }
+            });
+        }
+
+        private JPanel createList() {
+            JPanel list = new JPanel(new GridLayout(RANKING_SIZE, 1, 0, 4));
+            list.setBackground(Color.WHITE);
+            return list;
+        }
+
+        private JPanel createSection(String title, JPanel list) {
+            JPanel section = new JPanel(new BorderLayout(0, 6));
+            section.setBackground(Color.WHITE);
+            JLabel titleLabel = new JLabel(title);
+            titleLabel.setFont(new Font("맑은 고딕", Font.BOLD, 15));
+            section.add(titleLabel, BorderLayout.NORTH);
+            section.add(list, BorderLayout.CENTER);
+            return section;
+        }
+
+        private JLabel createRow(int rank, String name, String detail) {
+            JLabel row = new JLabel("<html>" + rank + ". " + escape(name)
+                    + " <font color='#757575'>" + detail + "</font></html>");
+            row.setFont(new Font("맑은 고딕", Font.PLAIN, 13));
+            return row;
+        }
+
+        private String escape(String text) {
+            return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+        }
+    }
+
     /**
      * 동그란 반투명 버튼
      * - 배경: 살짝 투명한 검정 원
@@ -3,12 +3,24 @@ package com.project.app.view;
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import java.awt.*;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import com.project.app.controller.InstructorController;
+import com.project.app.dto.InstructorCardView;
+import com.project.app.service.InstructorService;
+import com.project.app.util.ThumbnailLoader;
 
 /**
  * 강사 페이지 뷰
  *
  * 기능:
  * - 싱글톤 패턴을 사용하여 애플리케이션 전체에서 하나의 인스턴스만 유지
+ * - 강사 카드 목록은 VirtualCardGrid로 표시 (보이는 카드만 만들고 스크롤 시 재사용)
+ * - 목록 조회/다음 페이지 요청은 InstructorController가 처리하고, 이 클래스는 받은 강사 카드만 표시
+ * - 과목 칩에 과목별 강사 수를 표시하고, 칩을 누르면 선택한 과목을 Controller에 전달
  */
 public class InstructorsPageView extends JPanel {
 
@@ -31,6 +43,28 @@ public class InstructorsPageView extends JPanel {
         return instance;
     }
 
+    /** 한 번에 불러오는 강사 카드 수 (스크롤이 목록 끝에 가까워지면 다음 페이지를 이어서 불러옴) */
+    public static final int PAGE_SIZE = 16;
+
+    // 강사 카드 크기 (4열, 간격 10px)
+    private static final int CARD_WIDTH = 156;
+    private static final int CARD_HEIGHT = 176;
+    private static final int CARD_GAP = 10;
+    private static final int CARD_COLUMNS = 4;
+
+    private static final Color SUBJECT_COLOR = new Color(0x1E6EA0);
+    private static final Color SELECTED_SUBJECT_BACKGROUND = new Color(0xE3EEF6);
+
+    private VirtualCardGrid<InstructorCardView> instructorGrid;
+    private final Map<String, JLabel> subjectLabels = new LinkedHashMap<>();
+    private final Map<String, JPanel> subjectPanels = new LinkedHashMap<>();
+    private String selectedSubject;  // 선택한 과목 칩 (없으면 null)
+    private Consumer<String> subjectSelectListener;
+
+    // Controller는 View와 Service를 연결하는 역할만 하므로 필드로 유지
+    @SuppressWarnings("unused")
+    private final InstructorController controller;
+
     // 싱글톤 패턴: private 생성자
     private InstructorsPageView() {
         setPreferredSize(new Dimension(760, 600));
@@ -51,105 +85,189 @@ public class InstructorsPageView extends JPanel {
 
         add(Box.createVerticalStrut(30));
         add(setupInstructorsList());
+
+        // Controller 생성 (스크롤 리스너 등록 + 첫 페이지 표시)
+        controller = new InstructorController(this, InstructorService.getInstance());
     }
 
-    JPanel setupInstructorsList() {
-        JPanel instructorsList = new JPanel();
-        instructorsList.setMaximumSize(new Dimension(701, 378));
-        instructorsList.setLayout(new GridLayout(2, 4, 10, 10));
-        instructorsList.setBorder(new EmptyBorder(8, 18, 8, 18));
-        instructorsList.setBackground(Color.WHITE);
+    /**
+     * Controller가 받은 강사 카드 목록을 새로 표시합니다 (맨 위로 스크롤).
+     * 화면에 보이는 카드만 만들어지고, 스크롤하면 카드 컴포넌트를 재사용합니다.
+     */
+    public void showInstructors(List<InstructorCardView> instructors) {
+        instructorGrid.setItems(instructors);
+    }
 
-        // 8개의 강사 카드 생성
-        for (int i = 0; i < 8; i++) {
-            instructorsList.add(Instructor());
-        }
+    /**
+     * 다음 페이지의 강사 카드를 목록 끝에 이어 붙입니다.
+     */
+    public void appendInstructors(List<InstructorCardView> instructors) {
+        instructorGrid.appendItems(instructors);
+    }
 
-        return instructorsList;
+    /**
+     * Controller가 목록 끝 근처까지 스크롤했을 때(다음 페이지 요청) 이벤트를 등록하기 위한 메서드
+     */
+    public void addScrollEndListener(Runnable listener) {
+        instructorGrid.setNearEndListener(listener);
     }
 
-    JPanel Instructor() {
-        JPanel instructorCard = new RoundedPanel(18);
-        instructorCard.setMaximumSize(new Dimension(156, 176));
-        instructorCard.setLayout(new BoxLayout(instructorCard, BoxLayout.Y_AXIS)); // 수직정렬
-        instructorCard.setBackground(new Color(0xF5F5F5));
+    /**
+     * Controller가 과목 칩 선택 이벤트를 등록하기 위한 메서드
+     * (선택한 과목을 전달, 선택한 칩을 다시 누르면 선택을 풀고 null을 전달)
+     */
+    public void addSubjectSelectListener(Consumer<String> listener) {
+        subjectSelectListener = listener;
+    }
 
-        InstructorData data = new InstructorData();
+    /**
+     * 현재 선택된 과목 (없으면 null)
+     */
+    public String getSelectedSubject() {
+        return selectedSubject;
+    }
 
-        // 마우스 커서 및 이벤트 설정
-        instructorCard.setCursor(new Cursor(Cursor.HAND_CURSOR)); // 손가락 커서
-        instructorCard.addMouseListener(new java.awt.event.MouseAdapter() {
-            @Override
-            public void mouseClicked(java.awt.event.MouseEvent e) {
+    /**
+     * 과목 칩에 강사 수를 함께 표시합니다 (예: "수학 (9)").
+     *
+     * @param counts 과목 -> 강사 수 (없는 과목은 0)
+     */
+    public void showSubjectCounts(Map<String, Integer> counts) {
+        for (Map.Entry<String, JLabel> entry : subjectLabels.entrySet()) {
+            Integer count = counts.get(entry.getKey());
+            entry.getValue().setText("<html><center>" + entry.getKey() + "<br>("
+                    + (count != null ? count : 0) + ")</center></html>");
+        }
+    }
+
+    JComponent setupInstructorsList() {
+        instructorGrid = new VirtualCardGrid<>(CARD_COLUMNS, CARD_WIDTH, CARD_HEIGHT, CARD_GAP,
+                new VirtualCardGrid.CardBinder<InstructorCardView>() {
+                    @Override
+                    public JComponent createCard() {
+                        return new InstructorCard();
+                    }
+
+                    @Override
+                    public void bind(JComponent card, InstructorCardView instructor) {
+                        ((InstructorCard) card).bind(instructor);
+                    }
+                });
+        instructorGrid.setBorder(new EmptyBorder(8, 12, 8, 12)); // 세로 스크롤바 자리를 남기도록 좌우 여백을 줄임
+        instructorGrid.setCardClickListener(instructor ->
                 // 강사 상세 팝업 표시
                 new InstructorDetailPopup(
                     (JFrame) SwingUtilities.getWindowAncestor(InstructorsPageView.this),
-                    data
-                ).setVisible(true);
-            }
-
-            @Override
-            public void mouseEntered(java.awt.event.MouseEvent e) { // hover 효과
-                instructorCard.setBackground(new Color(0xE5E5E5));
-            }
+                    InstructorData.from(instructor)
+                ).setVisible(true));
 
-            @Override
-            public void mouseExited(java.awt.event.MouseEvent e) {
-                instructorCard.setBackground(new Color(0xF5F5F5));
-            }
-        });
-
-        // 소개글
-        instructorCard.add(Box.createVerticalStrut(26));
-        instructorCard.add(introPanel(data));
-
-        // 프로필 (사진 + 이름 + 별점)
-        JPanel profile = new JPanel();
-        profile.setLayout(new BoxLayout(profile, BoxLayout.X_AXIS));
-        profile.setMaximumSize(new Dimension(145, 83));
-        profile.setOpaque(false);
-
-        // 사진
-        profile.add(createImage(data, 83, 83));
-
-        JPanel wrapInfo = new JPanel();
-        wrapInfo.setLayout(new BoxLayout(wrapInfo, BoxLayout.Y_AXIS));
-        wrapInfo.setMaximumSize(new Dimension(70, 90));
-        wrapInfo.setOpaque(false);
+        // 보이는 행 + 위아래 한 행만 카드 컴포넌트로 만듦
+        JScrollPane instructorsList = new JScrollPane(instructorGrid);
+        instructorsList.setMaximumSize(new Dimension(701, 378));
+        instructorsList.setBorder(null);
+        instructorsList.setHorizontalScrollBarPolicy(JScrollPane.HORIZONTAL_SCROLLBAR_NEVER);
+        instructorsList.setVerticalScrollBarPolicy(JScrollPane.VERTICAL_SCROLLBAR_AS_NEEDED);
+        instructorsList.getViewport().setBackground(Color.WHITE);
 
-        // 이름
-        wrapInfo.add(Box.createVerticalStrut(14));
-        wrapInfo.add(setupName(data));
+        return instructorsList;
+    }
 
-        // 별점
-        wrapInfo.add(Box.createVerticalStrut(11));
-        wrapInfo.add(createStar(data));
+    // ========== 내부 클래스: InstructorCard ==========
 
-        profile.add(wrapInfo);
-        instructorCard.add(profile);
+    /**
+     * 강사 카드 (VirtualCardGrid에서 재사용되므로 bind로 내용만 바꿈)
+     */
+    class InstructorCard extends RoundedPanel {
+        private final JLabel introduction = new JLabel();
+        private final JLabel imageLabel = new JLabel();
+        private final JLabel name = new JLabel();
+        private final JLabel star = new JLabel();
+
+        InstructorCard() {
+            super(18);
+            setMaximumSize(new Dimension(CARD_WIDTH, CARD_HEIGHT));
+            setLayout(new BoxLayout(this, BoxLayout.Y_AXIS)); // 수직정렬
+            setBackground(new Color(0xF5F5F5));
+
+            // 마우스 커서 및 hover 효과 (클릭은 VirtualCardGrid가 바인딩된 강사로 전달)
+            setCursor(new Cursor(Cursor.HAND_CURSOR)); // 손가락 커서
+            addMouseListener(new java.awt.event.MouseAdapter() {
+                @Override
+                public void mouseEntered(java.awt.event.MouseEvent e) { // hover 효과
+                    setBackground(new Color(0xE5E5E5));
+                }
 
-        return instructorCard;
-    }
+                @Override
+                public void mouseExited(java.awt.event.MouseEvent e) {
+                    setBackground(new Color(0xF5F5F5));
+                }
+            });
+
+            // 소개글
+            add(Box.createVerticalStrut(26));
+            JPanel introductionPanel = new JPanel();
+            introductionPanel.setMaximumSize(new Dimension(120, 46));
+            introductionPanel.setOpaque(false);
+            introduction.setFont(new Font("맑은 고딕", Font.BOLD, 15));
+            introductionPanel.add(introduction);
+            add(introductionPanel);
+
+            // 프로필 (사진 + 이름 + 별점)
+            JPanel profile = new JPanel();
+            profile.setLayout(new BoxLayout(profile, BoxLayout.X_AXIS));
+            profile.setMaximumSize(new Dimension(145, ThumbnailLoader.INSTRUCTOR_CARD_IMAGE_SIZE));
+            profile.setOpaque(false);
 
-    JPanel introPanel(InstructorData data) {
-        JPanel introductionPanel = new JPanel();
-        introductionPanel.setMaximumSize(new Dimension(120, 46));
-        introductionPanel.setOpaque(false);
+            // 사진
+            profile.add(imageLabel);
 
-        JLabel introduction = new JLabel(" " + data.Introduction);
-        introduction.setFont(new Font("맑은 고딕", Font.BOLD, 15));
+            JPanel wrapInfo = new JPanel();
+            wrapInfo.setLayout(new BoxLayout(wrapInfo, BoxLayout.Y_AXIS));
+            wrapInfo.setMaximumSize(new Dimension(70, 90));
+            wrapInfo.setOpaque(false);
 
-        introductionPanel.add(introduction);
+            // 이름
+            wrapInfo.add(Box.createVerticalStrut(14));
+            JPanel namePanel = new JPanel();
+            namePanel.setLayout(new BoxLayout(namePanel, BoxLayout.X_AXIS));
+            namePanel.setMaximumSize(new Dimension(54, 19));
+            namePanel.setOpaque(false);
+            name.setFont(new Font("맑은 고딕", Font.BOLD, 18));
+            namePanel.add(name);
+            wrapInfo.add(namePanel);
+
+            // 별점
+            wrapInfo.add(Box.createVerticalStrut(11));
+            JPanel starPanel = new JPanel();
+            starPanel.setLayout(new BoxLayout(starPanel, BoxLayout.X_AXIS));
+            starPanel.setMaximumSize(new Dimension(60, 40));
+            starPanel.setOpaque(false);
+            star.setFont(new Font("Segoe UI Emoji", Font.BOLD, 18));
+            starPanel.add(star);
+            wrapInfo.add(starPanel);
+
+            profile.add(wrapInfo);
+            add(profile);
+        }
 
-        return introductionPanel;
+        void bind(InstructorCardView instructor) {
+            setBackground(new Color(0xF5F5F5));
+            introduction.setText(" " + instructor.getIntroduction());
+            name.setText(instructor.getName());
+            star.setText("<html><font color='#FFD700'>⭐</font>" +
+                    " <font color='black'>" + String.format("%.1f", instructor.getReviewScore()) + "</font></html>");
+            String imagePath = instructor.getProfileImagePath() != null
+                    ? instructor.getProfileImagePath() : InstructorData.DEFAULT_IMAGE_PATH;
+            ThumbnailLoader.getInstance().loadInto(imageLabel, imagePath,
+                    ThumbnailLoader.INSTRUCTOR_CARD_IMAGE_SIZE, ThumbnailLoader.INSTRUCTOR_CARD_IMAGE_SIZE, false);
+        }
     }
 
     static JLabel createImage(InstructorData data, int width, int height) {
-        ImageIcon imageIcon = data.getImage();
-        Image scaledImage = imageIcon.getImage().getScaledInstance(width, height, Image.SCALE_SMOOTH);
-        ImageIcon scaledImageIcon = new ImageIcon(scaledImage);
-
-        return new JLabel(scaledImageIcon);
+        // 자리 표시 이미지를 먼저 보여주고, 작업 스레드에서 축소가 끝나면 교체
+        JLabel imageLabel = new JLabel();
+        ThumbnailLoader.getInstance().loadInto(imageLabel, data.getImagePath(), width, height, false);
+        return imageLabel;
     }
 
     static JPanel setupName(InstructorData data) {
@@ -221,18 +339,39 @@ public class InstructorsPageView extends JPanel {
         subjectName.setHorizontalAlignment(JLabel.CENTER); // 수평 가운데
         subjectName.setVerticalAlignment(JLabel.CENTER); // 수직 가운데
 
-        JPanel subjectPanel = new RoundedPanel(8, 1, new Color(0x1E6EA0));
+        JPanel subjectPanel = new RoundedPanel(8, 1, SUBJECT_COLOR);
         subjectPanel.setLayout(new BorderLayout());
         subjectPanel.setMaximumSize(new Dimension(92, 60));
         subjectPanel.setPreferredSize(new Dimension(92, 60));
         subjectPanel.setBackground(Color.RED);
 
-        subjectPanel.add(subjectName); // 과목이름
+        subjectPanel.add(subjectName); // 과목이름 (Controller가 강사 수를 붙여 표시)
         subjectPanel.setBackground(Color.WHITE);
 
+        // 누르면 선택/선택 해제 (선택한 칩은 배경색으로 표시)
+        subjectPanel.setCursor(new Cursor(Cursor.HAND_CURSOR));
+        subjectPanel.addMouseListener(new java.awt.event.MouseAdapter() {
+            @Override
+            public void mouseClicked(java.awt.event.MouseEvent e) {
+                selectSubject(text.equals(selectedSubject) ? null : text);
+            }
+        });
+        subjectLabels.put(text, subjectName);
+        subjectPanels.put(text, subjectPanel);
+
         return subjectPanel;
     }
 
+    private void selectSubject(String subject) {
+        selectedSubject = subject;
+        for (Map.Entry<String, JPanel> entry : subjectPanels.entrySet()) {
+            entry.getValue().setBackground(entry.getKey().equals(subject) ? SELECTED_SUBJECT_BACKGROUND : Color.WHITE);
+        }
+        if (subjectSelectListener != null) {
+            subjectSelectListener.accept(subject);
+        }
+    }
+
     static JScrollPane createScrollPane(JPanel panel, int width, int height) {
         JScrollPane scrollPane = new JScrollPane(panel);
         scrollPane.setMaximumSize(new Dimension(width, height));
@@ -247,8 +386,11 @@ public class InstructorsPageView extends JPanel {
     // ========== 내부 클래스: InstructorData ==========
 
     static class InstructorData {
+        /** 프로필 이미지가 없을 때 사용하는 기본 이미지 (클래스패스 리소스 경로) */
+        static final String DEFAULT_IMAGE_PATH = "person.png";
+
         String Introduction = "고등 수학의 정석";
-        String imagepath = "src/main/java/com/project/app/view/Instructors/Person.png";
+        String imagepath = DEFAULT_IMAGE_PATH;
         String name = "김선생";
         String subject = "수학";
         double star = 4.8;
@@ -259,18 +401,24 @@ public class InstructorsPageView extends JPanel {
             return Introduction;
         }
 
-        public ImageIcon getImage() {
-            // resources 폴더에서 이미지 로드
-            try {
-                java.net.URL imageURL = getClass().getClassLoader().getResource("person.png");
-                if (imageURL != null) {
-                    return new ImageIcon(imageURL);
-                }
-            } catch (Exception e) {
-                System.err.println("이미지 로드 실패: " + e.getMessage());
+        /**
+         * 강사 카드 정보로 상세 팝업에 표시할 데이터를 만듭니다 (강의 목록은 아직 예시 데이터).
+         */
+        static InstructorData from(InstructorCardView instructor) {
+            InstructorData data = new InstructorData();
+            data.Introduction = instructor.getIntroduction();
+            data.name = instructor.getName();
+            data.subject = instructor.getSubject();
+            data.star = Math.round(instructor.getReviewScore() * 10) / 10.0;
+            if (instructor.getProfileImagePath() != null) {
+                data.imagepath = instructor.getProfileImagePath();
             }
-            // 실패 시 빈 ImageIcon 반환
-            return new ImageIcon();
+            return data;
+        }
+
+        public String getImagePath() {
+            // resources 폴더의 이미지 (클래스패스 리소스 경로)
+            return imagepath;
         }
 
         public String getName() {
@@ -1,11 +1,22 @@
 package com.project.app.view;
 
+import com.project.app.controller.LectureDetailController;
+import com.project.app.dto.LectureDetailResponse;
+import com.project.app.service.AuthService;
+import com.project.app.service.LectureService;
+
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
 
 public class LectureDetailView {
 	private JDialog dialog;
+    private JButton reserveBtn;
+    private String lectureId;  // 신청 대상 강의 (테스트용 더미 데이터면 null → 신청 버튼 비활성)
+
+    // Controller는 View와 Service를 연결하는 역할만 하므로 필드로 유지
+    @SuppressWarnings("unused")
+    private LectureDetailController controller;
     private String courseName;
     private String instructor;
     private double rating;
@@ -29,12 +40,59 @@ public class LectureDetailView {
         this.textbook = textbook;
         this.textbookPrice = textbookPrice;
     }
+
+    // 서비스에서 조회한 강의 상세 정보로 생성 (예약/신청 버튼이 실제 신청을 처리)
+    public LectureDetailView(LectureDetailResponse detail) {
+        this(detail.getName(), detail.getInstructorName(), detail.getRating(),
+                (detail.getDayOfWeek() + " " + detail.getTime()).trim(), detail.getAcademyName(),
+                detail.getTextbookName(), detail.getTextbookPrice());
+        this.lectureId = detail.getId();
+    }
     
     // 다이얼로그 표시
     public void show() {
         createDialog();
+        if (lectureId != null) {
+            // Controller 생성 (예약/신청 버튼 리스너 등록 + 신청 여부에 따라 버튼 표시)
+            controller = new LectureDetailController(this, LectureService.getInstance(), AuthService.getInstance());
+        } else {
+            reserveBtn.setEnabled(false);
+        }
         dialog.setVisible(true);
     }
+
+    public String getLectureId() {
+        return lectureId;
+    }
+
+    /**
+     * Controller가 예약/신청 버튼 이벤트를 등록하기 위한 메서드
+     */
+    public void addReserveListener(ActionListener listener) {
+        reserveBtn.addActionListener(listener);
+    }
+
+    /**
+     * 예약/신청 버튼 문구와 활성 상태 변경 (신청 처리 중에는 비활성)
+     */
+    public void setReserveButton(String text, boolean enabled) {
+        reserveBtn.setText(text);
+        reserveBtn.setEnabled(enabled);
+    }
+
+    /**
+     * 예/아니오 확인 다이얼로그
+     *
+     * @return "예"를 눌렀으면 true
+     */
+    public boolean confirm(String message) {
+        return JOptionPane.showConfirmDialog(dialog, message, "확인", JOptionPane.YES_NO_OPTION)
+                == JOptionPane.YES_OPTION;
+    }
+
+    public void showErrorDialog(String title, String message) {
+        JOptionPane.showMessageDialog(dialog, message, title, JOptionPane.ERROR_MESSAGE);
+    }
     
     private void createDialog() {
         // 팝업 다이얼로그 생성
@@ -196,8 +254,8 @@ public class LectureDetailView {
         buttonPanel.setPreferredSize(new Dimension(820, 80));
        
         
-        // 예약/신청 버튼
-        JButton reserveBtn = new JButton("예약/신청");
+        // 예약/신청 버튼 (클릭 이벤트는 Controller가 등록)
+        reserveBtn = new JButton("예약/신청");
         reserveBtn.setPreferredSize(new Dimension(270, 50));
         reserveBtn.setFont(new Font("Malgun Gothic", Font.BOLD, 17));
         reserveBtn.setBackground(Color.WHITE);
@@ -205,10 +263,6 @@ public class LectureDetailView {
         reserveBtn.setFocusPainted(false);
         reserveBtn.setCursor(new Cursor(Cursor.HAND_CURSOR));
         
-        reserveBtn.addActionListener(e -> {
-        	showSuccessDialog();
-        });
-        
         buttonPanel.add(reserveBtn);
         
         return buttonPanel;
@@ -256,7 +310,13 @@ public class LectureDetailView {
         purchaseDialog.setVisible(true);
     }
     
-    private void showSuccessDialog() {
+    /**
+     * 신청 결과 다이얼로그 (확인을 누르면 상세 화면도 닫힘)
+     *
+     * @param message 결과 메시지 (EnrollLectureResponse.getMessage())
+     * @param detail 안내 문구 (결제 번호 등)
+     */
+    public void showSuccessDialog(String message, String detail) {
         // 신청 완료 다이얼로그
         JDialog successDialog = new JDialog(dialog, "신청 완료", true);
         successDialog.setSize(400, 250);
@@ -269,11 +329,11 @@ public class LectureDetailView {
         panel.setBorder(BorderFactory.createEmptyBorder(40, 40, 40, 40));
         
         // 메시지
-        JLabel message1 = new JLabel("신청이 완료되었습니다.");
+        JLabel message1 = new JLabel("<html><div style='text-align:center;width:300px'>" + message + "</div></html>");
         message1.setFont(new Font("Malgun Gothic", Font.BOLD, 18));
         message1.setAlignmentX(Component.CENTER_ALIGNMENT);
         
-        JLabel message2 = new JLabel("마이로그인 > 로그인창");
+        JLabel message2 = new JLabel(detail);
         message2.setFont(new Font("Malgun Gothic", Font.PLAIN, 14));
         message2.setAlignmentX(Component.CENTER_ALIGNMENT);
         
@@ -1,9 +1,18 @@
 package com.project.app.view;
 
+import com.project.app.controller.LectureController;
+import com.project.app.dto.LectureCardView;
+import com.project.app.service.LectureService;
+import com.project.app.util.ThumbnailLoader;
+
 import javax.swing.*;
 import javax.swing.border.*;
 import java.awt.*;
 import java.awt.event.*;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * 강의 목록 화면 뷰
@@ -12,6 +21,7 @@ import java.awt.event.*;
  * - SidePanel 우측 콘텐츠 영역에 들어갈 "강의" 화면
  * - 과목별 필터링, 정렬, 검색 기능 제공
  * - 강의 카드 클릭 시 상세 정보 다이얼로그 표시
+ * - 정렬 변경/목록 조회는 LectureController가 처리하고, 이 클래스는 받은 강의 카드만 표시
  * - 싱글톤 패턴을 사용하여 애플리케이션 전체에서 하나의 인스턴스만 유지
  */
 public class LecturePageView extends JPanel {
@@ -35,6 +45,25 @@ public class LecturePageView extends JPanel {
         return instance;
     }
 
+    /** 한 번에 불러오는 강의 카드 수 (스크롤이 목록 끝에 가까워지면 다음 페이지를 이어서 불러옴) */
+    public static final int PAGE_SIZE = 24;
+
+    // 강의 카드 크기 (4열, 간격 20px)
+    private static final int CARD_WIDTH = 160;
+    private static final int CARD_HEIGHT = 180;
+    private static final int CARD_GAP = 20;
+    private static final int CARD_COLUMNS = 4;
+
+    private JComboBox<String> sortCombo;
+    private VirtualCardGrid<LectureCardView> gridPanel;
+    private final Map<String, JButton> subjectButtons = new LinkedHashMap<>();
+    private String selectedSubject;  // 선택한 과목 버튼 (없으면 null)
+    private Consumer<String> subjectSelectListener;
+
+    // Controller는 View와 Service를 연결하는 역할만 하므로 필드로 유지
+    @SuppressWarnings("unused")
+    private final LectureController controller;
+
     // 싱글톤 패턴: private 생성자
     private LecturePageView() {
         // 760 x 600 크기의 메인 콘텐츠 패널
@@ -49,6 +78,106 @@ public class LecturePageView extends JPanel {
         scrollPane.setBorder(null);
         scrollPane.setHorizontalScrollBarPolicy(JScrollPane.HORIZONTAL_SCROLLBAR_NEVER);
         add(scrollPane, BorderLayout.CENTER);
+
+        // Controller 생성 (정렬 리스너 등록 + 첫 페이지 표시)
+        controller = new LectureController(this, LectureService.getInstance());
+    }
+
+    /**
+     * Controller가 강의 카드 클릭 이벤트를 등록하기 위한 메서드 (클릭한 카드의 강의를 전달)
+     */
+    public void addCardClickListener(Consumer<LectureCardView> listener) {
+        gridPanel.setCardClickListener(listener);
+    }
+
+    /**
+     * Controller가 정렬 콤보박스 변경 이벤트를 등록하기 위한 메서드
+     */
+    public void addSortChangeListener(ActionListener listener) {
+        sortCombo.addActionListener(listener);
+    }
+
+    /**
+     * 현재 선택된 정렬 옵션 (예: "최신순")
+     */
+    public String getSelectedSortLabel() {
+        return (String) sortCombo.getSelectedItem();
+    }
+
+    /**
+     * 강의 카드 목록을 새로 표시합니다 (정렬 변경 등, 맨 위로 스크롤).
+     * 화면에 보이는 카드만 만들어지고, 스크롤하면 카드 컴포넌트를 재사용합니다.
+     */
+    public void showLectures(List<LectureCardView> lectures) {
+        gridPanel.setItems(lectures);
+        prefetchThumbnails(lectures);
+    }
+
+    /**
+     * 다음 페이지의 강의 카드를 목록 끝에 이어 붙입니다.
+     */
+    public void appendLectures(List<LectureCardView> lectures) {
+        gridPanel.appendItems(lectures);
+        prefetchThumbnails(lectures);
+    }
+
+    /**
+     * 아직 카드로 만들어지지 않은 강의의 썸네일도 미리 읽어 둡니다 (스크롤해서 보일 때 바로 표시).
+     * 이미 화면에 바인딩되어 읽는 중인 썸네일은 ThumbnailLoader가 한 번만 읽습니다.
+     */
+    private void prefetchThumbnails(List<LectureCardView> lectures) {
+        for (LectureCardView lecture : lectures) {
+            if (lecture.getThumbnailPath() != null) {
+                ThumbnailLoader.getInstance().prefetch(lecture.getThumbnailPath(),
+                        ThumbnailLoader.LECTURE_CARD_IMAGE_WIDTH, ThumbnailLoader.LECTURE_CARD_IMAGE_HEIGHT, true);
+            }
+        }
+    }
+
+    /**
+     * Controller가 목록 끝 근처까지 스크롤했을 때(다음 페이지 요청) 이벤트를 등록하기 위한 메서드
+     */
+    public void addScrollEndListener(Runnable listener) {
+        gridPanel.setNearEndListener(listener);
+    }
+
+    /**
+     * Controller가 과목 버튼 선택 이벤트를 등록하기 위한 메서드
+     * (선택한 과목을 전달, 선택한 버튼을 다시 누르면 선택을 풀고 null을 전달)
+     */
+    public void addSubjectSelectListener(Consumer<String> listener) {
+        subjectSelectListener = listener;
+    }
+
+    /**
+     * 현재 선택된 과목 (없으면 null)
+     */
+    public String getSelectedSubject() {
+        return selectedSubject;
+    }
+
+    /**
+     * 과목 버튼에 강의 수를 함께 표시합니다 (예: "수학 (28)").
+     *
+     * @param counts 과목 -> 강의 수 (없는 과목은 0)
+     */
+    public void showSubjectCounts(Map<String, Integer> counts) {
+        for (Map.Entry<String, JButton> entry : subjectButtons.entrySet()) {
+            Integer count = counts.get(entry.getKey());
+            entry.getValue().setText("<html><center>" + entry.getKey() + "<br>("
+                    + (count != null ? count : 0) + ")</center></html>");
+        }
+    }
+
+    private void selectSubject(String subject) {
+        selectedSubject = subject;
+        for (Map.Entry<String, JButton> entry : subjectButtons.entrySet()) {
+            entry.getValue().setBorder(BorderFactory.createLineBorder(new Color(30, 110, 160),
+                    entry.getKey().equals(subject) ? 3 : 1));
+        }
+        if (subjectSelectListener != null) {
+            subjectSelectListener.accept(subject);
+        }
     }
 
     private JPanel createContentPanel() {
@@ -78,6 +207,10 @@ public class LecturePageView extends JPanel {
             subjectBtn.setContentAreaFilled(false);
             subjectBtn.setCursor(new Cursor(Cursor.HAND_CURSOR));
             
+            // 누르면 선택/선택 해제 (선택한 버튼은 테두리를 굵게 표시)
+            String subject = subjects[i];
+            subjectBtn.addActionListener(e -> selectSubject(subject.equals(selectedSubject) ? null : subject));
+
             // 호버 효과
             subjectBtn.addMouseListener(new MouseAdapter() {
                 public void mouseEntered(MouseEvent e) {
@@ -87,6 +220,7 @@ public class LecturePageView extends JPanel {
                     subjectBtn.setBackground(Color.WHITE);
                 }
             });
+           subjectButtons.put(subjects[i], subjectBtn);
            right.add(subjectBtn);
         }
         // 정렬
@@ -96,7 +230,7 @@ public class LecturePageView extends JPanel {
         right.add(searchArea);
         // 강의 카드
         addCourseCards(right);
-        right.setPreferredSize(new Dimension(760, 800));
+        right.setPreferredSize(new Dimension(760, 600));
         
         return right;
     }
@@ -166,83 +300,116 @@ public class LecturePageView extends JPanel {
         
         
         String[] sortOptions = {"최신순", "인기순", "평점순", "가격순"};
-        JComboBox<String> sortCombo = new JComboBox<>(sortOptions);
+        sortCombo = new JComboBox<>(sortOptions);
         sortCombo.setBounds(95, 130, 120, 30);
         sortCombo.setFont(new Font("Malgun Gothic", Font.PLAIN, 12));
         
-        // 정렬 옵션 선택 이벤트
-        sortCombo.addActionListener(e -> {
-            String selected = (String) sortCombo.getSelectedItem();
-            System.out.println("정렬: " + selected);
-            
-        });
+        // 정렬 옵션 선택 이벤트는 Controller가 등록 (addSortChangeListener)
         
         parent.add(sortCombo);
     }
     private void addCourseCards(JPanel parent) {
-    	JPanel gridPanel = new JPanel();
-        gridPanel.setLayout(new GridLayout(3, 4, 20, 20)); // 3행 4열, 간격 20px
-        gridPanel.setBackground(Color.WHITE);
-        gridPanel.setBounds(40, 170, 700, 600); // 위치와 크기 지정 (right 내부)
-
-        // 카드 생성
-        for (int i = 0; i < 12; i++) {
-            JPanel card = createCourseCard(160, 180);
-            gridPanel.add(card);
-        }
+        gridPanel = new VirtualCardGrid<>(CARD_COLUMNS, CARD_WIDTH, CARD_HEIGHT, CARD_GAP,
+                new VirtualCardGrid.CardBinder<LectureCardView>() {
+                    @Override
+                    public JComponent createCard() {
+                        return new CourseCard(CARD_WIDTH);
+                    }
+
+                    @Override
+                    public void bind(JComponent card, LectureCardView lecture) {
+                        ((CourseCard) card).bind(lecture);
+                    }
+                });
+        // 카드 클릭 이벤트(상세 화면 열기)는 Controller가 등록 (addCardClickListener)
+
+        // 카드 영역만 스크롤 (보이는 행 + 위아래 한 행만 카드 컴포넌트로 만듦)
+        JScrollPane gridScroll = new JScrollPane(gridPanel);
+        gridScroll.setBorder(null);
+        gridScroll.setHorizontalScrollBarPolicy(JScrollPane.HORIZONTAL_SCROLLBAR_NEVER);
+        gridScroll.setVerticalScrollBarPolicy(JScrollPane.VERTICAL_SCROLLBAR_ALWAYS);
+        gridScroll.getViewport().setBackground(Color.WHITE);
+        int scrollBarWidth = gridScroll.getVerticalScrollBar().getPreferredSize().width;
+        int gridWidth = CARD_COLUMNS * CARD_WIDTH + (CARD_COLUMNS - 1) * CARD_GAP;
+        gridScroll.setBounds(40, 170, gridWidth + scrollBarWidth, 410); // 위치와 크기 지정 (right 내부)
 
-        parent.add(gridPanel);
+        parent.add(gridScroll);
     }
-    private JPanel createCourseCard(int width, int height) {
-        // 카드 패널
-        JPanel card = new JPanel();
-        card.setLayout(null);
-        card.setOpaque(true);
-        card.setBackground(Color.WHITE);
-        card.setBorder(BorderFactory.createLineBorder(new Color(200, 200, 200))); 
-        
-        card.setLayout(null);
-        card.setOpaque(false);
-        card.setCursor(new Cursor(Cursor.HAND_CURSOR));
-        
-        // 썸네일 영역
-        JPanel thumbnail = new JPanel();
-        thumbnail.setBounds(10, 30, width - 20, 100);
-        thumbnail.setBackground(new Color(240, 240, 240));
-        thumbnail.setBorder(BorderFactory.createLineBorder(new Color(220, 220, 220)));
-        
-        JLabel thumbText = new JLabel("썸네일", JLabel.CENTER);
-        thumbText.setFont(new Font("Malgun Gothic", Font.PLAIN, 12));
-        thumbText.setForeground(new Color(150, 150, 150));
-        thumbnail.add(thumbText);
-        card.add(thumbnail);
-        
-        // 강의명
-        JLabel titleLabel = new JLabel("강의명", JLabel.CENTER);
-        titleLabel.setBounds(10, 130, width - 20, 25);
-        titleLabel.setFont(new Font("Malgun Gothic", Font.BOLD, 14));
-        card.add(titleLabel);
-        
-        // 별점
-        JLabel ratingLabel = new JLabel("<html><span style='color:#FFD700; font-size:14px;'>⭐</span> <span style='font-size:12px;'>5.0</span></html>");
-        ratingLabel.setBounds(10, 160, width - 20, 20);
-        ratingLabel.setFont(new Font("Malgun Gothic", Font.PLAIN, 12));
-        card.add(ratingLabel);
-        
-        // 호버 효과
-        card.addMouseListener(new MouseAdapter() {
-            public void mouseEntered(MouseEvent e) {
-                card.setBackground(new Color(245, 250, 255));
-            }
-            public void mouseExited(MouseEvent e) {
-                card.setBackground(Color.WHITE);
-            }
-            public void mouseClicked(MouseEvent e) {
-            	LectureDetailView detail = new LectureDetailView();
-            	detail.show();
+
+    // ========== 내부 클래스: CourseCard ==========
+
+    /**
+     * 강의 카드 (VirtualCardGrid에서 재사용되므로 bind로 내용만 바꿈)
+     */
+    private static class CourseCard extends JPanel {
+        private final JPanel thumbnail;
+        private final JLabel thumbText;
+        private final JLabel thumbImage;
+        private final JLabel titleLabel;
+        private final JLabel ratingLabel;
+
+        CourseCard(int width) {
+            setLayout(null);
+            setBackground(Color.WHITE);
+            setBorder(BorderFactory.createLineBorder(new Color(200, 200, 200)));
+            setOpaque(false);
+            setCursor(new Cursor(Cursor.HAND_CURSOR));
+
+            // 썸네일 영역
+            thumbnail = new JPanel(new BorderLayout());
+            thumbnail.setBounds(10, 30, ThumbnailLoader.LECTURE_CARD_IMAGE_WIDTH + 2,
+                    ThumbnailLoader.LECTURE_CARD_IMAGE_HEIGHT + 2);  // 테두리 1px 포함
+            thumbnail.setBackground(new Color(240, 240, 240));
+            thumbnail.setBorder(BorderFactory.createLineBorder(new Color(220, 220, 220)));
+
+            thumbText = new JLabel("썸네일", JLabel.CENTER);
+            thumbText.setFont(new Font("Malgun Gothic", Font.PLAIN, 12));
+            thumbText.setForeground(new Color(150, 150, 150));
+            thumbImage = new JLabel();
+            thumbImage.setHorizontalAlignment(JLabel.CENTER);
+            thumbnail.add(thumbText, BorderLayout.CENTER);
+            add(thumbnail);
+
+            // 강의명
+            titleLabel = new JLabel("강의명", JLabel.CENTER);
+            titleLabel.setBounds(10, 130, width - 20, 25);
+            titleLabel.setFont(new Font("Malgun Gothic", Font.BOLD, 14));
+            add(titleLabel);
+
+            // 별점
+            ratingLabel = new JLabel();
+            ratingLabel.setBounds(10, 160, width - 20, 20);
+            ratingLabel.setFont(new Font("Malgun Gothic", Font.PLAIN, 12));
+            add(ratingLabel);
+
+            // 호버 효과 (클릭은 VirtualCardGrid가 바인딩된 강의로 전달)
+            addMouseListener(new MouseAdapter() {
+                public void mouseEntered(MouseEvent e) {
+                    setBackground(new Color(245, 250, 255));
+                }
+                public void mouseExited(MouseEvent e) {
+                    setBackground(Color.WHITE);
+                }
+            });
+        }
+
+        void bind(LectureCardView lecture) {
+            titleLabel.setText(lecture.getName());
+            ratingLabel.setText("<html><span style='color:#FFD700; font-size:14px;'>⭐</span> <span style='font-size:12px;'>"
+                    + String.format("%.1f", lecture.getRating()) + "</span></html>");
+            setBackground(Color.WHITE);
+
+            // 썸네일 이미지가 있으면 작업 스레드에서 읽어 표시, 없으면 "썸네일" 문구
+            thumbnail.removeAll();
+            if (lecture.getThumbnailPath() != null) {
+                ThumbnailLoader.getInstance().loadInto(thumbImage, lecture.getThumbnailPath(),
+                        ThumbnailLoader.LECTURE_CARD_IMAGE_WIDTH, ThumbnailLoader.LECTURE_CARD_IMAGE_HEIGHT, true);
+                thumbnail.add(thumbImage, BorderLayout.CENTER);
+            } else {
+                thumbImage.setIcon(null);
+                thumbnail.add(thumbText, BorderLayout.CENTER);
             }
-        });
-        
-        return card;
+            thumbnail.revalidate();
+        }
     }
 }
@@ -1,5 +1,9 @@
 package com.project.app.view;
 
+import com.project.app.controller.MyPageController;
+import com.project.app.service.AuthService;
+import com.project.app.service.ReviewService;
+
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import java.awt.*;
@@ -7,6 +11,7 @@ import java.text.NumberFormat;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.function.BiConsumer;
 
 /**
  * 마이페이지 뷰
@@ -21,6 +26,7 @@ import java.util.Locale;
  * - GridLayout을 사용하여 3열로 분할 (프로필/일정, 강의 목록, 결제 내역)
  * - 각 섹션은 스크롤 가능한 리스트로 구성
  * - 현재는 더미 데이터를 사용하며, 추후 Model 레이어와 연동
+ * - 리뷰 작성 버튼은 MyPageController가 처리 (ReviewService.createReview)
  *
  * 화면 구성:
  * - 좌측 그리드 (약 250px): 프로필 및 내 정보, 내 일정
@@ -32,6 +38,12 @@ public class MyPageView extends JPanel {
     // 싱글톤 패턴: private static 인스턴스 변수
     private static MyPageView instance;
 
+    // Controller는 View와 Service를 연결하는 역할만 하므로 필드로 유지
+    @SuppressWarnings("unused")
+    private final MyPageController controller;
+
+    private BiConsumer<String, String> reviewListener;
+
     /**
      * 싱글톤 인스턴스를 반환하는 메서드
      *
@@ -129,10 +141,12 @@ public class MyPageView extends JPanel {
      * - 추후 실제 Lecture 모델로 교체 용이
      */
     private static class LectureInfo {
+        String lectureId;    // 강의 ID (리뷰 대상)
         String lectureName;  // 강의명
         String dayOfWeek;    // 수업 요일
 
-        LectureInfo(String lectureName, String dayOfWeek) {
+        LectureInfo(String lectureId, String lectureName, String dayOfWeek) {
+            this.lectureId = lectureId;
             this.lectureName = lectureName;
             this.dayOfWeek = dayOfWeek;
         }
@@ -185,6 +199,76 @@ public class MyPageView extends JPanel {
         add(createLeftGridPanel());    // 좌측: 프로필 및 일정
         add(createCenterGridPanel());  // 중앙: 내 강의
         add(createRightGridPanel());   // 우측: 결제 내역
+
+        // Controller 생성 (리뷰 작성 버튼 리스너 등록)
+        controller = new MyPageController(this, ReviewService.getInstance(), AuthService.getInstance());
+    }
+
+    // ======================== Controller 연동 ========================
+
+    /**
+     * 리뷰 작성 폼 입력값
+     */
+    public static final class ReviewForm {
+        private final int rating;
+        private final String content;
+
+        ReviewForm(int rating, String content) {
+            this.rating = rating;
+            this.content = content;
+        }
+
+        public int getRating() {
+            return rating;
+        }
+
+        public String getContent() {
+            return content;
+        }
+    }
+
+    /**
+     * Controller가 리뷰 작성 버튼 이벤트를 등록하기 위한 메서드
+     *
+     * @param listener (강의 ID, 강의명)을 받는 리스너
+     */
+    public void setReviewListener(BiConsumer<String, String> listener) {
+        this.reviewListener = listener;
+    }
+
+    /**
+     * 별점(1~5)과 내용을 입력받는 다이얼로그
+     *
+     * @return 입력값, 취소하면 null
+     */
+    public ReviewForm showReviewForm(String lectureName) {
+        JComboBox<Integer> ratingBox = new JComboBox<>(new Integer[]{5, 4, 3, 2, 1});
+        JTextArea contentArea = new JTextArea(5, 25);
+        contentArea.setLineWrap(true);
+        contentArea.setFont(StyleConstants.NORMAL_FONT);
+
+        JPanel form = new JPanel(new BorderLayout(0, StyleConstants.PADDING_TINY));
+        JPanel ratingRow = new JPanel(new FlowLayout(FlowLayout.LEFT, 0, 0));
+        ratingRow.add(new JLabel("별점  "));
+        ratingRow.add(ratingBox);
+        form.add(new JLabel(lectureName), BorderLayout.NORTH);
+        form.add(ratingRow, BorderLayout.CENTER);
+        form.add(new JScrollPane(contentArea), BorderLayout.SOUTH);
+
+        int result = JOptionPane.showConfirmDialog(this, form, "리뷰 작성",
+                JOptionPane.OK_CANCEL_OPTION, JOptionPane.PLAIN_MESSAGE);
+        if (result != JOptionPane.OK_OPTION) {
+            return null;
+        }
+        return new ReviewForm((Integer) ratingBox.getSelectedItem(), contentArea.getText().trim());
+    }
+
+    public void showInfoDialog(String title, String message) {
+        JOptionPane.showMessageDialog(this, message, title, JOptionPane.INFORMATION_MESSAGE);
+    }
+
+    public void showErrorDialog(String title, String message) {
+        JOptionPane.showMessageDialog(this, message, title, JOptionPane.ERROR_MESSAGE);
     }
 
     // ======================== 좌측 그리드 (프로필 및 일정) ========================
@@ -476,15 +560,11 @@ public class MyPageView extends JPanel {
         ratingButton.setBorderPainted(false);
         ratingButton.setPreferredSize(new Dimension(95, 28));
 
-        // 버튼 클릭 이벤트 (현재는 콘솔 출력 및 다이얼로그, 추후 실제 기능 구현)
+        // 버튼 클릭 이벤트 (Controller에 강의 ID/이름 전달)
         ratingButton.addActionListener(e -> {
-            System.out.println(lecture.lectureName + "에 리뷰 작성 클릭됨");
-            JOptionPane.showMessageDialog(
-                this,
-                lecture.lectureName + "에 리뷰를 작성했습니다.",
-                "리뷰 작성",
-                JOptionPane.INFORMATION_MESSAGE
-            );
+            if (reviewListener != null) {
+                reviewListener.accept(lecture.lectureId, lecture.lectureName);
+            }
         });
 
         itemPanel.add(infoPanel, BorderLayout.CENTER);
@@ -650,11 +730,11 @@ public class MyPageView extends JPanel {
      */
     private List<LectureInfo> getMockLectures() {
         List<LectureInfo> lectures = new ArrayList<>();
-        lectures.add(new LectureInfo("고등 수학 I", "월, 수"));
-        lectures.add(new LectureInfo("물리 기본 개념", "수, 금"));
-        lectures.add(new LectureInfo("한국사 입문", "월"));
-        lectures.add(new LectureInfo("문학 읽기 I", "화"));
-        lectures.add(new LectureInfo("수학 II", "목, 금"));
+        lectures.add(new LectureInfo("L001", "[수학I] CODE 1 : 양승진의 유형코드", "월"));
+        lectures.add(new LectureInfo("L015", "[물리학I] 2027 3순환 기출특강", "토"));
+        lectures.add(new LectureInfo("L023", "[한국사] 2027 반가웅 개념완성", "토"));
+        lectures.add(new LectureInfo("L025", "[입문] 강민철의 기본 -문학-", "월"));
+        lectures.add(new LectureInfo("L002", "[수학II] CODE 1 : 양승진의 유형코드", "화"));
         return lectures;
     }
 
@@ -667,15 +747,15 @@ public class MyPageView extends JPanel {
      */
     private List<PaymentItem> getMockPayments() {
         List<PaymentItem> payments = new ArrayList<>();
-        payments.add(new PaymentItem("고등 수학 I", -150000, "강의"));
+        payments.add(new PaymentItem("[수학I] CODE 1 : 양승진의 유형코드", -150000, "강의"));
         payments.add(new PaymentItem("수학의 정석", -25000, "교재"));
         payments.add(new PaymentItem("영어 리딩 마스터", -22000, "교재"));
-        payments.add(new PaymentItem("물리 기본 개념", -140000, "강의"));
-        payments.add(new PaymentItem("한국사 입문", -120000, "강의"));
+        payments.add(new PaymentItem("[물리학I] 2027 3순환 기출특강", -140000, "강의"));
+        payments.add(new PaymentItem("[한국사] 2027 반가웅 개념완성", -120000, "강의"));
         payments.add(new PaymentItem("한국사 바로알기", -15000, "교재"));
-        payments.add(new PaymentItem("문학 읽기 I", -135000, "강의"));
+        payments.add(new PaymentItem("[입문] 강민철의 기본 -문학-", -135000, "강의"));
         payments.add(new PaymentItem("현대문학 작품 읽기", -20000, "교재"));
-        payments.add(new PaymentItem("수학 II", -155000, "강의"));
+        payments.add(new PaymentItem("[수학II] CODE 1 : 양승진의 유형코드", -155000, "강의"));
         return payments;
     }
 }
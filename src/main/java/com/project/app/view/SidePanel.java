@@ -6,6 +6,8 @@ import java.awt.event.ActionListener;
 import java.util.HashMap;
 import java.util.Map;
 
+import com.project.app.util.ThumbnailLoader;
+
 /**
  * 메인 애플리케이션 프레임
  *
@@ -386,28 +388,24 @@ public class SidePanel extends JFrame {
      * 아이콘 이미지 로드 및 크기 조정
      *
      * 기능:
-     * - resources/icons 폴더에서 아이콘 이미지 로드
-     * - 아이콘 크기를 StyleConstants.ICON_SIZE에 맞게 조정
+     * - resources/icons 폴더의 아이콘을 ThumbnailLoader 작업 스레드에서 읽고 StyleConstants.ICON_SIZE로 축소
+     * - 아이콘이 도착하기 전에는 같은 크기의 투명 아이콘을 두어 버튼 글자 위치가 바뀌지 않게 함
      *
+     * @param button 아이콘을 설정할 버튼
      * @param iconPath 아이콘 파일명
-     * @return 크기가 조정된 ImageIcon, 로드 실패 시 null
      */
-    private ImageIcon loadIcon(String iconPath) {
-        try {
-            java.net.URL iconURL = getClass().getClassLoader().getResource("icons/" + iconPath);
-            if (iconURL != null) {
-                ImageIcon originalIcon = new ImageIcon(iconURL);
-                Image scaledImage = originalIcon.getImage().getScaledInstance(
-                    StyleConstants.ICON_SIZE,
-                    StyleConstants.ICON_SIZE,
-                    Image.SCALE_SMOOTH
-                );
-                return new ImageIcon(scaledImage);
-            }
-        } catch (Exception e) {
-            System.err.println("아이콘 로드 실패: " + iconPath + " - " + e.getMessage());
-        }
-        return null;
+    private void loadIcon(JButton button, String iconPath) {
+        button.setIcon(new ImageIcon(new java.awt.image.BufferedImage(
+            StyleConstants.ICON_SIZE,
+            StyleConstants.ICON_SIZE,
+            java.awt.image.BufferedImage.TYPE_INT_ARGB
+        )));
+        ThumbnailLoader.getInstance().load("icons/" + iconPath,
+            StyleConstants.ICON_SIZE,
+            StyleConstants.ICON_SIZE,
+            false,
+            button::setIcon
+        );
     }
 
     /**
@@ -459,12 +457,9 @@ public class SidePanel extends JFrame {
         JButton button = new JButton(item.getLabel());
 
         // 아이콘 로드 및 설정
-        ImageIcon icon = loadIcon(item.getIconPath());
-        if (icon != null) {
-            button.setIcon(icon);
-            button.setHorizontalTextPosition(SwingConstants.RIGHT);
-            button.setIconTextGap(StyleConstants.ICON_TEXT_GAP);
-        }
+        loadIcon(button, item.getIconPath());
+        button.setHorizontalTextPosition(SwingConstants.RIGHT);
+        button.setIconTextGap(StyleConstants.ICON_TEXT_GAP);
 
         // 버튼 스타일 설정
         button.setFont(StyleConstants.MENU_FONT);
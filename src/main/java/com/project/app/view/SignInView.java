@@ -4,7 +4,10 @@ import java.awt.*;
 import java.awt.event.ActionListener;
 import javax.swing.*;
 
+import com.project.app.controller.LoginController;
 import com.project.app.dto.LoginRequest;
+import com.project.app.repository.UserRepositoryImpl;
+import com.project.app.service.SignInService;
 
 /**
  * 로그인 화면 뷰 (JPanel)
@@ -33,6 +36,10 @@ public class SignInView extends JPanel {
     private JButton loginBtn;
     private JButton signupBtn;
 
+    // Controller는 View와 Service를 연결하는 역할만 하므로 필드로 유지
+    @SuppressWarnings("unused")
+    private final LoginController controller;
+
     // 폰트 상수
     private static final Font TITLE_FONT = new Font("Inknut Antiqua", Font.BOLD, 24);
     private static final Font EN_LABEL_FONT = new Font("Inknut Antiqua", Font.BOLD, 16);
@@ -141,6 +148,9 @@ public class SignInView extends JPanel {
 
         actions.add(Box.createVerticalStrut(10));
         actions.add(signupBtn);
+
+        // Controller 생성 (로그인/회원가입 버튼 리스너 등록)
+        controller = new LoginController(this, new SignInService(UserRepositoryImpl.getInstance()));
     }
 
     /**
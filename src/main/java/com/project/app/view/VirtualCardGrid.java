@@ -0,0 +1,286 @@
+package com.project.app.view;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 가상화(virtualized) 카드 그리드
+ *
+ * 기능:
+ * - JScrollPane 안에서 화면에 보이는 행 + 위아래 BUFFER_ROWS행의 카드만 실제 컴포넌트로 만듦
+ *   (전체 목록이 수천 개여도 카드 컴포넌트 수는 화면 크기에 비례)
+ * - 스크롤로 화면 밖으로 나간 카드는 숨겨서 풀(pool)에 넣고, 새로 보이는 자리에 다시 바인딩해서 재사용
+ * - 전체 높이는 행 수 x (카드 높이 + 간격)로 계산하여 스크롤바가 전체 목록 기준으로 동작
+ * - 카드 생성/데이터 바인딩은 CardBinder가 담당 (강의 카드: LectureCardView, 강사 카드: InstructorCardView)
+ * - 끝에서 BUFFER_ROWS행 안쪽까지 스크롤하면 다음 데이터 요청 리스너 호출 (커서 기반 이어 읽기용)
+ *
+ * 카드 클릭은 카드에 현재 바인딩된 항목으로 전달되므로, 재사용된 카드도 올바른 항목을 넘깁니다.
+ * EDT에서만 사용합니다.
+ *
+ * @param <T> 카드에 표시할 항목 타입
+ */
+public class VirtualCardGrid<T> extends JPanel implements Scrollable {
+
+    /** 화면 위아래로 미리 만들어 두는 행 수 */
+    public static final int BUFFER_ROWS = 1;
+
+    /**
+     * 카드 생성 및 데이터 바인딩
+     *
+     * @param <T> 카드에 표시할 항목 타입
+     */
+    public interface CardBinder<T> {
+        /**
+         * 빈 카드 컴포넌트를 만듭니다 (재사용되므로 항목과 무관한 부분만 구성).
+         */
+        JComponent createCard();
+
+        /**
+         * 카드에 항목을 표시합니다 (재사용 시 이전 항목의 내용을 모두 덮어써야 함).
+         */
+        void bind(JComponent card, T item);
+    }
+
+    private static final String ITEM_KEY = "VirtualCardGrid.item";
+
+    private final int columns;
+    private final int cardWidth;
+    private final int cardHeight;
+    private final int gap;
+    private final CardBinder<T> binder;
+
+    private final List<T> items = new ArrayList<>();
+    private final Map<Integer, JComponent> active = new HashMap<>();  // 항목 위치 -> 표시 중인 카드
+    private final ArrayDeque<JComponent> pool = new ArrayDeque<>();   // 숨겨 둔 재사용 카드
+    private Consumer<T> cardClickListener;
+    private Runnable nearEndListener;
+    private JViewport viewport;
+
+    /**
+     * @param columns 열 수
+     * @param cardWidth 카드 너비
+     * @param cardHeight 카드 높이
+     * @param gap 카드 사이 간격 (가로/세로)
+     * @param binder 카드 생성 및 바인딩
+     */
+    public VirtualCardGrid(int columns, int cardWidth, int cardHeight, int gap, CardBinder<T> binder) {
+        this.columns = columns;
+        this.cardWidth = cardWidth;
+        this.cardHeight = cardHeight;
+        this.gap = gap;
+        this.binder = binder;
+        setLayout(null);
+        setBackground(Color.WHITE);
+        updatePreferredSize();
+    }
+
+    // ========== 데이터 ==========
+
+    /**
+     * 표시할 목록을 바꾸고 맨 위로 스크롤합니다.
+     */
+    public void setItems(List<T> newItems) {
+        items.clear();
+        items.addAll(newItems);
+        for (JComponent card : active.values()) {
+            release(card);
+        }
+        active.clear();
+        updatePreferredSize();
+        JViewport scroller = viewport();
+        if (scroller != null) {
+            scroller.setViewPosition(new Point(0, 0));
+        }
+        refresh();
+    }
+
+    /**
+     * 목록 끝에 항목을 이어 붙입니다 (다음 페이지 로드).
+     */
+    public void appendItems(List<T> moreItems) {
+        if (moreItems.isEmpty()) {
+            return;
+        }
+        items.addAll(moreItems);
+        updatePreferredSize();
+        refresh();
+    }
+
+    public int getItemCount() {
+        return items.size();
+    }
+
+    /**
+     * 카드를 클릭하면 그 카드에 바인딩된 항목을 받을 리스너
+     */
+    public void setCardClickListener(Consumer<T> listener) {
+        this.cardClickListener = listener;
+    }
+
+    /**
+     * 목록 끝 근처(BUFFER_ROWS행 이내)가 보이면 호출할 리스너 (다음 페이지 요청용)
+     * 스크롤할 때마다 여러 번 호출될 수 있으므로, 더 읽을 것이 없으면 리스너에서 무시해야 합니다.
+     */
+    public void setNearEndListener(Runnable listener) {
+        this.nearEndListener = listener;
+    }
+
+    /**
+     * 현재 실제로 만들어진 카드 컴포넌트 수 (표시 중 + 풀)
+     */
+    public int getMaterializedCardCount() {
+        return getComponentCount();
+    }
+
+    // ========== 스크롤 연동 ==========
+
+    @Override
+    public void doLayout() {
+        refresh();
+    }
+
+    /**
+     * 보이는 범위의 카드만 배치하고, 범위를 벗어난 카드는 풀로 돌려보냅니다.
+     */
+    public void refresh() {
+        int rowHeight = cardHeight + gap;
+        JViewport scroller = viewport();
+        Rectangle visible = scroller != null ? scroller.getViewRect() : getVisibleRect();
+        if (visible.height <= 0) {
+            return;  // 아직 화면에 배치되지 않음 (크기가 정해지면 다시 호출됨)
+        }
+        Insets insets = getInsets();
+        int top = Math.max(0, visible.y - insets.top);
+        int rowCount = rowCount();
+        int firstRow = Math.max(0, top / rowHeight - BUFFER_ROWS);
+        int lastRow = Math.min(rowCount - 1, (top + visible.height) / rowHeight + BUFFER_ROWS);
+        int from = firstRow * columns;
+        int to = Math.min(items.size(), (lastRow + 1) * columns);
+
+        Iterator<Map.Entry<Integer, JComponent>> iterator = active.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Integer, JComponent> entry = iterator.next();
+            if (entry.getKey() < from || entry.getKey() >= to) {
+                release(entry.getValue());
+                iterator.remove();
+            }
+        }
+        for (int index = from; index < to; index++) {
+            JComponent card = active.get(index);
+            if (card == null) {
+                card = acquire();
+                T item = items.get(index);
+                card.putClientProperty(ITEM_KEY, item);
+                binder.bind(card, item);
+                active.put(index, card);
+            }
+            int row = index / columns;
+            int column = index % columns;
+            card.setBounds(insets.left + column * (cardWidth + gap), insets.top + row * rowHeight,
+                    cardWidth, cardHeight);
+            card.setVisible(true);
+        }
+
+        if (nearEndListener != null && !items.isEmpty() && lastRow >= rowCount - 1 - BUFFER_ROWS) {
+            nearEndListener.run();
+        }
+    }
+
+    @Override
+    public void setBorder(javax.swing.border.Border border) {
+        super.setBorder(border);
+        if (binder != null) {
+            updatePreferredSize();  // 테두리 여백만큼 전체 크기 갱신
+        }
+    }
+
+    // ========== Scrollable ==========
+
+    @Override
+    public Dimension getPreferredScrollableViewportSize() {
+        return getPreferredSize();
+    }
+
+    @Override
+    public int getScrollableUnitIncrement(Rectangle visibleRect, int orientation, int direction) {
+        return Math.max(1, (cardHeight + gap) / 4);
+    }
+
+    @Override
+    public int getScrollableBlockIncrement(Rectangle visibleRect, int orientation, int direction) {
+        return orientation == SwingConstants.VERTICAL ? visibleRect.height : visibleRect.width;
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportWidth() {
+        return true;
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportHeight() {
+        return false;
+    }
+
+    // ========== Private Helper Methods ==========
+
+    /**
+     * 감싸고 있는 JViewport (처음 찾았을 때 스크롤 이벤트 리스너를 등록)
+     */
+    private JViewport viewport() {
+        Container parent = getParent();
+        if (parent instanceof JViewport && parent != viewport) {
+            viewport = (JViewport) parent;
+            viewport.addChangeListener(e -> refresh());
+        }
+        return viewport;
+    }
+
+    private JComponent acquire() {
+        JComponent card = pool.poll();
+        if (card != null) {
+            return card;
+        }
+        JComponent created = binder.createCard();
+        created.addMouseListener(new MouseAdapter() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public void mouseClicked(MouseEvent e) {
+                Object item = created.getClientProperty(ITEM_KEY);
+                if (cardClickListener != null && item != null) {
+                    cardClickListener.accept((T) item);
+                }
+            }
+        });
+        add(created);
+        return created;
+    }
+
+    private void release(JComponent card) {
+        card.setVisible(false);
+        card.putClientProperty(ITEM_KEY, null);
+        pool.push(card);
+    }
+
+    private int rowCount() {
+        return (items.size() + columns - 1) / columns;
+    }
+
+    private void updatePreferredSize() {
+        int rows = rowCount();
+        Insets insets = getInsets();
+        int width = columns * cardWidth + (columns - 1) * gap + insets.left + insets.right;
+        int height = Math.max(0, rows * (cardHeight + gap) - gap) + insets.top + insets.bottom;
+        setPreferredSize(new Dimension(width, height));
+        revalidate();
+        repaint();
+    }
+}
@@ -0,0 +1,123 @@
+package com.project.app.repository;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * DataSnapshot 왕복(round-trip) 및 무효화 검사
+ */
+class DataSnapshotTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void tableRoundTripsThroughSnapshot() throws IOException {
+        Path source = write("Data.txt", "id/name/list\nB1/국어 교재/L001,L002\nB2/수학 교재/\n");
+
+        DataTable parsed = DataSnapshot.loadTable(source);
+        assertTrue(Files.exists(DataSnapshot.snapshotPathOf(source)));
+        DataTable restored = DataSnapshot.loadTable(source);
+
+        assertNotNull(blocksOf(source));
+        assertEquals(parsed.rowCount(), restored.rowCount());
+        for (int row = 0; row < parsed.rowCount(); row++) {
+            assertEquals(parsed.rowText(row), restored.rowText(row));
+        }
+    }
+
+    @Test
+    void sameSizeEditWithNewTimestampInvalidatesSnapshot() throws IOException {
+        Path source = write("Data.txt", "id/name\nB1/국어\nB2/수학\n");
+        DataSnapshot.loadTable(source);
+        FileTime modified = Files.getLastModifiedTime(source);
+
+        // 크기는 그대로 두고 내용과 수정 시각만 바뀜
+        Files.writeString(source, "id/name\nB1/국어\nB3/수학\n", StandardCharsets.UTF_8);
+        Files.setLastModifiedTime(source, FileTime.fromMillis(modified.toMillis() + 1_000));
+
+        assertNull(blocksOf(source));
+        DataTable table = DataSnapshot.loadTable(source);
+        assertEquals("B3", table.field(1, 0));
+        assertNotNull(blocksOf(source));  // 새 내용으로 다시 생성됨
+    }
+
+    @Test
+    void unchangedSizeAndTimestampSkipSourceRead() throws IOException {
+        Path source = write("Data.txt", "id/name\nB1/국어\nB2/수학\n");
+        DataSnapshot.loadTable(source);
+        FileTime modified = Files.getLastModifiedTime(source);
+
+        // 크기와 수정 시각을 되돌리면 원본을 읽지 않고 스냅샷 내용을 그대로 사용 (최신 여부 확인은 속성만 봄)
+        Files.writeString(source, "id/name\nB1/국어\nB3/수학\n", StandardCharsets.UTF_8);
+        Files.setLastModifiedTime(source, modified);
+
+        assertEquals("B2", DataSnapshot.loadTable(source).field(1, 0));
+    }
+
+    @Test
+    void corruptedBlockIsIgnored() throws IOException {
+        Path source = write("Data.txt", "id/name\nB1/국어\n");
+        DataSnapshot.loadTable(source);
+        Path snapshot = DataSnapshot.snapshotPathOf(source);
+        byte[] bytes = Files.readAllBytes(snapshot);
+        bytes[bytes.length - 6] ^= 0x55;  // 마지막 블록 내용 1바이트 변경
+        Files.write(snapshot, bytes);
+
+        assertNull(blocksOf(source));
+        assertEquals("B1", DataSnapshot.loadTable(source).field(0, 0));
+    }
+
+    @Test
+    void intArrayBlocksRoundTrip() throws IOException {
+        Path source = write("Lines.txt", "header\n");
+        long size = Files.size(source);
+        long modified = DataSnapshot.modifiedTimeOf(source);
+        Map<Integer, byte[]> blocks = new LinkedHashMap<>();
+        blocks.put(DataSnapshot.BLOCK_LINE_STARTS, DataSnapshot.encodeIntArray(new int[]{3, 17, 42, 0}, 3));
+        DataSnapshot.write(source, size, modified, blocks);
+
+        Map<Integer, ByteBuffer> read = DataSnapshot.read(source, size, modified);
+        assertArrayEquals(new int[]{3, 17, 42}, DataSnapshot.decodeIntArray(read.get(DataSnapshot.BLOCK_LINE_STARTS)));
+        assertNull(DataSnapshot.read(source, size, modified + 1));
+        assertNull(DataSnapshot.read(source, size + 1, modified));
+    }
+
+    @Test
+    void tornLogIsParsedUpToLastCompleteLine() throws IOException {
+        Path log = write("Log.txt", "id/name\nP1/국어\nP2/수");
+        assertFalse(DataSnapshot.isCompleteLog(log));
+        DataTable table = DataSnapshot.parseCompleteLines(log);
+        assertEquals(1, table.rowCount());
+        assertEquals("P1", table.field(0, 0));
+        assertFalse(Files.exists(DataSnapshot.snapshotPathOf(log)));
+
+        assertFalse(DataSnapshot.isCompleteLog(directory.resolve("missing.txt")));
+        assertFalse(DataSnapshot.isCompleteLog(write("Empty.txt", "")));
+        assertEquals(0, DataSnapshot.parseCompleteLines(directory.resolve("missing.txt")).rowCount());
+        assertTrue(DataSnapshot.isCompleteLog(write("Complete.txt", "id/name\nP1/국어\n")));
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private Path write(String name, String content) throws IOException {
+        Path source = directory.resolve(name);
+        Files.writeString(source, content, StandardCharsets.UTF_8);
+        return source;
+    }
+
+    private static Map<Integer, ByteBuffer> blocksOf(Path source) throws IOException {
+        return DataSnapshot.read(source, Files.size(source), DataSnapshot.modifiedTimeOf(source));
+    }
+}
@@ -0,0 +1,94 @@
+package com.project.app.repository;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * DataTable 텍스트 파싱 검사
+ *
+ * 할당 검사는 HotSpot의 스레드별 할당 바이트 카운터로 parse()가 만든 바이트 수를 잽니다.
+ * 값이 반복되는 파일에서는 칸마다 String을 만들지 않으므로, 줄이 늘어날 때 늘어나는 할당은 int 배열 크기뿐이어야 합니다.
+ */
+class DataTableTest {
+
+    private static final int SMALLER_LINES = 150_000;  // 900k칸, 170k줄(1.02M칸)과 같은 2^20 용량 구간
+    private static final int LARGER_LINES = 170_000;
+    private static final int FIELDS = 6;
+
+    @Test
+    void parseSkipsHeaderAndBlankLinesAndTrimsFields() {
+        DataTable table = DataTable.parse("id/name/list\r\n L001 / 국어 기본 /A,B\r\n\r\n   \nL002/수학//\n");
+
+        assertEquals(2, table.rowCount());
+        assertEquals(3, table.fieldCount(0));
+        assertEquals("L001", table.field(0, 0));
+        assertEquals("국어 기본", table.field(0, 1));
+        assertEquals("A,B", table.field(0, 2));
+        assertEquals(4, table.fieldCount(1));
+        assertEquals("", table.field(1, 2));
+        assertEquals("L002/수학//", table.rowText(1));
+    }
+
+    @Test
+    void repeatedValuesShareOneStringInstance() {
+        DataTable table = DataTable.parse("h\nI001/수학/A001\nI002/수학/A001\n");
+
+        assertSame(table.field(0, 1), table.field(1, 1));
+        assertSame(table.field(0, 2), table.field(1, 2));
+    }
+
+    @Test
+    void parseAllocatesNoObjectsPerRepeatedCell() {
+        com.sun.management.ThreadMXBean threads = threadBean();
+        String smaller = repeatedValueData(SMALLER_LINES);
+        String larger = repeatedValueData(LARGER_LINES);
+        allocatedBytes(threads, smaller);  // 워밍업 (클래스 로딩, JIT)
+        allocatedBytes(threads, larger);
+
+        long smallerBytes = allocatedBytes(threads, smaller);
+        long largerBytes = allocatedBytes(threads, larger);
+
+        // 두 크기 모두 칸 배열 용량이 같은 구간이므로, 차이는 늘어난 칸/행의 최종 int 배열 크기뿐이어야 함
+        long extraCells = (long) (LARGER_LINES - SMALLER_LINES) * FIELDS;
+        double bytesPerExtraCell = (double) (largerBytes - smallerBytes) / extraCells;
+        // 칸 int(4바이트) + 행 시작 int(4바이트 / FIELDS) 이면 충분 (String 한 개는 40바이트 이상)
+        assertTrue(bytesPerExtraCell < 8, "칸마다 객체가 할당됨: " + bytesPerExtraCell + " bytes/cell");
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private static com.sun.management.ThreadMXBean threadBean() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+        return threads;
+    }
+
+    private static long allocatedBytes(com.sun.management.ThreadMXBean threads, String text) {
+        long before = threads.getCurrentThreadAllocatedBytes();
+        DataTable table = DataTable.parse(text);
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+        assertEquals(text.chars().filter(c -> c == '\n').count() - 1, table.rowCount());
+        return allocated;
+    }
+
+    /**
+     * 값이 적은 종류로 반복되는 FIELDS개 필드 줄을 만듭니다 (헤더 포함).
+     */
+    private static String repeatedValueData(int lines) {
+        StringBuilder builder = new StringBuilder("a/b/c/d/e/f\n");
+        for (int line = 0; line < lines; line++) {
+            builder.append("A").append(line % 50).append('/')
+                    .append("수학").append('/')
+                    .append(2020 + line % 6).append('/')
+                    .append("L").append(line % 500).append(",L").append((line + 1) % 500).append('/')
+                    .append(line % 7 == 0 ? "월" : "화").append('/')
+                    .append(line % 3).append('\n');
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,156 @@
+package com.project.app.repository;
+
+import com.project.app.model.Instructor;
+import com.project.app.util.HangulUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * InstructorRepositoryImpl 조건 검색 검사
+ *
+ * 학원/과목 보조 인덱스와 이름/소개글 n-gram 색인의 교집합 결과를 findAll()을 훑어 걸러낸 결과와 비교합니다.
+ */
+class InstructorRepositoryImplTest {
+
+    private static final String[] SUBJECTS = {"국어", "수학", "영어", "과학", "사회"};
+    private static final String[] ACADEMIES = {"A1", "A2", "A3", "A4"};
+    private static final String[] SYLLABLES = {"김", "이", "박", "현", "우", "진", "민", "수"};
+    private static final String[] WORDS = {"개념", "기출", "수능", "문법", "독해", "Logic", "실전", "분석"};
+    private static final String[] QUERIES = {"현", "우진", "김민", "ㅎ", "ㅎㅇ", "현ㅇ", "ㅁㅅ", "ㄳ", "기출",
+            "수능 기출", "logic", "LOGIC", "개념 분석", "실전", "수", "없는말", " ", "진수박이"};
+
+    @TempDir
+    Path directory;
+
+    private final Random random = new Random(4);
+    private final PersistenceWriter writer = new PersistenceWriter(PersistenceWriter.DEFAULT_WINDOW_MILLIS,
+            PersistenceWriter.DEFAULT_MAX_BATCH_OPS, PersistenceWriter.DEFAULT_QUEUE_CAPACITY);
+
+    @AfterEach
+    void shutdownWriter() {
+        writer.shutdown();
+    }
+
+    @Test
+    void combinedConditionsMatchFullScan() throws IOException {
+        InstructorRepositoryImpl repository = open(writeInstructors(400));
+        List<Instructor> all = repository.findAll();
+        assertEquals(400, all.size());
+
+        List<String> subjects = withNull(SUBJECTS);
+        List<String> academies = withNull(ACADEMIES);
+        List<String> keywords = withNull(QUERIES);
+        for (String keyword : keywords) {
+            for (String subject : subjects) {
+                for (String academyId : academies) {
+                    String label = keyword + "/" + subject + "/" + academyId;
+                    assertEquals(ids(scan(all, keyword, subject, academyId)),
+                            ids(repository.findByConditions(keyword, subject, academyId)), label);
+                }
+            }
+        }
+        assertTrue(repository.findByConditions("현", "없는과목", null).isEmpty());
+        assertTrue(repository.findByConditions(null, null, "A9").isEmpty());
+    }
+
+    @Test
+    void snapshotReloadGivesSameResults() throws IOException {
+        Path dataFile = writeInstructors(120);
+        InstructorRepositoryImpl built = open(dataFile);
+        assertTrue(Files.exists(DataSnapshot.snapshotPathOf(dataFile)));
+        InstructorRepositoryImpl reloaded = open(dataFile);
+
+        for (String keyword : withNull(QUERIES)) {
+            for (String subject : withNull(SUBJECTS)) {
+                assertEquals(ids(built.findByConditions(keyword, subject, "A2")),
+                        ids(reloaded.findByConditions(keyword, subject, "A2")), keyword + "/" + subject);
+            }
+        }
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private InstructorRepositoryImpl open(Path dataFile) {
+        return new InstructorRepositoryImpl(dataFile, directory.resolve("InstructorsData.journal"), writer, 1000);
+    }
+
+    /**
+     * 이름은 작은 음절 집합에서, 소개글은 작은 단어 집합에서 골라 겹치는 검색 결과가 많이 나오도록 만듭니다.
+     */
+    private Path writeInstructors(int count) throws IOException {
+        StringBuilder content = new StringBuilder("강사ID/강사명/학원ID/소개/과목/교재목록/강의목록/수강생목록\n");
+        for (int i = 0; i < count; i++) {
+            StringBuilder name = new StringBuilder();
+            for (int j = 2 + random.nextInt(2); j > 0; j--) {
+                name.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+            }
+            StringBuilder introduction = new StringBuilder();
+            for (int j = 3 + random.nextInt(3); j > 0; j--) {
+                introduction.append(WORDS[random.nextInt(WORDS.length)]).append(j > 1 ? " " : "");
+            }
+            content.append(String.format("I%04d", i)).append('/')
+                    .append(name).append('/')
+                    .append(ACADEMIES[random.nextInt(ACADEMIES.length)]).append('/')
+                    .append(introduction).append('/')
+                    .append(SUBJECTS[random.nextInt(SUBJECTS.length)]).append('/')
+                    .append("B").append(i).append('/')
+                    .append("L").append(i).append("/\n");
+        }
+        Path file = directory.resolve("InstructorsData.txt");
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        return file;
+    }
+
+    /**
+     * 색인 없이 조건을 하나씩 확인합니다. 초성 검색은 이름에만 적용됩니다.
+     */
+    private static List<Instructor> scan(List<Instructor> all, String keyword, String subject, String academyId) {
+        String query = HangulUtils.normalize(keyword);
+        List<Instructor> result = new ArrayList<>();
+        for (Instructor instructor : all) {
+            if (subject != null && !subject.equals(instructor.getSubject())) {
+                continue;
+            }
+            if (academyId != null && !academyId.equals(instructor.getAcademyId())) {
+                continue;
+            }
+            if (!query.isEmpty()) {
+                String name = HangulUtils.normalize(instructor.getName());
+                boolean nameMatches = HangulUtils.containsChoseong(query)
+                        ? HangulUtils.matchesWithChoseong(name, query)
+                        : name.contains(query);
+                if (!nameMatches && !HangulUtils.normalize(instructor.getIntroduction()).contains(query)) {
+                    continue;
+                }
+            }
+            result.add(instructor);
+        }
+        return result;
+    }
+
+    private static List<String> withNull(String[] values) {
+        List<String> list = new ArrayList<>();
+        list.add(null);
+        list.addAll(List.of(values));
+        return list;
+    }
+
+    private static List<String> ids(List<Instructor> instructors) {
+        List<String> ids = new ArrayList<>();
+        for (Instructor instructor : instructors) {
+            ids.add(instructor.getId());
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,136 @@
+package com.project.app.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 등록 저널(EnrollmentJournal) 검사: 데이터 파일 위 순번 재생, 잘린 레코드 정리, 멱등 재생, compaction 뒤 저널 정리
+ */
+class JournalTest {
+
+    private static final String DATA = "강사ID/강사명/학원ID/소개/과목/교재목록/강의목록/수강생목록\n"
+            + "I001/양승진/A1/수학 강사/수학/B1/L001/S1\n"
+            + "I002/강민철/A2/국어 강사/국어/B2/L002/\n";
+    private static final String JOURNAL_HEADER = "순번/강사ID/학생ID\n";
+
+    @TempDir
+    Path directory;
+
+    private final PersistenceWriter writer = new PersistenceWriter(PersistenceWriter.DEFAULT_WINDOW_MILLIS,
+            PersistenceWriter.DEFAULT_MAX_BATCH_OPS, PersistenceWriter.DEFAULT_QUEUE_CAPACITY);
+
+    @AfterEach
+    void shutdownWriter() {
+        writer.shutdown();
+    }
+
+    @Test
+    void replaysJournalInSequenceOnTopOfDataFile() throws IOException {
+        Path data = write("InstructorsData.txt", DATA);
+        Path journal = write("InstructorsData.journal", JOURNAL_HEADER + "1/I001/S2\n2/I002/S3\n");
+
+        InstructorRepositoryImpl repository = open(data, journal, 1000);
+        assertEquals(List.of("S1", "S2"), repository.getStudentIdsByInstructor("I001"));
+        assertEquals(List.of("S3"), repository.getStudentIdsByInstructor("I002"));
+
+        // 새 레코드는 재생한 마지막 순번 다음 번호로 기록되고, 다시 열면 그대로 복원됨
+        assertTrue(repository.addStudentToInstructor("I002", "S4"));
+        assertEquals("3/I002/S4", lastLine(journal));
+        assertEquals(List.of("S3", "S4"), open(data, journal, 1000).getStudentIdsByInstructor("I002"));
+    }
+
+    @Test
+    void tornLastRecordIsDiscarded() throws IOException {
+        Path data = write("InstructorsData.txt", DATA);
+        Path journal = write("InstructorsData.journal", JOURNAL_HEADER + "1/I001/S2\n2/I002/S");
+
+        InstructorRepositoryImpl repository = open(data, journal, 1000);
+        assertEquals(List.of("S1", "S2"), repository.getStudentIdsByInstructor("I001"));
+        assertTrue(repository.getStudentIdsByInstructor("I002").isEmpty());
+        assertEquals(JOURNAL_HEADER + "1/I001/S2\n", Files.readString(journal, StandardCharsets.UTF_8));
+
+        // 잘린 자리 다음에 이어 쓴 레코드가 온전한 한 줄로 남아야 함
+        assertTrue(repository.addStudentToInstructor("I002", "S5"));
+        assertEquals(JOURNAL_HEADER + "1/I001/S2\n2/I002/S5\n", Files.readString(journal, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void replayIsIdempotent() throws IOException {
+        Path data = write("InstructorsData.txt", DATA);
+        // 스냅샷에 이미 반영된 레코드와 중복 레코드 (스냅샷 저장 직후, 저널 정리 전에 종료된 경우)
+        Path journal = write("InstructorsData.journal", JOURNAL_HEADER + "1/I001/S1\n2/I001/S2\n3/I001/S2\n");
+
+        InstructorRepositoryImpl repository = open(data, journal, 1000);
+        assertEquals(List.of("S1", "S2"), repository.getStudentIdsByInstructor("I001"));
+        assertEquals(List.of("S1", "S2"), open(data, journal, 1000).getStudentIdsByInstructor("I001"));
+
+        EnrollmentJournal reopened = new EnrollmentJournal(journal, writer);
+        List<Long> sequences = new ArrayList<>();
+        reopened.replay((sequence, instructorId, studentId) -> sequences.add(sequence));
+        reopened.replay((sequence, instructorId, studentId) -> sequences.add(sequence));
+        assertEquals(List.of(1L, 2L, 3L, 1L, 2L, 3L), sequences);
+        assertEquals(3, reopened.getLastSequence());
+        assertEquals(3, reopened.getRecordCount());
+    }
+
+    @Test
+    void compactionTruncatesJournalUpToSnapshot() throws Exception {
+        Path data = write("InstructorsData.txt", DATA);
+        Path journal = write("InstructorsData.journal", JOURNAL_HEADER);
+        InstructorRepositoryImpl repository = open(data, journal, 5);
+
+        List<String> expected = new ArrayList<>(List.of("S1"));
+        for (int i = 0; i < 12; i++) {
+            String studentId = "N" + i;
+            assertTrue(repository.addStudentToInstructor("I001", studentId));
+            expected.add(studentId);
+        }
+        repository.awaitCompaction();
+
+        // 저널에는 스냅샷에 반영되지 않은 레코드만 남고, 남은 순번은 연속되어야 함
+        List<String> records = journalRecords(journal);
+        assertTrue(records.size() < 12, "records: " + records.size());
+        long sequence = 12 - records.size();
+        for (String record : records) {
+            assertEquals(++sequence + "/I001/", record.substring(0, record.lastIndexOf('/') + 1));
+        }
+        assertEquals(expected, open(data, journal, 1000).getStudentIdsByInstructor("I001"));
+
+        // 스냅샷에는 잘라낸 순번까지의 학생이 정확히 들어 있어야 함
+        Path emptyJournal = write("empty.journal", JOURNAL_HEADER);
+        assertEquals(expected.subList(0, expected.size() - records.size()),
+                open(data, emptyJournal, 1000).getStudentIdsByInstructor("I001"));
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private InstructorRepositoryImpl open(Path data, Path journal, int compactionThreshold) {
+        return new InstructorRepositoryImpl(data, journal, writer, compactionThreshold);
+    }
+
+    private Path write(String name, String content) throws IOException {
+        Path file = directory.resolve(name);
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        return file;
+    }
+
+    private static List<String> journalRecords(Path journal) throws IOException {
+        List<String> lines = Files.readAllLines(journal, StandardCharsets.UTF_8);
+        return new ArrayList<>(lines.subList(1, lines.size()));
+    }
+
+    private static String lastLine(Path journal) throws IOException {
+        List<String> lines = Files.readAllLines(journal, StandardCharsets.UTF_8);
+        return lines.get(lines.size() - 1);
+    }
+}
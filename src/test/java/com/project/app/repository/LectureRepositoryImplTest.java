@@ -0,0 +1,129 @@
+package com.project.app.repository;
+
+import com.project.app.model.Lecture;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LectureRepositoryImpl 과목/학원/강사 열 색인 검사
+ *
+ * 색인 조회 결과를 findAll()을 훑어 걸러낸 결과와 비교합니다 (처음 구축 + 스냅샷 복원 모두).
+ */
+class LectureRepositoryImplTest {
+
+    private static final String[] SUBJECTS = {"국어", "수학", "영어", "사회탐구", "과학탐구"};
+    private static final String[] ACADEMIES = {"A1", "A2", "A3"};
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void columnIndexesMatchFullScanAfterBuildAndSnapshotReload() throws IOException {
+        Path dataFile = writeLectures(300);
+
+        LectureRepositoryImpl built = new LectureRepositoryImpl(dataFile);
+        assertTrue(Files.exists(DataSnapshot.snapshotPathOf(dataFile)));
+        assertIndexesMatchScan(built);
+
+        LectureRepositoryImpl reloaded = new LectureRepositoryImpl(dataFile);
+        assertIndexesMatchScan(reloaded);
+        assertEquals(built.count(), reloaded.count());
+    }
+
+    @Test
+    void sameSizeEditRebuildsOffsetIndex() throws IOException {
+        Path dataFile = writeLectures(20);
+        assertNotNull(new LectureRepositoryImpl(dataFile).findById("L0007"));
+        FileTime modified = Files.getLastModifiedTime(dataFile);
+
+        Files.writeString(dataFile, Files.readString(dataFile).replace("L0007/", "X0007/"), StandardCharsets.UTF_8);
+        Files.setLastModifiedTime(dataFile, FileTime.fromMillis(modified.toMillis() + 1_000));
+
+        LectureRepositoryImpl reloaded = new LectureRepositoryImpl(dataFile);
+        assertNull(reloaded.findById("L0007"));
+        assertEquals("X0007", reloaded.findById("X0007").getId());
+    }
+
+    @Test
+    void unknownOrNullValuesReturnEmptyLists() throws IOException {
+        LectureRepositoryImpl repository = new LectureRepositoryImpl(writeLectures(10));
+
+        assertTrue(repository.findBySubject("물리").isEmpty());
+        assertTrue(repository.findBySubject(null).isEmpty());
+        assertTrue(repository.findByAcademyId("A9").isEmpty());
+        assertEquals(repository.findBySubject("수학"), repository.findBySubject(" 수학 "));
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private static void assertIndexesMatchScan(LectureRepositoryImpl repository) {
+        List<Lecture> all = repository.findAll();
+        for (String subject : SUBJECTS) {
+            List<Lecture> expected = new ArrayList<>();
+            for (Lecture lecture : all) {
+                if (subject.equals(lecture.getSubject())) {
+                    expected.add(lecture);
+                }
+            }
+            assertFalse(expected.isEmpty());
+            assertEquals(ids(expected), ids(repository.findBySubject(subject)), subject);
+        }
+        for (String academyId : ACADEMIES) {
+            List<Lecture> expected = new ArrayList<>();
+            for (Lecture lecture : all) {
+                if (academyId.equals(lecture.getAcademyId())) {
+                    expected.add(lecture);
+                }
+            }
+            assertEquals(ids(expected), ids(repository.findByAcademyId(academyId)), academyId);
+        }
+        for (int i = 0; i < 13; i++) {
+            String instructor = "강사 " + i;
+            List<Lecture> expected = new ArrayList<>();
+            for (Lecture lecture : all) {
+                if (instructor.equals(lecture.getInstructorName())) {
+                    expected.add(lecture);
+                }
+            }
+            assertFalse(expected.isEmpty());
+            assertEquals(ids(expected), ids(repository.findByInstructorName(instructor)), instructor);
+        }
+    }
+
+    private static List<String> ids(List<Lecture> lectures) {
+        List<String> ids = new ArrayList<>();
+        for (Lecture lecture : lectures) {
+            ids.add(lecture.getId());
+        }
+        return ids;
+    }
+
+    /**
+     * LectureData 형식의 파일을 만듭니다 (과목 앞뒤 공백, 빈 줄 포함).
+     */
+    private Path writeLectures(int count) throws IOException {
+        StringBuilder builder = new StringBuilder("강의ID/학원ID/과목/년도/강의 이름/강사/교재/강의 가격/교재 가격/강의 설명/대상 학년/정원/요일/시간\n");
+        for (int i = 0; i < count; i++) {
+            String subject = SUBJECTS[(i * 7) % SUBJECTS.length];
+            builder.append(String.format("L%04d/%s/%s/2027/강의 %d/강사 %d/교재 %d/%d/20000/설명/고2,고3/%d/월/7,8%n",
+                    i, ACADEMIES[i % ACADEMIES.length], i % 11 == 0 ? " " + subject + " " : subject,
+                    i, i % 13, i, 30000 + i * 100, 5 + i % 20));
+            if (i % 50 == 0) {
+                builder.append('\n');
+            }
+        }
+        Path dataFile = directory.resolve("LectureData.txt");
+        Files.writeString(dataFile, builder, StandardCharsets.UTF_8);
+        return dataFile;
+    }
+}
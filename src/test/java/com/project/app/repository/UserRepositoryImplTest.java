@@ -0,0 +1,170 @@
+package com.project.app.repository;
+
+import com.project.app.model.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * UserRepositoryImpl 검사: 저널 재생, 잘린 레코드 정리, compaction, users.txt 가져오기, 기록 실패 시 되돌리기
+ */
+class UserRepositoryImplTest {
+
+    private static final String HEADER = "사용자ID/비밀번호/이름/생년월일/학년/신청강의목록/결제내역목록\n";
+    private static final String DATA = HEADER
+            + "u1/pw1/김철수/2007-03-01/고2/L001,L002/P1\n"
+            + "u2/pw2/이영희/2006-05-12/고3//\n";
+
+    @TempDir
+    Path directory;
+
+    private final PersistenceWriter writer = new PersistenceWriter(PersistenceWriter.DEFAULT_WINDOW_MILLIS,
+            PersistenceWriter.DEFAULT_MAX_BATCH_OPS, PersistenceWriter.DEFAULT_QUEUE_CAPACITY);
+
+    @AfterEach
+    void shutdownWriter() {
+        writer.shutdown();
+    }
+
+    @Test
+    void replaysJournalOnTopOfDataFile() throws IOException {
+        Path data = write("userData.txt", DATA);
+        Path journal = write("userData.journal", HEADER
+                + "u2/newpw/이영희/2006-05-12/N수/L003/\n"
+                + "u3/pw3/박민수/2008-01-30/고1//\n");
+
+        UserRepositoryImpl repository = open(data, journal, 1000);
+        assertEquals(3, repository.findAll().size());
+        assertEquals(List.of("L001", "L002"), repository.findById("u1").getEnrolledLectureIds());
+        assertEquals("newpw", repository.findById("u2").getPassword());  // 같은 ID는 나중 줄이 우선
+        assertEquals(4, repository.findById("u2").getGrade());
+        assertEquals("박민수", repository.findById("u3").getName());
+
+        // 새 사용자는 저널에 한 줄로 추가되고, 다시 열면 그대로 복원됨
+        assertTrue(repository.saveNewAsync(new User("u4", "pw4", "최지우", 1, "2008-09-09")).join());
+        assertFalse(repository.saveNewAsync(new User("u4", "other", "최지우", 1, "2008-09-09")).join());
+        assertEquals("u4/pw4/최지우/2008-09-09/고1//", lastLine(journal));
+        assertEquals("pw4", open(data, journal, 1000).findById("u4").getPassword());
+    }
+
+    @Test
+    void tornLastRecordIsDiscarded() throws IOException {
+        Path data = write("userData.txt", DATA);
+        Path journal = write("userData.journal", HEADER + "u3/pw3/박민수/2008-01-30/고1//\nu4/pw4/최");
+
+        UserRepositoryImpl repository = open(data, journal, 1000);
+        assertNotNull(repository.findById("u3"));
+        assertNull(repository.findById("u4"));
+        assertEquals(HEADER + "u3/pw3/박민수/2008-01-30/고1//\n", Files.readString(journal, StandardCharsets.UTF_8));
+
+        // 잘린 자리 다음에 이어 쓴 레코드가 온전한 한 줄로 남아야 함
+        assertTrue(repository.saveNewAsync(new User("u4", "pw4", "최지우", 1, "2008-09-09")).join());
+        assertEquals(HEADER + "u3/pw3/박민수/2008-01-30/고1//\nu4/pw4/최지우/2008-09-09/고1//\n",
+                Files.readString(journal, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void compactionMovesJournalIntoDataFile() throws IOException {
+        Path data = write("userData.txt", DATA);
+        Path journal = write("userData.journal", HEADER);
+        UserRepositoryImpl repository = open(data, journal, 5);
+
+        List<String> ids = new ArrayList<>(List.of("u1", "u2"));
+        for (int i = 0; i < 12; i++) {
+            String id = "n" + i;
+            assertTrue(repository.saveNewAsync(new User(id, "pw", "이름" + i, 2, "2007-01-01")).join());
+            ids.add(id);
+        }
+        repository.awaitCompaction();
+
+        List<String> records = records(journal);
+        assertTrue(records.size() < 12, "records: " + records.size());
+        List<String> compacted = records(data);
+        assertEquals(ids.size() - records.size(), compacted.size());
+
+        // 데이터 파일과 남은 저널을 합치면 모든 사용자가 복원됨
+        UserRepositoryImpl reopened = open(data, journal, 1000);
+        for (String id : ids) {
+            assertNotNull(reopened.findById(id), id);
+        }
+        assertEquals(ids.size(), reopened.findAll().size());
+    }
+
+    @Test
+    void legacyUsersAreImportedOnce() throws IOException {
+        Path data = write("userData.txt", DATA);
+        Path journal = write("userData.journal", HEADER);
+        Path legacy = write("users.txt", "u1,other,다른이름,2000-01-01\nold1,pw,옛사용자,2005-02-02\n\n");
+
+        UserRepositoryImpl repository = open(data, journal, legacy, 1000);
+        assertEquals("pw1", repository.findById("u1").getPassword());  // 이미 있는 사용자는 덮어쓰지 않음
+        assertEquals("옛사용자", repository.findById("old1").getName());
+        assertEquals("2005-02-02", repository.findById("old1").getBirth());
+        repository.awaitCompaction();
+        writer.append(directory.resolve("flush.txt"), "").join();  // 앞서 요청한 저널 추가가 끝날 때까지 대기
+
+        assertEquals(List.of("old1/pw/옛사용자/2005-02-02/미지정//"), records(journal));
+        UserRepositoryImpl reopened = open(data, journal, legacy, 1000);
+        assertEquals(3, reopened.findAll().size());
+        writer.append(directory.resolve("flush.txt"), "").join();
+        assertEquals(1, records(journal).size());
+    }
+
+    @Test
+    void failedJournalWriteRollsBackIndex() throws IOException {
+        Path data = write("userData.txt", DATA);
+        Path journal = write("userData.journal", HEADER);
+        UserRepositoryImpl repository = open(data, journal, 1000);
+
+        // 저널 자리에 디렉터리를 두어 추가가 실패하도록 함
+        Files.delete(journal);
+        Files.createDirectory(journal);
+
+        assertFalse(repository.saveNewAsync(new User("u3", "pw3", "박민수", 1, "2008-01-30")).join());
+        assertNull(repository.findById("u3"));
+
+        User original = repository.findById("u1");
+        repository.save(new User("u1", "changed", "김철수", 2, "2007-03-01"));
+        writer.append(directory.resolve("flush.txt"), "").join();
+        assertSame(original, repository.findById("u1"));  // 이전 값으로 되돌림
+        assertEquals(2, repository.findAll().size());
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private UserRepositoryImpl open(Path data, Path journal, int compactionThreshold) {
+        return open(data, journal, directory.resolve("users.txt"), compactionThreshold);
+    }
+
+    private UserRepositoryImpl open(Path data, Path journal, Path legacy, int compactionThreshold) {
+        return new UserRepositoryImpl(data, journal, legacy, writer, compactionThreshold);
+    }
+
+    private Path write(String name, String content) throws IOException {
+        Path file = directory.resolve(name);
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        return file;
+    }
+
+    /**
+     * 헤더를 제외한 줄 목록
+     */
+    private static List<String> records(Path file) throws IOException {
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        return new ArrayList<>(lines.subList(1, lines.size()));
+    }
+
+    private static String lastLine(Path file) throws IOException {
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        return lines.get(lines.size() - 1);
+    }
+}
@@ -0,0 +1,88 @@
+package com.project.app.service;
+
+import com.project.app.dto.EnrollLectureRequest;
+import com.project.app.dto.EnrollLectureResponse;
+import com.project.app.model.Lecture;
+import com.project.app.model.Payment;
+import com.project.app.model.User;
+import com.project.app.repository.LectureRepositoryImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 신청 대기열 검사: 같은 멱등 키의 요청이 처리 중이어도 처리 스레드가 멈추지 않아야 함
+ */
+class AdmissionQueueTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void duplicateOfInFlightRequestDoesNotBlockTheDrainer() throws Exception {
+        LectureRepositoryImpl lectures = ServiceFixtures.lectures(directory, 3, 5);
+        CountDownLatch paymentStarted = new CountDownLatch(1);
+        CountDownLatch releasePayment = new CountDownLatch(1);
+        PaymentService slowPayments = new PaymentService(new ServiceFixtures.InMemoryPayments()) {
+            @Override
+            public Payment createPayment(String idempotencyKey, User user, Lecture lecture,
+                                         boolean purchaseTextbook, String method) {
+                if ("user0000".equals(user.getId())) {
+                    paymentStarted.countDown();
+                    await(releasePayment);
+                }
+                return super.createPayment(idempotencyKey, user, lecture, purchaseTextbook, method);
+            }
+        };
+        LectureService service = new LectureService(lectures, ServiceFixtures.users(2),
+                new ServiceFixtures.InMemoryEnrollments(), slowPayments);
+        EnrollLectureRequest request = new EnrollLectureRequest("L0000", "user0000", false, "카드", "dialog-1");
+
+        CompletableFuture<EnrollLectureResponse> original = CompletableFuture.supplyAsync(() -> service.enrollLecture(request));
+        assertTrue(paymentStarted.await(10, TimeUnit.SECONDS));
+
+        AdmissionTicket duplicate = service.submitEnrollment(request);
+        AdmissionTicket other = service.submitEnrollment(new EnrollLectureRequest("L0001", "user0001", false, "카드"));
+
+        assertTrue(other.future().get(10, TimeUnit.SECONDS).isSuccess());  // 처리 스레드가 막히지 않음
+        assertFalse(duplicate.isDone());
+
+        releasePayment.countDown();
+        EnrollLectureResponse first = original.get(10, TimeUnit.SECONDS);
+        EnrollLectureResponse second = duplicate.future().get(10, TimeUnit.SECONDS);
+        assertTrue(first.isSuccess());
+        assertSame(first, second);
+        assertEquals(4, service.getRemainingSeats("L0000"));
+    }
+
+    @Test
+    void processorFailureCompletesTicketWithSystemError() throws Exception {
+        AdmissionQueue queue = new AdmissionQueue(request -> {
+            throw new IllegalStateException("처리 실패");
+        }, 10, 5, 5);
+        try {
+            AdmissionTicket ticket = queue.submit(new EnrollLectureRequest("L0000", "user0000", false, "카드"));
+            EnrollLectureResponse response = ticket.future().get(10, TimeUnit.SECONDS);
+            assertEquals(EnrollLectureResponse.ErrorType.SYSTEM_ERROR, response.getErrorType());
+        } finally {
+            queue.shutdown();
+        }
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.project.app.service;
+
+import com.project.app.dto.InstructorCardView;
+import com.project.app.dto.InstructorListResponse;
+import com.project.app.dto.InstructorSearchRequest;
+import com.project.app.model.Instructor;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * InstructorService 페이지 검사: 조건/정렬 순서마다 커서로 끝까지 읽은 결과가 전체 검색 후 정렬한 결과와 같아야 함
+ */
+class InstructorServiceTest {
+
+    private static final String[] SUBJECTS = {"국어", "수학", "영어", "과학탐구"};
+    private static final String[] ACADEMIES = {"A1", "A2", "A3"};
+    private static final String[] NAMES = {"김민수", "이서연", "박지훈", "최수아", "정민준", "강서윤"};
+
+    private final Random random = new Random(17);
+    private final Map<String, Double> scores = new HashMap<>();
+
+    @Test
+    void cursorPagesMatchBruteForceForEveryFilter() {
+        ServiceFixtures.InMemoryInstructors repository = new ServiceFixtures.InMemoryInstructors(randomInstructors(300));
+        InstructorService service = new InstructorService(repository);
+        randomScores(service, repository.all, 200);
+
+        for (String sortOrder : new String[]{InstructorService.SORT_BY_REVIEW_SCORE, InstructorService.SORT_BY_NAME}) {
+            for (InstructorSearchRequest search : searches(sortOrder)) {
+                List<String> expected = ids(expected(repository, search));
+                assertEquals(expected, readAll(service, search, 7), search.toString());
+                assertEquals(expected.size(), service.getInstructorPage(search, null, 1).getTotalCount());
+            }
+        }
+    }
+
+    @Test
+    void filteredScoreOrderFollowsScoreChanges() {
+        ServiceFixtures.InMemoryInstructors repository = new ServiceFixtures.InMemoryInstructors(randomInstructors(200));
+        InstructorService service = new InstructorService(repository);
+        InstructorSearchRequest search = new InstructorSearchRequest(null, "수학", null, InstructorService.SORT_BY_REVIEW_SCORE);
+
+        for (int round = 0; round < 20; round++) {
+            readAll(service, search, 5);  // 조건별 배열을 만들어 둔 뒤 점수를 바꿈
+            randomScores(service, repository.all, 10);
+            assertEquals(ids(expected(repository, search)), readAll(service, search, 5));
+        }
+    }
+
+    @Test
+    void pageWithoutMatchesIsEmpty() {
+        InstructorService service = new InstructorService(new ServiceFixtures.InMemoryInstructors(randomInstructors(50)));
+        InstructorListResponse page = service.getInstructorPage(
+                new InstructorSearchRequest("없는이름", null, null, InstructorService.SORT_BY_NAME), null, 10);
+        assertTrue(page.getInstructors().isEmpty());
+        assertEquals(0, page.getTotalCount());
+        assertNull(page.getNextCursor());
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private List<Instructor> randomInstructors(int count) {
+        List<Instructor> instructors = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            instructors.add(new Instructor(String.format("I%04d", i), NAMES[random.nextInt(NAMES.length)],
+                    ACADEMIES[random.nextInt(ACADEMIES.length)], "소개 " + i % 5,
+                    SUBJECTS[random.nextInt(SUBJECTS.length)], null, List.of(), List.of()));
+        }
+        return instructors;
+    }
+
+    private void randomScores(InstructorService service, List<Instructor> instructors, int changes) {
+        for (int i = 0; i < changes; i++) {
+            Instructor instructor = instructors.get(random.nextInt(instructors.size()));
+            double score = random.nextInt(9) / 2.0;
+            scores.put(instructor.getId(), score);
+            service.updateInstructorRankScore(instructor.getId(), score);
+        }
+    }
+
+    private static List<InstructorSearchRequest> searches(String sortOrder) {
+        List<InstructorSearchRequest> searches = new ArrayList<>();
+        searches.add(new InstructorSearchRequest(null, null, null, sortOrder));
+        searches.add(new InstructorSearchRequest(null, "수학", null, sortOrder));
+        searches.add(new InstructorSearchRequest(null, null, "A2", sortOrder));
+        searches.add(new InstructorSearchRequest(null, "영어", "A1", sortOrder));
+        searches.add(new InstructorSearchRequest("서연", null, null, sortOrder));
+        searches.add(new InstructorSearchRequest("민", "국어", null, sortOrder));
+        return searches;
+    }
+
+    private List<Instructor> expected(ServiceFixtures.InMemoryInstructors repository, InstructorSearchRequest search) {
+        List<Instructor> result = repository.findByConditions(search.getKeyword(), search.getSubject(), search.getAcademyId());
+        Comparator<Instructor> order = InstructorService.SORT_BY_NAME.equals(search.getSortOrder())
+                ? Comparator.comparing(Instructor::getName)
+                : Comparator.comparingDouble((Instructor i) -> scores.getOrDefault(i.getId(), 0.0)).reversed();
+        result.sort(order.thenComparing(Instructor::getId));
+        return result;
+    }
+
+    private static List<String> readAll(InstructorService service, InstructorSearchRequest search, int limit) {
+        List<String> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            InstructorListResponse page = service.getInstructorPage(search, cursor, limit);
+            assertTrue(page.getInstructors().size() <= limit);
+            for (InstructorCardView card : page.getInstructors()) {
+                ids.add(card.getId());
+            }
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return ids;
+    }
+
+    private static List<String> ids(List<Instructor> instructors) {
+        List<String> ids = new ArrayList<>();
+        for (Instructor instructor : instructors) {
+            ids.add(instructor.getId());
+        }
+        return ids;
+    }
+
+    /**
+     * 모든 조회를 전체 목록 순회로 처리하는 Repository (기대값 계산용)
+     */
+}
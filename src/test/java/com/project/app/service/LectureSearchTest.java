@@ -0,0 +1,168 @@
+package com.project.app.service;
+
+import com.project.app.dto.FacetCountResponse;
+import com.project.app.dto.LectureListResponse;
+import com.project.app.dto.LectureSortOrder;
+import com.project.app.dto.SearchFacet;
+import com.project.app.model.Lecture;
+import com.project.app.repository.LectureRepository;
+import com.project.app.repository.LectureRepositoryImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 강의 가격/패싯 검색 검사: 색인으로 찾은 강의가 전체 강의를 훑은 결과와 같아야 함
+ * (색인은 시작 시가 아니라 처음 검색할 때 한 번만 만들어야 함)
+ */
+class LectureSearchTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void priceRangesMatchScan() throws Exception {
+        LectureRepositoryImpl lectures = ServiceFixtures.lectures(directory, 500, 10);
+        LectureService service = ServiceFixtures.lectureService(lectures, ServiceFixtures.users(0));
+        List<Lecture> all = lectures.findAll();
+
+        int[][] ranges = {{0, 50_000}, {30_000, 30_000}, {45_000, 80_000}, {100_000, 200_000}, {90_000, 10_000}};
+        for (int[] range : ranges) {
+            List<Lecture> expected = new ArrayList<>();
+            for (Lecture lecture : all) {
+                if (lecture.getPrice() >= range[0] && lecture.getPrice() <= range[1]) {
+                    expected.add(lecture);
+                }
+            }
+            List<Lecture> sortedByPrice = new ArrayList<>(expected);
+            sortedByPrice.sort(Comparator.comparingInt(Lecture::getPrice));
+
+            assertEquals(expected.size(), service.countLecturesByPrice(range[0], range[1]));
+            assertEquals(prices(sortedByPrice), prices(service.findLecturesByPrice(range[0], range[1])));
+            assertEquals(ids(expected), ids(service.findLecturesByFacets(Map.of(), range[0], range[1])));
+        }
+    }
+
+    @Test
+    void facetsCombinedWithPriceMatchScan() throws Exception {
+        LectureRepositoryImpl lectures = ServiceFixtures.lectures(directory, 500, 10);
+        LectureService service = ServiceFixtures.lectureService(lectures, ServiceFixtures.users(0));
+        Map<SearchFacet, Set<String>> selected = new EnumMap<>(SearchFacet.class);
+        selected.put(SearchFacet.SUBJECT, Set.of("수학", "영어"));
+        selected.put(SearchFacet.DAY, Set.of("월", "수", "금"));
+        int min = 40_000;
+        int max = 90_000;
+
+        List<Lecture> expected = new ArrayList<>();
+        int mathCount = 0;
+        for (Lecture lecture : lectures.findAll()) {
+            boolean inPrice = lecture.getPrice() >= min && lecture.getPrice() <= max;
+            boolean onDay = selected.get(SearchFacet.DAY).contains(lecture.getDayOfWeek());
+            if (inPrice && onDay && selected.get(SearchFacet.SUBJECT).contains(lecture.getSubject())) {
+                expected.add(lecture);
+            }
+            if (inPrice && onDay && lecture.getSubject().equals("수학")) {
+                mathCount++;
+            }
+        }
+
+        assertEquals(ids(expected), ids(service.findLecturesByFacets(selected, min, max)));
+        FacetCountResponse counts = service.getLectureFacetCounts(selected, min, max);
+        assertEquals(expected.size(), counts.getMatchCount());
+        assertEquals(mathCount, counts.getCount(SearchFacet.SUBJECT, "수학"));
+    }
+
+    @Test
+    void catalogIndexesAreBuiltOnFirstSearchOnly() throws Exception {
+        LectureRepositoryImpl lectures = ServiceFixtures.lectures(directory, 200, 10);
+        int[] fullScans = new int[1];
+        LectureService service = new LectureService(countingFullScans(lectures, fullScans), ServiceFixtures.users(3),
+                new ServiceFixtures.InMemoryEnrollments(), new PaymentService(new ServiceFixtures.InMemoryPayments()));
+
+        // 상세/인기 강의/평점 반영은 전체 강의를 읽지 않음
+        assertNotNull(service.getLectureDetail("L0042", "user0000"));
+        service.getPopularLectures(null, 5);
+        service.updateLectureRating("L0042", 4.5);
+        assertEquals(0, fullScans[0]);
+
+        // 색인 생성 전에 받은 평점도 평점순에 반영되어야 함
+        LectureListResponse page = service.getLecturePage(LectureSortOrder.RATING, 0, 1);
+        assertEquals("L0042", page.getLectures().get(0).getId());
+        assertEquals(200, page.getTotalCount());
+        service.getLectureFacetCounts(Map.of());
+        service.countLecturesByPrice(0, 100_000);
+        service.updateLectureRating("L0007", 5.0);
+        assertEquals("L0007", service.getLecturePage(LectureSortOrder.RATING, 0, 1).getLectures().get(0).getId());
+        assertEquals(1, fullScans[0]);
+    }
+
+    // ========== Private Helper Methods ==========
+
+    /**
+     * findAll() 호출 수를 세는 Repository (나머지는 그대로 위임)
+     */
+    private static LectureRepository countingFullScans(LectureRepository delegate, int[] fullScans) {
+        return new LectureRepository() {
+            @Override
+            public Lecture findById(String id) {
+                return delegate.findById(id);
+            }
+
+            @Override
+            public List<Lecture> findAll() {
+                fullScans[0]++;
+                return delegate.findAll();
+            }
+
+            @Override
+            public List<Lecture> findBySubject(String subject) {
+                return delegate.findBySubject(subject);
+            }
+
+            @Override
+            public List<Lecture> findByAcademyId(String academyId) {
+                return delegate.findByAcademyId(academyId);
+            }
+
+            @Override
+            public List<Lecture> findByInstructorName(String instructorName) {
+                return delegate.findByInstructorName(instructorName);
+            }
+
+            @Override
+            public boolean existsById(String id) {
+                return delegate.existsById(id);
+            }
+
+            @Override
+            public int count() {
+                return delegate.count();
+            }
+        };
+    }
+
+    private static List<String> ids(List<Lecture> lectures) {
+        List<String> ids = new ArrayList<>();
+        for (Lecture lecture : lectures) {
+            ids.add(lecture.getId());
+        }
+        return ids;
+    }
+
+    private static List<Integer> prices(List<Lecture> lectures) {
+        List<Integer> prices = new ArrayList<>();
+        for (Lecture lecture : lectures) {
+            prices.add(lecture.getPrice());
+        }
+        return prices;
+    }
+}
@@ -0,0 +1,146 @@
+package com.project.app.service;
+
+import com.project.app.dto.LectureSortOrder;
+import com.project.app.model.Lecture;
+import com.project.app.util.PageCursor;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LectureSortIndex 검사: 순열에서 읽은 페이지가 매번 전체를 정렬한 결과와 같아야 함
+ * (값이 같은 강의가 많도록 년도/가격/평점 범위를 좁게 잡음)
+ */
+class LectureSortIndexTest {
+
+    private static final int SIZE = 600;
+
+    private final Random random = new Random(16);
+    private final Map<String, Double> ratings = new HashMap<>();
+
+    @Test
+    void pagesMatchFullSortAfterRandomUpdates() {
+        List<Lecture> catalog = randomCatalog();
+        LectureSortIndex index = new LectureSortIndex(catalog);
+
+        for (int round = 0; round < 30; round++) {
+            mutate(catalog, index, 40);
+            for (LectureSortOrder order : LectureSortOrder.values()) {
+                List<String> expected = ids(sorted(catalog, order));
+                int offset = random.nextInt(SIZE);
+                int limit = 1 + random.nextInt(50);
+                List<String> page = ids(index.page(order, offset, limit));
+                assertEquals(expected.subList(offset, Math.min(SIZE, offset + limit)), page, order + " @" + offset);
+                String probe = catalog.get(random.nextInt(SIZE)).getId();
+                assertEquals(expected.indexOf(probe), index.rankOf(order, probe));
+            }
+        }
+    }
+
+    @Test
+    void cursorWalkMatchesFullSort() {
+        List<Lecture> catalog = randomCatalog();
+        LectureSortIndex index = new LectureSortIndex(catalog);
+        mutate(catalog, index, 300);
+
+        for (LectureSortOrder order : LectureSortOrder.values()) {
+            List<String> walked = new ArrayList<>();
+            PageCursor cursor = null;
+            do {
+                LectureSortIndex.Page page = index.pageAfter(order, cursor, 13);
+                walked.addAll(ids(page.lectures));
+                // 화면에 넘겼다가 돌려받는 것처럼 문자열로 바꿨다가 다시 읽음
+                cursor = page.next != null ? PageCursor.decode(page.next.encode(), LectureSortIndex.scopeOf(order)) : null;
+            } while (cursor != null);
+            assertEquals(ids(sorted(catalog, order)), walked, order.name());
+        }
+    }
+
+    @Test
+    void cursorFromAnotherOrderIsRejected() {
+        LectureSortIndex index = new LectureSortIndex(randomCatalog());
+        PageCursor cursor = index.pageAfter(LectureSortOrder.PRICE, null, 5).next;
+        assertThrows(IllegalArgumentException.class, () -> index.pageAfter(LectureSortOrder.LATEST, cursor, 5));
+    }
+
+    @Test
+    void pageBeyondEndIsEmpty() {
+        LectureSortIndex index = new LectureSortIndex(randomCatalog());
+        assertTrue(index.page(LectureSortOrder.PRICE, SIZE, 10).isEmpty());
+        assertEquals(SIZE, index.page(LectureSortOrder.PRICE, 0, SIZE * 2).size());
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private List<Lecture> randomCatalog() {
+        List<Lecture> catalog = new ArrayList<>();
+        for (int i = 0; i < SIZE; i++) {
+            Lecture lecture = new Lecture(String.format("L%04d", random.nextInt(10_000) * SIZE + i), "A1", "수학",
+                    2022 + random.nextInt(4), "강의 " + i, "강사", "교재", 10_000 * (1 + random.nextInt(8)), 5_000,
+                    "설명", List.of("고3"), 30, "월", List.of(9));
+            for (int seat = random.nextInt(10); seat > 0; seat--) {
+                lecture.increaseEnrollment();
+            }
+            catalog.add(lecture);
+        }
+        return catalog;
+    }
+
+    /**
+     * 수강생 수(신청 경로처럼 표시만)와 평점을 무작위로 바꿉니다.
+     */
+    private void mutate(List<Lecture> catalog, LectureSortIndex index, int changes) {
+        for (int i = 0; i < changes; i++) {
+            Lecture lecture = catalog.get(random.nextInt(SIZE));
+            if (random.nextBoolean()) {
+                if (random.nextBoolean() || !lecture.decreaseEnrollment()) {
+                    lecture.tryIncreaseEnrollment();
+                }
+                index.markEnrollmentChanged(lecture.getId());
+            } else {
+                double rating = random.nextInt(11) / 2.0;
+                ratings.put(lecture.getId(), rating);
+                index.updateRating(lecture.getId(), rating);
+            }
+        }
+    }
+
+    private static List<Lecture> sorted(List<Lecture> catalog, LectureSortOrder order, Map<String, Double> ratings) {
+        Comparator<Lecture> byKey;
+        switch (order) {
+            case LATEST:
+                byKey = Comparator.comparingInt(Lecture::getYear).reversed();
+                break;
+            case POPULAR:
+                byKey = Comparator.comparingInt(Lecture::getCurrentEnrollment).reversed();
+                break;
+            case RATING:
+                byKey = Comparator.comparingDouble((Lecture l) -> ratings.getOrDefault(l.getId(), 0.0)).reversed();
+                break;
+            default:
+                byKey = Comparator.comparingInt(Lecture::getPrice);
+        }
+        List<Lecture> result = new ArrayList<>(catalog);
+        result.sort(byKey.thenComparing(Lecture::getId));
+        return result;
+    }
+
+    private List<Lecture> sorted(List<Lecture> catalog, LectureSortOrder order) {
+        return sorted(catalog, order, ratings);
+    }
+
+    private static List<String> ids(List<Lecture> lectures) {
+        List<String> ids = new ArrayList<>(lectures.size());
+        for (Lecture lecture : lectures) {
+            ids.add(lecture.getId());
+        }
+        return ids;
+    }
+}
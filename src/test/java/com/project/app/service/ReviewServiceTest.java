@@ -0,0 +1,184 @@
+package com.project.app.service;
+
+import com.project.app.dto.CreateReviewRequest;
+import com.project.app.dto.RatingSummary;
+import com.project.app.model.Review;
+import com.project.app.model.Review.TargetType;
+import com.project.app.repository.LectureRepositoryImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ReviewService 집계 검사: 임의의 작성/수정/삭제 뒤 대상별 집계가 남은 리뷰로 다시 계산한 평균/개수와 같아야 하고,
+ * 리뷰마다 갱신한 강사 순위 점수가 일괄 재계산(refreshScores) 값과 허용 오차 안에서 같아야 함
+ */
+class ReviewServiceTest {
+
+    private static final int LECTURES = 12;
+    private static final int INSTRUCTORS = 8;
+    private static final int USERS = 5;
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final Random random = new Random(20);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void aggregatesMatchRecomputedAverages() throws Exception {
+        LectureRepositoryImpl lectures = ServiceFixtures.lectures(directory, LECTURES, 10);
+        LectureService lectureService = ServiceFixtures.lectureService(lectures, ServiceFixtures.users(USERS));
+        InstructorService instructorService = new InstructorService(ServiceFixtures.instructors(INSTRUCTORS));
+        ServiceFixtures.InMemoryReviews reviews = new ServiceFixtures.InMemoryReviews();
+        ReviewService service = new ReviewService(reviews, lectureService, instructorService);
+
+        Map<String, Review> posted = new LinkedHashMap<>();
+        randomChanges(service, posted, 600);
+
+        assertAggregates(service, posted);
+        for (int i = 0; i < LECTURES; i++) {
+            String lectureId = String.format("L%04d", i);
+            assertEquals(recomputedAverage(posted, TargetType.LECTURE, lectureId),
+                    lectureService.getLectureDetail(lectureId, null).getRating(), 1e-12, lectureId);
+        }
+
+        // 저장된 리뷰만으로 다시 시작해도 같은 집계
+        ReviewService restarted = new ReviewService(reviews, lectureService, instructorService);
+        assertAggregates(restarted, posted);
+    }
+
+    @Test
+    void rejectsInvalidRatingWithoutChangingAggregate() throws Exception {
+        LectureRepositoryImpl lectures = ServiceFixtures.lectures(directory, 1, 10);
+        ReviewService service = new ReviewService(new ServiceFixtures.InMemoryReviews(),
+                ServiceFixtures.lectureService(lectures, ServiceFixtures.users(1)),
+                new InstructorService(ServiceFixtures.instructors(1)));
+        service.createReview(new CreateReviewRequest("user0000", TargetType.LECTURE, "L0000", 4, "좋아요"));
+
+        assertThrows(IllegalArgumentException.class, () -> service.createReview(
+                new CreateReviewRequest("user0000", TargetType.LECTURE, "L0000", 6, "범위 밖")));
+
+        RatingSummary summary = service.getRatingSummary(TargetType.LECTURE, "L0000");
+        assertEquals(1, summary.getCount());
+        assertEquals(4.0, summary.getAverage(), 1e-12);
+    }
+
+    @Test
+    void streamingInstructorScoresMatchBatchRefresh() throws Exception {
+        LectureRepositoryImpl lectures = ServiceFixtures.lectures(directory, LECTURES, 10);
+        InstructorService instructorService = new InstructorService(ServiceFixtures.instructors(INSTRUCTORS));
+        ServiceFixtures.InMemoryReviews reviews = new ServiceFixtures.InMemoryReviews();
+        Map<String, Review> posted = seedOldReviews(reviews, 300);  // 작성 시각이 서로 달라 감쇠 가중치가 제각각인 리뷰
+        ReviewService service = new ReviewService(reviews,
+                ServiceFixtures.lectureService(lectures, ServiceFixtures.users(USERS)), instructorService);
+
+        for (int round = 0; round < 5; round++) {
+            randomChanges(service, posted, 200);  // 이전 리뷰의 수정/삭제도 포함
+            assertTrue(service.refreshScores() < 1e-9, "round " + round);
+        }
+        assertEquals(0.0, service.refreshScores(), 1e-9);  // 재계산 직후에는 차이가 없음
+    }
+
+    // ========== Private Helper Methods ==========
+
+    /**
+     * 지난 1년 사이 임의 시각에 작성된 강사 리뷰를 저장해 둡니다 (일부는 삭제 상태).
+     *
+     * @return 삭제되지 않은 리뷰 (리뷰 ID -> 리뷰)
+     */
+    private Map<String, Review> seedOldReviews(ServiceFixtures.InMemoryReviews reviews, int count) {
+        Map<String, Review> posted = new LinkedHashMap<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 1; i <= count; i++) {
+            String createdAt = now.minusMinutes(random.nextInt(365 * 24 * 60)).format(TIMESTAMP_FORMAT);
+            Review review = new Review("R" + i, String.format("user%04d", random.nextInt(USERS)),
+                    TargetType.INSTRUCTOR, String.format("I%04d", random.nextInt(INSTRUCTORS)), randomRating(),
+                    createdAt, random.nextInt(10) == 0 ? Review.Status.DELETED : Review.Status.POSTED, "이전 리뷰");
+            reviews.save(review);
+            if (!review.isDeleted()) {
+                posted.put(review.getId(), review);
+            }
+        }
+        return posted;
+    }
+
+    /**
+     * 임의로 리뷰를 작성/수정/삭제하고, 삭제되지 않은 리뷰 목록(리뷰 ID -> 현재 리뷰)에 반영합니다.
+     */
+    private void randomChanges(ReviewService service, Map<String, Review> posted, int changes) {
+        for (int i = 0; i < changes; i++) {
+            int action = random.nextInt(10);
+            if (posted.isEmpty() || action < 6) {
+                boolean lecture = random.nextBoolean();
+                String targetId = lecture
+                        ? String.format("L%04d", random.nextInt(LECTURES))
+                        : String.format("I%04d", random.nextInt(INSTRUCTORS));
+                Review review = service.createReview(new CreateReviewRequest(
+                        String.format("user%04d", random.nextInt(USERS)),
+                        lecture ? TargetType.LECTURE : TargetType.INSTRUCTOR, targetId, randomRating(), "내용 " + i));
+                posted.put(review.getId(), review);
+                continue;
+            }
+            List<Review> current = new ArrayList<>(posted.values());
+            Review target = current.get(random.nextInt(current.size()));
+            if (action < 8) {
+                Review updated = service.updateReview(target.getId(), target.getUserId(), randomRating(), "수정 " + i);
+                posted.put(updated.getId(), updated);
+            } else {
+                service.deleteReview(target.getId(), target.getUserId());
+                posted.remove(target.getId());
+            }
+        }
+    }
+
+    private void assertAggregates(ReviewService service, Map<String, Review> posted) {
+        for (TargetType type : TargetType.values()) {
+            int targets = type == TargetType.LECTURE ? LECTURES : INSTRUCTORS;
+            String format = type == TargetType.LECTURE ? "L%04d" : "I%04d";
+            for (int i = 0; i < targets; i++) {
+                String targetId = String.format(format, i);
+                RatingSummary summary = service.getRatingSummary(type, targetId);
+                int[] histogram = new int[Review.MAX_RATING + 1];
+                for (Review review : posted.values()) {
+                    if (review.getTargetType() == type && review.getTargetId().equals(targetId)) {
+                        histogram[review.getRating()]++;
+                    }
+                }
+                int count = 0;
+                for (int stars = Review.MIN_RATING; stars <= Review.MAX_RATING; stars++) {
+                    assertEquals(histogram[stars], summary.getCount(stars), targetId + " " + stars);
+                    count += histogram[stars];
+                }
+                assertEquals(count, summary.getCount(), targetId);
+                assertEquals(recomputedAverage(posted, type, targetId), summary.getAverage(), 1e-12, targetId);
+            }
+        }
+    }
+
+    private static double recomputedAverage(Map<String, Review> posted, TargetType type, String targetId) {
+        long sum = 0;
+        int count = 0;
+        for (Review review : posted.values()) {
+            if (review.getTargetType() == type && review.getTargetId().equals(targetId)) {
+                sum += review.getRating();
+                count++;
+            }
+        }
+        return count > 0 ? (double) sum / count : 0.0;
+    }
+
+    private int randomRating() {
+        return Review.MIN_RATING + random.nextInt(Review.MAX_RATING - Review.MIN_RATING + 1);
+    }
+}
@@ -0,0 +1,170 @@
+package com.project.app.service;
+
+import com.project.app.dto.EnrollLectureRequest;
+import com.project.app.dto.EnrollLectureResponse;
+import com.project.app.dto.EnrollLectureResponse.ErrorType;
+import com.project.app.model.Lecture;
+import com.project.app.model.Payment;
+import com.project.app.model.User;
+import com.project.app.model.WeeklyTimeMask;
+import com.project.app.repository.LectureRepositoryImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 좌석 예약 동시성 검사: 여러 스레드가 동시에 신청해도 수강생 수가 정원을 넘지 않아야 함
+ */
+class SeatReservationStressTest {
+
+    private static final int THREADS = 16;
+    private static final int CAPACITY = 7;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void tryReserveNeverExceedsCapacity() throws Exception {
+        LectureRepositoryImpl lectures = ServiceFixtures.lectures(directory, 3, CAPACITY);
+        SeatReservationEngine engine = new SeatReservationEngine(lectures);
+        Lecture lecture = lectures.findById("L0000");
+        AtomicInteger reserved = new AtomicInteger();
+        AtomicBoolean overbooked = new AtomicBoolean();
+
+        runConcurrently(THREADS, thread -> {
+            for (int i = 0; i < 20_000; i++) {
+                if (engine.tryReserve("L0000")) {
+                    reserved.incrementAndGet();
+                    if (lecture.getCurrentEnrollment() > CAPACITY) {
+                        overbooked.set(true);
+                    }
+                    if (i % 3 == 0 && engine.release("L0000")) {
+                        reserved.decrementAndGet();
+                    }
+                }
+            }
+        });
+
+        assertFalse(overbooked.get());
+        assertEquals(CAPACITY, lecture.getCurrentEnrollment());
+        assertEquals(CAPACITY, reserved.get());
+        assertEquals(0, engine.getRemainingSeats("L0000"));
+    }
+
+    @Test
+    void concurrentEnrollLectureFillsExactlyCapacity() throws Exception {
+        int users = 400;
+        LectureRepositoryImpl lectures = ServiceFixtures.lectures(directory, 3, CAPACITY);
+        LectureService service = ServiceFixtures.lectureService(lectures, ServiceFixtures.users(users));
+        List<EnrollLectureResponse> responses = new ArrayList<>();
+
+        runConcurrently(THREADS, thread -> {
+            for (int i = thread; i < users; i += THREADS) {
+                EnrollLectureResponse response = service.enrollLecture(
+                        new EnrollLectureRequest("L0001", String.format("user%04d", i), false, "카드"));
+                synchronized (responses) {
+                    responses.add(response);
+                }
+            }
+        });
+
+        long succeeded = responses.stream().filter(EnrollLectureResponse::isSuccess).count();
+        assertEquals(CAPACITY, succeeded);
+        assertTrue(responses.stream().filter(r -> !r.isSuccess()).allMatch(r -> r.getErrorType() == ErrorType.LECTURE_FULL));
+        assertEquals(CAPACITY, lectures.findById("L0001").getCurrentEnrollment());
+        assertEquals(0, service.getRemainingSeats("L0001"));
+    }
+
+    @Test
+    void admissionQueueFillsExactlyCapacity() throws Exception {
+        int users = 300;
+        LectureRepositoryImpl lectures = ServiceFixtures.lectures(directory, 3, CAPACITY);
+        LectureService service = ServiceFixtures.lectureService(lectures, ServiceFixtures.users(users));
+        List<AdmissionTicket> tickets = new ArrayList<>();
+
+        runConcurrently(THREADS, thread -> {
+            for (int i = thread; i < users; i += THREADS) {
+                AdmissionTicket ticket = service.submitEnrollment(
+                        new EnrollLectureRequest("L0002", String.format("user%04d", i), false, "카드"));
+                synchronized (tickets) {
+                    tickets.add(ticket);
+                }
+            }
+        });
+
+        int succeeded = 0;
+        for (AdmissionTicket ticket : tickets) {
+            if (ticket.future().get(30, TimeUnit.SECONDS).isSuccess()) {
+                succeeded++;
+            }
+        }
+        assertEquals(CAPACITY, succeeded);
+        assertEquals(CAPACITY, lectures.findById("L0002").getCurrentEnrollment());
+    }
+
+    @Test
+    void paymentErrorReleasesTheSeat() throws IOException {
+        LectureRepositoryImpl lectures = ServiceFixtures.lectures(directory, 3, 1);
+        PaymentService failingPayments = new PaymentService(new ServiceFixtures.InMemoryPayments()) {
+            @Override
+            public Payment createPayment(String idempotencyKey, User user, Lecture lecture,
+                                         boolean purchaseTextbook, String method) {
+                throw new IllegalStateException("결제 서버 오류");
+            }
+        };
+        LectureService service = new LectureService(lectures, ServiceFixtures.users(2),
+                new ServiceFixtures.InMemoryEnrollments(), failingPayments);
+
+        EnrollLectureResponse response = service.enrollLecture(new EnrollLectureRequest("L0000", "user0000", false, "카드"));
+
+        assertFalse(response.isSuccess());
+        assertEquals(ErrorType.SYSTEM_ERROR, response.getErrorType());
+        assertFalse(service.isEnrolled("user0000", "L0000"));
+        assertEquals(1, service.getRemainingSeats("L0000"));
+        assertEquals(WeeklyTimeMask.EMPTY, service.getTimetable("user0000"));
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private interface Worker {
+        void run(int thread) throws Exception;
+    }
+
+    /**
+     * THREADS개의 스레드를 동시에 출발시켜 worker를 실행하고, 예외가 있으면 다시 던집니다.
+     */
+    private static void runConcurrently(int threads, Worker worker) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            futures.add(pool.submit(() -> {
+                start.await();
+                worker.run(thread);
+                return null;
+            }));
+        }
+        start.countDown();
+        try {
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
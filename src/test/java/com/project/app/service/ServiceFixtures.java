@@ -0,0 +1,260 @@
+package com.project.app.service;
+
+import com.project.app.model.Enrollment;
+import com.project.app.model.Instructor;
+import com.project.app.model.Payment;
+import com.project.app.model.Review;
+import com.project.app.model.Review.TargetType;
+import com.project.app.model.User;
+import com.project.app.repository.EnrollmentRepository;
+import com.project.app.repository.InstructorRepository;
+import com.project.app.repository.LectureRepositoryImpl;
+import com.project.app.repository.PaymentRepository;
+import com.project.app.repository.ReviewRepository;
+import com.project.app.repository.UserRepository;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 서비스 테스트용 데이터 파일과 메모리 Repository
+ * (src/main/data의 실제 파일을 건드리지 않도록 임시 폴더와 메모리 저장소만 사용)
+ */
+final class ServiceFixtures {
+
+    static final String[] SUBJECTS = {"국어", "수학", "영어", "사회탐구", "과학탐구"};
+    static final String[] ACADEMIES = {"A1", "A2", "A3"};
+    static final String[] DAYS = {"월", "화", "수", "목", "금", "토", "일"};
+
+    private ServiceFixtures() {
+    }
+
+    /**
+     * LectureData 형식의 강의 파일을 만듭니다. 강의 i는 L0000 형식 ID, 요일은 돌아가며 배정합니다.
+     * 수업은 한 시간짜리라서 강의 i와 j는 i ≡ j (mod 70)일 때만 시간이 겹칩니다.
+     *
+     * @param capacity 모든 강의의 정원
+     */
+    static LectureRepositoryImpl lectures(Path directory, int count, int capacity) throws IOException {
+        StringBuilder builder = new StringBuilder("강의ID/학원ID/과목/년도/강의 이름/강사/교재/강의 가격/교재 가격/강의 설명/대상 학년/정원/요일/시간\n");
+        for (int i = 0; i < count; i++) {
+            builder.append(String.format("L%04d/%s/%s/%d/강의 %d/강사 %d/교재 %d/%d/%d/설명/고1,고2,고3,N수/%d/%s/%d%n",
+                    i, ACADEMIES[i % ACADEMIES.length], SUBJECTS[(i * 7) % SUBJECTS.length], 2024 + i % 4,
+                    i, i % 13, i, 30000 + (i * 7919) % 90000, 10000 + i % 5 * 1000, capacity,
+                    DAYS[i % DAYS.length], 9 + i % 10));
+        }
+        Path dataFile = directory.resolve("LectureData.txt");
+        Files.writeString(dataFile, builder, StandardCharsets.UTF_8);
+        return new LectureRepositoryImpl(dataFile);
+    }
+
+    static InMemoryUsers users(int count) {
+        InMemoryUsers users = new InMemoryUsers();
+        for (int i = 0; i < count; i++) {
+            users.save(new User(String.format("user%04d", i), "pw", "사용자" + i, 0));
+        }
+        return users;
+    }
+
+    static LectureService lectureService(LectureRepositoryImpl lectures, UserRepository users) {
+        return new LectureService(lectures, users, new InMemoryEnrollments(), new PaymentService(new InMemoryPayments()));
+    }
+
+    /**
+     * I0000 형식 ID의 강사 목록 (과목/학원은 돌아가며 배정)
+     */
+    static InMemoryInstructors instructors(int count) {
+        List<Instructor> instructors = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            instructors.add(new Instructor(String.format("I%04d", i), "강사 " + i,
+                    ACADEMIES[i % ACADEMIES.length], "소개 " + i, SUBJECTS[i % SUBJECTS.length], null,
+                    List.of(), List.of()));
+        }
+        return new InMemoryInstructors(instructors);
+    }
+
+    // ========== 메모리 Repository ==========
+
+    static final class InMemoryUsers implements UserRepository {
+        private final Map<String, User> store = new ConcurrentHashMap<>();
+
+        @Override
+        public User findById(String id) {
+            return id != null ? store.get(id) : null;
+        }
+
+        @Override
+        public List<User> findAll() {
+            return new ArrayList<>(store.values());
+        }
+
+        @Override
+        public void save(User user) {
+            store.put(user.getId(), user);
+        }
+
+        @Override
+        public CompletableFuture<Boolean> saveNewAsync(User user) {
+            return CompletableFuture.completedFuture(store.putIfAbsent(user.getId(), user) == null);
+        }
+    }
+
+    static final class InMemoryEnrollments implements EnrollmentRepository {
+        final List<Enrollment> saved = new CopyOnWriteArrayList<>();
+
+        @Override
+        public List<Enrollment> findAll() {
+            return new ArrayList<>();
+        }
+
+        @Override
+        public List<Enrollment> findByUserId(String userId) {
+            return new ArrayList<>();
+        }
+
+        @Override
+        public CompletableFuture<Void> save(Enrollment enrollment) {
+            saved.add(enrollment);
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    static final class InMemoryPayments implements PaymentRepository {
+        final Map<String, Payment> store = new ConcurrentHashMap<>();
+
+        @Override
+        public Payment findById(String id) {
+            return store.get(id);
+        }
+
+        @Override
+        public List<Payment> findByUserId(String userId) {
+            List<Payment> result = new ArrayList<>();
+            for (Payment payment : store.values()) {
+                if (payment.getUserId().equals(userId)) {
+                    result.add(payment);
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public CompletableFuture<Void> save(Payment payment) {
+            store.put(payment.getId(), payment);
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    static final class InMemoryReviews implements ReviewRepository {
+        final Map<String, Review> store = new LinkedHashMap<>();  // 작성 순서 유지
+
+        @Override
+        public synchronized Review findById(String id) {
+            return store.get(id);
+        }
+
+        @Override
+        public synchronized List<Review> findAll() {
+            return new ArrayList<>(store.values());
+        }
+
+        @Override
+        public synchronized List<Review> findByTarget(TargetType targetType, String targetId) {
+            List<Review> result = new ArrayList<>();
+            for (Review review : store.values()) {
+                if (!review.isDeleted() && review.getTargetType() == targetType
+                        && review.getTargetId().equals(targetId)) {
+                    result.add(review);
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public synchronized CompletableFuture<Void> save(Review review) {
+            store.put(review.getId(), review);
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    static final class InMemoryInstructors implements InstructorRepository {
+        final List<Instructor> all;
+
+        InMemoryInstructors(List<Instructor> all) {
+            this.all = all;
+        }
+
+        @Override
+        public Instructor findById(String id) {
+            for (Instructor instructor : all) {
+                if (instructor.getId().equals(id)) {
+                    return instructor;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public List<Instructor> findAll() {
+            return new ArrayList<>(all);
+        }
+
+        @Override
+        public List<Instructor> findByAcademyId(String academyId) {
+            return findByConditions(null, null, academyId);
+        }
+
+        @Override
+        public List<Instructor> findBySubject(String subject) {
+            return findByConditions(null, subject, null);
+        }
+
+        @Override
+        public List<Instructor> findByName(String name) {
+            return findByConditions(name, null, null);
+        }
+
+        @Override
+        public List<Instructor> findByKeyword(String keyword) {
+            return findByConditions(keyword, null, null);
+        }
+
+        @Override
+        public List<Instructor> findByConditions(String keyword, String subject, String academyId) {
+            List<Instructor> result = new ArrayList<>();
+            for (Instructor instructor : all) {
+                boolean keywordMatches = keyword == null || instructor.getName().contains(keyword)
+                        || instructor.getIntroduction().contains(keyword);
+                if (keywordMatches && (subject == null || subject.equals(instructor.getSubject()))
+                        && (academyId == null || academyId.equals(instructor.getAcademyId()))) {
+                    result.add(instructor);
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public boolean addStudentToInstructor(String instructorId, String studentId) {
+            return false;
+        }
+
+        @Override
+        public CompletableFuture<Boolean> addStudentToInstructorAsync(String instructorId, String studentId) {
+            return CompletableFuture.completedFuture(false);
+        }
+
+        @Override
+        public List<String> getStudentIdsByInstructor(String instructorId) {
+            return new ArrayList<>();
+        }
+    }
+}
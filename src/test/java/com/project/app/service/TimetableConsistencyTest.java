@@ -0,0 +1,99 @@
+package com.project.app.service;
+
+import com.project.app.dto.EnrollLectureRequest;
+import com.project.app.model.Lecture;
+import com.project.app.model.User;
+import com.project.app.model.WeeklyTimeMask;
+import com.project.app.repository.LectureRepositoryImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 사용자 시간표 검사: 동시 신청/취소와 겹치는 저장 데이터에서도 시간표가 신청 내역과 일치해야 함
+ * (픽스처 강의 i와 i + 70은 요일/시간이 같음)
+ */
+class TimetableConsistencyTest {
+
+    private static final String USER = "user0000";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void concurrentEnrollAndCancelMatchEnrolledLectures() throws Exception {
+        int threads = 7;
+        LectureRepositoryImpl lectures = ServiceFixtures.lectures(directory, 70, 100);
+        LectureService service = ServiceFixtures.lectureService(lectures, ServiceFixtures.users(1));
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            futures.add(pool.submit(() -> {
+                start.await();
+                for (int round = 0; round < 200; round++) {
+                    for (int i = thread; i < 70; i += threads) {
+                        String lectureId = String.format("L%04d", i);
+                        if (service.isEnrolled(USER, lectureId)) {
+                            service.cancelEnrollment(USER, lectureId);
+                        } else {
+                            assertTrue(service.enrollLecture(new EnrollLectureRequest(lectureId, USER, false, "카드")).isSuccess());
+                        }
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        try {
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(expectedTimetable(service, lectures), service.getTimetable(USER));
+    }
+
+    @Test
+    void cancellingOneOfOverlappingSavedEnrollmentsKeepsTheOther() throws Exception {
+        LectureRepositoryImpl lectures = ServiceFixtures.lectures(directory, 80, 10);
+        ServiceFixtures.InMemoryUsers users = new ServiceFixtures.InMemoryUsers();
+        users.save(new User(USER, "pw", "사용자", 0, null, List.of("L0000", "L0070", "L0001"), null));
+        LectureService service = ServiceFixtures.lectureService(lectures, users);
+        WeeklyTimeMask first = lectures.findById("L0000").getTimeMask();
+        WeeklyTimeMask other = lectures.findById("L0001").getTimeMask();
+        assertTrue(first.overlaps(lectures.findById("L0070").getTimeMask()));
+
+        assertTrue(service.cancelEnrollment(USER, "L0070"));
+        assertEquals(first.or(other), service.getTimetable(USER));
+
+        assertTrue(service.cancelEnrollment(USER, "L0000"));
+        assertEquals(other, service.getTimetable(USER));
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private static WeeklyTimeMask expectedTimetable(LectureService service, LectureRepositoryImpl lectures) {
+        WeeklyTimeMask expected = WeeklyTimeMask.EMPTY;
+        for (Lecture lecture : lectures.findAll()) {
+            if (service.isEnrolled(USER, lecture.getId())) {
+                expected = expected.or(lecture.getTimeMask());
+            }
+        }
+        return expected;
+    }
+}
@@ -0,0 +1,122 @@
+package com.project.app.service;
+
+import com.project.app.dto.EnrollLectureRequest;
+import com.project.app.dto.EnrollLectureResponse;
+import com.project.app.dto.LectureDetailResponse;
+import com.project.app.model.Lecture;
+import com.project.app.model.Payment;
+import com.project.app.model.User;
+import com.project.app.repository.LectureRepositoryImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 대기자 승격 검사: 승격된 대기자는 결제와 알림을 받고, 결제에 실패하면 다음 대기자에게 넘어가야 함
+ * (상세 정보에서는 대기 중인 신청을 수강 확정과 구분하여 대기 순서로 표시)
+ */
+class WaitlistPromotionTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void joinWaitlistWithFreeSeatChargesImmediately() throws IOException {
+        ServiceFixtures.InMemoryPayments payments = new ServiceFixtures.InMemoryPayments();
+        LectureService service = new LectureService(ServiceFixtures.lectures(directory, 1, 1), ServiceFixtures.users(1),
+                new ServiceFixtures.InMemoryEnrollments(), new PaymentService(payments));
+
+        EnrollLectureResponse response = service.joinWaitlist(new EnrollLectureRequest("L0000", "user0000", false, "카드"));
+
+        assertTrue(response.isSuccess());
+        assertNotNull(response.getPaymentId());
+        assertNotNull(payments.findById(response.getPaymentId()));
+        assertTrue(service.isEnrolled("user0000", "L0000"));
+    }
+
+    @Test
+    void promotedUserIsChargedWithWaitlistOptionsAndNotified() throws IOException {
+        LectureRepositoryImpl lectures = ServiceFixtures.lectures(directory, 1, 1);
+        ServiceFixtures.InMemoryPayments payments = new ServiceFixtures.InMemoryPayments();
+        LectureService service = new LectureService(lectures, ServiceFixtures.users(2),
+                new ServiceFixtures.InMemoryEnrollments(), new PaymentService(payments));
+        Lecture lecture = lectures.findById("L0000");
+
+        assertTrue(service.enrollLecture(new EnrollLectureRequest("L0000", "user0000", false, "카드")).isSuccess());
+        EnrollLectureResponse waiting = service.joinWaitlist(new EnrollLectureRequest("L0000", "user0001", true, "계좌이체"));
+        assertTrue(waiting.isSuccess());
+        assertNull(waiting.getPaymentId());
+        assertEquals(1, service.getWaitlistPosition("user0001", "L0000"));
+
+        assertTrue(service.cancelEnrollment("user0000", "L0000"));
+
+        assertTrue(service.isEnrolled("user0001", "L0000"));
+        assertEquals(0, service.getRemainingSeats("L0000"));
+        List<Payment> charged = payments.findByUserId("user0001");
+        assertEquals(1, charged.size());
+        assertEquals(lecture.getPrice() + lecture.getTextbookPrice(), charged.get(0).getAmount());
+        assertEquals("계좌이체", charged.get(0).getMethod());
+        List<String> notices = service.pollNotices("user0001");
+        assertEquals(1, notices.size());
+        assertTrue(notices.get(0).contains(charged.get(0).getId()));
+        assertTrue(service.pollNotices("user0001").isEmpty());
+    }
+
+    @Test
+    void failedPromotionPaymentPassesSeatToNextInLine() throws IOException {
+        LectureRepositoryImpl lectures = ServiceFixtures.lectures(directory, 1, 1);
+        PaymentService payments = new PaymentService(new ServiceFixtures.InMemoryPayments()) {
+            @Override
+            public Payment createPayment(String idempotencyKey, User user, Lecture lecture,
+                                         boolean purchaseTextbook, String method) {
+                if ("user0001".equals(user.getId())) {
+                    throw new IllegalStateException("카드 승인 거절");
+                }
+                return super.createPayment(idempotencyKey, user, lecture, purchaseTextbook, method);
+            }
+        };
+        LectureService service = new LectureService(lectures, ServiceFixtures.users(3),
+                new ServiceFixtures.InMemoryEnrollments(), payments);
+
+        service.enrollLecture(new EnrollLectureRequest("L0000", "user0000", false, "카드"));
+        service.joinWaitlist(new EnrollLectureRequest("L0000", "user0001", false, "카드"));
+        service.joinWaitlist(new EnrollLectureRequest("L0000", "user0002", false, "카드"));
+
+        service.cancelEnrollment("user0000", "L0000");
+
+        assertFalse(service.isEnrolled("user0001", "L0000"));
+        assertEquals(0, service.getWaitlistPosition("user0001", "L0000"));
+        assertTrue(service.isEnrolled("user0002", "L0000"));
+        assertEquals(1, lectures.findById("L0000").getCurrentEnrollment());
+        assertEquals(1, service.pollNotices("user0001").size());
+        assertEquals(1, service.pollNotices("user0002").size());
+    }
+
+    @Test
+    void lectureDetailSeparatesEnrollmentFromWaitlistPosition() throws IOException {
+        LectureService service = new LectureService(ServiceFixtures.lectures(directory, 1, 1), ServiceFixtures.users(3),
+                new ServiceFixtures.InMemoryEnrollments(), new PaymentService(new ServiceFixtures.InMemoryPayments()));
+        service.enrollLecture(new EnrollLectureRequest("L0000", "user0000", false, "카드"));
+        service.joinWaitlist(new EnrollLectureRequest("L0000", "user0001", false, "카드"));
+        service.joinWaitlist(new EnrollLectureRequest("L0000", "user0002", false, "카드"));
+
+        LectureDetailResponse enrolled = service.getLectureDetail("L0000", "user0000");
+        assertTrue(enrolled.isEnrolled());
+        assertEquals(0, enrolled.getWaitlistPosition());
+
+        LectureDetailResponse waiting = service.getLectureDetail("L0000", "user0002");
+        assertFalse(waiting.isEnrolled());  // 대기 중인 신청은 수강 확정이 아님
+        assertTrue(waiting.isWaitlisted());
+        assertEquals(2, waiting.getWaitlistPosition());
+        assertFalse(waiting.isCanEnroll());
+
+        LectureDetailResponse anonymous = service.getLectureDetail("L0000", null);
+        assertFalse(anonymous.isEnrolled());
+        assertEquals(0, anonymous.getWaitlistPosition());
+    }
+}
@@ -0,0 +1,82 @@
+package com.project.app.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * DedupCache 검사: 유효 시간 만료, 최대 개수 도달 시 가장 오래된 항목 하나만 제거
+ */
+class DedupCacheTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000);
+
+    @Test
+    void fullCacheEvictsOnlyTheOldestEntry() {
+        DedupCache<String, String> cache = new DedupCache<>(10_000, 1_000, 3, now::get);
+        cache.putIfAbsent("k1", "v1");
+        cache.putIfAbsent("k2", "v2");
+        cache.putIfAbsent("k3", "v3");
+
+        assertNull(cache.putIfAbsent("k4", "v4"));
+
+        assertEquals(3, cache.size());
+        assertNull(cache.get("k1"));
+        assertEquals("v2", cache.get("k2"));
+        assertEquals("v3", cache.get("k3"));
+        assertEquals("v4", cache.get("k4"));
+    }
+
+    @Test
+    void evictionWalksAcrossSlotsInInsertionOrder() {
+        DedupCache<String, String> cache = new DedupCache<>(10_000, 1_000, 3, now::get);
+        cache.putIfAbsent("k1", "v1");
+        now.addAndGet(1_000);
+        cache.putIfAbsent("k2", "v2");
+        cache.putIfAbsent("k3", "v3");
+        now.addAndGet(1_000);
+
+        cache.putIfAbsent("k4", "v4");
+        cache.putIfAbsent("k5", "v5");
+
+        assertNull(cache.get("k1"));
+        assertNull(cache.get("k2"));
+        assertEquals("v3", cache.get("k3"));
+        assertEquals("v5", cache.get("k5"));
+        assertEquals(3, cache.size());
+    }
+
+    @Test
+    void removedEntriesAreSkippedByEviction() {
+        DedupCache<String, String> cache = new DedupCache<>(10_000, 1_000, 2, now::get);
+        cache.putIfAbsent("k1", "v1");
+        cache.putIfAbsent("k2", "v2");
+        assertTrue(cache.remove("k1"));
+
+        cache.putIfAbsent("k3", "v3");
+        assertEquals("v2", cache.get("k2"));
+        cache.putIfAbsent("k4", "v4");
+
+        assertNull(cache.get("k2"));
+        assertEquals("v3", cache.get("k3"));
+        assertEquals("v4", cache.get("k4"));
+    }
+
+    @Test
+    void entriesExpireAfterTtl() {
+        DedupCache<String, String> cache = new DedupCache<>(5_000, 1_000, 100, now::get);
+        cache.putIfAbsent("k1", "v1");
+        now.addAndGet(3_000);
+        cache.putIfAbsent("k2", "v2");
+
+        now.addAndGet(2_000);
+        assertNull(cache.get("k1"));
+        assertEquals("v2", cache.get("k2"));
+        assertEquals("v2", cache.putIfAbsent("k2", "other"));
+
+        now.addAndGet(60_000);
+        assertEquals(0, cache.size());
+    }
+}
@@ -0,0 +1,166 @@
+package com.project.app.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * FacetIndex 검사: 비트셋으로 센 개수가 행을 하나씩 검사한 결과와 같아야 함
+ * (행 수를 64의 배수가 아니게 잡아 마지막 word의 경계도 확인)
+ */
+class FacetIndexTest {
+
+    private static final int ROWS = 1_000 + 37;
+    private static final String[][] VALUES = {
+            {"국어", "수학", "영어", "사회탐구", "과학탐구"},
+            {"A1", "A2", "A3"},
+            {"고1", "고2", "고3", "N수"},  // 행마다 여러 값
+            {"월", "화", "수", "목", "금", "토", "일"}
+    };
+
+    private final Random random = new Random(18);
+
+    @Test
+    void countsMatchBruteForce() {
+        List<List<Set<String>>> rows = randomRows();
+        FacetIndex index = build(rows);
+
+        for (int trial = 0; trial < 300; trial++) {
+            List<Set<String>> selected = randomSelection();
+            long[] rowFilter = random.nextBoolean() ? randomRowFilter() : null;
+            assertCounts(rows, index.count(selected, rowFilter), selected, rowFilter);
+        }
+    }
+
+    @Test
+    void declaredValueWithoutRowsCountsZero() {
+        FacetIndex index = new FacetIndex(3, 1);
+        int empty = index.declare(0, "전체");
+        index.add(0, "수학", 0);
+        index.add(0, "수학", 2);
+
+        FacetIndex.Counts counts = index.count(List.of(Set.of()));
+
+        assertEquals(0, counts.count(0, empty));
+        assertEquals(2, counts.count(0, index.declare(0, "수학")));
+        assertArrayEquals(new int[]{0, 1, 2}, counts.matchingRows());  // 선택이 없으면 모든 행
+        assertArrayEquals(new int[]{0, 2}, index.count(List.of(Set.of("수학"))).matchingRows());
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private void assertCounts(List<List<Set<String>>> rows, FacetIndex.Counts counts,
+                              List<Set<String>> selected, long[] rowFilter) {
+        List<Integer> expectedRows = new ArrayList<>();
+        for (int row = 0; row < ROWS; row++) {
+            if (included(rowFilter, row) && matchesExcept(rows.get(row), selected, -1)) {
+                expectedRows.add(row);
+            }
+        }
+        assertEquals(expectedRows.size(), counts.matchCount());
+        assertEquals(expectedRows, toList(counts.matchingRows()));
+
+        for (int f = 0; f < VALUES.length; f++) {
+            for (int v = 0; v < counts.valueCount(f); v++) {
+                String value = counts.value(f, v);
+                int expected = 0;
+                for (int row = 0; row < ROWS; row++) {
+                    List<Set<String>> facets = rows.get(row);
+                    if (included(rowFilter, row) && facets.get(f).contains(value) && matchesExcept(facets, selected, f)) {
+                        expected++;
+                    }
+                }
+                assertEquals(expected, counts.count(f, v), "facet " + f + " value " + value);
+            }
+        }
+    }
+
+    /**
+     * skip 패싯을 제외한 모든 선택 조건을 만족하는지 (같은 패싯 안은 OR, 패싯끼리는 AND)
+     */
+    private static boolean matchesExcept(List<Set<String>> facets, List<Set<String>> selected, int skip) {
+        for (int f = 0; f < selected.size(); f++) {
+            Set<String> chosen = selected.get(f);
+            if (f == skip || chosen.isEmpty()) {
+                continue;
+            }
+            boolean any = false;
+            for (String value : facets.get(f)) {
+                any |= chosen.contains(value);
+            }
+            if (!any) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean included(long[] rowFilter, int row) {
+        return rowFilter == null || (rowFilter[row >>> 6] & (1L << row)) != 0;
+    }
+
+    private List<List<Set<String>>> randomRows() {
+        List<List<Set<String>>> rows = new ArrayList<>();
+        for (int row = 0; row < ROWS; row++) {
+            List<Set<String>> facets = new ArrayList<>();
+            for (int f = 0; f < VALUES.length; f++) {
+                Set<String> chosen = new HashSet<>();
+                chosen.add(VALUES[f][random.nextInt(VALUES[f].length)]);
+                if (f == 2 && random.nextBoolean()) {
+                    chosen.add(VALUES[f][random.nextInt(VALUES[f].length)]);
+                }
+                facets.add(chosen);
+            }
+            rows.add(facets);
+        }
+        return rows;
+    }
+
+    private static FacetIndex build(List<List<Set<String>>> rows) {
+        FacetIndex index = new FacetIndex(ROWS, VALUES.length);
+        for (int row = 0; row < ROWS; row++) {
+            for (int f = 0; f < VALUES.length; f++) {
+                for (String value : rows.get(row).get(f)) {
+                    index.add(f, value, row);
+                }
+            }
+        }
+        return index;
+    }
+
+    private List<Set<String>> randomSelection() {
+        List<Set<String>> selected = new ArrayList<>();
+        for (String[] values : VALUES) {
+            Set<String> chosen = new HashSet<>();
+            for (int pick = random.nextInt(3); pick > 0; pick--) {
+                chosen.add(values[random.nextInt(values.length)]);
+            }
+            selected.add(chosen);
+        }
+        return selected;
+    }
+
+    private long[] randomRowFilter() {
+        long[] bits = new long[(ROWS + 63) >>> 6];
+        for (int row = 0; row < ROWS; row++) {
+            if (random.nextInt(3) > 0) {
+                bits[row >>> 6] |= 1L << row;
+            }
+        }
+        return bits;
+    }
+
+    private static List<Integer> toList(int[] values) {
+        List<Integer> list = new ArrayList<>(values.length);
+        for (int value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+}
@@ -0,0 +1,35 @@
+package com.project.app.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * HangulUtils 검사: 초성 19자만 초성으로 인정하고, 겹받침 자모는 일반 문자로 비교해야 함
+ */
+class HangulUtilsTest {
+
+    @Test
+    void onlyTheNineteenInitialConsonantsAreChoseong() {
+        int count = 0;
+        for (char c = 'ㄱ'; c <= 'ㅎ'; c++) {
+            if (HangulUtils.isChoseong(c)) {
+                assertEquals(c, HangulUtils.choseongOf((char) ('가' + count * 21 * 28)));
+                count++;
+            }
+        }
+        assertEquals(19, count);
+        assertFalse(HangulUtils.isChoseong('ㄳ'));
+        assertFalse(HangulUtils.isChoseong('ㄵ'));
+        assertFalse(HangulUtils.isChoseong('ㅀ'));
+        assertFalse(HangulUtils.isChoseong('ㅏ'));
+    }
+
+    @Test
+    void compoundJamoInQueryIsNotTreatedAsChoseong() {
+        assertTrue(HangulUtils.matchesWithChoseong("현우진", "현ㅇ"));
+        assertTrue(HangulUtils.containsChoseong("ㅎㅇㅈ"));
+        assertFalse(HangulUtils.containsChoseong("ㄳ"));
+        assertFalse(HangulUtils.matchesWithChoseong("각성", "ㄳ"));
+    }
+}
@@ -0,0 +1,76 @@
+package com.project.app.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * IntRangeIndex 검사: 이진 탐색으로 찾은 범위가 전체를 훑은 결과와 같아야 함
+ * (같은 가격이 많도록 값 범위를 좁게 잡음)
+ */
+class IntRangeIndexTest {
+
+    private final Random random = new Random(19);
+
+    @Test
+    void rangesMatchLinearScan() {
+        int[] values = new int[2_000 + 11];
+        for (int row = 0; row < values.length; row++) {
+            values[row] = 1_000 * random.nextInt(120);
+        }
+        IntRangeIndex index = new IntRangeIndex(values);
+
+        for (int trial = 0; trial < 500; trial++) {
+            int min = 1_000 * random.nextInt(130) - 5_000 + (random.nextBoolean() ? 500 : 0);
+            int max = min + 1_000 * random.nextInt(40) - 3_000;
+            assertRange(values, index, min, max);
+        }
+        assertRange(values, index, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        assertRange(values, index, 0, 0);
+    }
+
+    @Test
+    void emptyIndex() {
+        IntRangeIndex index = new IntRangeIndex(new int[0]);
+        assertEquals(0, index.count(0, 100));
+        assertEquals(0, index.rowsByValue(0, 100).length);
+        assertEquals(0, index.rowBits(0, 100, 0).length);
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private static void assertRange(int[] values, IntRangeIndex index, int min, int max) {
+        List<Integer> byValue = new ArrayList<>();
+        for (int row = 0; row < values.length; row++) {
+            if (values[row] >= min && values[row] <= max) {
+                byValue.add(row);
+            }
+        }
+        List<Integer> inOrder = new ArrayList<>(byValue);
+        byValue.sort(Comparator.<Integer>comparingInt(row -> values[row]).thenComparingInt(row -> row));
+
+        String range = "[" + min + ", " + max + "]";
+        assertEquals(byValue.size(), index.count(min, max), range);
+        assertEquals(byValue, toList(index.rowsByValue(min, max)), range);
+        assertEquals(inOrder, toList(index.rowsInOrder(min, max)), range);
+
+        long[] bits = index.rowBits(min, max, values.length);
+        for (int row = 0; row < values.length; row++) {
+            boolean set = (bits[row >>> 6] & (1L << row)) != 0;
+            assertEquals(values[row] >= min && values[row] <= max, set, range + " row " + row);
+        }
+    }
+
+    private static List<Integer> toList(int[] values) {
+        List<Integer> list = new ArrayList<>(values.length);
+        for (int value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+}
@@ -0,0 +1,153 @@
+package com.project.app.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * SymbolTable 정규화 및 메모리 사용량 검사
+ *
+ * 메모리 검사는 합성 데이터(강사 줄마다 강의/학생 id 목록)를 FieldCursor로 읽을 때,
+ * 정규화 전(text())과 후(symbol())에 HotSpot의 스레드별 할당 바이트 카운터로 잰 바이트 수를 비교합니다.
+ * 정규화 쪽은 새 SymbolTable을 만드는 것부터 재므로 테이블 배열(확장하며 버린 배열 포함)까지 들어가고,
+ * 목록 배열은 재기 전에 미리 만들어 두므로 양쪽 모두 id 문자열과 테이블만 남습니다.
+ * 각 테스트는 전역 테이블을 건드리지 않도록 자기 SymbolTable을 사용합니다.
+ */
+class SymbolTableTest {
+
+    private static final int LINES = 20_000;
+    private static final int LECTURES_PER_LINE = 8;
+    private static final int STUDENTS_PER_LINE = 40;
+    private static final int DISTINCT_LECTURES = 2_000;
+    private static final int DISTINCT_STUDENTS = 10_000;
+
+    @Test
+    void canonicalReturnsOneInstancePerId() {
+        SymbolTable symbols = new SymbolTable();
+        String first = symbols.canonical(new String("symtest-L001"));
+        String second = symbols.canonical("xx symtest-L001 yy", 3, 15);
+
+        assertSame(first, second);
+        assertEquals(symbols.intern("symtest-L001"), symbols.lookup(new String("symtest-L001")));
+        assertSame(first, symbols.symbol(symbols.lookup("symtest-L001")));
+        assertEquals(-1, symbols.lookup("symtest-never-interned"));
+    }
+
+    @Test
+    void lookupSeesEveryHandleWhileInterning() throws InterruptedException {
+        SymbolTable symbols = new SymbolTable();
+        int count = 20_000;
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < count; i++) {
+                symbols.intern("symtest-concurrent-" + i);
+            }
+        });
+        writer.start();
+        while (writer.isAlive()) {
+            for (int i = 0; i < count; i += 97) {
+                int handle = symbols.lookup("symtest-concurrent-" + i);
+                if (handle >= 0) {
+                    assertEquals("symtest-concurrent-" + i, symbols.symbol(handle));
+                }
+            }
+        }
+        writer.join();
+        for (int i = 0; i < count; i++) {
+            assertTrue(symbols.lookup("symtest-concurrent-" + i) >= 0);
+        }
+    }
+
+    @Test
+    void canonicalIdsShrinkFootprintOfScaledDataset() {
+        com.sun.management.ThreadMXBean threads = threadBean();
+        String text = syntheticInstructorData();
+        int references = LINES * (1 + LECTURES_PER_LINE + STUDENTS_PER_LINE);
+        parseIds(text, null, new ArrayList<>(references));  // 워밍업 (클래스 로딩, JIT)
+        parseIds(text, new SymbolTable(), new ArrayList<>(references));
+
+        List<String> plain = new ArrayList<>(references);
+        long before = threads.getCurrentThreadAllocatedBytes();
+        parseIds(text, null, plain);
+        long plainBytes = threads.getCurrentThreadAllocatedBytes() - before;
+
+        List<String> canonical = new ArrayList<>(references);
+        before = threads.getCurrentThreadAllocatedBytes();
+        SymbolTable symbols = new SymbolTable();
+        parseIds(text, symbols, canonical);
+        long canonicalBytes = threads.getCurrentThreadAllocatedBytes() - before;
+
+        assertEquals(plain, canonical);
+        assertEquals(references, distinct(plain).size());
+        assertEquals(LINES + DISTINCT_LECTURES + DISTINCT_STUDENTS, distinct(canonical).size());
+        assertEquals(distinct(canonical).size(), symbols.size());
+        assertTrue(canonicalBytes * 10 < plainBytes,
+                "정규화 후 id 문자열과 테이블 메모리가 1/10 이하여야 함: " + canonicalBytes + " vs " + plainBytes);
+    }
+
+    // ========== Private Helper Methods ==========
+
+    /**
+     * "id/강의 목록/학생 목록" 형식의 줄을 LINES개 만듭니다 (헤더 포함).
+     */
+    private static String syntheticInstructorData() {
+        StringBuilder builder = new StringBuilder("id/lectureIds/studentIds\n");
+        for (int line = 0; line < LINES; line++) {
+            builder.append("symtest-I").append(line).append('/');
+            for (int i = 0; i < LECTURES_PER_LINE; i++) {
+                builder.append(i > 0 ? "," : "").append("symtest-L").append((line * 7 + i) % DISTINCT_LECTURES);
+            }
+            builder.append('/');
+            for (int i = 0; i < STUDENTS_PER_LINE; i++) {
+                builder.append(i > 0 ? "," : "").append("symtest-user").append((line * 31 + i * 13) % DISTINCT_STUDENTS);
+            }
+            builder.append('\n');
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 줄마다 모든 id를 ids에 추가합니다.
+     *
+     * @param symbols 정규화에 쓸 테이블 (null이면 정규화하지 않고 text()로 새 String을 만듦)
+     */
+    private static void parseIds(String text, SymbolTable symbols, List<String> ids) {
+        boolean canonical = symbols != null;
+        FieldCursor cursor = new FieldCursor(canonical ? symbols : new SymbolTable());
+        boolean[] header = {true};
+        FieldCursor.forEachLine(text, (content, start, end) -> {
+            if (header[0]) {
+                header[0] = false;
+                return;
+            }
+            cursor.reset(content, start, end);
+            cursor.nextField();
+            ids.add(canonical ? cursor.symbol() : cursor.text());
+            while (cursor.nextField()) {
+                while (cursor.nextItem()) {
+                    ids.add(canonical ? cursor.symbol() : cursor.text());
+                }
+            }
+        });
+    }
+
+    private static Set<String> distinct(List<String> ids) {
+        Set<String> instances = Collections.newSetFromMap(new IdentityHashMap<>());
+        instances.addAll(ids);
+        return instances;
+    }
+
+    private static com.sun.management.ThreadMXBean threadBean() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+        return threads;
+    }
+}
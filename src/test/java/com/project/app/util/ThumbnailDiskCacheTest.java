@@ -0,0 +1,149 @@
+package com.project.app.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import javax.swing.ImageIcon;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ThumbnailDiskCache 검사: 적중 시 원본을 디코딩하지 않고, 원본 내용이 바뀌거나 캐시 파일이 깨지면 다시 디코딩해야 함
+ */
+class ThumbnailDiskCacheTest {
+
+    private static final int SIZE = 12;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void hitIsServedWithoutDecodingSource() throws Exception {
+        String source = writeImage("source.png", Color.RED, 200, 200);
+        ThumbnailDiskCache cache = new ThumbnailDiskCache(directory.resolve("cache"));
+        assertEquals(Color.RED.getRGB(), colorOf(load(cache, source)));
+
+        // 저장된 썸네일을 다른 색으로 바꿔 두면, 적중했을 때는 원본(빨강) 대신 저장된 색이 나와야 함
+        Path cached = single(cacheFiles());
+        ImageIO.write(solid(Color.BLUE, SIZE, SIZE), "png", cached.toFile());
+        assertEquals(Color.BLUE.getRGB(), colorOf(load(cache, source)));  // 새 로더 (메모리 캐시 없음)
+    }
+
+    @Test
+    void changedSourceBytesMissAndReplaceEntry() throws Exception {
+        String source = writeImage("source.png", Color.RED, 200, 200);
+        ThumbnailDiskCache cache = new ThumbnailDiskCache(directory.resolve("cache"));
+        load(cache, source);
+        Path before = single(cacheFiles());
+
+        writeImage("source.png", Color.GREEN, 200, 200);  // 같은 경로, 다른 내용
+        assertEquals(Color.GREEN.getRGB(), colorOf(load(cache, source)));
+
+        Path after = single(cacheFiles());  // 이전 내용의 항목은 지워짐
+        assertNotEquals(before.getFileName(), after.getFileName());
+    }
+
+    @Test
+    void rePutKeepsOneFilePerPathAndSize() throws IOException {
+        ThumbnailDiskCache cache = new ThumbnailDiskCache(directory.resolve("cache"));
+        BufferedImage image = solid(Color.RED, SIZE, SIZE);
+
+        cache.put("a.png", "hash1", SIZE, SIZE, false, image);
+        cache.put("a.png", "hash2", SIZE, SIZE, false, image);
+        cache.put("a.png", "hash2", SIZE, SIZE, false, image);
+        assertEquals(1, cacheFiles().size());
+        assertNull(cache.get("a.png", "hash1", SIZE, SIZE, false));
+        assertNotNull(cache.get("a.png", "hash2", SIZE, SIZE, false));
+
+        // 크기/비율 옵션/경로가 다르면 따로 보관
+        cache.put("a.png", "hash2", SIZE * 2, SIZE * 2, false, image);
+        cache.put("a.png", "hash2", SIZE, SIZE, true, image);
+        cache.put("b.png", "hash2", SIZE, SIZE, false, image);
+        assertEquals(4, cacheFiles().size());
+        assertNotNull(cache.get("a.png", "hash2", SIZE, SIZE, false));
+    }
+
+    @Test
+    void corruptCacheFileFallsBackToDecoding() throws Exception {
+        String source = writeImage("source.png", Color.RED, 200, 200);
+        ThumbnailDiskCache cache = new ThumbnailDiskCache(directory.resolve("cache"));
+        load(cache, source);
+        Path cached = single(cacheFiles());
+
+        // 앞부분만 남은 PNG (헤더는 맞지만 데이터가 잘림)
+        byte[] bytes = Files.readAllBytes(cached);
+        Files.write(cached, Arrays.copyOf(bytes, Math.min(bytes.length, 40)));
+        assertNull(cache.get(source, ThumbnailDiskCache.contentHash(Files.readAllBytes(Path.of(source))),
+                SIZE, SIZE, false));
+        assertEquals(Color.RED.getRGB(), colorOf(load(cache, source)));
+
+        // 완전히 다른 내용도 캐시 없음으로 처리하고, 다시 디코딩한 썸네일로 덮어씀
+        Files.write(single(cacheFiles()), new byte[]{1, 2, 3, 4});
+        assertEquals(Color.RED.getRGB(), colorOf(load(cache, source)));
+        assertNotNull(ImageIO.read(single(cacheFiles()).toFile()));
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private String writeImage(String name, Color color, int width, int height) throws IOException {
+        Path file = directory.resolve(name);
+        ImageIO.write(solid(color, width, height), "png", file.toFile());
+        return file.toString();
+    }
+
+    private static BufferedImage solid(Color color, int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        g2.setColor(color);
+        g2.fillRect(0, 0, width, height);
+        g2.dispose();
+        return image;
+    }
+
+    /**
+     * 매번 새 로더로 읽어 메모리 캐시 없이 디스크 캐시만 거치게 합니다.
+     */
+    private static ImageIcon load(ThumbnailDiskCache cache, String path) throws Exception {
+        ThumbnailLoader loader = new ThumbnailLoader(1, ThumbnailLoader.DEFAULT_BYTE_BUDGET, cache);
+        CompletableFuture<ImageIcon> loaded = new CompletableFuture<>();
+        loader.load(path, SIZE, SIZE, false, loaded::complete);
+        return loaded.get(10, TimeUnit.SECONDS);
+    }
+
+    private static int colorOf(ImageIcon icon) {
+        BufferedImage image = new BufferedImage(icon.getIconWidth(), icon.getIconHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        icon.paintIcon(null, g2, 0, 0);
+        g2.dispose();
+        return image.getRGB(image.getWidth() / 2, image.getHeight() / 2);
+    }
+
+    private List<Path> cacheFiles() throws IOException {
+        Path cacheDirectory = directory.resolve("cache");
+        List<Path> files = new ArrayList<>();
+        if (Files.isDirectory(cacheDirectory)) {
+            try (Stream<Path> entries = Files.list(cacheDirectory)) {
+                entries.filter(file -> file.getFileName().toString().endsWith(".png")).forEach(files::add);
+            }
+        }
+        return files;
+    }
+
+    private static Path single(List<Path> files) {
+        assertEquals(1, files.size(), "cache files: " + files);
+        return files.get(0);
+    }
+}
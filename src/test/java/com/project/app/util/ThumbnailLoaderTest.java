@@ -0,0 +1,117 @@
+package com.project.app.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import javax.swing.ImageIcon;
+import javax.swing.JLabel;
+import javax.swing.SwingUtilities;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ThumbnailLoader 검사: 캐시는 바이트 예산을 넘지 않고 가장 오래 안 쓴 이미지부터 버리며, 축소 크기가 요청과 맞아야 함
+ */
+class ThumbnailLoaderTest {
+
+    private static final int SIZE = 10;
+    private static final long IMAGE_BYTES = SIZE * SIZE * 4;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void cacheStaysWithinByteBudgetAndEvictsLeastRecentlyUsed() throws Exception {
+        ThumbnailLoader loader = new ThumbnailLoader(2, 3 * IMAGE_BYTES);
+        String[] paths = new String[5];
+        for (int i = 0; i < paths.length; i++) {
+            paths[i] = writeImage("image" + i + ".png", 100, 100);
+        }
+
+        for (int i = 0; i < 3; i++) {
+            load(loader, paths[i], SIZE, SIZE, false);
+        }
+        assertEquals(3, loader.cachedCount());
+        assertEquals(3 * IMAGE_BYTES, loader.cachedBytes());
+
+        load(loader, paths[0], SIZE, SIZE, false);  // 0번을 최근 사용으로 옮김
+        load(loader, paths[3], SIZE, SIZE, false);  // 가장 오래 안 쓴 1번이 빠져야 함
+
+        assertEquals(3, loader.cachedCount());
+        assertTrue(loader.cachedBytes() <= 3 * IMAGE_BYTES);
+        assertTrue(isCached(loader, paths[0]));
+        assertTrue(isCached(loader, paths[2]));
+        assertTrue(isCached(loader, paths[3]));
+        assertFalse(isCached(loader, paths[1]));  // 마지막에 확인 (없으면 loadInto가 다시 읽기 시작함)
+
+        for (String path : paths) {
+            load(loader, path, SIZE, SIZE, false);
+            assertTrue(loader.cachedBytes() <= 3 * IMAGE_BYTES);
+        }
+    }
+
+    @Test
+    void imageLargerThanBudgetIsDeliveredButNotCached() throws Exception {
+        ThumbnailLoader loader = new ThumbnailLoader(1, IMAGE_BYTES - 1);
+        ImageIcon icon = load(loader, writeImage("large.png", 50, 50), SIZE, SIZE, false);
+
+        assertEquals(SIZE, icon.getIconWidth());
+        assertEquals(0, loader.cachedCount());
+        assertEquals(0, loader.cachedBytes());
+    }
+
+    @Test
+    void scalesToRequestedSize() throws Exception {
+        ThumbnailLoader loader = new ThumbnailLoader(1, ThumbnailLoader.DEFAULT_BYTE_BUDGET);
+        String path = writeImage("wide.png", 400, 200);
+
+        ImageIcon exact = load(loader, path, 60, 60, false);
+        assertEquals(60, exact.getIconWidth());
+        assertEquals(60, exact.getIconHeight());
+
+        ImageIcon fitted = load(loader, path, 60, 60, true);  // 비율 유지 (2:1)
+        assertEquals(60, fitted.getIconWidth());
+        assertEquals(30, fitted.getIconHeight());
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private String writeImage(String name, int width, int height) throws Exception {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        g2.setColor(new Color(name.hashCode()));
+        g2.fillRect(0, 0, width, height);
+        g2.dispose();
+        Path file = directory.resolve(name);
+        ImageIO.write(image, "png", file.toFile());
+        return file.toString();
+    }
+
+    private ImageIcon load(ThumbnailLoader loader, String path, int width, int height, boolean keepAspect)
+            throws Exception {
+        CompletableFuture<ImageIcon> loaded = new CompletableFuture<>();
+        loader.load(path, width, height, keepAspect, loaded::complete);
+        return loaded.get(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 캐시에 있으면 loadInto가 바로 실제 이미지를 넣고, 없으면 자리 표시 이미지를 넣음
+     * (없을 때 시작된 읽기가 먼저 끝나 아이콘을 바꿀 수 있으므로 같은 EDT 작업 안에서 확인)
+     */
+    private boolean isCached(ThumbnailLoader loader, String path) throws Exception {
+        JLabel label = new JLabel();
+        boolean[] cached = new boolean[1];
+        SwingUtilities.invokeAndWait(() -> {
+            loader.loadInto(label, path, SIZE, SIZE, false);
+            cached[0] = label.getIcon() != loader.placeholder(SIZE, SIZE);
+        });
+        return cached[0];
+    }
+}
@@ -0,0 +1,156 @@
+package com.project.app.view;
+
+import org.junit.jupiter.api.Test;
+
+import javax.swing.JComponent;
+import javax.swing.JLabel;
+import javax.swing.JScrollPane;
+import javax.swing.SwingUtilities;
+import java.awt.Component;
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * VirtualCardGrid 검사: 목록 크기와 관계없이 보이는 행 + 버퍼 행만큼만 카드를 만들고,
+ * 스크롤하면 카드를 재사용하면서 각 위치에 맞는 항목을 표시해야 함
+ */
+class VirtualCardGridTest {
+
+    private static final int COLUMNS = 4;
+    private static final int CARD = 100;
+    private static final int GAP = 10;
+    private static final int VIEW_HEIGHT = 3 * (CARD + GAP);  // 3행이 보이는 높이
+
+    /** 보이는 행 + 위아래 버퍼 + 걸친 행 1개 */
+    private static final int MAX_CARDS = (3 + 1 + 2 * VirtualCardGrid.BUFFER_ROWS) * COLUMNS;
+
+    @Test
+    void materializedCardsStayBoundedWhileScrolling() throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            AtomicInteger created = new AtomicInteger();
+            VirtualCardGrid<Integer> grid = newGrid(created);
+            JScrollPane scrollPane = show(grid);
+            grid.setItems(items(10_000));
+
+            assertTrue(grid.getMaterializedCardCount() > 0);
+            assertTrue(grid.getMaterializedCardCount() <= MAX_CARDS, "cards: " + grid.getMaterializedCardCount());
+            assertBoundItemsMatchPositions(grid);
+
+            int rowHeight = CARD + GAP;
+            for (int row = 0; row < 2_500; row += 37) {
+                scrollPane.getViewport().setViewPosition(new Point(0, row * rowHeight + row % 50));
+                assertTrue(grid.getMaterializedCardCount() <= MAX_CARDS, "row " + row);
+                assertBoundItemsMatchPositions(grid);
+            }
+            assertEquals(created.get(), grid.getMaterializedCardCount());
+            assertTrue(created.get() <= MAX_CARDS, "created: " + created.get());
+        });
+    }
+
+    @Test
+    void appendAndShrinkReuseExistingCards() throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            AtomicInteger created = new AtomicInteger();
+            VirtualCardGrid<Integer> grid = newGrid(created);
+            show(grid);
+            grid.setItems(items(8));  // 2행
+            int initial = grid.getMaterializedCardCount();
+            assertEquals(8, visibleCards(grid).size());
+
+            grid.appendItems(items(8, 500));  // 위치 8부터 이어지는 항목
+            assertTrue(grid.getMaterializedCardCount() <= MAX_CARDS);
+            assertBoundItemsMatchPositions(grid);
+
+            grid.setItems(items(3));  // 줄어든 목록: 남는 카드는 숨겨서 풀에 보관
+            assertEquals(3, visibleCards(grid).size());
+            assertTrue(grid.getMaterializedCardCount() >= initial);
+            assertEquals(created.get(), grid.getMaterializedCardCount());
+            assertBoundItemsMatchPositions(grid);
+        });
+    }
+
+    @Test
+    void nearEndListenerFiresOnlyNearTheEnd() throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            VirtualCardGrid<Integer> grid = newGrid(new AtomicInteger());
+            JScrollPane scrollPane = show(grid);
+            AtomicInteger calls = new AtomicInteger();
+            grid.setNearEndListener(calls::incrementAndGet);
+            grid.setItems(items(400));  // 100행
+            assertEquals(0, calls.get());
+
+            int bottom = grid.getPreferredSize().height - VIEW_HEIGHT;
+            scrollPane.getViewport().setViewPosition(new Point(0, bottom));
+            assertTrue(calls.get() > 0);
+        });
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private static VirtualCardGrid<Integer> newGrid(AtomicInteger created) {
+        return new VirtualCardGrid<>(COLUMNS, CARD, CARD, GAP, new VirtualCardGrid.CardBinder<Integer>() {
+            @Override
+            public JComponent createCard() {
+                created.incrementAndGet();
+                return new JLabel();
+            }
+
+            @Override
+            public void bind(JComponent card, Integer item) {
+                ((JLabel) card).setText(String.valueOf(item));
+            }
+        });
+    }
+
+    /**
+     * 창 없이 스크롤 패인에 넣고 배치합니다 (뷰포트 크기가 정해져야 보이는 범위를 계산함).
+     */
+    private static JScrollPane show(VirtualCardGrid<Integer> grid) {
+        JScrollPane scrollPane = new JScrollPane(grid);
+        scrollPane.setBorder(null);
+        scrollPane.setSize(COLUMNS * (CARD + GAP) + 40, VIEW_HEIGHT);
+        scrollPane.doLayout();  // 창(peer)이 없으면 validate()가 배치하지 않으므로 직접 호출
+        scrollPane.getViewport().doLayout();
+        return scrollPane;
+    }
+
+    private static List<Integer> items(int count) {
+        return items(0, count);
+    }
+
+    /**
+     * from부터 count개의 연속된 번호 (항목 번호 = 목록 위치)
+     */
+    private static List<Integer> items(int from, int count) {
+        List<Integer> items = new ArrayList<>(count);
+        for (int i = from; i < from + count; i++) {
+            items.add(i);
+        }
+        return items;
+    }
+
+    private static List<JLabel> visibleCards(VirtualCardGrid<Integer> grid) {
+        List<JLabel> cards = new ArrayList<>();
+        for (Component component : grid.getComponents()) {
+            if (component.isVisible()) {
+                cards.add((JLabel) component);
+            }
+        }
+        return cards;
+    }
+
+    /**
+     * 표시 중인 카드마다 화면 위치로 계산한 항목 번호와 바인딩된 항목이 같아야 함
+     */
+    private static void assertBoundItemsMatchPositions(VirtualCardGrid<Integer> grid) {
+        for (JLabel card : visibleCards(grid)) {
+            int row = card.getY() / (CARD + GAP);
+            int column = card.getX() / (CARD + GAP);
+            assertEquals(String.valueOf(row * COLUMNS + column), card.getText());
+        }
+    }
+}